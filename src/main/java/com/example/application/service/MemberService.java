@@ -5,6 +5,10 @@ import com.example.application.query.MemberQuery;
 import com.example.application.usecase.MemberUseCase;
 import com.example.domain.Member;
 import com.example.dto.MemberDto;
+import com.example.infrastructure.datasource.shard.ScatterGather;
+import com.example.infrastructure.datasource.shard.ShardKey;
+import com.example.infrastructure.singleflight.SingleFlight;
+import com.example.infrastructure.singleflight.SingleFlightInvalidator;
 import com.example.infrastructure.validation.MemberValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -50,19 +54,22 @@ public class MemberService {
         return MemberDto.from(member);
     }
 
-    public Optional<MemberDto> getMemberById(Long id) {
+    @SingleFlight(SingleFlightInvalidator.MEMBERS)
+    public Optional<MemberDto> getMemberById(@ShardKey(ShardKey.Type.MEMBER) Long id) {
         log.info("Retrieving member with ID: {}", id);
         memberValidator.validateMemberId(id);
         return memberQuery.findById(id)
                 .map(MemberDto::from);
     }
 
+    @ScatterGather
     public Optional<MemberDto> getMemberByEmail(String email) {
         log.info("Retrieving member with email: {}", email);
         return memberQuery.findByEmail(email)
                 .map(MemberDto::from);
     }
 
+    @ScatterGather
     public List<MemberDto> getAllMembers() {
         log.info("Retrieving all members");
         return memberQuery.findAll().stream()
@@ -70,6 +77,7 @@ public class MemberService {
                 .toList();
     }
 
+    @ScatterGather
     public List<MemberDto> getMembersByName(String name) {
         log.info("Searching members by name: {}", name);
         return memberQuery.findByNameContaining(name).stream()
@@ -77,6 +85,7 @@ public class MemberService {
                 .toList();
     }
 
+    @ScatterGather
     public List<MemberDto> getMembersByStatus(Member.MemberStatus status) {
         log.info("Retrieving members by status: {}", status);
         return (status == Member.MemberStatus.ACTIVE ? 
@@ -87,7 +96,7 @@ public class MemberService {
     }
 
     @Transactional
-    public MemberDto deactivateMember(Long id) {
+    public MemberDto deactivateMember(@ShardKey(ShardKey.Type.MEMBER) Long id) {
         log.info("Deactivating member with ID: {}", id);
         memberValidator.validateMemberId(id);
         
@@ -96,7 +105,7 @@ public class MemberService {
     }
 
     @Transactional
-    public MemberDto activateMember(Long id) {
+    public MemberDto activateMember(@ShardKey(ShardKey.Type.MEMBER) Long id) {
         log.info("Activating member with ID: {}", id);
         memberValidator.validateMemberId(id);
         
@@ -3,19 +3,40 @@ package com.example.application.service;
 import com.example.domain.Member;
 import com.example.domain.Order;
 import com.example.domain.OrderItem;
+import com.example.dto.KeysetPage;
 import com.example.dto.OrderDto;
+import com.example.dto.OrderField;
+import com.example.infrastructure.datasource.shard.ScatterGather;
+import com.example.infrastructure.datasource.shard.ShardKey;
 import com.example.infrastructure.persistence.MemberRepository;
 import com.example.infrastructure.persistence.OrderRepository;
+import com.example.infrastructure.persistence.archive.OrderArchive;
+import com.example.infrastructure.persistence.history.OffHeapOrderStore;
+import com.example.infrastructure.retry.RetryOnConflict;
+import com.example.infrastructure.singleflight.SingleFlight;
+import com.example.infrastructure.singleflight.SingleFlightInvalidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -24,11 +45,37 @@ import java.util.UUID;
 @Slf4j
 public class OrderService {
 
+    private static final EnumSet<Order.OrderStatus> ACTIVE_STATUSES =
+            EnumSet.of(Order.OrderStatus.PENDING, Order.OrderStatus.CONFIRMED);
+    private static final int MAX_PAGE_SIZE = 1000;
+    public static final int MAX_BATCH_SIZE = 500;
+    /** Ids per IN list, which keeps the fetch join and the bind list of one query small. */
+    private static final int BATCH_CHUNK_SIZE = 100;
+
     private final OrderRepository orderRepository;
     private final MemberRepository memberRepository;
+    private OffHeapOrderStore orderHistoryStore;
+    private OrderArchive orderArchive;
+
+    /**
+     * Optional read tier for completed and cancelled orders (app.order-history.off-heap.enabled).
+     */
+    @Autowired(required = false)
+    public void setOrderHistoryStore(OffHeapOrderStore orderHistoryStore) {
+        this.orderHistoryStore = orderHistoryStore;
+    }
+
+    /**
+     * Optional archive of cold completed orders, consulted when the orders table misses
+     * (app.order-archive.enabled).
+     */
+    @Autowired(required = false)
+    public void setOrderArchive(OrderArchive orderArchive) {
+        this.orderArchive = orderArchive;
+    }
 
     @Transactional
-    public OrderDto createOrder(Long memberId, List<OrderItemRequest> orderItems) {
+    public OrderDto createOrder(@ShardKey(ShardKey.Type.MEMBER) Long memberId, List<OrderItemRequest> orderItems) {
         log.info("Creating order for member ID: {}", memberId);
         
         if (orderItems == null || orderItems.isEmpty()) {
@@ -67,25 +114,116 @@ public class OrderService {
         return OrderDto.from(savedOrder);
     }
 
-    public Optional<OrderDto> getOrderById(Long id) {
+    @SingleFlight(SingleFlightInvalidator.ORDERS)
+    public Optional<OrderDto> getOrderById(@ShardKey(ShardKey.Type.ORDER) Long id) {
         log.info("Retrieving order with ID: {}", id);
-        return orderRepository.findByIdWithOrderItemsAndPayment(id)
+        if (orderHistoryStore != null && id != null) {
+            Optional<OrderDto> terminal = orderHistoryStore.find(id);
+            if (terminal.isPresent()) {
+                return terminal;
+            }
+        }
+        Optional<OrderDto> order = orderRepository.findByIdWithOrderItemsAndPayment(id)
                 .map(OrderDto::from);
+        if (order.isEmpty() && orderArchive != null && id != null) {
+            return orderArchive.findById(id);
+        }
+        return order;
+    }
+
+    /**
+     * The orders with the given ids that exist, in no particular order, read like
+     * {@link #getOrderById} but with one fetch-join query per {@value #BATCH_CHUNK_SIZE} ids.
+     */
+    @ScatterGather
+    public List<OrderDto> getOrdersByIds(Collection<Long> ids) {
+        log.info("Retrieving {} orders by ID", ids.size());
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " ids can be fetched at once");
+        }
+        List<OrderDto> orders = new ArrayList<>(ids.size());
+        List<Long> remaining = new ArrayList<>(ids.size());
+        for (Long id : new LinkedHashSet<>(ids)) {
+            Optional<OrderDto> terminal = orderHistoryStore != null ? orderHistoryStore.find(id) : Optional.empty();
+            terminal.ifPresentOrElse(orders::add, () -> remaining.add(id));
+        }
+        Set<Long> found = new HashSet<>();
+        for (int from = 0; from < remaining.size(); from += BATCH_CHUNK_SIZE) {
+            List<Long> chunk = remaining.subList(from, Math.min(from + BATCH_CHUNK_SIZE, remaining.size()));
+            for (Order order : orderRepository.findAllByIdWithMemberOrderItemsAndPayment(chunk)) {
+                orders.add(OrderDto.from(order));
+                found.add(order.getId());
+            }
+        }
+        if (orderArchive != null) {
+            remaining.stream()
+                    .filter(id -> !found.contains(id))
+                    .forEach(id -> orderArchive.findById(id).ifPresent(orders::add));
+        }
+        return orders;
     }
 
+    @ScatterGather
+    @SingleFlight(SingleFlightInvalidator.ORDERS)
     public Optional<OrderDto> getOrderByOrderNumber(String orderNumber) {
         log.info("Retrieving order with order number: {}", orderNumber);
-        return orderRepository.findByOrderNumber(orderNumber)
+        Optional<OrderDto> order = orderRepository.findByOrderNumber(orderNumber)
                 .map(OrderDto::from);
+        if (order.isEmpty() && orderArchive != null && orderNumber != null) {
+            return orderArchive.findByOrderNumber(orderNumber);
+        }
+        return order;
     }
 
-    public List<OrderDto> getOrdersByMemberId(Long memberId) {
+    public List<OrderDto> getOrdersByMemberId(@ShardKey(ShardKey.Type.MEMBER) Long memberId) {
         log.info("Retrieving orders for member ID: {}", memberId);
-        return orderRepository.findByMemberId(memberId).stream()
+        if (orderHistoryStore != null && memberId != null && orderHistoryStore.isLoaded(memberId)) {
+            // Only open orders come from the database; read them first so that an order completing
+            // meanwhile shows up in its terminal state rather than not at all
+            Map<Long, OrderDto> orders = new LinkedHashMap<>();
+            orderRepository.findByMemberIdAndStatusIn(memberId, ACTIVE_STATUSES)
+                    .forEach(order -> orders.put(order.getId(), OrderDto.from(order)));
+            Optional<List<OrderDto>> terminal = orderHistoryStore.findByMemberId(memberId);
+            if (terminal.isPresent()) {
+                terminal.get().forEach(order -> orders.put(order.getId(), order));
+                return orders.values().stream()
+                        .sorted(Comparator.comparing(OrderDto::getId))
+                        .toList();
+            }
+        }
+        List<OrderDto> orders = orderRepository.findByMemberId(memberId).stream()
                 .map(OrderDto::from)
                 .toList();
+        if (orderArchive != null && memberId != null) {
+            orders = withArchived(orders, orderArchive.findByMemberId(memberId));
+        }
+        if (orderHistoryStore != null && memberId != null) {
+            orderHistoryStore.load(memberId, orders.stream()
+                    .filter(order -> OffHeapOrderStore.isTerminal(order.getStatus()))
+                    .toList());
+        }
+        return orders;
     }
 
+    /**
+     * The member's orders holding only the selected fields; the query reads just the columns and
+     * joins they need. Archived orders are still included.
+     */
+    public List<OrderDto> getOrdersByMemberId(@ShardKey(ShardKey.Type.MEMBER) Long memberId, Set<OrderField> fields) {
+        if (OrderField.isAll(fields)) {
+            return getOrdersByMemberId(memberId);
+        }
+        log.info("Retrieving orders for member ID: {} with fields: {}", memberId, fields);
+        List<OrderDto> orders = orderRepository.selectByMemberId(memberId, fields);
+        if (orderArchive != null && memberId != null) {
+            orders = withArchived(orders, orderArchive.findByMemberId(memberId).stream()
+                    .map(order -> order.select(fields))
+                    .toList());
+        }
+        return orders;
+    }
+
+    @ScatterGather
     public List<OrderDto> getOrdersByStatus(Order.OrderStatus status) {
         log.info("Retrieving orders by status: {}", status);
         return orderRepository.findByStatus(status).stream()
@@ -93,8 +231,76 @@ public class OrderService {
                 .toList();
     }
 
+    @ScatterGather
+    public List<OrderDto> getOrdersByStatus(Order.OrderStatus status, Set<OrderField> fields) {
+        if (OrderField.isAll(fields)) {
+            return getOrdersByStatus(status);
+        }
+        log.info("Retrieving orders by status: {} with fields: {}", status, fields);
+        return orderRepository.selectByStatus(status, fields);
+    }
+
+    /**
+     * One page of orders in the status, ordered by id, starting after the given id. Sharded, each
+     * shard returns a page and the pages are merged, so no shard is ever read past the page size.
+     */
+    @ScatterGather
+    public KeysetPage<OrderDto> getOrdersByStatus(Order.OrderStatus status, Long afterId, int limit) {
+        log.info("Retrieving orders by status: {} after ID: {} limit: {}", status, afterId, limit);
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        List<OrderDto> candidates = orderRepository
+                .findByStatusAfter(status, afterId == null ? 0L : afterId, PageRequest.of(0, limit + 1)).stream()
+                .map(OrderDto::from)
+                .toList();
+        return KeysetPage.of(candidates, limit, false, OrderDto::getId);
+    }
+
+    /**
+     * Orders created on the given days, both inclusive, optionally of one member. Bounded on
+     * created_at so that a partitioned orders table reads only the months involved.
+     */
+    @ScatterGather
+    public List<OrderDto> getOrdersCreatedBetween(LocalDate from, LocalDate to,
+                                                  @ShardKey(ShardKey.Type.MEMBER) Long memberId) {
+        log.info("Retrieving orders created from {} to {} for member ID: {}", from, to, memberId);
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Both from and to are required");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        List<Order> orders = memberId == null
+                ? orderRepository.findByCreatedAtRange(start, end)
+                : orderRepository.findByMemberIdAndCreatedAtRange(memberId, start, end);
+        return orders.stream()
+                .map(OrderDto::from)
+                .toList();
+    }
+
+    @ScatterGather
+    public List<OrderDto> getOrdersCreatedBetween(LocalDate from, LocalDate to,
+                                                  @ShardKey(ShardKey.Type.MEMBER) Long memberId,
+                                                  Set<OrderField> fields) {
+        if (OrderField.isAll(fields)) {
+            return getOrdersCreatedBetween(from, to, memberId);
+        }
+        log.info("Retrieving orders created from {} to {} for member ID: {} with fields: {}", from, to, memberId, fields);
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Both from and to are required");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        return orderRepository.selectByCreatedAtRange(from.atStartOfDay(), to.plusDays(1).atStartOfDay(), memberId, fields);
+    }
+
+    @RetryOnConflict
     @Transactional
-    public OrderDto confirmOrder(Long orderId) {
+    public OrderDto confirmOrder(@ShardKey(ShardKey.Type.ORDER) Long orderId) {
         log.info("Confirming order with ID: {}", orderId);
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("Order not found with ID: " + orderId));
@@ -106,8 +312,9 @@ public class OrderService {
         return OrderDto.from(updatedOrder);
     }
 
+    @RetryOnConflict
     @Transactional
-    public OrderDto cancelOrder(Long orderId) {
+    public OrderDto cancelOrder(@ShardKey(ShardKey.Type.ORDER) Long orderId) {
         log.info("Cancelling order with ID: {}", orderId);
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("Order not found with ID: " + orderId));
@@ -119,8 +326,9 @@ public class OrderService {
         return OrderDto.from(updatedOrder);
     }
 
+    @RetryOnConflict
     @Transactional
-    public OrderDto completeOrder(Long orderId) {
+    public OrderDto completeOrder(@ShardKey(ShardKey.Type.ORDER) Long orderId) {
         log.info("Completing order with ID: {}", orderId);
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("Order not found with ID: " + orderId));
@@ -132,7 +340,22 @@ public class OrderService {
         return OrderDto.from(updatedOrder);
     }
 
-    private String generateOrderNumber() {
+    /**
+     * Adds archived orders to those read from the table; the table wins for an order in both.
+     */
+    private List<OrderDto> withArchived(List<OrderDto> orders, List<OrderDto> archived) {
+        if (archived.isEmpty()) {
+            return orders;
+        }
+        Map<Long, OrderDto> merged = new LinkedHashMap<>();
+        archived.forEach(order -> merged.put(order.getId(), order));
+        orders.forEach(order -> merged.put(order.getId(), order));
+        return merged.values().stream()
+                .sorted(Comparator.comparing(OrderDto::getId))
+                .toList();
+    }
+
+    protected String generateOrderNumber() {
         return "ORD-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS")) + "-" + 
                UUID.randomUUID().toString().substring(0, 8).toUpperCase();
     }
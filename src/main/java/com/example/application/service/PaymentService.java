@@ -2,14 +2,25 @@ package com.example.application.service;
 
 import com.example.domain.Order;
 import com.example.domain.Payment;
+import com.example.dto.KeysetPage;
 import com.example.dto.PaymentDto;
+import com.example.infrastructure.datasource.shard.ScatterGather;
+import com.example.infrastructure.datasource.shard.ShardKey;
 import com.example.infrastructure.persistence.OrderRepository;
 import com.example.infrastructure.persistence.PaymentRepository;
+import com.example.infrastructure.retry.RetryOnConflict;
+import com.example.infrastructure.singleflight.SingleFlight;
+import com.example.infrastructure.singleflight.SingleFlightInvalidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,11 +31,16 @@ import java.util.UUID;
 @Slf4j
 public class PaymentService {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+    public static final int MAX_BATCH_SIZE = 500;
+    /** Ids per IN list, which keeps the bind list of one query small. */
+    private static final int BATCH_CHUNK_SIZE = 100;
+
     private final PaymentRepository paymentRepository;
     private final OrderRepository orderRepository;
 
     @Transactional
-    public PaymentDto createPayment(Long orderId, Payment.PaymentMethod paymentMethod) {
+    public PaymentDto createPayment(@ShardKey(ShardKey.Type.ORDER) Long orderId, Payment.PaymentMethod paymentMethod) {
         log.info("Creating payment for order ID: {}", orderId);
         
         Order order = orderRepository.findById(orderId)
@@ -50,24 +66,47 @@ public class PaymentService {
         return PaymentDto.from(savedPayment);
     }
 
-    public Optional<PaymentDto> getPaymentById(Long id) {
+    @SingleFlight(SingleFlightInvalidator.PAYMENTS)
+    public Optional<PaymentDto> getPaymentById(@ShardKey(ShardKey.Type.PAYMENT) Long id) {
         log.info("Retrieving payment with ID: {}", id);
         return paymentRepository.findByIdWithOrder(id)
                 .map(PaymentDto::from);
     }
 
-    public Optional<PaymentDto> getPaymentByOrderId(Long orderId) {
+    /**
+     * The payments with the given ids that exist, in no particular order, with one fetch-join
+     * query per {@value #BATCH_CHUNK_SIZE} ids.
+     */
+    @ScatterGather
+    public List<PaymentDto> getPaymentsByIds(Collection<Long> ids) {
+        log.info("Retrieving {} payments by ID", ids.size());
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " ids can be fetched at once");
+        }
+        List<Long> distinct = List.copyOf(new LinkedHashSet<>(ids));
+        List<PaymentDto> payments = new ArrayList<>(distinct.size());
+        for (int from = 0; from < distinct.size(); from += BATCH_CHUNK_SIZE) {
+            paymentRepository.findAllByIdWithOrder(distinct.subList(from, Math.min(from + BATCH_CHUNK_SIZE, distinct.size())))
+                    .forEach(payment -> payments.add(PaymentDto.from(payment)));
+        }
+        return payments;
+    }
+
+    @SingleFlight(SingleFlightInvalidator.PAYMENTS)
+    public Optional<PaymentDto> getPaymentByOrderId(@ShardKey(ShardKey.Type.ORDER) Long orderId) {
         log.info("Retrieving payment for order ID: {}", orderId);
         return paymentRepository.findByOrderId(orderId)
                 .map(PaymentDto::from);
     }
 
+    @ScatterGather
     public Optional<PaymentDto> getPaymentByTransactionId(String transactionId) {
         log.info("Retrieving payment with transaction ID: {}", transactionId);
         return paymentRepository.findByTransactionId(transactionId)
                 .map(PaymentDto::from);
     }
 
+    @ScatterGather
     public List<PaymentDto> getPaymentsByStatus(Payment.PaymentStatus status) {
         log.info("Retrieving payments by status: {}", status);
         return paymentRepository.findByStatus(status).stream()
@@ -75,15 +114,50 @@ public class PaymentService {
                 .toList();
     }
 
-    public List<PaymentDto> getPaymentsByMemberId(Long memberId) {
+    /**
+     * One page of payments in the status, ordered by id, starting after the given id.
+     */
+    @ScatterGather
+    public KeysetPage<PaymentDto> getPaymentsByStatus(Payment.PaymentStatus status, Long afterId, int limit) {
+        log.info("Retrieving payments by status: {} after ID: {} limit: {}", status, afterId, limit);
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        List<PaymentDto> candidates = paymentRepository
+                .findByStatusAfter(status, afterId == null ? 0L : afterId, PageRequest.of(0, limit + 1)).stream()
+                .map(PaymentDto::from)
+                .toList();
+        return KeysetPage.of(candidates, limit, false, PaymentDto::getId);
+    }
+
+    public List<PaymentDto> getPaymentsByMemberId(@ShardKey(ShardKey.Type.MEMBER) Long memberId) {
         log.info("Retrieving payments for member ID: {}", memberId);
         return paymentRepository.findByMemberId(memberId).stream()
                 .map(PaymentDto::from)
                 .toList();
     }
 
+    /**
+     * Payments created on the given days, both inclusive. Bounded on created_at so that a
+     * partitioned payments table reads only the months involved.
+     */
+    @ScatterGather
+    public List<PaymentDto> getPaymentsCreatedBetween(LocalDate from, LocalDate to) {
+        log.info("Retrieving payments created from {} to {}", from, to);
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Both from and to are required");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        return paymentRepository.findByCreatedAtRange(from.atStartOfDay(), to.plusDays(1).atStartOfDay()).stream()
+                .map(PaymentDto::from)
+                .toList();
+    }
+
+    @RetryOnConflict
     @Transactional
-    public PaymentDto processPayment(Long paymentId) {
+    public PaymentDto processPayment(@ShardKey(ShardKey.Type.PAYMENT) Long paymentId) {
         log.info("Processing payment with ID: {}", paymentId);
         Payment payment = paymentRepository.findById(paymentId)
                 .orElseThrow(() -> new IllegalArgumentException("Payment not found with ID: " + paymentId));
@@ -103,8 +177,9 @@ public class PaymentService {
         return PaymentDto.from(updatedPayment);
     }
 
+    @RetryOnConflict
     @Transactional
-    public PaymentDto failPayment(Long paymentId, String failureReason) {
+    public PaymentDto failPayment(@ShardKey(ShardKey.Type.PAYMENT) Long paymentId, String failureReason) {
         log.info("Failing payment with ID: {} - Reason: {}", paymentId, failureReason);
         Payment payment = paymentRepository.findById(paymentId)
                 .orElseThrow(() -> new IllegalArgumentException("Payment not found with ID: " + paymentId));
@@ -116,8 +191,9 @@ public class PaymentService {
         return PaymentDto.from(updatedPayment);
     }
 
+    @RetryOnConflict
     @Transactional
-    public PaymentDto refundPayment(Long paymentId) {
+    public PaymentDto refundPayment(@ShardKey(ShardKey.Type.PAYMENT) Long paymentId) {
         log.info("Refunding payment with ID: {}", paymentId);
         Payment payment = paymentRepository.findById(paymentId)
                 .orElseThrow(() -> new IllegalArgumentException("Payment not found with ID: " + paymentId));
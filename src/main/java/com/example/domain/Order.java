@@ -1,5 +1,7 @@
 package com.example.domain;
 
+import com.example.domain.event.DomainEventPublisher;
+import com.example.domain.event.OrderEvents;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -21,6 +23,16 @@ import java.util.List;
 @EntityListeners(AuditingEntityListener.class)
 public class Order {
 
+    // Static field for event publisher - injected by Spring
+    private static DomainEventPublisher eventPublisher;
+    
+    /**
+     * Set the event publisher (called by Spring configuration).
+     */
+    public static void setEventPublisher(DomainEventPublisher eventPublisher) {
+        Order.eventPublisher = eventPublisher;
+    }
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -45,6 +57,11 @@ public class Order {
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<OrderItem> orderItems = new ArrayList<>();
 
+    private LocalDateTime completedAt;
+
+    @Version
+    private Long version;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -90,18 +107,37 @@ public class Order {
         this.payment = payment;
     }
 
+    /**
+     * Published once the generated id is known.
+     */
+    @PostPersist
+    protected void onCreated() {
+        if (eventPublisher != null) {
+            eventPublisher.publish(new OrderEvents.OrderCreated(this));
+        }
+    }
+
     public void confirm() {
         if (this.status != OrderStatus.PENDING) {
             throw new IllegalStateException("Only pending orders can be confirmed");
         }
         this.status = OrderStatus.CONFIRMED;
+
+        if (eventPublisher != null) {
+            eventPublisher.publish(new OrderEvents.OrderConfirmed(this));
+        }
     }
 
     public void cancel() {
         if (this.status == OrderStatus.COMPLETED) {
             throw new IllegalStateException("Completed orders cannot be cancelled");
         }
+        boolean cancelling = this.status != OrderStatus.CANCELLED;
         this.status = OrderStatus.CANCELLED;
+
+        if (cancelling && eventPublisher != null) {
+            eventPublisher.publish(new OrderEvents.OrderCancelled(this, null));
+        }
     }
 
     public void complete() {
@@ -112,6 +148,11 @@ public class Order {
             throw new IllegalStateException("Only confirmed orders can be completed");
         }
         this.status = OrderStatus.COMPLETED;
+        this.completedAt = LocalDateTime.now();
+
+        if (eventPublisher != null) {
+            eventPublisher.publish(new OrderEvents.OrderCompleted(this));
+        }
     }
 
     public enum OrderStatus {
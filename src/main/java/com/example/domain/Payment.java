@@ -1,5 +1,7 @@
 package com.example.domain;
 
+import com.example.domain.event.DomainEventPublisher;
+import com.example.domain.event.PaymentEvents;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -19,6 +21,16 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class Payment {
 
+    // Static field for event publisher - injected by Spring
+    private static DomainEventPublisher eventPublisher;
+    
+    /**
+     * Set the event publisher (called by Spring configuration).
+     */
+    public static void setEventPublisher(DomainEventPublisher eventPublisher) {
+        Payment.eventPublisher = eventPublisher;
+    }
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -44,6 +56,13 @@ public class Payment {
     @Column(length = 500)
     private String failureReason;
 
+    private LocalDateTime processedAt;
+
+    private LocalDateTime refundedAt;
+
+    @Version
+    private Long version;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -74,20 +93,47 @@ public class Payment {
         this.order = order;
     }
 
+    /**
+     * Published once the generated id is known.
+     */
+    @PostPersist
+    protected void onCreated() {
+        if (eventPublisher != null) {
+            eventPublisher.publish(new PaymentEvents.PaymentCreated(this));
+        }
+    }
+
     public void process(String transactionId) {
         if (transactionId == null || transactionId.trim().isEmpty()) {
             throw new NullPointerException("Transaction ID cannot be null or empty");
         }
+        boolean completing = this.status != PaymentStatus.COMPLETED;
+        // A refunded payment captured again keeps the time of its first completion
+        boolean firstCompletion = this.processedAt == null;
         this.status = PaymentStatus.COMPLETED;
         this.transactionId = transactionId;
+
+        if (completing) {
+            if (firstCompletion) {
+                this.processedAt = LocalDateTime.now();
+            }
+            if (eventPublisher != null) {
+                eventPublisher.publish(new PaymentEvents.PaymentProcessed(this, firstCompletion));
+            }
+        }
     }
 
     public void fail(String failureReason) {
         if (failureReason == null || failureReason.trim().isEmpty()) {
             throw new NullPointerException("Failure reason cannot be null or empty");
         }
+        boolean failing = this.status != PaymentStatus.FAILED;
         this.status = PaymentStatus.FAILED;
         this.failureReason = failureReason;
+
+        if (failing && eventPublisher != null) {
+            eventPublisher.publish(new PaymentEvents.PaymentFailed(this));
+        }
     }
 
     public void refund() {
@@ -98,7 +144,16 @@ public class Payment {
         if (this.status != PaymentStatus.COMPLETED) {
             throw new IllegalStateException("Only completed payments can be refunded");
         }
+        // A payment refunded again after a new capture keeps the time of its first refund
+        boolean firstRefund = this.refundedAt == null;
         this.status = PaymentStatus.REFUNDED;
+        if (firstRefund) {
+            this.refundedAt = LocalDateTime.now();
+        }
+
+        if (eventPublisher != null) {
+            eventPublisher.publish(new PaymentEvents.PaymentRefunded(this, firstRefund));
+        }
     }
 
     public enum PaymentMethod {
@@ -5,6 +5,7 @@ import lombok.Getter;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -22,12 +23,24 @@ public class OrderEvents {
         private final String orderNumber;
         private final Long memberId;
         private final BigDecimal totalAmount;
+        private final List<Item> items;
         
         public OrderCreated(Order order) {
-            this.orderId = order.getId();
-            this.orderNumber = order.getOrderNumber();
-            this.memberId = order.getMember().getId();
-            this.totalAmount = order.getTotalAmount();
+            this(order.getId(), order.getOrderNumber(), order.getMember().getId(), order.getTotalAmount(),
+                    order.getOrderItems().stream()
+                            .map(item -> new Item(item.getProductName(), item.getQuantity(), item.getTotalPrice()))
+                            .toList());
+        }
+        
+        public OrderCreated(Long orderId, String orderNumber, Long memberId, BigDecimal totalAmount, List<Item> items) {
+            this.orderId = orderId;
+            this.orderNumber = orderNumber;
+            this.memberId = memberId;
+            this.totalAmount = totalAmount;
+            this.items = items;
+        }
+        
+        public record Item(String productName, int quantity, BigDecimal totalPrice) {
         }
         
         @Override
@@ -122,12 +135,16 @@ public class OrderEvents {
         private final String orderNumber;
         private final Long memberId;
         private final BigDecimal totalAmount;
+        private final String paymentMethod;
+        private final LocalDateTime completedAt;
         
         public OrderCompleted(Order order) {
             this.orderId = order.getId();
             this.orderNumber = order.getOrderNumber();
             this.memberId = order.getMember().getId();
             this.totalAmount = order.getTotalAmount();
+            this.paymentMethod = order.getPayment() != null ? order.getPayment().getPaymentMethod().toString() : null;
+            this.completedAt = order.getCompletedAt();
         }
         
         @Override
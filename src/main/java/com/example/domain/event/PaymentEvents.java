@@ -21,6 +21,7 @@ public class PaymentEvents {
         private final Long paymentId;
         private final String transactionId;
         private final Long orderId;
+        private final Long memberId;
         private final BigDecimal amount;
         private final String paymentMethod;
         
@@ -28,6 +29,7 @@ public class PaymentEvents {
             this.paymentId = payment.getId();
             this.transactionId = payment.getTransactionId();
             this.orderId = payment.getOrder().getId();
+            this.memberId = payment.getOrder().getMember() != null ? payment.getOrder().getMember().getId() : null;
             this.amount = payment.getAmount();
             this.paymentMethod = payment.getPaymentMethod().toString();
         }
@@ -57,13 +59,22 @@ public class PaymentEvents {
         private final Long paymentId;
         private final String transactionId;
         private final Long orderId;
+        private final Long memberId;
         private final BigDecimal amount;
+        private final String paymentMethod;
+        private final LocalDateTime processedAt;
+        /** False when a refunded payment is captured again. */
+        private final boolean firstCompletion;
         
-        public PaymentProcessed(Payment payment) {
+        public PaymentProcessed(Payment payment, boolean firstCompletion) {
             this.paymentId = payment.getId();
             this.transactionId = payment.getTransactionId();
             this.orderId = payment.getOrder().getId();
+            this.memberId = payment.getOrder().getMember() != null ? payment.getOrder().getMember().getId() : null;
             this.amount = payment.getAmount();
+            this.paymentMethod = payment.getPaymentMethod().toString();
+            this.processedAt = payment.getProcessedAt();
+            this.firstCompletion = firstCompletion;
         }
         
         @Override
@@ -91,12 +102,14 @@ public class PaymentEvents {
         private final Long paymentId;
         private final String transactionId;
         private final Long orderId;
+        private final Long memberId;
         private final String failureReason;
         
         public PaymentFailed(Payment payment) {
             this.paymentId = payment.getId();
             this.transactionId = payment.getTransactionId();
             this.orderId = payment.getOrder().getId();
+            this.memberId = payment.getOrder().getMember() != null ? payment.getOrder().getMember().getId() : null;
             this.failureReason = payment.getFailureReason();
         }
         
@@ -125,13 +138,22 @@ public class PaymentEvents {
         private final Long paymentId;
         private final String transactionId;
         private final Long orderId;
+        private final Long memberId;
         private final BigDecimal refundAmount;
+        private final String paymentMethod;
+        private final LocalDateTime refundedAt;
+        /** False when a refunded payment was captured again and is refunded once more. */
+        private final boolean firstRefund;
         
-        public PaymentRefunded(Payment payment) {
+        public PaymentRefunded(Payment payment, boolean firstRefund) {
             this.paymentId = payment.getId();
             this.transactionId = payment.getTransactionId();
             this.orderId = payment.getOrder().getId();
+            this.memberId = payment.getOrder().getMember() != null ? payment.getOrder().getMember().getId() : null;
             this.refundAmount = payment.getAmount();
+            this.paymentMethod = payment.getPaymentMethod().toString();
+            this.refundedAt = payment.getRefundedAt();
+            this.firstRefund = firstRefund;
         }
         
         @Override
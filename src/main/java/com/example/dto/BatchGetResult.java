@@ -0,0 +1,34 @@
+package com.example.dto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Resources fetched by id in one call, in the order they were asked for, and the ids that were
+ * not found.
+ */
+public record BatchGetResult<T>(List<T> items, List<Long> missing) {
+
+    /**
+     * Orders the found resources by the requested ids; a repeated id is returned once, at its
+     * first position.
+     */
+    public static <T> BatchGetResult<T> of(List<Long> ids, List<T> found, Function<? super T, Long> id) {
+        Map<Long, T> byId = found.stream().collect(Collectors.toMap(id, Function.identity(), (first, copy) -> first));
+        List<T> items = new ArrayList<>(byId.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long requested : new LinkedHashSet<>(ids)) {
+            T item = byId.get(requested);
+            if (item != null) {
+                items.add(item);
+            } else {
+                missing.add(requested);
+            }
+        }
+        return new BatchGetResult<>(List.copyOf(items), List.copyOf(missing));
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A page of a listing ordered by id. The next page starts after {@code nextAfterId}, which is
+ * null on the last page.
+ */
+public record KeysetPage<T>(List<T> items, int limit, Long nextAfterId) {
+
+    /**
+     * Builds a page from up to {@code limit + 1} candidates in id order; the extra candidate, or
+     * {@code more}, tells that another page follows.
+     */
+    public static <T> KeysetPage<T> of(List<T> candidates, int limit, boolean more, Function<? super T, Long> id) {
+        List<T> items = candidates.size() > limit ? List.copyOf(candidates.subList(0, limit)) : List.copyOf(candidates);
+        boolean hasNext = !items.isEmpty() && (candidates.size() > limit || more);
+        return new KeysetPage<>(items, limit, hasNext ? id.apply(items.get(items.size() - 1)) : null);
+    }
+}
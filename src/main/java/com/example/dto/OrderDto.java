@@ -9,6 +9,7 @@ import lombok.ToString;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @Getter
 @Builder
@@ -46,4 +47,66 @@ public class OrderDto {
                 .payment(order.getPayment() != null ? PaymentDto.from(order.getPayment()) : null)
                 .build();
     }
+
+    /**
+     * Copies only the selected fields, so associations that were not asked for are neither
+     * initialized nor converted.
+     */
+    public static OrderDto from(Order order, Set<OrderField> fields) {
+        if (OrderField.isAll(fields)) {
+            return from(order);
+        }
+        OrderDtoBuilder builder = OrderDto.builder().id(order.getId());
+        if (fields.contains(OrderField.ORDER_NUMBER)) {
+            builder.orderNumber(order.getOrderNumber());
+        }
+        if (fields.contains(OrderField.MEMBER_ID)) {
+            builder.memberId(order.getMember() != null ? order.getMember().getId() : null);
+        }
+        if (fields.contains(OrderField.MEMBER_NAME)) {
+            builder.memberName(order.getMember() != null ? order.getMember().getName() : null);
+        }
+        if (fields.contains(OrderField.TOTAL_AMOUNT)) {
+            builder.totalAmount(order.getTotalAmount());
+        }
+        if (fields.contains(OrderField.STATUS)) {
+            builder.status(order.getStatus());
+        }
+        if (fields.contains(OrderField.CREATED_AT)) {
+            builder.createdAt(order.getCreatedAt());
+        }
+        if (fields.contains(OrderField.UPDATED_AT)) {
+            builder.updatedAt(order.getUpdatedAt());
+        }
+        if (fields.contains(OrderField.ORDER_ITEMS)) {
+            builder.orderItems(order.getOrderItems().stream()
+                    .map(OrderItemDto::from)
+                    .toList());
+        }
+        if (fields.contains(OrderField.PAYMENT)) {
+            builder.payment(order.getPayment() != null ? PaymentDto.from(order.getPayment()) : null);
+        }
+        return builder.build();
+    }
+
+    /**
+     * A copy holding only the selected fields, for orders that were read in full elsewhere.
+     */
+    public OrderDto select(Set<OrderField> fields) {
+        if (OrderField.isAll(fields)) {
+            return this;
+        }
+        return OrderDto.builder()
+                .id(id)
+                .orderNumber(fields.contains(OrderField.ORDER_NUMBER) ? orderNumber : null)
+                .memberId(fields.contains(OrderField.MEMBER_ID) ? memberId : null)
+                .memberName(fields.contains(OrderField.MEMBER_NAME) ? memberName : null)
+                .totalAmount(fields.contains(OrderField.TOTAL_AMOUNT) ? totalAmount : null)
+                .status(fields.contains(OrderField.STATUS) ? status : null)
+                .createdAt(fields.contains(OrderField.CREATED_AT) ? createdAt : null)
+                .updatedAt(fields.contains(OrderField.UPDATED_AT) ? updatedAt : null)
+                .orderItems(fields.contains(OrderField.ORDER_ITEMS) ? orderItems : null)
+                .payment(fields.contains(OrderField.PAYMENT) ? payment : null)
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.example.dto;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Properties of {@link OrderDto} a listing can be narrowed to with {@code fields=}. The id is
+ * always returned: listings are ordered and merged by it.
+ */
+public enum OrderField {
+    ID("id"),
+    ORDER_NUMBER("orderNumber"),
+    MEMBER_ID("memberId"),
+    MEMBER_NAME("memberName"),
+    TOTAL_AMOUNT("totalAmount"),
+    STATUS("status"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    ORDER_ITEMS("orderItems"),
+    PAYMENT("payment");
+
+    /**
+     * Id of the Jackson property filter applied to {@link OrderDto}.
+     */
+    public static final String FILTER = "orderFields";
+
+    public static final Set<OrderField> ALL = Collections.unmodifiableSet(EnumSet.allOf(OrderField.class));
+
+    private static final Map<String, OrderField> BY_PROPERTY = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(OrderField::getProperty, Function.identity()));
+
+    private final String property;
+
+    OrderField(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * Parses a comma-separated list of property names; null or blank selects every field.
+     */
+    public static Set<OrderField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        EnumSet<OrderField> selected = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String property = name.trim();
+            if (property.isEmpty()) {
+                continue;
+            }
+            OrderField field = BY_PROPERTY.get(property);
+            if (field == null) {
+                throw new IllegalArgumentException("Unknown order field: " + property + "; expected any of "
+                        + BY_PROPERTY.keySet().stream().sorted().collect(Collectors.joining(", ")));
+            }
+            selected.add(field);
+        }
+        return selected;
+    }
+
+    public static boolean isAll(Set<OrderField> fields) {
+        return fields.size() == values().length;
+    }
+}
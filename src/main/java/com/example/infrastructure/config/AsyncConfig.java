@@ -0,0 +1,13 @@
+package com.example.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Enables {@code @Async} methods. They run on Spring Boot's applicationTaskExecutor,
+ * which uses virtual threads when spring.threads.virtual.enabled=true.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,24 @@
+package com.example.infrastructure.config;
+
+import com.example.infrastructure.web.async.AsyncReadExecutor;
+import com.example.infrastructure.web.async.AsyncReadProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Bounded database read pool behind the /api/async order and payment endpoints.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.async-reads", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(AsyncReadProperties.class)
+public class AsyncReadConfig {
+
+    // Not an Executor bean: one would replace Spring's applicationTaskExecutor
+    @Bean(destroyMethod = "close")
+    public AsyncReadExecutor asyncReadExecutor(AsyncReadProperties properties, MeterRegistry meterRegistry) {
+        return new AsyncReadExecutor(properties, meterRegistry);
+    }
+}
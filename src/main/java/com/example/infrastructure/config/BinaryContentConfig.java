@@ -0,0 +1,35 @@
+package com.example.infrastructure.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * CBOR ({@code application/cbor}) and Smile ({@code application/x-jackson-smile}) request and
+ * response bodies next to JSON, for internal callers that send a matching Accept or
+ * Content-Type. JSON stays the default.
+ * <p>
+ * Spring MVC would register both formats by itself once they are on the classpath, but with a
+ * plain mapper that writes dates as number arrays. These are built from the application's
+ * {@link Jackson2ObjectMapperBuilder} instead, so every format shares the same modules, date
+ * handling and mixins and decodes to the same DTO.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.binary-content", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BinaryContentConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.infrastructure.config;
+
+import com.example.infrastructure.datasource.ConnectionPoolProperties;
+import com.example.infrastructure.datasource.EndpointAwareMetricsTrackerFactory;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Connection pool instrumentation.
+ * Every HikariCP pool publishes the standard hikaricp.* meters (acquire latency, pending threads,
+ * usage time) plus db.connection.hold broken down by the endpoint holding the connection.
+ */
+@Configuration
+@EnableConfigurationProperties(ConnectionPoolProperties.class)
+public class ConnectionPoolConfig {
+
+    @Bean
+    public static BeanPostProcessor hikariMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource && dataSource.getMetricsTrackerFactory() == null) {
+                    MeterRegistry registry = meterRegistry.getIfAvailable();
+                    if (registry != null) {
+                        dataSource.setMetricsTrackerFactory(new EndpointAwareMetricsTrackerFactory(registry));
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.infrastructure.config;
+
+import com.example.infrastructure.datasource.DataSourceRoutingProperties;
+import com.example.infrastructure.datasource.EndpointAwareMetricsTrackerFactory;
+import com.example.infrastructure.datasource.ReplicaPool;
+import com.example.infrastructure.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Read/write splitting configuration.
+ * Read-only transactions are served by a healthy replica in round-robin order,
+ * all other work (and every read when no replica is healthy) goes to the primary.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig implements SchedulingConfigurer {
+
+    private final DataSourceRoutingProperties routingProperties;
+    private ReplicaPool replicaPool;
+
+    public DataSourceRoutingConfig(DataSourceRoutingProperties routingProperties) {
+        this.routingProperties = routingProperties;
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaPool replicaPool(ObjectProvider<MeterRegistry> meterRegistry) {
+        List<ReplicaPool.Node> nodes = routingProperties.getReplicas().stream()
+                .map(replica -> new ReplicaPool.Node(replica.getName(),
+                        createReplicaDataSource(replica, meterRegistry.getIfAvailable())))
+                .toList();
+        replicaPool = new ReplicaPool(nodes,
+                routingProperties.getValidationTimeout(),
+                routingProperties.getMaxReplicaLag(),
+                routingProperties.getLagQuery());
+        return replicaPool;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaPool replicaPool) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primaryDataSource, replicaPool));
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(() -> replicaPool.checkHealth(), routingProperties.getHealthCheckInterval());
+    }
+
+    private DataSource createReplicaDataSource(DataSourceRoutingProperties.Replica replica, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(replica.getName());
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(replica.getUsername());
+        dataSource.setPassword(replica.getPassword());
+        if (replica.getDriverClassName() != null) {
+            dataSource.setDriverClassName(replica.getDriverClassName());
+        }
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        if (meterRegistry != null) {
+            dataSource.setMetricsTrackerFactory(new EndpointAwareMetricsTrackerFactory(meterRegistry));
+        }
+        return dataSource;
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.infrastructure.config;
 
 import com.example.domain.Member;
+import com.example.domain.Order;
+import com.example.domain.Payment;
 import com.example.domain.event.DomainEventPublisher;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
@@ -21,5 +23,7 @@ public class DomainEventConfig {
     public void configureEventPublishers() {
         // Inject event publisher into domain entities
         Member.setEventPublisher(eventPublisher);
+        Order.setEventPublisher(eventPublisher);
+        Payment.setEventPublisher(eventPublisher);
     }
 }
\ No newline at end of file
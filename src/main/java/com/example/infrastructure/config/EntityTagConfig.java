@@ -0,0 +1,27 @@
+package com.example.infrastructure.config;
+
+import com.example.infrastructure.web.etag.EntityTagCache;
+import com.example.infrastructure.web.etag.EntityTagInvalidator;
+import com.example.infrastructure.web.etag.EntityTagProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ETag and If-None-Match handling for member, order and payment reads.
+ */
+@Configuration
+@EnableConfigurationProperties(EntityTagProperties.class)
+public class EntityTagConfig {
+
+    @Bean
+    public EntityTagCache entityTagCache(EntityTagProperties properties, MeterRegistry meterRegistry) {
+        return new EntityTagCache(properties, meterRegistry);
+    }
+
+    @Bean
+    public EntityTagInvalidator entityTagInvalidator(EntityTagCache entityTagCache) {
+        return new EntityTagInvalidator(entityTagCache);
+    }
+}
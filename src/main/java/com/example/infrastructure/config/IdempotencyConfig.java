@@ -0,0 +1,47 @@
+package com.example.infrastructure.config;
+
+import com.example.infrastructure.persistence.IdempotencyRecordRepository;
+import com.example.infrastructure.web.idempotency.DatabaseIdempotencyStore;
+import com.example.infrastructure.web.idempotency.IdempotencyFilter;
+import com.example.infrastructure.web.idempotency.IdempotencyProperties;
+import com.example.infrastructure.web.idempotency.IdempotencyStore;
+import com.example.infrastructure.web.idempotency.InMemoryIdempotencyStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Idempotency-Key support for order creation and payment processing.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.idempotency", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.idempotency", name = "store", havingValue = "jdbc")
+    public IdempotencyStore databaseIdempotencyStore(IdempotencyProperties properties,
+                                                     IdempotencyRecordRepository repository) {
+        return new DatabaseIdempotencyStore(properties, repository);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(IdempotencyStore.class)
+    public IdempotencyStore inMemoryIdempotencyStore(IdempotencyProperties properties) {
+        return new InMemoryIdempotencyStore(properties);
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyStore store,
+                                                                       IdempotencyProperties properties) {
+        FilterRegistrationBean<IdempotencyFilter> registration =
+                new FilterRegistrationBean<>(new IdempotencyFilter(store, properties));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 100);
+        return registration;
+    }
+}
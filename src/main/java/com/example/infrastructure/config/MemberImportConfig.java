@@ -0,0 +1,25 @@
+package com.example.infrastructure.config;
+
+import com.example.infrastructure.importer.MemberImportProperties;
+import com.example.infrastructure.importer.MemberImportRunner;
+import com.example.infrastructure.importer.MemberImporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Bulk member import, exposed at POST /api/members/import and as a command-line runner.
+ */
+@Configuration
+@EnableConfigurationProperties(MemberImportProperties.class)
+public class MemberImportConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.member-import", name = "file")
+    public MemberImportRunner memberImportRunner(MemberImporter memberImporter, MemberImportProperties properties,
+                                                 ConfigurableApplicationContext context) {
+        return new MemberImportRunner(memberImporter, properties, context);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.infrastructure.config;
+
+import com.example.infrastructure.retry.OptimisticLockRetryAspect;
+import com.example.infrastructure.retry.OptimisticLockRetryProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Retry of optimistic lock conflicts on versioned order and payment updates.
+ */
+@Configuration
+@EnableConfigurationProperties(OptimisticLockRetryProperties.class)
+public class OptimisticLockRetryConfig {
+
+    @Bean
+    public OptimisticLockRetryAspect optimisticLockRetryAspect(OptimisticLockRetryProperties properties,
+                                                               MeterRegistry meterRegistry) {
+        return new OptimisticLockRetryAspect(properties, meterRegistry);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.infrastructure.config;
+
+import com.example.infrastructure.persistence.archive.OrderArchive;
+import com.example.infrastructure.persistence.archive.OrderArchiveProperties;
+import com.example.infrastructure.persistence.archive.OrderArchiver;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+
+/**
+ * Archival of cold completed orders to local part files, enabled with app.order-archive.enabled=true.
+ * Order services consult the archive when the orders table misses.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.order-archive", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(OrderArchiveProperties.class)
+public class OrderArchiveConfig {
+
+    @Bean
+    public OrderArchive orderArchive(OrderArchiveProperties properties, MeterRegistry meterRegistry) {
+        OrderArchive archive = new OrderArchive(Path.of(properties.getDirectory()));
+        Gauge.builder("orders.archive.parts", archive, OrderArchive::getPartCount)
+                .register(meterRegistry);
+        Gauge.builder("orders.archive.orders", archive, OrderArchive::getOrderCount)
+                .register(meterRegistry);
+        Gauge.builder("orders.archive.bytes", archive, OrderArchive::getCompressedBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        return archive;
+    }
+
+    @Bean
+    public OrderArchiver orderArchiver(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                       OrderArchive archive, OrderArchiveProperties properties,
+                                       MeterRegistry meterRegistry) {
+        return new OrderArchiver(jdbcTemplate, transactionTemplate, archive, properties, meterRegistry);
+    }
+}
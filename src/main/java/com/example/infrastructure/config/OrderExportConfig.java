@@ -0,0 +1,13 @@
+package com.example.infrastructure.config;
+
+import com.example.infrastructure.export.OrderExportProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Streaming order export at GET /api/orders/export.
+ */
+@Configuration
+@EnableConfigurationProperties(OrderExportProperties.class)
+public class OrderExportConfig {
+}
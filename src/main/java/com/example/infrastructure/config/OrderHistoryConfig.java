@@ -0,0 +1,53 @@
+package com.example.infrastructure.config;
+
+import com.example.infrastructure.persistence.OrderRepository;
+import com.example.infrastructure.persistence.history.OffHeapOrderStore;
+import com.example.infrastructure.persistence.history.OrderHistoryListener;
+import com.example.infrastructure.persistence.history.OrderHistoryProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+
+/**
+ * Off-heap read tier for completed and cancelled orders, enabled with
+ * app.order-history.off-heap.enabled=true. Order services pick the store up when present.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.order-history.off-heap", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(OrderHistoryProperties.class)
+public class OrderHistoryConfig {
+
+    @Bean(destroyMethod = "close")
+    public OffHeapOrderStore offHeapOrderStore(OrderHistoryProperties properties, MeterRegistry meterRegistry) {
+        OffHeapOrderStore store = new OffHeapOrderStore(properties.getSegmentBytes(), properties.getCapacityBytes(),
+                properties.getDirectory() != null ? Path.of(properties.getDirectory()) : null);
+        Gauge.builder("orders.history.offheap.orders", store, OffHeapOrderStore::size)
+                .description("Terminal orders held off heap")
+                .register(meterRegistry);
+        Gauge.builder("orders.history.offheap.bytes", store, OffHeapOrderStore::getUsedBytes)
+                .tag("state", "used")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("orders.history.offheap.bytes", store, OffHeapOrderStore::getLiveBytes)
+                .tag("state", "live")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        FunctionCounter.builder("orders.history.offheap.resets", store, OffHeapOrderStore::getResets)
+                .description("Times the full store was dropped and refilled")
+                .register(meterRegistry);
+        return store;
+    }
+
+    @Bean
+    public OrderHistoryListener orderHistoryListener(OffHeapOrderStore store, OrderRepository orderRepository,
+                                                     PlatformTransactionManager transactionManager) {
+        return new OrderHistoryListener(store, orderRepository, transactionManager);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.infrastructure.config;
+
+import com.example.infrastructure.persistence.archive.OrderArchiver;
+import com.example.infrastructure.persistence.partition.PartitionMaintainer;
+import com.example.infrastructure.persistence.partition.PartitioningProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Monthly partitioning of orders and payments by created_at, enabled with app.partitioning.enabled=true.
+ * Declarative partitions on PostgreSQL, a catalog-only simulation on H2.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.partitioning", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(PartitioningProperties.class)
+public class PartitioningConfig {
+
+    /**
+     * Takes the entity manager factory only so that Hibernate has created the tables first.
+     */
+    @Bean
+    public PartitionMaintainer partitionMaintainer(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                                   PartitioningProperties properties, MeterRegistry meterRegistry,
+                                                   EntityManagerFactory entityManagerFactory,
+                                                   ObjectProvider<OrderArchiver> archiver) {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        boolean postgres = "PostgreSQL".equalsIgnoreCase(database);
+        if (!postgres && !"H2".equalsIgnoreCase(database)) {
+            throw new IllegalStateException("Table partitioning is not supported on " + database);
+        }
+        return new PartitionMaintainer(jdbcTemplate, transactionTemplate, properties, meterRegistry, postgres,
+                archiver.getIfAvailable());
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.infrastructure.config;
+
+import com.example.reporting.OrderStatsProperties;
+import com.example.reporting.RevenueReportingProperties;
+import com.example.reporting.TopProductsProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Reports maintained from payment and order events: revenue rollups at GET /api/reports/revenue
+ * the top products ranking at GET /api/reports/top-products and order amount percentiles with
+ * distinct buyers at GET /api/reports/order-stats.
+ */
+@Configuration
+@EnableConfigurationProperties({RevenueReportingProperties.class, TopProductsProperties.class, OrderStatsProperties.class})
+public class ReportingConfig {
+}
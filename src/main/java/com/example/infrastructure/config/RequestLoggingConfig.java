@@ -0,0 +1,28 @@
+package com.example.infrastructure.config;
+
+import com.example.infrastructure.web.logging.RequestLogFilter;
+import com.example.infrastructure.web.logging.RequestLogProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Sampled per-request logging, turned on by the prod-logging profile.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.request-logging", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(RequestLogProperties.class)
+public class RequestLoggingConfig {
+
+    @Bean
+    public FilterRegistrationBean<RequestLogFilter> requestLogFilter(RequestLogProperties properties) {
+        FilterRegistrationBean<RequestLogFilter> registration = new FilterRegistrationBean<>(new RequestLogFilter(properties));
+        registration.addUrlPatterns("/api/*");
+        // Outside load shedding, so shed requests are timed and logged too
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
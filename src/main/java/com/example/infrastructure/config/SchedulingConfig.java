@@ -0,0 +1,12 @@
+package com.example.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled background tasks such as replica health checks.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,136 @@
+package com.example.infrastructure.config;
+
+import com.example.infrastructure.datasource.EndpointAwareMetricsTrackerFactory;
+import com.example.infrastructure.datasource.shard.ShardRebalancer;
+import com.example.infrastructure.datasource.shard.ShardRouter;
+import com.example.infrastructure.datasource.shard.ShardRoutingAspect;
+import com.example.infrastructure.datasource.shard.ShardRoutingDataSource;
+import com.example.infrastructure.datasource.shard.ShardSchema;
+import com.example.infrastructure.datasource.shard.ShardedMemberUseCase;
+import com.example.infrastructure.datasource.shard.ShardingProperties;
+import com.example.infrastructure.persistence.MemberRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Member-id sharding over several databases, enabled with app.datasource.sharding.enabled=true
+ * (see the h2-sharded profile). Members, orders and payments live on the member's shard; calls
+ * of the application services are routed by their {@code @ShardKey} or scattered over all shards.
+ * <p>
+ * Not combined with read replica routing, table partitioning or order archival, whose JDBC
+ * would only reach the directory shard. The revenue rebuild sums every shard and member import
+ * goes through {@link ShardedMemberUseCase}; the order export still only sees the directory shard.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.sharding", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    public ShardingConfig(Environment environment) {
+        if (environment.getProperty("app.datasource.routing.enabled", Boolean.class, false)) {
+            throw new IllegalStateException("Sharding cannot be combined with read replica routing");
+        }
+        if (environment.getProperty("app.partitioning.enabled", Boolean.class, false)) {
+            throw new IllegalStateException("Sharding cannot be combined with table partitioning");
+        }
+        if (environment.getProperty("app.order-archive.enabled", Boolean.class, false)) {
+            throw new IllegalStateException("Sharding cannot be combined with order archival");
+        }
+    }
+
+    @Bean
+    public ShardRoutingDataSource shardRoutingDataSource(ShardingProperties properties, MeterRegistry meterRegistry) {
+        if (properties.getShards().isEmpty()) {
+            throw new IllegalStateException("app.datasource.sharding.shards must list at least one database");
+        }
+        Map<String, DataSource> shards = new LinkedHashMap<>();
+        for (ShardingProperties.Shard shard : properties.getShards()) {
+            if (shards.put(shard.getName(), createShardDataSource(shard, meterRegistry)) != null) {
+                throw new IllegalStateException("Duplicate shard name: " + shard.getName());
+            }
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    @Bean
+    public ShardSchema shardSchema() {
+        return new ShardSchema();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer shardSchemaScript(ShardSchema shardSchema) {
+        return shardSchema::capture;
+    }
+
+    /**
+     * Takes the entity manager factory so that the directory schema exists before it is copied.
+     */
+    @Bean
+    public ShardRouter shardRouter(ShardRoutingDataSource shardRoutingDataSource, ShardSchema shardSchema,
+                                   ShardingProperties properties, EntityManagerFactory entityManagerFactory,
+                                   MeterRegistry meterRegistry) {
+        shardSchema.initialize(shardRoutingDataSource.getShards());
+        ShardRouter router = new ShardRouter(shardRoutingDataSource.getShards(), properties);
+        Gauge.builder("sharding.ring.shards", router, r -> r.getRing().getShards().size())
+                .register(meterRegistry);
+        Gauge.builder("sharding.members.relocated", router, ShardRouter::getRelocatedCount)
+                .register(meterRegistry);
+        return router;
+    }
+
+    @Bean
+    public ShardRoutingAspect shardRoutingAspect(ShardRouter shardRouter) {
+        return new ShardRoutingAspect(shardRouter);
+    }
+
+    @Bean
+    @Primary
+    public ShardedMemberUseCase shardedMemberUseCase(MemberRepository memberRepository, ShardRouter shardRouter,
+                                                     ShardingProperties properties, JdbcTemplate jdbcTemplate,
+                                                     PlatformTransactionManager transactionManager) {
+        return new ShardedMemberUseCase(memberRepository, shardRouter, properties.getIdBlockSize(),
+                jdbcTemplate, transactionManager);
+    }
+
+    @Bean
+    public ShardRebalancer shardRebalancer(ShardRouter shardRouter, ShardingProperties properties,
+                                           MeterRegistry meterRegistry) {
+        return new ShardRebalancer(shardRouter, properties.getScanBatchSize(), meterRegistry);
+    }
+
+    private DataSource createShardDataSource(ShardingProperties.Shard shard, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(shard.getName());
+        dataSource.setJdbcUrl(shard.getUrl());
+        dataSource.setUsername(shard.getUsername());
+        dataSource.setPassword(shard.getPassword());
+        if (shard.getDriverClassName() != null) {
+            dataSource.setDriverClassName(shard.getDriverClassName());
+        }
+        dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+        dataSource.setMetricsTrackerFactory(new EndpointAwareMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.infrastructure.config;
+
+import com.example.infrastructure.singleflight.SingleFlightAspect;
+import com.example.infrastructure.singleflight.SingleFlightInvalidator;
+import com.example.infrastructure.singleflight.SingleFlightLoader;
+import com.example.infrastructure.singleflight.SingleFlightProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Coalescing of concurrent identical member, order and payment lookups.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.single-flight", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(SingleFlightProperties.class)
+public class SingleFlightConfig {
+
+    @Bean
+    public SingleFlightLoader singleFlightLoader(SingleFlightProperties properties, MeterRegistry meterRegistry) {
+        return new SingleFlightLoader(properties, meterRegistry);
+    }
+
+    @Bean
+    public SingleFlightAspect singleFlightAspect(SingleFlightLoader singleFlightLoader) {
+        return new SingleFlightAspect(singleFlightLoader);
+    }
+
+    @Bean
+    public SingleFlightInvalidator singleFlightInvalidator(SingleFlightLoader singleFlightLoader) {
+        return new SingleFlightInvalidator(singleFlightLoader);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.infrastructure.config;
+
+import com.example.infrastructure.web.assets.PrecompressedAssetPublisher;
+import com.example.infrastructure.web.assets.StaticAssetProperties;
+import org.apache.catalina.Lifecycle;
+import org.apache.catalina.WebResourceRoot;
+import org.apache.catalina.servlets.DefaultServlet;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Serves the Swagger UI assets from disk through Tomcat's default servlet, precompressed and
+ * with sendfile, rather than out of the webjar through the dispatcher.
+ */
+@Configuration
+@ConditionalOnClass(DefaultServlet.class)
+@ConditionalOnProperty(prefix = "app.static-assets", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(StaticAssetProperties.class)
+public class StaticAssetConfig {
+
+    @Bean
+    public PublishedAssets publishedAssets(StaticAssetProperties properties) throws IOException {
+        PrecompressedAssetPublisher publisher = new PrecompressedAssetPublisher(properties);
+        return new PublishedAssets(publisher, publisher.publish());
+    }
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> staticAssetResources(PublishedAssets assets) {
+        String directory = assets.publisher().getRoot().toString();
+        return factory -> factory.addContextCustomizers(context -> context.addLifecycleListener(event -> {
+            if (Lifecycle.CONFIGURE_START_EVENT.equals(event.getType())) {
+                // Ahead of the jar resources, so the default servlet finds real files
+                context.getResources().createWebResourceSet(WebResourceRoot.ResourceSetType.PRE,
+                        PrecompressedAssetPublisher.MOUNT, directory, null, "/");
+            }
+        }));
+    }
+
+    @Bean
+    public ServletRegistrationBean<DefaultServlet> staticAssetServlet(PublishedAssets assets,
+                                                                      StaticAssetProperties properties) {
+        ServletRegistrationBean<DefaultServlet> registration = new ServletRegistrationBean<>(new DefaultServlet());
+        registration.setName("precompressedStaticAssets");
+        // Exact mappings: everything else under the mount, springdoc's generated files included, stays with it
+        assets.paths().forEach(path -> registration.addUrlMappings(PrecompressedAssetPublisher.MOUNT + "/" + path));
+        registration.addInitParameter("precompressed", "true");
+        registration.addInitParameter("sendfileSize", Long.toString(properties.getSendfileMinSize().toKilobytes()));
+        registration.addInitParameter("listings", "false");
+        registration.setLoadOnStartup(1);
+        // Without mappings a registration would claim /*
+        registration.setEnabled(!assets.paths().isEmpty());
+        return registration;
+    }
+
+    public record PublishedAssets(PrecompressedAssetPublisher publisher, List<String> paths) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.infrastructure.config;
+
+import com.example.infrastructure.web.stream.StatusChangeListener;
+import com.example.infrastructure.web.stream.StatusStreamProperties;
+import com.example.infrastructure.web.stream.StatusStreamRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Server-Sent Events stream of order and payment status changes.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.status-stream", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(StatusStreamProperties.class)
+public class StatusStreamConfig {
+
+    @Bean(destroyMethod = "close")
+    public StatusStreamRegistry statusStreamRegistry(StatusStreamProperties properties, MeterRegistry meterRegistry) {
+        return new StatusStreamRegistry(properties, meterRegistry);
+    }
+
+    @Bean
+    public StatusChangeListener statusChangeListener(StatusStreamRegistry statusStreamRegistry) {
+        return new StatusChangeListener(statusStreamRegistry);
+    }
+}
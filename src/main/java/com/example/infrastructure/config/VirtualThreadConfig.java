@@ -0,0 +1,27 @@
+package com.example.infrastructure.config;
+
+import com.example.infrastructure.event.DomainEventMulticaster;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ApplicationEventMulticaster;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * Virtual-thread execution mode, active when spring.threads.virtual.enabled=true.
+ * Spring Boot already moves Tomcat request handling and the applicationTaskExecutor used by
+ * {@code @Async} onto virtual threads; this adds the domain event dispatcher.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean(name = AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME)
+    public ApplicationEventMulticaster applicationEventMulticaster() {
+        DomainEventMulticaster multicaster = new DomainEventMulticaster();
+        multicaster.setTaskExecutor(new VirtualThreadTaskExecutor("domain-event-"));
+        return multicaster;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.infrastructure.config;
+
+import com.example.dto.OrderDto;
+import com.example.infrastructure.web.EndpointTaggingInterceptor;
+import com.example.infrastructure.web.OrderFieldsResponseAdvice;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC configuration for cross-cutting request handling.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new EndpointTaggingInterceptor()).addPathPatterns("/api/**");
+    }
+
+    /**
+     * Lets order listings honour {@code fields=}; responses that set no filter are written whole.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer orderFieldsJacksonCustomizer() {
+        return builder -> builder
+                .mixIn(OrderDto.class, OrderFieldsResponseAdvice.OrderDtoMixin.class)
+                .filters(new SimpleFilterProvider().setFailOnUnknownId(false));
+    }
+}
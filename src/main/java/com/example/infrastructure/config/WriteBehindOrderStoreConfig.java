@@ -0,0 +1,55 @@
+package com.example.infrastructure.config;
+
+import com.example.domain.event.DomainEventPublisher;
+import com.example.infrastructure.datasource.shard.ShardRouter;
+import com.example.infrastructure.persistence.MemberRepository;
+import com.example.infrastructure.persistence.OrderRepository;
+import com.example.infrastructure.persistence.writebehind.WriteBehindOrderEngine;
+import com.example.infrastructure.persistence.writebehind.WriteBehindOrderService;
+import com.example.infrastructure.persistence.writebehind.WriteBehindProperties;
+import com.example.infrastructure.persistence.writebehind.WriteBehindReadBarrier;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Write-behind order persistence, enabled with app.order-store.engine=write-behind
+ * (see the write-behind profile). Replaces the order service used by the controllers;
+ * the JPA engine stays the default. With sharding, orders are written to their member's shard.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.order-store", name = "engine", havingValue = "write-behind")
+@EnableConfigurationProperties(WriteBehindProperties.class)
+public class WriteBehindOrderStoreConfig {
+
+    @Bean
+    public WriteBehindOrderEngine writeBehindOrderEngine(JdbcTemplate jdbcTemplate,
+                                                         PlatformTransactionManager transactionManager,
+                                                         DomainEventPublisher eventPublisher,
+                                                         WriteBehindProperties properties,
+                                                         MeterRegistry meterRegistry,
+                                                         ObjectProvider<ShardRouter> shardRouter) {
+        return new WriteBehindOrderEngine(jdbcTemplate, transactionManager, eventPublisher, properties, meterRegistry,
+                shardRouter.getIfAvailable());
+    }
+
+    @Bean
+    public WriteBehindReadBarrier writeBehindReadBarrier(WriteBehindOrderEngine engine) {
+        return new WriteBehindReadBarrier(engine);
+    }
+
+    @Bean
+    @Primary
+    public WriteBehindOrderService writeBehindOrderService(OrderRepository orderRepository,
+                                                           MemberRepository memberRepository,
+                                                           WriteBehindOrderEngine engine,
+                                                           PlatformTransactionManager transactionManager) {
+        return new WriteBehindOrderService(orderRepository, memberRepository, engine, transactionManager);
+    }
+}
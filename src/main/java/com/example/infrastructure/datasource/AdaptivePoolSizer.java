@@ -0,0 +1,128 @@
+package com.example.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically resizes HikariCP pools within configured bounds.
+ * The pool grows while threads queue for connections and the wait dominates the time
+ * connections are actually used, and shrinks when it is idle or when the database itself
+ * slows down (growing then would only add load to a saturated database).
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.datasource.pool.adaptive", name = "enabled", havingValue = "true")
+@Slf4j
+public class AdaptivePoolSizer {
+
+    private final List<DataSource> dataSources;
+    private final MeterRegistry meterRegistry;
+    private final ConnectionPoolProperties.Adaptive settings;
+    private final Map<String, PoolState> states = new ConcurrentHashMap<>();
+
+    public AdaptivePoolSizer(List<DataSource> dataSources, MeterRegistry meterRegistry,
+                             ConnectionPoolProperties properties) {
+        this.dataSources = dataSources;
+        this.meterRegistry = meterRegistry;
+        this.settings = properties.getAdaptive();
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.pool.adaptive.interval:PT10S}")
+    public void adjust() {
+        dataSources.stream()
+                .map(AdaptivePoolSizer::unwrapHikari)
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(this::adjust);
+    }
+
+    private void adjust(HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return; // pool not started yet
+        }
+        String poolName = dataSource.getPoolName();
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").tag("pool", poolName).timer();
+        Timer usage = meterRegistry.find("hikaricp.connections.usage").tag("pool", poolName).timer();
+        if (acquire == null || usage == null) {
+            return;
+        }
+
+        PoolState state = states.computeIfAbsent(poolName, name -> new PoolState());
+        double waitMs = state.acquire.meanSinceLast(acquire);
+        double usageMs = state.usage.meanSinceLast(usage);
+        if (Double.isNaN(usageMs)) {
+            return; // no traffic since the last tick
+        }
+        state.baselineUsageMs = state.baselineUsageMs == 0
+                ? usageMs
+                : 0.9 * state.baselineUsageMs + 0.1 * usageMs;
+
+        int current = dataSource.getHikariConfigMXBean().getMaximumPoolSize();
+        int next = nextSize(settings, current, pool.getThreadsAwaitingConnection(), pool.getActiveConnections(),
+                Double.isNaN(waitMs) ? 0 : waitMs, usageMs, state.baselineUsageMs);
+        if (next != current) {
+            dataSource.getHikariConfigMXBean().setMaximumPoolSize(next);
+            log.info("Resized pool {} from {} to {} (wait={}ms, usage={}ms, baseline={}ms)",
+                    poolName, current, next, String.format("%.2f", waitMs),
+                    String.format("%.2f", usageMs), String.format("%.2f", state.baselineUsageMs));
+        }
+    }
+
+    static int nextSize(ConnectionPoolProperties.Adaptive settings, int current, int pending, int active,
+                        double waitMs, double usageMs, double baselineUsageMs) {
+        boolean databaseSaturated = baselineUsageMs > 0 && usageMs > settings.getUsageCeiling() * baselineUsageMs;
+        if (databaseSaturated) {
+            return Math.max(settings.getMinSize(), current - settings.getStep());
+        }
+        if (pending > 0 && waitMs > settings.getWaitToUsageRatio() * usageMs) {
+            return Math.min(settings.getMaxSize(), current + settings.getStep());
+        }
+        if (pending == 0 && active < current * settings.getShrinkUtilization()) {
+            return Math.max(settings.getMinSize(), current - settings.getStep());
+        }
+        return current;
+    }
+
+    private static HikariDataSource unwrapHikari(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    private static class PoolState {
+        private final TimerSnapshot acquire = new TimerSnapshot();
+        private final TimerSnapshot usage = new TimerSnapshot();
+        private double baselineUsageMs;
+    }
+
+    private static class TimerSnapshot {
+        private long count;
+        private double totalMs;
+
+        double meanSinceLast(Timer timer) {
+            long newCount = timer.count();
+            double newTotalMs = timer.totalTime(TimeUnit.MILLISECONDS);
+            long deltaCount = newCount - count;
+            double deltaMs = newTotalMs - totalMs;
+            count = newCount;
+            totalMs = newTotalMs;
+            return deltaCount > 0 ? deltaMs / deltaCount : Double.NaN;
+        }
+    }
+}
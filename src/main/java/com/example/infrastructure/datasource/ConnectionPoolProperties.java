@@ -0,0 +1,51 @@
+package com.example.infrastructure.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for connection pool instrumentation and adaptive sizing.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource.pool")
+public class ConnectionPoolProperties {
+
+    private Adaptive adaptive = new Adaptive();
+
+    @Getter
+    @Setter
+    public static class Adaptive {
+
+        /**
+         * Whether the maximum pool size is adjusted at runtime.
+         */
+        private boolean enabled = false;
+
+        private int minSize = 5;
+
+        private int maxSize = 50;
+
+        /**
+         * Number of connections added or removed per adjustment.
+         */
+        private int step = 2;
+
+        /**
+         * Grow when the mean acquire wait exceeds this multiple of the mean connection usage time.
+         */
+        private double waitToUsageRatio = 0.5;
+
+        /**
+         * Never grow while connection usage time exceeds this multiple of its baseline,
+         * since more connections would only add load to a saturated database.
+         */
+        private double usageCeiling = 2.0;
+
+        /**
+         * Shrink when fewer than this fraction of connections are active and nobody is waiting.
+         */
+        private double shrinkUtilization = 0.3;
+    }
+}
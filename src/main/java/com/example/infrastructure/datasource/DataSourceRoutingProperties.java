@@ -0,0 +1,61 @@
+package com.example.infrastructure.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration for read/write routing between the primary and read replicas.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    /**
+     * Whether read-only transactions are routed to replicas.
+     */
+    private boolean enabled = false;
+
+    /**
+     * How often replicas are validated and their lag measured.
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * Timeout for a single replica validation.
+     */
+    private Duration validationTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Replicas lagging further behind than this are taken out of rotation.
+     */
+    private Duration maxReplicaLag = Duration.ofSeconds(10);
+
+    /**
+     * Query returning the replica lag in seconds, e.g. for PostgreSQL:
+     * SELECT COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0).
+     * When empty, lag is not checked.
+     */
+    private String lagQuery;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        /**
+         * Routing key and pool name; unique, and not "primary", which the primary uses.
+         */
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.infrastructure.datasource;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HikariCP metrics tracker that publishes the standard hikaricp.* meters and additionally
+ * records how long connections are held, tagged with the endpoint that held them.
+ */
+public class EndpointAwareMetricsTrackerFactory implements MetricsTrackerFactory {
+
+    public static final String HOLD_TIME_METRIC = "db.connection.hold";
+
+    private final MeterRegistry meterRegistry;
+    private final MetricsTrackerFactory delegate;
+
+    public EndpointAwareMetricsTrackerFactory(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.delegate = new MicrometerMetricsTrackerFactory(meterRegistry);
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        return new EndpointAwareMetricsTracker(poolName, delegate.create(poolName, poolStats));
+    }
+
+    private class EndpointAwareMetricsTracker implements IMetricsTracker {
+
+        private final String poolName;
+        private final IMetricsTracker delegate;
+
+        EndpointAwareMetricsTracker(String poolName, IMetricsTracker delegate) {
+            this.poolName = poolName;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            delegate.recordConnectionCreatedMillis(connectionCreatedMillis);
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            delegate.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            delegate.recordConnectionUsageMillis(elapsedBorrowedMillis);
+            Timer.builder(HOLD_TIME_METRIC)
+                    .description("Time a connection was held, by endpoint")
+                    .tag("pool", poolName)
+                    .tag("endpoint", RequestEndpointContext.current())
+                    .register(meterRegistry)
+                    .record(elapsedBorrowedMillis, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            delegate.recordConnectionTimeout();
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
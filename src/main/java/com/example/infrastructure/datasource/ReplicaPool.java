@@ -0,0 +1,124 @@
+package com.example.infrastructure.datasource;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Round-robin pool of read replicas.
+ * Replicas that fail validation or lag too far behind the primary are skipped
+ * until a later health check brings them back.
+ */
+@Slf4j
+public class ReplicaPool {
+
+    private final List<Node> nodes;
+    private final Duration validationTimeout;
+    private final Duration maxLag;
+    private final String lagQuery;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    private volatile List<Node> available;
+
+    public ReplicaPool(List<Node> nodes, Duration validationTimeout, Duration maxLag, String lagQuery) {
+        this.nodes = List.copyOf(nodes);
+        this.validationTimeout = validationTimeout;
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery == null || lagQuery.isBlank() ? null : lagQuery;
+        this.available = this.nodes;
+    }
+
+    /**
+     * Picks the next healthy replica, or empty when the primary should serve the read.
+     */
+    public Optional<String> nextReplica() {
+        List<Node> candidates = available;
+        if (candidates.isEmpty()) {
+            return Optional.empty();
+        }
+        int index = Math.floorMod(cursor.getAndIncrement(), candidates.size());
+        return Optional.of(candidates.get(index).getName());
+    }
+
+    /**
+     * Validates every replica and rebuilds the rotation.
+     */
+    public void checkHealth() {
+        for (Node node : nodes) {
+            boolean wasHealthy = node.healthy;
+            node.healthy = probe(node);
+            if (wasHealthy != node.healthy) {
+                if (node.healthy) {
+                    log.info("Replica {} is back in rotation (lag={}ms)", node.getName(), node.lagMillis);
+                } else {
+                    log.warn("Replica {} removed from rotation (lag={}ms)", node.getName(), node.lagMillis);
+                }
+            }
+        }
+        available = nodes.stream().filter(Node::isHealthy).toList();
+    }
+
+    public List<Node> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Closes the replica connection pools.
+     */
+    public void close() {
+        for (Node node : nodes) {
+            if (node.getDataSource() instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close replica {}: {}", node.getName(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private boolean probe(Node node) {
+        try (Connection connection = node.getDataSource().getConnection()) {
+            if (!connection.isValid((int) Math.max(1, validationTimeout.toSeconds()))) {
+                return false;
+            }
+            if (lagQuery == null) {
+                node.lagMillis = 0;
+                return true;
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(lagQuery)) {
+                node.lagMillis = rs.next() ? (long) (rs.getDouble(1) * 1000) : Long.MAX_VALUE;
+            }
+            return node.lagMillis <= maxLag.toMillis();
+        } catch (Exception e) {
+            log.debug("Replica {} health check failed: {}", node.getName(), e.getMessage());
+            node.lagMillis = -1;
+            return false;
+        }
+    }
+
+    /**
+     * A single replica and its last observed state.
+     */
+    @Getter
+    public static class Node {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+        private volatile long lagMillis;
+
+        public Node(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.infrastructure.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Routes connections of read-only transactions to a replica and everything else to the primary.
+ * Must be wrapped in a LazyConnectionDataSourceProxy so that the connection is fetched after
+ * the transaction's read-only flag has been set.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaPool replicaPool;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaPool replicaPool) {
+        this.replicaPool = replicaPool;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (ReplicaPool.Node node : replicaPool.getNodes()) {
+            // A replica named like the primary, or like another replica, would replace its target
+            if (targets.putIfAbsent(node.getName(), node.getDataSource()) != null) {
+                throw new IllegalArgumentException("Replica name '" + node.getName() + "' is "
+                        + (PRIMARY.equals(node.getName()) ? "reserved for the primary" : "used more than once"));
+            }
+        }
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return replicaPool.nextReplica().orElse(PRIMARY);
+        }
+        return PRIMARY;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.infrastructure.datasource;
+
+/**
+ * Holds the endpoint being served by the current thread so that connection
+ * metrics can be broken down per endpoint.
+ */
+public final class RequestEndpointContext {
+
+    public static final String NONE = "none";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private RequestEndpointContext() {
+        // Utility class
+    }
+
+    public static void set(String endpoint) {
+        CURRENT.set(endpoint);
+    }
+
+    public static String current() {
+        String endpoint = CURRENT.get();
+        return endpoint != null ? endpoint : NONE;
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.infrastructure.datasource.shard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable consistent-hash ring mapping member ids to shard names.
+ * <p>
+ * Each shard owns {@code virtualNodes} points on a 64-bit ring and a key belongs to the first
+ * point at or after its hash. Adding a shard therefore only takes keys away from the others,
+ * about {@code 1/n} of them, instead of reshuffling everything like {@code id % n} would.
+ * Lookups are a binary search over a sorted {@code long[]}.
+ */
+public final class ConsistentHashRing {
+
+    private final List<String> shards;
+    private final int virtualNodes;
+    private final long[] points;
+    private final String[] owners;
+
+    public ConsistentHashRing(Collection<String> shards, int virtualNodes) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("A hash ring needs at least one shard");
+        }
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("Virtual nodes must be positive: " + virtualNodes);
+        }
+        this.shards = List.copyOf(shards);
+        this.virtualNodes = virtualNodes;
+
+        List<Point> all = new ArrayList<>(shards.size() * virtualNodes);
+        for (String shard : this.shards) {
+            for (int i = 0; i < virtualNodes; i++) {
+                all.add(new Point(mix(fnv1a(shard + "#" + i)), shard));
+            }
+        }
+        // Ties, vanishingly rare, go to the shard that sorts first so every node builds the same ring
+        all.sort(Comparator.comparingLong(Point::position).thenComparing(Point::shard));
+        points = new long[all.size()];
+        owners = new String[all.size()];
+        for (int i = 0; i < all.size(); i++) {
+            points[i] = all.get(i).position();
+            owners[i] = all.get(i).shard();
+        }
+    }
+
+    public String shardFor(long key) {
+        int index = Arrays.binarySearch(points, mix(key));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    public ConsistentHashRing withShard(String shard) {
+        if (shards.contains(shard)) {
+            return this;
+        }
+        List<String> extended = new ArrayList<>(shards);
+        extended.add(shard);
+        return new ConsistentHashRing(extended, virtualNodes);
+    }
+
+    public boolean contains(String shard) {
+        return shards.contains(shard);
+    }
+
+    public List<String> getShards() {
+        return shards;
+    }
+
+    /**
+     * SplitMix64 finalizer; spreads sequential ids evenly over the ring.
+     */
+    static long mix(long key) {
+        long h = key;
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+
+    private static long fnv1a(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    private record Point(long position, String shard) {
+    }
+}
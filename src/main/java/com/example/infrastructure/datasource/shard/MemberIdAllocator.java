@@ -0,0 +1,36 @@
+package com.example.infrastructure.datasource.shard;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Hands out member ids from blocks reserved in the directory. A member's shard follows from its
+ * id, so the id has to exist before the row does and cannot come from a shard's identity column.
+ * Ids are unique across nodes and increase per node; a block is lost on restart.
+ */
+class MemberIdAllocator {
+
+    private final Shard directory;
+    private final int blockSize;
+    private long next;
+    private long limit;
+
+    MemberIdAllocator(Shard directory, int blockSize) {
+        this.directory = directory;
+        this.blockSize = blockSize;
+    }
+
+    synchronized long next() {
+        if (next >= limit) {
+            Long start = directory.transactionTemplate().execute(status -> {
+                JdbcTemplate jdbcTemplate = directory.jdbcTemplate();
+                Long value = jdbcTemplate.queryForObject(
+                        "SELECT next_value FROM shard_id_allocator WHERE name = 'members' FOR UPDATE", Long.class);
+                jdbcTemplate.update("UPDATE shard_id_allocator SET next_value = ? WHERE name = 'members'", value + blockSize);
+                return value;
+            });
+            next = start;
+            limit = start + blockSize;
+        }
+        return next++;
+    }
+}
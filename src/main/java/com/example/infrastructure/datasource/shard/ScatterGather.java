@@ -0,0 +1,18 @@
+package com.example.infrastructure.datasource.shard;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a service method on every shard in parallel, each call in its own transaction, and merges
+ * the results: the first present {@code Optional}; lists concatenated and ordered by id; keyset
+ * pages merged by id and cut back to the page size.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ScatterGather {
+}
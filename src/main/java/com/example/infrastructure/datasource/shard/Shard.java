@@ -0,0 +1,34 @@
+package com.example.infrastructure.datasource.shard;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * One shard database. The JDBC template and transactions work on its pool directly, bypassing
+ * {@link ShardContext} and any transaction bound to the routing data source.
+ *
+ * @param index position in the configuration; the high bits of the ids the shard generates
+ */
+public record Shard(String name, int index, DataSource dataSource, JdbcTemplate jdbcTemplate,
+                   TransactionTemplate transactionTemplate) {
+
+    /**
+     * First id the shard generates.
+     */
+    public long firstId() {
+        return ((long) index << ShardRouter.ID_SHIFT) + 1;
+    }
+
+    /**
+     * End of the shard's id range, exclusive.
+     */
+    public long endId() {
+        return (long) (index + 1) << ShardRouter.ID_SHIFT;
+    }
+
+    public boolean generated(long id) {
+        return id >>> ShardRouter.ID_SHIFT == index;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.infrastructure.datasource.shard;
+
+/**
+ * Holds the shard the current thread works on. Unset means the directory shard.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+        // Utility class
+    }
+
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Switches to the shard and returns the previous one, to be passed to {@link #restore}.
+     */
+    public static String enter(String shard) {
+        String previous = CURRENT.get();
+        CURRENT.set(shard);
+        return previous;
+    }
+
+    public static void restore(String previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.infrastructure.datasource.shard;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the service parameter that decides the shard of the call: the member's shard, found
+ * directly for a member id or through the owning member for an order or payment id. A null
+ * value leaves the call to {@link ScatterGather}, if present, or to the directory shard.
+ */
+@Documented
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardKey {
+
+    Type value();
+
+    enum Type {
+        MEMBER, ORDER, PAYMENT
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.infrastructure.datasource.shard;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Adds a shard to the ring while the application keeps serving.
+ * <p>
+ * Members are moved one at a time: with the member's routing lock held, its row, orders, order
+ * items and payments are copied to the new shard, the member is marked relocated, and the
+ * originals are deleted. Only calls on that member wait, for the length of one copy. Scatter-gather
+ * reads may meet a member on both shards for that moment and drop the duplicate by id. A move
+ * interrupted by a crash leaves the member on its old shard, and the next attempt first clears the
+ * partial copy.
+ */
+@Slf4j
+public class ShardRebalancer {
+
+    private final ShardRouter router;
+    private final int scanBatchSize;
+    private final Counter movedCounter;
+
+    public ShardRebalancer(ShardRouter router, int scanBatchSize, MeterRegistry meterRegistry) {
+        this.router = router;
+        this.scanBatchSize = scanBatchSize;
+        this.movedCounter = meterRegistry.counter("sharding.members.moved");
+    }
+
+    /**
+     * Moves every member the extended ring assigns to the shard and returns how many moved.
+     */
+    public synchronized int addShard(String name) {
+        long startTime = System.currentTimeMillis();
+        ConsistentHashRing target = router.beginRebalance(name);
+        int moved = 0;
+        try {
+            for (String source : router.getRing().getShards()) {
+                moved += drain(router.getShard(source), target);
+            }
+        } catch (RuntimeException e) {
+            router.abortRebalance();
+            log.error("Adding shard {} failed after moving {} members; they stay relocated", name, moved, e);
+            throw e;
+        }
+        router.completeRebalance();
+        log.info("Added shard {}: moved {} members in {} ms", name, moved, System.currentTimeMillis() - startTime);
+        return moved;
+    }
+
+    private int drain(Shard source, ConsistentHashRing target) {
+        int moved = 0;
+        long afterId = 0;
+        while (true) {
+            List<Long> ids = source.jdbcTemplate().queryForList(
+                    "SELECT id FROM members WHERE id > ? ORDER BY id LIMIT ?", Long.class, afterId, scanBatchSize);
+            for (long memberId : ids) {
+                String destination = target.shardFor(memberId);
+                String owner = router.ownerOf(memberId);
+                if (!owner.equals(source.name())) {
+                    // Left behind by a move that crashed after relocating the member
+                    source.transactionTemplate().executeWithoutResult(status -> MemberRows.delete(source.jdbcTemplate(), memberId));
+                } else if (!destination.equals(source.name())) {
+                    move(memberId, source, router.getShard(destination));
+                    moved++;
+                }
+            }
+            if (ids.size() < scanBatchSize) {
+                return moved;
+            }
+            afterId = ids.get(ids.size() - 1);
+        }
+    }
+
+    private void move(long memberId, Shard source, Shard destination) {
+        Lock lock = router.moveLock(memberId);
+        lock.lock();
+        try {
+            MemberRows rows = source.transactionTemplate().execute(status -> MemberRows.read(source.jdbcTemplate(), memberId));
+            destination.transactionTemplate().executeWithoutResult(status -> {
+                MemberRows.delete(destination.jdbcTemplate(), memberId);
+                rows.insert(destination.jdbcTemplate());
+            });
+            router.relocate(memberId, destination.name());
+            source.transactionTemplate().executeWithoutResult(status -> MemberRows.delete(source.jdbcTemplate(), memberId));
+            movedCounter.increment();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Every row belonging to one member, table by table in insert order.
+     */
+    private record MemberRows(Map<String, List<Map<String, Object>>> tables) {
+
+        private static final String ORDER_IDS = "SELECT id FROM orders WHERE member_id = ?";
+
+        static MemberRows read(JdbcTemplate jdbcTemplate, long memberId) {
+            Map<String, List<Map<String, Object>>> tables = new LinkedHashMap<>();
+            tables.put("members", jdbcTemplate.queryForList("SELECT * FROM members WHERE id = ?", memberId));
+            tables.put("orders", jdbcTemplate.queryForList("SELECT * FROM orders WHERE member_id = ?", memberId));
+            tables.put("order_items", jdbcTemplate.queryForList(
+                    "SELECT * FROM order_items WHERE order_id IN (" + ORDER_IDS + ")", memberId));
+            tables.put("payments", jdbcTemplate.queryForList(
+                    "SELECT * FROM payments WHERE order_id IN (" + ORDER_IDS + ")", memberId));
+            return new MemberRows(tables);
+        }
+
+        static void delete(JdbcTemplate jdbcTemplate, long memberId) {
+            jdbcTemplate.update("DELETE FROM payments WHERE order_id IN (" + ORDER_IDS + ")", memberId);
+            jdbcTemplate.update("DELETE FROM order_items WHERE order_id IN (" + ORDER_IDS + ")", memberId);
+            jdbcTemplate.update("DELETE FROM orders WHERE member_id = ?", memberId);
+            jdbcTemplate.update("DELETE FROM members WHERE id = ?", memberId);
+        }
+
+        void insert(JdbcTemplate jdbcTemplate) {
+            tables.forEach((table, rows) -> {
+                if (rows.isEmpty()) {
+                    return;
+                }
+                List<String> columns = new ArrayList<>(rows.get(0).keySet());
+                String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                        + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+                jdbcTemplate.batchUpdate(sql, rows.stream()
+                        .map(row -> columns.stream().map(row::get).toArray())
+                        .toList());
+            });
+        }
+    }
+}
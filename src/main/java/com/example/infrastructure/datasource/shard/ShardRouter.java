@@ -0,0 +1,274 @@
+package com.example.infrastructure.datasource.shard;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Decides which shard holds a member, and with it the member's orders and payments.
+ * <p>
+ * Normally that is the member id's shard on the hash ring. While a shard is being added, members
+ * already moved to it, and members created meanwhile, are listed as relocated and looked up
+ * there; once every member has moved the new ring replaces the old one. Relocations are kept in
+ * the directory so that a restart in the middle of re-sharding still finds them.
+ * <p>
+ * Calls routed by member hold that member's routing lock (one of 1024 stripes) for their whole
+ * duration, so a member is never moved while it is being read or written. The locks are local:
+ * online re-sharding assumes a single application node.
+ */
+@Slf4j
+public class ShardRouter {
+
+    static final int ID_SHIFT = 40;
+
+    private static final int LOCK_STRIPES = 1024;
+
+    private final Map<String, Shard> shards = new LinkedHashMap<>();
+    private final Shard directory;
+    private final int virtualNodes;
+    private final ReentrantReadWriteLock ringLock = new ReentrantReadWriteLock();
+    private final ReentrantReadWriteLock[] memberLocks = new ReentrantReadWriteLock[LOCK_STRIPES];
+    private final Map<Long, String> relocated = new ConcurrentHashMap<>();
+    private volatile ConsistentHashRing ring;
+    private volatile ConsistentHashRing targetRing;
+
+    public ShardRouter(Map<String, DataSource> dataSources, ShardingProperties properties) {
+        int index = 0;
+        for (Map.Entry<String, DataSource> entry : dataSources.entrySet()) {
+            DataSource dataSource = entry.getValue();
+            shards.put(entry.getKey(), new Shard(entry.getKey(), index++, dataSource, new JdbcTemplate(dataSource),
+                    new TransactionTemplate(new DataSourceTransactionManager(dataSource))));
+        }
+        this.directory = shards.values().iterator().next();
+        this.virtualNodes = properties.getVirtualNodes();
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            memberLocks[i] = new ReentrantReadWriteLock();
+        }
+
+        JdbcTemplate jdbcTemplate = directory.jdbcTemplate();
+        List<String> members = jdbcTemplate.queryForList("SELECT name FROM shard_ring ORDER BY ring_position", String.class);
+        if (members.isEmpty()) {
+            members = properties.getRing().isEmpty() ? List.copyOf(shards.keySet()) : properties.getRing();
+            saveRing(members);
+        }
+        members.forEach(this::getShard);
+        this.ring = new ConsistentHashRing(members, virtualNodes);
+        jdbcTemplate.query("SELECT member_id, shard FROM shard_relocations",
+                resultSet -> { relocated.put(resultSet.getLong(1), resultSet.getString(2)); });
+        log.info("Sharding members over {} ({} relocated)", members, relocated.size());
+    }
+
+    public String ownerOf(long memberId) {
+        String shard = relocated.get(memberId);
+        return shard != null ? shard : ring.shardFor(memberId);
+    }
+
+    /**
+     * Lock a call on the member holds so that the member does not move under it.
+     */
+    public Lock routingLock(long memberId) {
+        return stripe(memberId).readLock();
+    }
+
+    /**
+     * Routing locks of several members, one per stripe and in stripe order, so that holders of
+     * several never deadlock each other.
+     */
+    public List<Lock> routingLocks(Collection<Long> memberIds) {
+        return memberIds.stream()
+                .mapToInt(ShardRouter::stripeIndex)
+                .distinct()
+                .sorted()
+                .mapToObj(index -> (Lock) memberLocks[index].readLock())
+                .toList();
+    }
+
+    /**
+     * The member owning the order, looked up first on the shard that generated the order id.
+     */
+    public Long findMemberOfOrder(long orderId) {
+        return probe(orderId, "SELECT member_id FROM orders WHERE id = ?");
+    }
+
+    public Long findMemberOfPayment(long paymentId) {
+        return probe(paymentId, "SELECT o.member_id FROM payments p JOIN orders o ON o.id = p.order_id WHERE p.id = ?");
+    }
+
+    /**
+     * Chooses the shard of a member that does not exist yet and runs the insert there. During
+     * re-sharding new members go straight to their shard on the new ring.
+     */
+    public <T> T placeNewMember(long memberId, Function<Shard, T> insert) {
+        ringLock.readLock().lock();
+        try {
+            ConsistentHashRing target = targetRing;
+            if (target == null) {
+                return insert.apply(getShard(ring.shardFor(memberId)));
+            }
+            String shard = target.shardFor(memberId);
+            relocate(memberId, shard);
+            return insert.apply(getShard(shard));
+        } finally {
+            ringLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Shards that may hold members: those on the ring and, while re-sharding, the one being added.
+     */
+    public List<String> getActiveShards() {
+        Set<String> active = new LinkedHashSet<>(ring.getShards());
+        ConsistentHashRing target = targetRing;
+        if (target != null) {
+            active.addAll(target.getShards());
+        }
+        return new ArrayList<>(active);
+    }
+
+    public Shard getShard(String name) {
+        Shard shard = shards.get(name);
+        if (shard == null) {
+            throw new IllegalArgumentException("Unknown shard: " + name);
+        }
+        return shard;
+    }
+
+    public Collection<Shard> getShards() {
+        return shards.values();
+    }
+
+    public Shard getDirectory() {
+        return directory;
+    }
+
+    public ConsistentHashRing getRing() {
+        return ring;
+    }
+
+    public ConsistentHashRing getTargetRing() {
+        return targetRing;
+    }
+
+    public int getRelocatedCount() {
+        return relocated.size();
+    }
+
+    /**
+     * Starts moving members to the ring extended with the shard. Waits for members being created
+     * on the old ring, so that every later member is placed on the new one.
+     */
+    ConsistentHashRing beginRebalance(String shard) {
+        getShard(shard);
+        ringLock.writeLock().lock();
+        try {
+            if (targetRing != null) {
+                throw new IllegalStateException("Re-sharding to " + targetRing.getShards() + " is already running");
+            }
+            if (ring.contains(shard)) {
+                throw new IllegalArgumentException("Shard " + shard + " is already on the ring");
+            }
+            relocated.values().stream()
+                    .filter(other -> !other.equals(shard) && !ring.contains(other))
+                    .findAny()
+                    .ifPresent(other -> {
+                        throw new IllegalStateException("Members were moved to " + other + "; add that shard first");
+                    });
+            targetRing = ring.withShard(shard);
+            return targetRing;
+        } finally {
+            ringLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Lock held while a member is moved; excludes every call routed to the member.
+     */
+    Lock moveLock(long memberId) {
+        return stripe(memberId).writeLock();
+    }
+
+    void relocate(long memberId, String shard) {
+        directory.transactionTemplate().executeWithoutResult(status -> {
+            JdbcTemplate jdbcTemplate = directory.jdbcTemplate();
+            if (jdbcTemplate.update("UPDATE shard_relocations SET shard = ? WHERE member_id = ?", shard, memberId) == 0) {
+                jdbcTemplate.update("INSERT INTO shard_relocations (member_id, shard) VALUES (?, ?)", memberId, shard);
+            }
+        });
+        relocated.put(memberId, shard);
+    }
+
+    /**
+     * Makes the new ring current once every member it assigns elsewhere has moved.
+     */
+    void completeRebalance() {
+        ringLock.writeLock().lock();
+        try {
+            ConsistentHashRing target = targetRing;
+            directory.transactionTemplate().executeWithoutResult(status -> {
+                saveRing(target.getShards());
+                directory.jdbcTemplate().update("DELETE FROM shard_relocations");
+            });
+            ring = target;
+            targetRing = null;
+            relocated.clear();
+        } finally {
+            ringLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gives up on the new ring; members already moved stay relocated until a later attempt.
+     */
+    void abortRebalance() {
+        ringLock.writeLock().lock();
+        try {
+            targetRing = null;
+        } finally {
+            ringLock.writeLock().unlock();
+        }
+    }
+
+    private void saveRing(List<String> members) {
+        JdbcTemplate jdbcTemplate = directory.jdbcTemplate();
+        jdbcTemplate.update("DELETE FROM shard_ring");
+        for (int i = 0; i < members.size(); i++) {
+            jdbcTemplate.update("INSERT INTO shard_ring (name, ring_position) VALUES (?, ?)", members.get(i), i);
+        }
+    }
+
+    private Long probe(long id, String sql) {
+        List<Shard> candidates = new ArrayList<>();
+        int generator = (int) (id >>> ID_SHIFT);
+        shards.values().stream().filter(shard -> shard.index() == generator).forEach(candidates::add);
+        shards.values().stream().filter(shard -> shard.index() != generator).forEach(candidates::add);
+        for (Shard shard : candidates) {
+            List<Long> members = shard.jdbcTemplate().queryForList(sql, Long.class, id);
+            if (!members.isEmpty()) {
+                return members.get(0);
+            }
+        }
+        return null;
+    }
+
+    private ReentrantReadWriteLock stripe(long memberId) {
+        return memberLocks[stripeIndex(memberId)];
+    }
+
+    private static int stripeIndex(long memberId) {
+        return (int) (ConsistentHashRing.mix(memberId) & (LOCK_STRIPES - 1));
+    }
+}
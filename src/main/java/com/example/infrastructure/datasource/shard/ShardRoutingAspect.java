@@ -0,0 +1,187 @@
+package com.example.infrastructure.datasource.shard;
+
+import com.example.dto.KeysetPage;
+import com.example.dto.MemberDto;
+import com.example.dto.OrderDto;
+import com.example.dto.PaymentDto;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Routes application service calls to shards, following {@link ShardKey} and
+ * {@link ScatterGather}. Ordered before every other advice but single-flight coalescing, the
+ * transaction interceptor included, so that each transaction starts with its shard chosen. A
+ * call made while a shard is already chosen stays on it.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@Slf4j
+public class ShardRoutingAspect {
+
+    private static final Routing NOT_ROUTED = new Routing(-1, null, false);
+
+    private final ShardRouter router;
+    private final ExecutorService scatterExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<Method, Routing> routings = new ConcurrentHashMap<>();
+
+    public ShardRoutingAspect(ShardRouter router) {
+        this.router = router;
+    }
+
+    @Around("execution(public * com.example.application.service.*.*(..))")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        Routing routing = routings.computeIfAbsent(((MethodSignature) joinPoint.getSignature()).getMethod(), ShardRoutingAspect::routingOf);
+        if (routing == NOT_ROUTED || ShardContext.current() != null) {
+            return joinPoint.proceed();
+        }
+        Object key = routing.keyIndex() >= 0 ? joinPoint.getArgs()[routing.keyIndex()] : null;
+        if (key instanceof Long id) {
+            Long memberId = switch (routing.keyType()) {
+                case MEMBER -> id;
+                case ORDER -> router.findMemberOfOrder(id);
+                case PAYMENT -> router.findMemberOfPayment(id);
+            };
+            // Unknown orders and payments are looked up on the directory, which reports them missing
+            return memberId != null ? onMember(memberId, joinPoint) : joinPoint.proceed();
+        }
+        return routing.scatter() ? scatter(joinPoint) : joinPoint.proceed();
+    }
+
+    private Object onMember(long memberId, ProceedingJoinPoint joinPoint) throws Throwable {
+        Lock lock = router.routingLock(memberId);
+        lock.lock();
+        String previous = ShardContext.enter(router.ownerOf(memberId));
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ShardContext.restore(previous);
+            lock.unlock();
+        }
+    }
+
+    private Object scatter(ProceedingJoinPoint joinPoint) throws Throwable {
+        List<Future<Object>> calls = new ArrayList<>();
+        for (String shard : router.getActiveShards()) {
+            calls.add(scatterExecutor.submit(() -> {
+                String previous = ShardContext.enter(shard);
+                try {
+                    return joinPoint.proceed();
+                } catch (Throwable e) {
+                    throw new CompletionException(e);
+                } finally {
+                    ShardContext.restore(previous);
+                }
+            }));
+        }
+        List<Object> results = new ArrayList<>(calls.size());
+        for (Future<Object> call : calls) {
+            try {
+                results.add(call.get());
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+                throw cause;
+            }
+        }
+        return merge(results);
+    }
+
+    private static Object merge(List<Object> results) {
+        Object first = results.isEmpty() ? null : results.get(0);
+        if (first instanceof Optional) {
+            return results.stream().map(result -> (Optional<?>) result).filter(Optional::isPresent)
+                    .findFirst().orElse(Optional.empty());
+        }
+        if (first instanceof KeysetPage<?> page) {
+            List<Object> items = new ArrayList<>();
+            boolean more = false;
+            for (Object result : results) {
+                items.addAll(((KeysetPage<?>) result).items());
+                more |= ((KeysetPage<?>) result).nextAfterId() != null;
+            }
+            return KeysetPage.of(byId(items), page.limit(), more, ShardRoutingAspect::idOf);
+        }
+        if (first instanceof List) {
+            List<Object> items = new ArrayList<>();
+            results.forEach(result -> items.addAll((List<?>) result));
+            return byId(items);
+        }
+        throw new IllegalStateException("Cannot merge scatter-gather results of type "
+                + (first == null ? "null" : first.getClass().getName()));
+    }
+
+    /**
+     * Sorted by id, without the copies a member being moved can leave on two shards for a moment.
+     */
+    private static List<Object> byId(List<Object> items) {
+        if (items.isEmpty() || idOf(items.get(0)) == null) {
+            return items;
+        }
+        List<Object> sorted = new ArrayList<>(items);
+        sorted.sort(Comparator.comparing(ShardRoutingAspect::idOf));
+        List<Object> distinct = new ArrayList<>(sorted.size());
+        for (Object item : sorted) {
+            if (distinct.isEmpty() || !idOf(distinct.get(distinct.size() - 1)).equals(idOf(item))) {
+                distinct.add(item);
+            }
+        }
+        return distinct;
+    }
+
+    private static Long idOf(Object item) {
+        return switch (item) {
+            case MemberDto member -> member.getId();
+            case OrderDto order -> order.getId();
+            case PaymentDto payment -> payment.getId();
+            default -> null;
+        };
+    }
+
+    /**
+     * Overrides inherit the routing of the method they override, so that a replacement service
+     * such as the write-behind order service is routed like the one it extends.
+     */
+    private static Routing routingOf(Method method) {
+        boolean scatter = AnnotatedElementUtils.hasAnnotation(method, ScatterGather.class);
+        for (Class<?> type = method.getDeclaringClass(); type != null; type = type.getSuperclass()) {
+            Method declared;
+            try {
+                declared = type.getDeclaredMethod(method.getName(), method.getParameterTypes());
+            } catch (NoSuchMethodException e) {
+                continue;
+            }
+            Annotation[][] parameters = declared.getParameterAnnotations();
+            for (int i = 0; i < parameters.length; i++) {
+                for (Annotation annotation : parameters[i]) {
+                    if (annotation instanceof ShardKey key) {
+                        return new Routing(i, key.value(), scatter);
+                    }
+                }
+            }
+        }
+        return scatter ? new Routing(-1, null, true) : NOT_ROUTED;
+    }
+
+    private record Routing(int keyIndex, ShardKey.Type keyType, boolean scatter) {
+    }
+}
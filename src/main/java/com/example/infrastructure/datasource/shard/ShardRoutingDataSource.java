@@ -0,0 +1,41 @@
+package com.example.infrastructure.datasource.shard;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Routes connections to the shard in {@link ShardContext}, or to the directory shard when none
+ * is set. Must be wrapped in a LazyConnectionDataSourceProxy so that the connection is fetched
+ * at the first statement, after the shard has been chosen.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final Map<String, DataSource> shards;
+    private final String directory;
+
+    public ShardRoutingDataSource(Map<String, DataSource> shards) {
+        this.shards = shards;
+        this.directory = shards.keySet().iterator().next();
+
+        setTargetDataSources(new HashMap<>(shards));
+        setDefaultTargetDataSource(shards.get(directory));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String shard = ShardContext.current();
+        return shard != null ? shard : directory;
+    }
+
+    /**
+     * The pool of every shard in configuration order, the directory first.
+     */
+    public Map<String, DataSource> getShards() {
+        return shards;
+    }
+}
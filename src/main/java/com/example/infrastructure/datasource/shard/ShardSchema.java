@@ -0,0 +1,92 @@
+package com.example.infrastructure.datasource.shard;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Brings every shard to the schema Hibernate generates, and sets up the directory tables.
+ * <p>
+ * Hibernate only sees the routing data source, so it creates its tables on the directory shard
+ * alone. When it generates the schema (ddl-auto create or create-drop) it is also asked for the
+ * DDL as a script, which is then run on the other shards. With any other ddl-auto the shards are
+ * left to be migrated like the directory.
+ * <p>
+ * Identity columns of the sharded tables are restarted at {@code index << 40} on each shard, so
+ * ids are unique across shards and rows can be moved between them as they are.
+ */
+@Slf4j
+public class ShardSchema {
+
+    static final List<String> SHARDED_TABLES = List.of("orders", "order_items", "payments");
+
+    private static final List<String> DIRECTORY_TABLES = List.of("shard_ring", "shard_relocations",
+            "shard_id_allocator", "member_emails");
+
+    private final StringWriter dropScript = new StringWriter();
+    private final StringWriter createScript = new StringWriter();
+    private boolean generated;
+
+    /**
+     * Adds the script targets to the Hibernate properties, if Hibernate creates the schema.
+     */
+    public void capture(Map<String, Object> hibernateProperties) {
+        Object action = hibernateProperties.get("hibernate.hbm2ddl.auto");
+        if (!"create".equals(action) && !"create-drop".equals(action)) {
+            return;
+        }
+        hibernateProperties.put("jakarta.persistence.schema-generation.scripts.action", "drop-and-create");
+        hibernateProperties.put("jakarta.persistence.schema-generation.scripts.drop-target", dropScript);
+        hibernateProperties.put("jakarta.persistence.schema-generation.scripts.create-target", createScript);
+        hibernateProperties.put("hibernate.hbm2ddl.delimiter", ";");
+        generated = true;
+    }
+
+    /**
+     * Runs once the entity manager factory, and with it the directory schema, exists.
+     */
+    public void initialize(Map<String, DataSource> shards) {
+        int index = 0;
+        for (Map.Entry<String, DataSource> shard : shards.entrySet()) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(shard.getValue());
+            if (index == 0) {
+                createDirectoryTables(jdbcTemplate);
+            } else if (generated) {
+                ResourceDatabasePopulator populator = new ResourceDatabasePopulator(false, true, StandardCharsets.UTF_8.name(),
+                        new ByteArrayResource(dropScript.toString().getBytes(StandardCharsets.UTF_8)),
+                        new ByteArrayResource(createScript.toString().getBytes(StandardCharsets.UTF_8)));
+                populator.execute(shard.getValue());
+                log.info("Created schema on shard {}", shard.getKey());
+            }
+            long base = ((long) index << ShardRouter.ID_SHIFT) + 1;
+            long end = (long) (index + 1) << ShardRouter.ID_SHIFT;
+            for (String table : SHARDED_TABLES) {
+                // Rows moved in from other shards keep their ids, which lie outside this shard's range
+                Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table + " WHERE id >= ? AND id < ?",
+                        Long.class, base, end);
+                jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (max != null ? max + 1 : base));
+            }
+            index++;
+        }
+    }
+
+    private void createDirectoryTables(JdbcTemplate jdbcTemplate) {
+        if (generated) {
+            // Start over together with the tables Hibernate just recreated
+            DIRECTORY_TABLES.forEach(table -> jdbcTemplate.execute("DROP TABLE IF EXISTS " + table));
+        }
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS shard_ring (name VARCHAR(64) PRIMARY KEY, ring_position INT NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS shard_relocations (member_id BIGINT PRIMARY KEY, shard VARCHAR(64) NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS shard_id_allocator (name VARCHAR(32) PRIMARY KEY, next_value BIGINT NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS member_emails (email VARCHAR(50) PRIMARY KEY, member_id BIGINT NOT NULL)");
+        jdbcTemplate.update("INSERT INTO shard_id_allocator (name, next_value) SELECT 'members', 1 "
+                + "WHERE NOT EXISTS (SELECT 1 FROM shard_id_allocator WHERE name = 'members')");
+    }
+}
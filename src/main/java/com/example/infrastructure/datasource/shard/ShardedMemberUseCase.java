@@ -0,0 +1,86 @@
+package com.example.infrastructure.datasource.shard;
+
+import com.example.application.usecase.MemberUseCase;
+import com.example.domain.Member;
+import com.example.domain.valueobject.PhoneNumber;
+import com.example.infrastructure.persistence.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Creates members on their shard. The id is allocated first, since it decides the shard, and
+ * the email is reserved in the directory, the only place that sees every member. The row is
+ * written with SQL because the entity's id is an identity column; the stored member is then
+ * read back through JPA.
+ */
+@Slf4j
+public class ShardedMemberUseCase extends MemberUseCase {
+
+    private final MemberRepository memberRepository;
+    private final ShardRouter router;
+    private final MemberIdAllocator idAllocator;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ShardedMemberUseCase(MemberRepository memberRepository, ShardRouter router, int idBlockSize,
+                                JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        super(memberRepository);
+        this.memberRepository = memberRepository;
+        this.router = router;
+        this.idAllocator = new MemberIdAllocator(router.getDirectory(), idBlockSize);
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public Member createMember(String email, String name, String phoneNumber) {
+        log.info("Creating member with email: {}", email);
+        Member member = Member.builder()
+                .email(email)
+                .name(name)
+                .phoneNumber(phoneNumber)
+                .build();
+        PhoneNumber phone = PhoneNumber.korean(phoneNumber);
+        long id = idAllocator.next();
+
+        JdbcTemplate directory = router.getDirectory().jdbcTemplate();
+        try {
+            directory.update("INSERT INTO member_emails (email, member_id) VALUES (?, ?)", member.getEmail(), id);
+        } catch (DuplicateKeyException e) {
+            throw new IllegalArgumentException("Member with email " + email + " already exists");
+        }
+        try {
+            Member savedMember = router.placeNewMember(id, shard -> {
+                String previous = ShardContext.enter(shard.name());
+                try {
+                    return transactionTemplate.execute(status -> {
+                        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                        jdbcTemplate.update("INSERT INTO members (id, email, name, phone_number, country_code, status, "
+                                        + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                                id, member.getEmail(), member.getName(), phone.getValue(), phone.getCountryCode(),
+                                member.getStatus().name(), now, now);
+                        Member stored = memberRepository.findById(id).orElseThrow();
+                        Hibernate.initialize(stored.getOrders());
+                        return stored;
+                    });
+                } finally {
+                    ShardContext.restore(previous);
+                }
+            });
+            log.info("Member created successfully with ID: {} on shard {}", id, router.ownerOf(id));
+            return savedMember;
+        } catch (RuntimeException e) {
+            directory.update("DELETE FROM member_emails WHERE email = ?", member.getEmail());
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.infrastructure.datasource.shard;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration for spreading members, with their orders and payments, over several databases.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource.sharding")
+public class ShardingProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * Points per shard on the hash ring; more points even out the share of each shard.
+     */
+    private int virtualNodes = 160;
+
+    /**
+     * Shards placed on the ring when the directory holds no ring yet; empty means all of them.
+     * Further shards stay empty until added online through the shard admin endpoint.
+     */
+    private List<String> ring = new ArrayList<>();
+
+    /**
+     * Member ids reserved from the directory at a time.
+     */
+    private int idBlockSize = 100;
+
+    /**
+     * Member ids scanned per query while re-sharding.
+     */
+    private int scanBatchSize = 500;
+
+    /**
+     * Every database that may hold members. The first one is the directory: it also keeps the
+     * tables that are not sharded (member id allocation, email uniqueness, the ring itself).
+     * Only append to this list; the position of a shard is part of the ids it generates.
+     */
+    private List<Shard> shards = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Shard {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+    }
+}
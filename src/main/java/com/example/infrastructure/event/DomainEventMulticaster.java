@@ -0,0 +1,36 @@
+package com.example.infrastructure.event;
+
+import com.example.domain.event.DomainEvent;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.core.ResolvableType;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.event.TransactionalApplicationListener;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Event multicaster that dispatches domain events to their listeners on the task executor.
+ * Framework events and transactional listeners stay on the publishing thread, since the latter
+ * must register with the publisher's transaction.
+ */
+public class DomainEventMulticaster extends SimpleApplicationEventMulticaster {
+
+    @Override
+    public void multicastEvent(ApplicationEvent event, @Nullable ResolvableType eventType) {
+        ResolvableType type = eventType != null ? eventType : ResolvableType.forInstance(event);
+        Executor executor = getTaskExecutor();
+        boolean domainEvent = event instanceof PayloadApplicationEvent<?> payloadEvent
+                && payloadEvent.getPayload() instanceof DomainEvent;
+
+        for (ApplicationListener<?> listener : getApplicationListeners(event, type)) {
+            if (executor != null && domainEvent && !(listener instanceof TransactionalApplicationListener)) {
+                executor.execute(() -> invokeListener(listener, event));
+            } else {
+                invokeListener(listener, event);
+            }
+        }
+    }
+}
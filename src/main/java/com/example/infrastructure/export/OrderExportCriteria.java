@@ -0,0 +1,27 @@
+package com.example.infrastructure.export;
+
+import com.example.domain.Order;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filters of an order export; every field is optional.
+ */
+@Getter
+@Builder
+public class OrderExportCriteria {
+
+    private final Order.OrderStatus status;
+
+    /**
+     * Inclusive lower bound on the order creation time.
+     */
+    private final LocalDateTime from;
+
+    /**
+     * Exclusive upper bound on the order creation time.
+     */
+    private final LocalDateTime to;
+}
@@ -0,0 +1,31 @@
+package com.example.infrastructure.export;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the streaming order export.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.order-export")
+public class OrderExportProperties {
+
+    /**
+     * Rows the JDBC driver fetches per round trip, and rows written between flushes.
+     * This is the most the export holds in memory at once.
+     */
+    private int fetchSize = 1000;
+
+    /**
+     * Output buffer in bytes before the response is written to the socket.
+     */
+    private int bufferSize = 64 * 1024;
+
+    /**
+     * Deflate level for gzip=true, 1 (fastest) to 9 (smallest). Export rows are repetitive, so
+     * level 1 already removes most of the bytes for a fraction of the CPU of the higher levels.
+     */
+    private int gzipLevel = 1;
+}
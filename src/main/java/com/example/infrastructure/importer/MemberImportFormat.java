@@ -0,0 +1,36 @@
+package com.example.infrastructure.importer;
+
+import java.util.Locale;
+
+/**
+ * Input formats accepted by the member import.
+ * CSV needs a header row naming the email, name and phoneNumber columns; NDJSON holds one
+ * object per line with the same field names.
+ */
+public enum MemberImportFormat {
+    CSV, NDJSON;
+
+    public static MemberImportFormat fromFileName(String fileName) {
+        String lower = fileName.toLowerCase(Locale.ROOT);
+        if (lower.endsWith(".csv")) {
+            return CSV;
+        }
+        if (lower.endsWith(".ndjson") || lower.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("Unsupported import file type: " + fileName);
+    }
+
+    public static MemberImportFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            String lower = contentType.toLowerCase(Locale.ROOT);
+            if (lower.startsWith("text/csv")) {
+                return CSV;
+            }
+            if (lower.startsWith("application/x-ndjson") || lower.startsWith("application/jsonl")) {
+                return NDJSON;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported import content type: " + contentType);
+    }
+}
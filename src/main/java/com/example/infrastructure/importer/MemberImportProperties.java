@@ -0,0 +1,49 @@
+package com.example.infrastructure.importer;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the bulk member import pipeline.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.member-import")
+public class MemberImportProperties {
+
+    /**
+     * Rows per validation chunk and per JDBC insert batch.
+     */
+    private int batchSize = 1000;
+
+    /**
+     * Emails per IN lookup when checking for members that already exist.
+     */
+    private int lookupBatchSize = 1000;
+
+    /**
+     * Threads parsing and validating chunks in parallel.
+     */
+    private int validationThreads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Chunks read ahead of the writer; bounds memory when the database is the bottleneck.
+     */
+    private int queueCapacity = 16;
+
+    /**
+     * Directory the reject file is written to.
+     */
+    private String rejectDirectory = System.getProperty("java.io.tmpdir");
+
+    /**
+     * File imported at startup by the command-line runner; unset for normal operation.
+     */
+    private String file;
+
+    /**
+     * Whether the command-line runner shuts the application down once the import finishes.
+     */
+    private boolean exitOnCompletion = true;
+}
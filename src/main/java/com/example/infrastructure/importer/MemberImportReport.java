@@ -0,0 +1,23 @@
+package com.example.infrastructure.importer;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Outcome of a member import.
+ */
+@Getter
+@Builder
+public class MemberImportReport {
+    private final long totalRows;
+    private final long imported;
+    private final long rejected;
+    private final long duplicates;
+    private final long elapsedMillis;
+    private final double rowsPerSecond;
+
+    /**
+     * Path of the CSV listing every rejected row with its reason, or null when nothing was rejected.
+     */
+    private final String rejectFile;
+}
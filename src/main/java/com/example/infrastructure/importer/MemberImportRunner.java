@@ -0,0 +1,46 @@
+package com.example.infrastructure.importer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+
+/**
+ * Imports the file named by app.member-import.file at startup, e.g.
+ * {@code java -jar app.jar --spring.main.web-application-type=none --app.member-import.file=members.csv}.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class MemberImportRunner implements ApplicationRunner {
+
+    private final MemberImporter memberImporter;
+    private final MemberImportProperties properties;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Path file = Path.of(properties.getFile());
+        log.info("Importing members from {}", file);
+        int exitCode = 0;
+        try {
+            MemberImportReport report = memberImporter.importFile(file);
+            if (report.getRejectFile() != null) {
+                log.info("Rejected rows written to {}", report.getRejectFile());
+            }
+        } catch (Exception e) {
+            log.error("Member import from {} failed", file, e);
+            exitCode = 1;
+            if (!properties.isExitOnCompletion()) {
+                throw e;
+            }
+        }
+        if (properties.isExitOnCompletion()) {
+            int code = exitCode;
+            System.exit(SpringApplication.exit(context, () -> code));
+        }
+    }
+}
@@ -0,0 +1,469 @@
+package com.example.infrastructure.importer;
+
+import com.example.domain.Member;
+import com.example.domain.valueobject.Email;
+import com.example.domain.valueobject.PhoneNumber;
+import com.example.infrastructure.datasource.shard.ShardedMemberUseCase;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Streaming bulk import of members from CSV or NDJSON.
+ * <p>
+ * A reader thread streams the input through an NIO channel and cuts it into chunks, a pool of
+ * validation threads parses the chunks and checks {@link Email} and {@link PhoneNumber} in parallel,
+ * and the calling thread consumes the chunks in input order: it drops emails already seen in the file,
+ * looks the rest up in the database with batched IN queries and inserts the survivors with JDBC batches.
+ * A bounded queue between the stages keeps memory flat when the database is the bottleneck.
+ * <p>
+ * Rows are inserted directly, so no MemberCreated events are published for imported members.
+ * With sharding the survivors of each chunk go through {@link ShardedMemberUseCase} one by one
+ * instead, since a member's id, shard and directory entry have to be allocated together.
+ */
+@Component
+@Slf4j
+public class MemberImporter {
+
+    private static final String INSERT_SQL = "INSERT INTO members "
+            + "(email, name, phone_number, country_code, status, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String EXISTING_EMAILS_SQL = "SELECT email FROM members WHERE email IN (:emails)";
+    private static final int MAX_EMAIL_LENGTH = 50;
+    private static final int MAX_NAME_LENGTH = 100;
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+    private static final long PROGRESS_INTERVAL = 100_000;
+    private static final Chunk END = new Chunk(List.of(), List.of());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final MemberImportProperties properties;
+    private ShardedMemberUseCase shardedMemberUseCase;
+
+    public MemberImporter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                          ObjectMapper objectMapper, MemberImportProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    /**
+     * Set when sharding is enabled (app.datasource.sharding.enabled).
+     */
+    @Autowired(required = false)
+    public void setShardedMemberUseCase(ShardedMemberUseCase shardedMemberUseCase) {
+        this.shardedMemberUseCase = shardedMemberUseCase;
+    }
+
+    public MemberImportReport importFile(Path file) throws IOException {
+        MemberImportFormat format = MemberImportFormat.fromFileName(file.getFileName().toString());
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return importMembers(channel, format);
+        }
+    }
+
+    public MemberImportReport importMembers(ReadableByteChannel channel, MemberImportFormat format) throws IOException {
+        long startNanos = System.nanoTime();
+        BufferedReader reader = new BufferedReader(Channels.newReader(channel,
+                StandardCharsets.UTF_8.newDecoder()
+                        .onMalformedInput(CodingErrorAction.REPLACE)
+                        .onUnmappableCharacter(CodingErrorAction.REPLACE), READ_BUFFER_SIZE), READ_BUFFER_SIZE);
+
+        Path rejectFile = Files.createTempFile(Path.of(properties.getRejectDirectory()),
+                "member-import-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss")) + "-",
+                "-rejects.csv");
+        ExecutorService validators = Executors.newFixedThreadPool(Math.max(1, properties.getValidationThreads()),
+                Thread.ofPlatform().name("member-import-validate-", 0).daemon(true).factory());
+        BlockingQueue<CompletableFuture<Chunk>> chunks = new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity()));
+        Thread readerThread = Thread.ofPlatform().name("member-import-reader").daemon(true)
+                .start(() -> readChunks(reader, format, validators, chunks));
+
+        ImportRun run;
+        try (BufferedWriter rejects = Files.newBufferedWriter(rejectFile, StandardCharsets.UTF_8)) {
+            run = new ImportRun(rejects);
+            rejects.write("line,reason,record");
+            rejects.newLine();
+            while (true) {
+                Chunk chunk = chunks.take().join();
+                if (chunk == END) {
+                    break;
+                }
+                write(chunk, run);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Member import interrupted", e);
+        } catch (CompletionException e) {
+            Files.deleteIfExists(rejectFile);
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        } finally {
+            readerThread.interrupt();
+            validators.shutdownNow();
+        }
+
+        if (run.rejected == 0) {
+            Files.deleteIfExists(rejectFile);
+        }
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+        MemberImportReport report = MemberImportReport.builder()
+                .totalRows(run.total)
+                .imported(run.imported)
+                .rejected(run.rejected)
+                .duplicates(run.duplicates)
+                .elapsedMillis(elapsedMillis)
+                .rowsPerSecond(run.total * 1000.0 / elapsedMillis)
+                .rejectFile(run.rejected > 0 ? rejectFile.toString() : null)
+                .build();
+        log.info("Member import finished: {} rows, {} imported, {} rejected ({} duplicates) in {} ms ({} rows/s)",
+                report.getTotalRows(), report.getImported(), report.getRejected(), report.getDuplicates(),
+                report.getElapsedMillis(), Math.round(report.getRowsPerSecond()));
+        return report;
+    }
+
+    // Reader stage: cut the stream into chunks and hand each to the validation pool
+
+    private void readChunks(BufferedReader reader, MemberImportFormat format,
+                            ExecutorService validators, BlockingQueue<CompletableFuture<Chunk>> chunks) {
+        try {
+            String[] header = null;
+            if (format == MemberImportFormat.CSV) {
+                String headerLine = reader.readLine();
+                if (headerLine == null) {
+                    chunks.put(CompletableFuture.completedFuture(END));
+                    return;
+                }
+                header = splitCsv(headerLine);
+            }
+            Map<String, Integer> columns = header != null ? columnIndexes(header) : Map.of();
+
+            long lineNumber = header != null ? 1 : 0;
+            List<RawLine> lines = new ArrayList<>(properties.getBatchSize());
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                lines.add(new RawLine(lineNumber, line));
+                if (lines.size() >= properties.getBatchSize()) {
+                    List<RawLine> batch = lines;
+                    chunks.put(CompletableFuture.supplyAsync(() -> validate(batch, format, columns), validators));
+                    lines = new ArrayList<>(properties.getBatchSize());
+                }
+            }
+            if (!lines.isEmpty()) {
+                List<RawLine> batch = lines;
+                chunks.put(CompletableFuture.supplyAsync(() -> validate(batch, format, columns), validators));
+            }
+            chunks.put(CompletableFuture.completedFuture(END));
+        } catch (IOException | RuntimeException e) {
+            Throwable failure = e instanceof IOException io ? new UncheckedIOException(io) : e;
+            try {
+                chunks.put(CompletableFuture.failedFuture(failure));
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Validation stage: parse and validate a chunk, runs on the validation pool
+
+    private Chunk validate(List<RawLine> lines, MemberImportFormat format, Map<String, Integer> columns) {
+        List<ValidMember> valid = new ArrayList<>(lines.size());
+        List<Rejection> rejected = new ArrayList<>();
+        for (RawLine line : lines) {
+            try {
+                String[] fields = format == MemberImportFormat.CSV ? csvFields(line.text, columns) : jsonFields(line.text);
+                valid.add(toMember(line.number, fields[0], fields[1], fields[2]));
+            } catch (IllegalArgumentException | NullPointerException | IOException e) {
+                rejected.add(new Rejection(line.number, e.getMessage(), line.text));
+            }
+        }
+        return new Chunk(valid, rejected);
+    }
+
+    private ValidMember toMember(long lineNumber, String email, String name, String phoneNumber) {
+        Email validEmail = Email.of(email);
+        if (validEmail.getValue().length() > MAX_EMAIL_LENGTH) {
+            throw new IllegalArgumentException("Email cannot exceed " + MAX_EMAIL_LENGTH + " characters");
+        }
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Name cannot be null or empty");
+        }
+        if (name.trim().length() > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException("Name cannot exceed " + MAX_NAME_LENGTH + " characters");
+        }
+        PhoneNumber validPhone = PhoneNumber.korean(phoneNumber);
+        return new ValidMember(lineNumber, validEmail.getValue(), name.trim(),
+                validPhone.getValue(), validPhone.getCountryCode());
+    }
+
+    private String[] csvFields(String line, Map<String, Integer> columns) {
+        String[] values = splitCsv(line);
+        return new String[]{
+                column(values, columns.get("email")),
+                column(values, columns.get("name")),
+                column(values, columns.get("phonenumber"))
+        };
+    }
+
+    private String[] jsonFields(String line) throws IOException {
+        JsonNode node = objectMapper.readTree(line);
+        if (node == null || !node.isObject()) {
+            throw new IllegalArgumentException("Record is not a JSON object");
+        }
+        return new String[]{
+                text(node, "email"),
+                text(node, "name"),
+                node.has("phoneNumber") ? text(node, "phoneNumber") : text(node, "phone_number")
+        };
+    }
+
+    // Writer stage: deduplicate and insert, runs on the calling thread
+
+    private void write(Chunk chunk, ImportRun run) throws IOException {
+        run.total += chunk.valid.size() + chunk.rejected.size();
+        for (Rejection rejection : chunk.rejected) {
+            run.reject(rejection.lineNumber, rejection.reason, rejection.record);
+        }
+
+        List<ValidMember> unseen = new ArrayList<>(chunk.valid.size());
+        for (ValidMember member : chunk.valid) {
+            if (run.seenEmails.add(member.email)) {
+                unseen.add(member);
+            } else {
+                run.duplicates++;
+                run.reject(member.lineNumber, "Duplicate email in file: " + member.email, member.email);
+            }
+        }
+
+        if (shardedMemberUseCase != null) {
+            createSharded(unseen, run);
+            logProgress(chunk, run);
+            return;
+        }
+
+        Set<String> existing = findExistingEmails(unseen);
+        List<ValidMember> inserts = new ArrayList<>(unseen.size());
+        for (ValidMember member : unseen) {
+            if (existing.contains(member.email)) {
+                run.duplicates++;
+                run.reject(member.lineNumber, "Member already exists with email: " + member.email, member.email);
+            } else {
+                inserts.add(member);
+            }
+        }
+        insert(inserts, run);
+        logProgress(chunk, run);
+    }
+
+    private void logProgress(Chunk chunk, ImportRun run) {
+        if (run.total / PROGRESS_INTERVAL != (run.total - chunk.valid.size() - chunk.rejected.size()) / PROGRESS_INTERVAL) {
+            log.info("Member import progress: {} rows read, {} imported, {} rejected", run.total, run.imported, run.rejected);
+        }
+    }
+
+    /**
+     * The directory rejects emails taken on any shard, so no lookup is needed first.
+     */
+    private void createSharded(List<ValidMember> members, ImportRun run) throws IOException {
+        for (ValidMember member : members) {
+            try {
+                shardedMemberUseCase.createMember(member.email, member.name, member.phoneNumber);
+                run.imported++;
+            } catch (IllegalArgumentException e) {
+                run.duplicates++;
+                run.reject(member.lineNumber, e.getMessage(), member.email);
+            } catch (DataIntegrityViolationException invalid) {
+                run.reject(member.lineNumber, "Row refused by the database: " + invalid.getMostSpecificCause().getMessage(),
+                        member.email);
+            }
+        }
+    }
+
+    private Set<String> findExistingEmails(List<ValidMember> members) {
+        Set<String> existing = new HashSet<>();
+        int lookupBatchSize = Math.max(1, properties.getLookupBatchSize());
+        for (int from = 0; from < members.size(); from += lookupBatchSize) {
+            List<String> emails = members.subList(from, Math.min(from + lookupBatchSize, members.size())).stream()
+                    .map(ValidMember::email)
+                    .toList();
+            existing.addAll(namedParameterJdbcTemplate.queryForList(
+                    EXISTING_EMAILS_SQL, Map.of("emails", emails), String.class));
+        }
+        return existing;
+    }
+
+    private void insert(List<ValidMember> members, ImportRun run) throws IOException {
+        if (members.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, members, members.size(), (ps, member) -> {
+                        ps.setString(1, member.email);
+                        ps.setString(2, member.name);
+                        ps.setString(3, member.phoneNumber);
+                        ps.setString(4, member.countryCode);
+                        ps.setString(5, Member.MemberStatus.ACTIVE.name());
+                        ps.setTimestamp(6, now);
+                        ps.setTimestamp(7, now);
+                    }));
+            run.imported += members.size();
+        } catch (DataIntegrityViolationException e) {
+            // A member created concurrently since the lookup, or a row the columns refuse; isolate it row by row
+            for (ValidMember member : members) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, member.email, member.name, member.phoneNumber,
+                            member.countryCode, Member.MemberStatus.ACTIVE.name(), now, now);
+                    run.imported++;
+                } catch (DuplicateKeyException duplicate) {
+                    run.duplicates++;
+                    run.reject(member.lineNumber, "Member already exists with email: " + member.email, member.email);
+                } catch (DataIntegrityViolationException invalid) {
+                    run.reject(member.lineNumber, "Row refused by the database: " + invalid.getMostSpecificCause().getMessage(),
+                            member.email);
+                }
+            }
+        }
+    }
+
+    private static Map<String, Integer> columnIndexes(String[] header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.length; i++) {
+            String name = header[i].trim().toLowerCase(Locale.ROOT).replace("_", "");
+            columns.putIfAbsent(name.equals("phone") ? "phonenumber" : name, i);
+        }
+        for (String required : List.of("email", "name", "phonenumber")) {
+            if (!columns.containsKey(required)) {
+                throw new IllegalArgumentException("CSV header is missing the " + required + " column");
+            }
+        }
+        return columns;
+    }
+
+    private static String column(String[] values, int index) {
+        return index < values.length ? values[index] : null;
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    /**
+     * Splits one CSV line, honouring double-quoted fields and doubled quotes inside them.
+     * Quoted fields cannot span lines.
+     */
+    static String[] splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields.toArray(String[]::new);
+    }
+
+    private record RawLine(long number, String text) {
+    }
+
+    private record ValidMember(long lineNumber, String email, String name, String phoneNumber, String countryCode) {
+    }
+
+    private record Rejection(long lineNumber, String reason, String record) {
+    }
+
+    private record Chunk(List<ValidMember> valid, List<Rejection> rejected) {
+    }
+
+    private static class ImportRun {
+        private final BufferedWriter rejects;
+        private final Set<String> seenEmails = new HashSet<>();
+        private long total;
+        private long imported;
+        private long rejected;
+        private long duplicates;
+
+        ImportRun(BufferedWriter rejects) {
+            this.rejects = rejects;
+        }
+
+        void reject(long lineNumber, String reason, String record) throws IOException {
+            rejected++;
+            rejects.write(lineNumber + "," + quote(reason) + "," + quote(record));
+            rejects.newLine();
+        }
+
+        private static String quote(String value) {
+            return value == null ? "" : "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.infrastructure.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Completed response stored for an Idempotency-Key so that retries reaching any node replay it.
+ */
+@Entity
+@Table(name = "idempotency_keys")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "idempotency_key", length = 300)
+    private String key;
+
+    @Column(length = 64)
+    private String requestHash;
+
+    @Column(nullable = false)
+    private int status;
+
+    @Column(length = 100)
+    private String contentType;
+
+    @Column(length = 2048)
+    private String location;
+
+    @Column(length = 200)
+    private String etag;
+
+    @Column(length = 1_048_576)
+    private byte[] body;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public IdempotencyRecord(String key, String requestHash, int status, String contentType, String location,
+                             String etag, byte[] body, LocalDateTime createdAt) {
+        this.key = key;
+        this.requestHash = requestHash;
+        this.status = status;
+        this.contentType = contentType;
+        this.location = location;
+        this.etag = etag;
+        this.body = body;
+        this.createdAt = createdAt;
+    }
+}
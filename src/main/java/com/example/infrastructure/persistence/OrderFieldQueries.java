@@ -0,0 +1,27 @@
+package com.example.infrastructure.persistence;
+
+import com.example.domain.Order;
+import com.example.dto.OrderDto;
+import com.example.dto.OrderField;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Order listings that read only what the selected {@link OrderField}s need: scalar fields are
+ * projected straight from the columns, and items, payment or member are joined only when asked
+ * for.
+ */
+public interface OrderFieldQueries {
+
+    List<OrderDto> selectByMemberId(Long memberId, Set<OrderField> fields);
+
+    List<OrderDto> selectByStatus(Order.OrderStatus status, Set<OrderField> fields);
+
+    /**
+     * Half-open range on created_at, optionally of one member, like
+     * {@link OrderRepository#findByCreatedAtRange}.
+     */
+    List<OrderDto> selectByCreatedAtRange(LocalDateTime from, LocalDateTime to, Long memberId, Set<OrderField> fields);
+}
@@ -0,0 +1,121 @@
+package com.example.infrastructure.persistence;
+
+import com.example.domain.Order;
+import com.example.dto.OrderDto;
+import com.example.dto.OrderField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+class OrderFieldQueriesImpl implements OrderFieldQueries {
+
+    /**
+     * Column of each scalar field, in select-list order after {@code o.id}.
+     */
+    private static final Map<OrderField, String> COLUMNS = new LinkedHashMap<>();
+
+    static {
+        COLUMNS.put(OrderField.ORDER_NUMBER, "o.orderNumber");
+        COLUMNS.put(OrderField.MEMBER_ID, "o.member.id");
+        COLUMNS.put(OrderField.MEMBER_NAME, "m.name");
+        COLUMNS.put(OrderField.TOTAL_AMOUNT, "o.totalAmount");
+        COLUMNS.put(OrderField.STATUS, "o.status");
+        COLUMNS.put(OrderField.CREATED_AT, "o.createdAt");
+        COLUMNS.put(OrderField.UPDATED_AT, "o.updatedAt");
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<OrderDto> selectByMemberId(Long memberId, Set<OrderField> fields) {
+        return select(fields, " WHERE o.member.id = :memberId ORDER BY o.id", Map.of("memberId", memberId));
+    }
+
+    @Override
+    public List<OrderDto> selectByStatus(Order.OrderStatus status, Set<OrderField> fields) {
+        return select(fields, " WHERE o.status = :status ORDER BY o.id", Map.of("status", status));
+    }
+
+    @Override
+    public List<OrderDto> selectByCreatedAtRange(LocalDateTime from, LocalDateTime to, Long memberId,
+                                                 Set<OrderField> fields) {
+        if (memberId == null) {
+            return select(fields, " WHERE o.createdAt >= :from AND o.createdAt < :to ORDER BY o.createdAt, o.id",
+                    Map.of("from", from, "to", to));
+        }
+        return select(fields, " WHERE o.member.id = :memberId AND o.createdAt >= :from AND o.createdAt < :to "
+                + "ORDER BY o.createdAt, o.id", Map.of("memberId", memberId, "from", from, "to", to));
+    }
+
+    private List<OrderDto> select(Set<OrderField> fields, String whereAndOrder, Map<String, Object> parameters) {
+        if (fields.contains(OrderField.ORDER_ITEMS) || fields.contains(OrderField.PAYMENT)) {
+            return selectEntities(fields, whereAndOrder, parameters);
+        }
+
+        List<OrderField> selected = new ArrayList<>();
+        StringBuilder jpql = new StringBuilder("SELECT o.id");
+        COLUMNS.forEach((field, column) -> {
+            if (fields.contains(field)) {
+                selected.add(field);
+                jpql.append(", ").append(column);
+            }
+        });
+        jpql.append(" FROM Order o");
+        if (fields.contains(OrderField.MEMBER_NAME)) {
+            jpql.append(" JOIN o.member m");
+        }
+        jpql.append(whereAndOrder);
+
+        Query query = entityManager.createQuery(jpql.toString());
+        parameters.forEach(query::setParameter);
+        List<?> rows = query.getResultList();
+        List<OrderDto> orders = new ArrayList<>(rows.size());
+        for (Object result : rows) {
+            Object[] row = result instanceof Object[] columns ? columns : new Object[]{result};
+            OrderDto.OrderDtoBuilder builder = OrderDto.builder().id((Long) row[0]);
+            for (int i = 0; i < selected.size(); i++) {
+                Object value = row[i + 1];
+                switch (selected.get(i)) {
+                    case ORDER_NUMBER -> builder.orderNumber((String) value);
+                    case MEMBER_ID -> builder.memberId((Long) value);
+                    case MEMBER_NAME -> builder.memberName((String) value);
+                    case TOTAL_AMOUNT -> builder.totalAmount((BigDecimal) value);
+                    case STATUS -> builder.status((Order.OrderStatus) value);
+                    case CREATED_AT -> builder.createdAt((LocalDateTime) value);
+                    case UPDATED_AT -> builder.updatedAt((LocalDateTime) value);
+                    default -> throw new IllegalStateException("Not a column field: " + selected.get(i));
+                }
+            }
+            orders.add(builder.build());
+        }
+        return orders;
+    }
+
+    private List<OrderDto> selectEntities(Set<OrderField> fields, String whereAndOrder, Map<String, Object> parameters) {
+        StringBuilder jpql = new StringBuilder("SELECT o FROM Order o");
+        if (fields.contains(OrderField.MEMBER_NAME)) {
+            jpql.append(" JOIN FETCH o.member");
+        }
+        if (fields.contains(OrderField.ORDER_ITEMS)) {
+            jpql.append(" LEFT JOIN FETCH o.orderItems");
+        }
+        // The inverse one-to-one cannot be proxied and would otherwise be loaded once per order
+        jpql.append(" LEFT JOIN FETCH o.payment");
+        jpql.append(whereAndOrder);
+
+        var query = entityManager.createQuery(jpql.toString(), Order.class);
+        parameters.forEach(query::setParameter);
+        return query.getResultList().stream()
+                .map(order -> OrderDto.from(order, fields))
+                .toList();
+    }
+}
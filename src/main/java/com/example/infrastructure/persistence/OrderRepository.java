@@ -1,29 +1,53 @@
 package com.example.infrastructure.persistence;
 
 import com.example.domain.Order;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderFieldQueries {
 
     List<Order> findByMemberId(Long memberId);
 
     List<Order> findByStatus(Order.OrderStatus status);
 
+    @Query("SELECT o FROM Order o WHERE o.status = :status AND o.id > :afterId ORDER BY o.id")
+    List<Order> findByStatusAfter(@Param("status") Order.OrderStatus status, @Param("afterId") Long afterId,
+                                  Pageable pageable);
+
+    List<Order> findByMemberIdAndStatusIn(Long memberId, Collection<Order.OrderStatus> statuses);
+
     Optional<Order> findByOrderNumber(String orderNumber);
 
     @Query("SELECT o FROM Order o LEFT JOIN FETCH o.orderItems LEFT JOIN FETCH o.payment WHERE o.id = :id")
     Optional<Order> findByIdWithOrderItemsAndPayment(@Param("id") Long id);
 
+    @Query("SELECT o FROM Order o JOIN FETCH o.member LEFT JOIN FETCH o.orderItems LEFT JOIN FETCH o.payment "
+            + "WHERE o.id IN :ids")
+    List<Order> findAllByIdWithMemberOrderItemsAndPayment(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT o FROM Order o LEFT JOIN FETCH o.member WHERE o.id = :id")
     Optional<Order> findByIdWithMember(@Param("id") Long id);
 
     @Query("SELECT o FROM Order o WHERE o.member.id = :memberId AND o.status = :status")
     List<Order> findByMemberIdAndStatus(@Param("memberId") Long memberId, @Param("status") Order.OrderStatus status);
-}
\ No newline at end of file
+
+    /**
+     * Half-open range on created_at, the partition key, so only the overlapping months are read.
+     */
+    @Query("SELECT o FROM Order o WHERE o.createdAt >= :from AND o.createdAt < :to ORDER BY o.createdAt, o.id")
+    List<Order> findByCreatedAtRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT o FROM Order o WHERE o.member.id = :memberId AND o.createdAt >= :from AND o.createdAt < :to "
+            + "ORDER BY o.createdAt, o.id")
+    List<Order> findByMemberIdAndCreatedAtRange(@Param("memberId") Long memberId,
+                                                @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -1,11 +1,14 @@
 package com.example.infrastructure.persistence;
 
 import com.example.domain.Payment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,11 +19,24 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
     List<Payment> findByStatus(Payment.PaymentStatus status);
 
+    @Query("SELECT p FROM Payment p WHERE p.status = :status AND p.id > :afterId ORDER BY p.id")
+    List<Payment> findByStatusAfter(@Param("status") Payment.PaymentStatus status, @Param("afterId") Long afterId,
+                                    Pageable pageable);
+
     Optional<Payment> findByTransactionId(String transactionId);
 
     @Query("SELECT p FROM Payment p LEFT JOIN FETCH p.order WHERE p.id = :id")
     Optional<Payment> findByIdWithOrder(@Param("id") Long id);
 
+    @Query("SELECT p FROM Payment p LEFT JOIN FETCH p.order WHERE p.id IN :ids")
+    List<Payment> findAllByIdWithOrder(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT p FROM Payment p WHERE p.order.member.id = :memberId")
     List<Payment> findByMemberId(@Param("memberId") Long memberId);
-}
\ No newline at end of file
+
+    /**
+     * Half-open range on created_at, the partition key, so only the overlapping months are read.
+     */
+    @Query("SELECT p FROM Payment p WHERE p.createdAt >= :from AND p.createdAt < :to ORDER BY p.createdAt, p.id")
+    List<Payment> findByCreatedAtRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,461 @@
+package com.example.infrastructure.persistence.archive;
+
+import com.example.domain.Order;
+import com.example.domain.Payment;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * One immutable archive file holding the orders of one completion day.
+ * <p>
+ * Every field is stored as its own column, compressed separately with Deflate; values of one
+ * column are alike (ids close together, the same few product names and statuses), so this
+ * compresses far better than row-wise data. Item columns have one entry per item, in order
+ * sequence, with an item count column on the order side. The footer holds the column offsets,
+ * id and member id ranges and Bloom filters over order numbers and member ids, so lookups can
+ * skip a part from the footer alone:
+ * <pre>
+ * magic, version | column blocks | footer | footer offset, magic
+ * </pre>
+ */
+final class ArchivePart {
+
+    static final String SUFFIX = ".orda";
+
+    private static final int MAGIC = 0x4F524441;
+    private static final int VERSION = 1;
+    private static final long NULL_TIME = Long.MIN_VALUE;
+
+    enum Column {
+        ID, ORDER_NUMBER, MEMBER_ID, MEMBER_NAME, TOTAL_AMOUNT, STATUS, CREATED_AT, UPDATED_AT, COMPLETED_AT,
+        ITEM_COUNT, ITEM_ID, ITEM_PRODUCT_NAME, ITEM_PRODUCT_DESCRIPTION, ITEM_QUANTITY, ITEM_UNIT_PRICE,
+        ITEM_TOTAL_PRICE,
+        PAYMENT_ID, PAYMENT_AMOUNT, PAYMENT_METHOD, PAYMENT_STATUS, PAYMENT_TRANSACTION_ID,
+        PAYMENT_FAILURE_REASON, PAYMENT_PROCESSED_AT, PAYMENT_REFUNDED_AT, PAYMENT_CREATED_AT, PAYMENT_UPDATED_AT
+    }
+
+    private final Path path;
+    private final LocalDate completedDate;
+    private final long archivedAt;
+    private final int rows;
+    private final long minId;
+    private final long maxId;
+    private final long minMemberId;
+    private final long maxMemberId;
+    private final long[] offsets;
+    private final int[] lengths;
+    private final int[] rawLengths;
+    private final BloomFilter orderNumbers;
+    private final BloomFilter memberIds;
+
+    private ArchivePart(Path path, LocalDate completedDate, long archivedAt, int rows, long minId, long maxId,
+                        long minMemberId, long maxMemberId, long[] offsets, int[] lengths, int[] rawLengths,
+                        BloomFilter orderNumbers, BloomFilter memberIds) {
+        this.path = path;
+        this.completedDate = completedDate;
+        this.archivedAt = archivedAt;
+        this.rows = rows;
+        this.minId = minId;
+        this.maxId = maxId;
+        this.minMemberId = minMemberId;
+        this.maxMemberId = maxMemberId;
+        this.offsets = offsets;
+        this.lengths = lengths;
+        this.rawLengths = rawLengths;
+        this.orderNumbers = orderNumbers;
+        this.memberIds = memberIds;
+    }
+
+    /**
+     * Writes the orders to a new part file, durably, and returns it. The file only appears under
+     * its final name once complete.
+     */
+    static ArchivePart write(Path file, LocalDate completedDate, List<ArchivedOrder> orders) throws IOException {
+        if (orders.isEmpty()) {
+            throw new IllegalArgumentException("An archive part needs at least one order");
+        }
+        Map<Column, ColumnWriter> columns = new EnumMap<>(Column.class);
+        for (Column column : Column.values()) {
+            columns.put(column, new ColumnWriter());
+        }
+        BloomFilter orderNumbers = BloomFilter.forKeys(orders.size());
+        BloomFilter memberIds = BloomFilter.forKeys(orders.size());
+        long minId = Long.MAX_VALUE;
+        long maxId = Long.MIN_VALUE;
+        long minMemberId = Long.MAX_VALUE;
+        long maxMemberId = Long.MIN_VALUE;
+        long previousId = 0;
+        long previousItemId = 0;
+
+        for (ArchivedOrder order : orders) {
+            // Ids are stored as deltas, which are small and compress well
+            columns.get(Column.ID).out.writeLong(order.id() - previousId);
+            previousId = order.id();
+            columns.get(Column.ORDER_NUMBER).writeString(order.orderNumber());
+            columns.get(Column.MEMBER_ID).out.writeLong(order.memberId());
+            columns.get(Column.MEMBER_NAME).writeString(order.memberName());
+            columns.get(Column.TOTAL_AMOUNT).writeDecimal(order.totalAmount());
+            columns.get(Column.STATUS).writeEnum(order.status());
+            columns.get(Column.CREATED_AT).writeTime(order.createdAt());
+            columns.get(Column.UPDATED_AT).writeTime(order.updatedAt());
+            columns.get(Column.COMPLETED_AT).writeTime(order.completedAt());
+
+            columns.get(Column.ITEM_COUNT).out.writeInt(order.items().size());
+            for (ArchivedOrder.Item item : order.items()) {
+                columns.get(Column.ITEM_ID).out.writeLong(item.id() - previousItemId);
+                previousItemId = item.id();
+                columns.get(Column.ITEM_PRODUCT_NAME).writeString(item.productName());
+                columns.get(Column.ITEM_PRODUCT_DESCRIPTION).writeString(item.productDescription());
+                columns.get(Column.ITEM_QUANTITY).out.writeInt(item.quantity());
+                columns.get(Column.ITEM_UNIT_PRICE).writeDecimal(item.unitPrice());
+                columns.get(Column.ITEM_TOTAL_PRICE).writeDecimal(item.totalPrice());
+            }
+
+            ArchivedOrder.ArchivedPayment payment = order.payment();
+            columns.get(Column.PAYMENT_ID).out.writeLong(payment != null ? payment.id() : 0);
+            if (payment != null) {
+                columns.get(Column.PAYMENT_AMOUNT).writeDecimal(payment.amount());
+                columns.get(Column.PAYMENT_METHOD).writeEnum(payment.paymentMethod());
+                columns.get(Column.PAYMENT_STATUS).writeEnum(payment.status());
+                columns.get(Column.PAYMENT_TRANSACTION_ID).writeString(payment.transactionId());
+                columns.get(Column.PAYMENT_FAILURE_REASON).writeString(payment.failureReason());
+                columns.get(Column.PAYMENT_PROCESSED_AT).writeTime(payment.processedAt());
+                columns.get(Column.PAYMENT_REFUNDED_AT).writeTime(payment.refundedAt());
+                columns.get(Column.PAYMENT_CREATED_AT).writeTime(payment.createdAt());
+                columns.get(Column.PAYMENT_UPDATED_AT).writeTime(payment.updatedAt());
+            }
+
+            orderNumbers.add(BloomFilter.hash(order.orderNumber()));
+            memberIds.add(BloomFilter.hash(order.memberId()));
+            minId = Math.min(minId, order.id());
+            maxId = Math.max(maxId, order.id());
+            minMemberId = Math.min(minMemberId, order.memberId());
+            maxMemberId = Math.max(maxMemberId, order.memberId());
+        }
+
+        int columnCount = Column.values().length;
+        long[] offsets = new long[columnCount];
+        int[] lengths = new int[columnCount];
+        int[] rawLengths = new int[columnCount];
+        long archivedAt = System.currentTimeMillis();
+
+        Files.createDirectories(file.getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream stream = Files.newOutputStream(temp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream, 64 * 1024))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            long position = 8;
+            Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+            try {
+                for (Column column : Column.values()) {
+                    byte[] raw = columns.get(column).bytes.toByteArray();
+                    byte[] compressed = deflate(deflater, raw);
+                    offsets[column.ordinal()] = position;
+                    lengths[column.ordinal()] = compressed.length;
+                    rawLengths[column.ordinal()] = raw.length;
+                    out.write(compressed);
+                    position += compressed.length;
+                }
+            } finally {
+                deflater.end();
+            }
+
+            long footerOffset = position;
+            out.writeInt(orders.size());
+            out.writeLong(completedDate.toEpochDay());
+            out.writeLong(archivedAt);
+            out.writeLong(minId);
+            out.writeLong(maxId);
+            out.writeLong(minMemberId);
+            out.writeLong(maxMemberId);
+            out.writeInt(columnCount);
+            for (int i = 0; i < columnCount; i++) {
+                out.writeLong(offsets[i]);
+                out.writeInt(lengths[i]);
+                out.writeInt(rawLengths[i]);
+            }
+            orderNumbers.writeTo(out);
+            memberIds.writeTo(out);
+            out.writeLong(footerOffset);
+            out.writeInt(MAGIC);
+        }
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+
+        return new ArchivePart(file, completedDate, archivedAt, orders.size(), minId, maxId, minMemberId, maxMemberId,
+                offsets, lengths, rawLengths, orderNumbers, memberIds);
+    }
+
+    /**
+     * Reads the footer of an existing part; column data is read on demand.
+     */
+    static ArchivePart open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer tail = read(channel, size - 12, 12);
+            long footerOffset = tail.getLong();
+            if (tail.getInt() != MAGIC || footerOffset < 8 || footerOffset > size - 12) {
+                throw new IOException("Not an order archive part: " + file);
+            }
+            ByteBuffer head = read(channel, 0, 8);
+            if (head.getInt() != MAGIC || head.getInt() != VERSION) {
+                throw new IOException("Unsupported order archive part: " + file);
+            }
+            ByteBuffer footer = read(channel, footerOffset, (int) (size - 12 - footerOffset));
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(
+                    footer.array(), footer.arrayOffset(), footer.remaining()));
+            int rows = in.readInt();
+            LocalDate completedDate = LocalDate.ofEpochDay(in.readLong());
+            long archivedAt = in.readLong();
+            long minId = in.readLong();
+            long maxId = in.readLong();
+            long minMemberId = in.readLong();
+            long maxMemberId = in.readLong();
+            int columnCount = in.readInt();
+            if (columnCount != Column.values().length) {
+                throw new IOException("Unexpected column count " + columnCount + " in " + file);
+            }
+            long[] offsets = new long[columnCount];
+            int[] lengths = new int[columnCount];
+            int[] rawLengths = new int[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                offsets[i] = in.readLong();
+                lengths[i] = in.readInt();
+                rawLengths[i] = in.readInt();
+            }
+            BloomFilter orderNumbers = BloomFilter.readFrom(in);
+            BloomFilter memberIds = BloomFilter.readFrom(in);
+            return new ArchivePart(file, completedDate, archivedAt, rows, minId, maxId, minMemberId, maxMemberId,
+                    offsets, lengths, rawLengths, orderNumbers, memberIds);
+        }
+    }
+
+    boolean mayContainId(long id) {
+        return id >= minId && id <= maxId;
+    }
+
+    boolean mayContainOrderNumber(String orderNumber) {
+        return orderNumbers.mightContain(BloomFilter.hash(orderNumber));
+    }
+
+    boolean mayContainMember(long memberId) {
+        return memberId >= minMemberId && memberId <= maxMemberId && memberIds.mightContain(BloomFilter.hash(memberId));
+    }
+
+    /**
+     * Decodes the part row by row and returns the orders that match.
+     */
+    List<ArchivedOrder> scan(Predicate<ArchivedOrder> filter) throws IOException {
+        Map<Column, DataInputStream> columns = new EnumMap<>(Column.class);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            for (Column column : Column.values()) {
+                int i = column.ordinal();
+                ByteBuffer compressed = read(channel, offsets[i], lengths[i]);
+                columns.put(column, new DataInputStream(new ByteArrayInputStream(inflate(compressed, rawLengths[i]))));
+            }
+        }
+
+        List<ArchivedOrder> matches = new ArrayList<>();
+        long id = 0;
+        long itemId = 0;
+        for (int row = 0; row < rows; row++) {
+            id += columns.get(Column.ID).readLong();
+            String orderNumber = readString(columns.get(Column.ORDER_NUMBER));
+            long memberId = columns.get(Column.MEMBER_ID).readLong();
+            String memberName = readString(columns.get(Column.MEMBER_NAME));
+            BigDecimal totalAmount = readDecimal(columns.get(Column.TOTAL_AMOUNT));
+            Order.OrderStatus status = readEnum(columns.get(Column.STATUS), Order.OrderStatus.values());
+            LocalDateTime createdAt = readTime(columns.get(Column.CREATED_AT));
+            LocalDateTime updatedAt = readTime(columns.get(Column.UPDATED_AT));
+            LocalDateTime completedAt = readTime(columns.get(Column.COMPLETED_AT));
+
+            int itemCount = columns.get(Column.ITEM_COUNT).readInt();
+            List<ArchivedOrder.Item> items = new ArrayList<>(itemCount);
+            for (int i = 0; i < itemCount; i++) {
+                itemId += columns.get(Column.ITEM_ID).readLong();
+                items.add(new ArchivedOrder.Item(itemId,
+                        readString(columns.get(Column.ITEM_PRODUCT_NAME)),
+                        readString(columns.get(Column.ITEM_PRODUCT_DESCRIPTION)),
+                        columns.get(Column.ITEM_QUANTITY).readInt(),
+                        readDecimal(columns.get(Column.ITEM_UNIT_PRICE)),
+                        readDecimal(columns.get(Column.ITEM_TOTAL_PRICE))));
+            }
+
+            ArchivedOrder.ArchivedPayment payment = null;
+            long paymentId = columns.get(Column.PAYMENT_ID).readLong();
+            if (paymentId != 0) {
+                payment = new ArchivedOrder.ArchivedPayment(paymentId,
+                        readDecimal(columns.get(Column.PAYMENT_AMOUNT)),
+                        readEnum(columns.get(Column.PAYMENT_METHOD), Payment.PaymentMethod.values()),
+                        readEnum(columns.get(Column.PAYMENT_STATUS), Payment.PaymentStatus.values()),
+                        readString(columns.get(Column.PAYMENT_TRANSACTION_ID)),
+                        readString(columns.get(Column.PAYMENT_FAILURE_REASON)),
+                        readTime(columns.get(Column.PAYMENT_PROCESSED_AT)),
+                        readTime(columns.get(Column.PAYMENT_REFUNDED_AT)),
+                        readTime(columns.get(Column.PAYMENT_CREATED_AT)),
+                        readTime(columns.get(Column.PAYMENT_UPDATED_AT)));
+            }
+
+            ArchivedOrder order = new ArchivedOrder(id, orderNumber, memberId, memberName, totalAmount, status,
+                    createdAt, updatedAt, completedAt, List.copyOf(items), payment);
+            if (filter.test(order)) {
+                matches.add(order);
+            }
+        }
+        return matches;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    LocalDate getCompletedDate() {
+        return completedDate;
+    }
+
+    long getArchivedAt() {
+        return archivedAt;
+    }
+
+    int getRows() {
+        return rows;
+    }
+
+    long getCompressedBytes() {
+        long total = 0;
+        for (int length : lengths) {
+            total += length;
+        }
+        return total;
+    }
+
+    long getRawBytes() {
+        long total = 0;
+        for (int length : rawLengths) {
+            total += length;
+        }
+        return total;
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of archive part");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static byte[] deflate(Deflater deflater, byte[] raw) {
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+        byte[] chunk = new byte[64 * 1024];
+        while (!deflater.finished()) {
+            out.write(chunk, 0, deflater.deflate(chunk));
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] inflate(ByteBuffer compressed, int rawLength) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] raw = new byte[rawLength];
+            int read = 0;
+            while (read < rawLength && !inflater.finished()) {
+                int n = inflater.inflate(raw, read, rawLength - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != rawLength) {
+                throw new IOException("Corrupt archive column: expected " + rawLength + " bytes, got " + read);
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt archive column", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static BigDecimal readDecimal(DataInputStream in) throws IOException {
+        String value = readString(in);
+        return value != null ? new BigDecimal(value) : null;
+    }
+
+    private static <E extends Enum<E>> E readEnum(DataInputStream in, E[] values) throws IOException {
+        byte ordinal = in.readByte();
+        return ordinal >= 0 ? values[ordinal] : null;
+    }
+
+    private static LocalDateTime readTime(DataInputStream in) throws IOException {
+        long nanos = in.readLong();
+        if (nanos == NULL_TIME) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L),
+                (int) Math.floorMod(nanos, 1_000_000_000L), ZoneOffset.UTC);
+    }
+
+    private static final class ColumnWriter {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+
+        void writeString(String value) throws IOException {
+            out.writeBoolean(value != null);
+            if (value != null) {
+                out.writeUTF(value);
+            }
+        }
+
+        void writeDecimal(BigDecimal value) throws IOException {
+            writeString(value != null ? value.toPlainString() : null);
+        }
+
+        void writeEnum(Enum<?> value) throws IOException {
+            out.writeByte(value != null ? value.ordinal() : -1);
+        }
+
+        void writeTime(LocalDateTime value) throws IOException {
+            out.writeLong(value != null
+                    ? value.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + value.getNano()
+                    : NULL_TIME);
+        }
+    }
+}
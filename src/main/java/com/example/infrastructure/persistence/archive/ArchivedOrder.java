@@ -0,0 +1,63 @@
+package com.example.infrastructure.persistence.archive;
+
+import com.example.domain.Order;
+import com.example.domain.Payment;
+import com.example.dto.OrderDto;
+import com.example.dto.OrderItemDto;
+import com.example.dto.PaymentDto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * An order with its items and payment as moved out of the database, column for column.
+ */
+record ArchivedOrder(long id, String orderNumber, long memberId, String memberName, BigDecimal totalAmount,
+                     Order.OrderStatus status, LocalDateTime createdAt, LocalDateTime updatedAt,
+                     LocalDateTime completedAt, List<Item> items, ArchivedPayment payment) {
+
+    record Item(long id, String productName, String productDescription, int quantity, BigDecimal unitPrice,
+                BigDecimal totalPrice) {
+    }
+
+    record ArchivedPayment(long id, BigDecimal amount, Payment.PaymentMethod paymentMethod,
+                           Payment.PaymentStatus status, String transactionId, String failureReason,
+                           LocalDateTime processedAt, LocalDateTime refundedAt,
+                           LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
+
+    OrderDto toDto() {
+        return OrderDto.builder()
+                .id(id)
+                .orderNumber(orderNumber)
+                .memberId(memberId)
+                .memberName(memberName)
+                .totalAmount(totalAmount)
+                .status(status)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .orderItems(items.stream()
+                        .map(item -> OrderItemDto.builder()
+                                .id(item.id())
+                                .productName(item.productName())
+                                .productDescription(item.productDescription())
+                                .quantity(item.quantity())
+                                .unitPrice(item.unitPrice())
+                                .totalPrice(item.totalPrice())
+                                .build())
+                        .toList())
+                .payment(payment == null ? null : PaymentDto.builder()
+                        .id(payment.id())
+                        .orderId(id)
+                        .amount(payment.amount())
+                        .paymentMethod(payment.paymentMethod())
+                        .status(payment.status())
+                        .transactionId(payment.transactionId())
+                        .failureReason(payment.failureReason())
+                        .createdAt(payment.createdAt())
+                        .updatedAt(payment.updatedAt())
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.infrastructure.persistence.archive;
+
+import com.example.dto.OrderDto;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Read side of the order archive: the footers of all parts under the archive directory, laid
+ * out as {@code completed_date=yyyy-MM-dd/part-*.orda}. Lookups only open the parts whose id
+ * range or Bloom filters admit the key.
+ * <p>
+ * An order can exist in two parts when an archival run crashed after writing its file but before
+ * the database delete committed; the next run archives it again and the newest part wins.
+ */
+@Slf4j
+public class OrderArchive {
+
+    static final String PARTITION_PREFIX = "completed_date=";
+
+    private final Path directory;
+    /** Newest first, so the first match of an order is its latest archived state. */
+    private final List<ArchivePart> parts = new CopyOnWriteArrayList<>();
+
+    public OrderArchive(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+            List<ArchivePart> found = new ArrayList<>();
+            try (Stream<Path> files = Files.find(directory, 2,
+                    (file, attributes) -> attributes.isRegularFile() && file.toString().endsWith(ArchivePart.SUFFIX))) {
+                for (Path file : files.toList()) {
+                    try {
+                        found.add(ArchivePart.open(file));
+                    } catch (IOException e) {
+                        log.error("Skipping unreadable order archive part {}: {}", file, e.getMessage());
+                    }
+                }
+            }
+            found.sort(Comparator.comparingLong(ArchivePart::getArchivedAt).reversed());
+            parts.addAll(found);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the order archive in " + directory, e);
+        }
+        log.info("Order archive {}: {} parts, {} orders", directory, parts.size(), getOrderCount());
+    }
+
+    public Optional<OrderDto> findById(long id) {
+        return findFirst(part -> part.mayContainId(id), order -> order.id() == id);
+    }
+
+    public Optional<OrderDto> findByOrderNumber(String orderNumber) {
+        return findFirst(part -> part.mayContainOrderNumber(orderNumber), order -> order.orderNumber().equals(orderNumber));
+    }
+
+    /**
+     * Archived orders of the member in id order.
+     */
+    public List<OrderDto> findByMemberId(long memberId) {
+        List<OrderDto> orders = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (ArchivePart part : parts) {
+            if (part.mayContainMember(memberId)) {
+                for (ArchivedOrder order : scan(part, candidate -> candidate.memberId() == memberId)) {
+                    if (seen.add(order.id())) {
+                        orders.add(order.toDto());
+                    }
+                }
+            }
+        }
+        orders.sort(Comparator.comparing(OrderDto::getId));
+        return orders;
+    }
+
+    public int getPartCount() {
+        return parts.size();
+    }
+
+    public long getOrderCount() {
+        return parts.stream().mapToLong(ArchivePart::getRows).sum();
+    }
+
+    public long getCompressedBytes() {
+        return parts.stream().mapToLong(ArchivePart::getCompressedBytes).sum();
+    }
+
+    Path partFile(LocalDate completedDate, long firstId) {
+        return directory.resolve(PARTITION_PREFIX + completedDate)
+                .resolve("part-" + System.currentTimeMillis() + "-" + firstId + ArchivePart.SUFFIX);
+    }
+
+    void register(ArchivePart part) {
+        parts.add(0, part);
+    }
+
+    /**
+     * Forgets and deletes a part whose orders stayed in the database.
+     */
+    void discard(ArchivePart part) {
+        parts.remove(part);
+        try {
+            Files.deleteIfExists(part.getPath());
+        } catch (IOException e) {
+            log.warn("Failed to delete discarded order archive part {}: {}", part.getPath(), e.getMessage());
+        }
+    }
+
+    private Optional<OrderDto> findFirst(Predicate<ArchivePart> mayContain, Predicate<ArchivedOrder> matches) {
+        for (ArchivePart part : parts) {
+            if (mayContain.test(part)) {
+                List<ArchivedOrder> found = scan(part, matches);
+                if (!found.isEmpty()) {
+                    return Optional.of(found.get(0).toDto());
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private List<ArchivedOrder> scan(ArchivePart part, Predicate<ArchivedOrder> matches) {
+        try {
+            return part.scan(matches);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read order archive part " + part.getPath(), e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.infrastructure.persistence.archive;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for moving cold completed orders out of the database.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.order-archive")
+public class OrderArchiveProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * Root of the date-partitioned part files. Must be on durable local disk and backed up:
+     * archived orders exist nowhere else.
+     */
+    private String directory = "./data/order-archive";
+
+    /**
+     * Orders completed more than this many days ago are archived.
+     */
+    private int archiveAfterDays = 90;
+
+    /**
+     * Orders moved per transaction; each batch writes one part per completion day.
+     */
+    private int batchSize = 5000;
+}
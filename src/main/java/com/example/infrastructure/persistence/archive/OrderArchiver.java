@@ -0,0 +1,193 @@
+package com.example.infrastructure.persistence.archive;
+
+import com.example.domain.Order;
+import com.example.domain.Payment;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Moves orders completed before a cut-off, with their items and payment, from the database into
+ * archive parts.
+ * <p>
+ * Each batch runs in one transaction: the orders and payments are locked, the parts are written
+ * and registered, then the rows are deleted. Readers therefore find an order in the table, in the
+ * archive, or in both, never in neither. When the transaction fails the new parts are discarded;
+ * when the process dies before commit they stay and the next run supersedes them.
+ */
+@Slf4j
+public class OrderArchiver {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderArchive archive;
+    private final OrderArchiveProperties properties;
+    private final Counter archivedCounter;
+
+    public OrderArchiver(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, OrderArchive archive,
+                         OrderArchiveProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.archive = archive;
+        this.properties = properties;
+        this.archivedCounter = meterRegistry.counter("orders.archive.archived");
+    }
+
+    @Scheduled(cron = "${app.order-archive.cron:0 0 4 * * *}")
+    public void archiveColdOrders() {
+        archive(LocalDate.now().minusDays(properties.getArchiveAfterDays()).atStartOfDay());
+    }
+
+    /**
+     * Archives every order completed before the cut-off and returns how many were moved.
+     */
+    public int archive(LocalDateTime completedBefore) {
+        long startTime = System.currentTimeMillis();
+        int total = archiveWhere("completed_at < ?", Timestamp.valueOf(completedBefore));
+        log.info("Archived {} orders completed before {} in {} ms", total, completedBefore,
+                System.currentTimeMillis() - startTime);
+        return total;
+    }
+
+    /**
+     * Archives every completed order created in the range, whenever it completed, and returns how
+     * many were moved. Used before a month of orders is dropped.
+     */
+    public int archiveCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        long startTime = System.currentTimeMillis();
+        int total = archiveWhere("created_at >= ? AND created_at < ?", Timestamp.valueOf(from), Timestamp.valueOf(to));
+        log.info("Archived {} completed orders created from {} to {} in {} ms", total, from, to,
+                System.currentTimeMillis() - startTime);
+        return total;
+    }
+
+    private int archiveWhere(String condition, Object... args) {
+        int total = 0;
+        while (true) {
+            List<ArchivePart> written = new ArrayList<>();
+            Integer moved;
+            try {
+                moved = transactionTemplate.execute(status -> archiveBatch(condition, args, written));
+            } catch (RuntimeException e) {
+                written.forEach(archive::discard);
+                throw e;
+            }
+            if (moved == null || moved == 0) {
+                break;
+            }
+            total += moved;
+            archivedCounter.increment(moved);
+            if (moved < properties.getBatchSize()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private int archiveBatch(String condition, Object[] args, List<ArchivePart> written) {
+        Object[] selectArgs = Arrays.copyOf(args, args.length + 1);
+        selectArgs[args.length] = properties.getBatchSize();
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM orders WHERE status = 'COMPLETED' AND " + condition + " ORDER BY id LIMIT ? FOR UPDATE",
+                Long.class, selectArgs);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String in = String.join(",", Collections.nCopies(ids.size(), "?"));
+        Object[] idArgs = ids.toArray();
+        // A refund racing the archival would otherwise be lost with the deleted row
+        jdbcTemplate.queryForList("SELECT id FROM payments WHERE order_id IN (" + in + ") FOR UPDATE", Long.class, idArgs);
+
+        Map<Long, List<ArchivedOrder.Item>> items = new HashMap<>();
+        jdbcTemplate.query("SELECT order_id, id, product_name, product_description, quantity, unit_price, total_price "
+                + "FROM order_items WHERE order_id IN (" + in + ") ORDER BY order_id, id", resultSet -> {
+            items.computeIfAbsent(resultSet.getLong(1), key -> new ArrayList<>()).add(new ArchivedOrder.Item(
+                    resultSet.getLong(2), resultSet.getString(3), resultSet.getString(4), resultSet.getInt(5),
+                    resultSet.getBigDecimal(6), resultSet.getBigDecimal(7)));
+        }, idArgs);
+
+        Map<LocalDate, List<ArchivedOrder>> byDay = new TreeMap<>();
+        jdbcTemplate.query("SELECT o.id, o.order_number, o.member_id, m.name, o.total_amount, o.status, "
+                + "o.created_at, o.updated_at, o.completed_at, "
+                + "p.id, p.amount, p.payment_method, p.status, p.transaction_id, p.failure_reason, "
+                + "p.processed_at, p.refunded_at, p.created_at, p.updated_at "
+                + "FROM orders o JOIN members m ON m.id = o.member_id LEFT JOIN payments p ON p.order_id = o.id "
+                + "WHERE o.id IN (" + in + ") ORDER BY o.id", resultSet -> {
+            ArchivedOrder order = mapOrder(resultSet, items);
+            byDay.computeIfAbsent(order.completedAt().toLocalDate(), key -> new ArrayList<>()).add(order);
+        }, idArgs);
+
+        try {
+            for (Map.Entry<LocalDate, List<ArchivedOrder>> day : byDay.entrySet()) {
+                List<ArchivedOrder> orders = day.getValue();
+                ArchivePart part = ArchivePart.write(archive.partFile(day.getKey(), orders.get(0).id()), day.getKey(), orders);
+                written.add(part);
+                archive.register(part);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write order archive part", e);
+        }
+
+        jdbcTemplate.update("DELETE FROM payments WHERE order_id IN (" + in + ")", idArgs);
+        jdbcTemplate.update("DELETE FROM order_items WHERE order_id IN (" + in + ")", idArgs);
+        int deleted = jdbcTemplate.update("DELETE FROM orders WHERE id IN (" + in + ")", idArgs);
+        log.debug("Archived {} orders into {} parts", deleted, byDay.size());
+        return deleted;
+    }
+
+    private static ArchivedOrder mapOrder(ResultSet resultSet, Map<Long, List<ArchivedOrder.Item>> items) throws SQLException {
+        long id = resultSet.getLong(1);
+        ArchivedOrder.ArchivedPayment payment = null;
+        long paymentId = resultSet.getLong(10);
+        if (!resultSet.wasNull()) {
+            payment = new ArchivedOrder.ArchivedPayment(paymentId,
+                    resultSet.getBigDecimal(11),
+                    enumValue(Payment.PaymentMethod.class, resultSet.getString(12)),
+                    enumValue(Payment.PaymentStatus.class, resultSet.getString(13)),
+                    resultSet.getString(14),
+                    resultSet.getString(15),
+                    time(resultSet, 16),
+                    time(resultSet, 17),
+                    time(resultSet, 18),
+                    time(resultSet, 19));
+        }
+        return new ArchivedOrder(id,
+                resultSet.getString(2),
+                resultSet.getLong(3),
+                resultSet.getString(4),
+                resultSet.getBigDecimal(5),
+                enumValue(Order.OrderStatus.class, resultSet.getString(6)),
+                time(resultSet, 7),
+                time(resultSet, 8),
+                time(resultSet, 9),
+                List.copyOf(items.getOrDefault(id, List.of())),
+                payment);
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, String value) {
+        return value != null ? Enum.valueOf(type, value) : null;
+    }
+
+    private static LocalDateTime time(ResultSet resultSet, int index) throws SQLException {
+        Timestamp value = resultSet.getTimestamp(index);
+        return value == null ? null : value.toLocalDateTime();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.infrastructure.persistence.history;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from positive {@code long} keys to {@code long} values, backed by a
+ * single interleaved {@code long[]} so an index of millions of orders is one heap object.
+ * Not thread-safe; {@link OffHeapOrderStore} guards it with its lock. Zero marks a free slot.
+ */
+class LongLongHashMap {
+
+    static final long MISSING = -1L;
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] table;
+    private int size;
+
+    LongLongHashMap(int expectedSize) {
+        table = new long[2 * capacityFor(expectedSize)];
+    }
+
+    long get(long key) {
+        int mask = table.length / 2 - 1;
+        for (int i = slot(key, mask); ; i = (i + 1) & mask) {
+            long current = table[2 * i];
+            if (current == key) {
+                return table[2 * i + 1];
+            }
+            if (current == 0) {
+                return MISSING;
+            }
+        }
+    }
+
+    /**
+     * Returns the previous value, or {@link #MISSING}.
+     */
+    long put(long key, long value) {
+        if (key <= 0) {
+            throw new IllegalArgumentException("Keys must be positive: " + key);
+        }
+        if (size + 1 > table.length / 2 * LOAD_FACTOR) {
+            resize();
+        }
+        int mask = table.length / 2 - 1;
+        for (int i = slot(key, mask); ; i = (i + 1) & mask) {
+            if (table[2 * i] == key) {
+                long previous = table[2 * i + 1];
+                table[2 * i + 1] = value;
+                return previous;
+            }
+            if (table[2 * i] == 0) {
+                table[2 * i] = key;
+                table[2 * i + 1] = value;
+                size++;
+                return MISSING;
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        Arrays.fill(table, 0);
+        size = 0;
+    }
+
+    private void resize() {
+        long[] old = table;
+        table = new long[old.length * 2];
+        int mask = table.length / 2 - 1;
+        for (int j = 0; j < old.length; j += 2) {
+            long key = old[j];
+            if (key != 0) {
+                int i = slot(key, mask);
+                while (table[2 * i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                table[2 * i] = key;
+                table[2 * i + 1] = old[j + 1];
+            }
+        }
+    }
+
+    private static int slot(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        return Integer.highestOneBit(Math.max(16, (int) (expectedSize / LOAD_FACTOR)) * 2 - 1);
+    }
+}
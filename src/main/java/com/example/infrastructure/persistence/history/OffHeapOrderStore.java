@@ -0,0 +1,347 @@
+package com.example.infrastructure.persistence.history;
+
+import com.example.domain.Order;
+import com.example.dto.OrderDto;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Read tier for completed and cancelled orders, kept outside the Java heap.
+ * <p>
+ * Orders are appended in {@link OrderRecordCodec} layout to fixed-size segments, either direct
+ * buffers or memory-mapped files. Two primitive indexes point into them: order id to the latest
+ * record, and member id to the newest record of the member, from which each record links to the
+ * member's previous one. A changed order (a refunded payment) is appended again and the old
+ * record becomes dead space. When the segments are full everything is dropped and refilled from
+ * the database on demand, which keeps the footprint fixed without a compactor.
+ * <p>
+ * A member is <em>loaded</em> once all its terminal orders have been put here; only then can its
+ * order history be served from this store.
+ */
+@Slf4j
+public class OffHeapOrderStore implements Closeable {
+
+    private static final int HEADER_BYTES = Integer.BYTES + Long.BYTES;
+    private static final long NO_RECORD = LongLongHashMap.MISSING;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int segmentBytes;
+    private final int maxSegments;
+    private final Path directory;
+    private final List<ByteBuffer> segments = new ArrayList<>();
+    private final LongLongHashMap orderIndex = new LongLongHashMap(1 << 16);
+    private final LongLongHashMap memberIndex = new LongLongHashMap(1 << 14);
+    private final LongLongHashMap loadedMembers = new LongLongHashMap(1 << 14);
+    private final ByteArrayOutputStream scratch = new ByteArrayOutputStream(1024);
+    private final DataOutputStream scratchOut = new DataOutputStream(scratch);
+
+    private int segment;
+    private int writeOffset;
+    private int orders;
+    private long usedBytes;
+    private long deadBytes;
+    private long resets;
+
+    /**
+     * @param directory where to create memory-mapped segment files, or {@code null} for direct buffers
+     */
+    public OffHeapOrderStore(int segmentBytes, long capacityBytes, Path directory) {
+        if (segmentBytes < 4096) {
+            throw new IllegalArgumentException("Segment size must be at least 4096 bytes");
+        }
+        this.segmentBytes = segmentBytes;
+        this.maxSegments = (int) Math.max(1, capacityBytes / segmentBytes);
+        this.directory = directory;
+    }
+
+    public static boolean isTerminal(Order.OrderStatus status) {
+        return status == Order.OrderStatus.COMPLETED || status == Order.OrderStatus.CANCELLED;
+    }
+
+    public Optional<OrderDto> find(long orderId) {
+        lock.readLock().lock();
+        try {
+            long address = orderIndex.get(orderId);
+            return address != NO_RECORD ? Optional.of(decode(address)) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(long orderId) {
+        lock.readLock().lock();
+        try {
+            return orderIndex.get(orderId) != NO_RECORD;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isLoaded(long memberId) {
+        lock.readLock().lock();
+        try {
+            return loadedMembers.get(memberId) != NO_RECORD;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Terminal orders of the member in id order, or empty when the member is not loaded.
+     */
+    public Optional<List<OrderDto>> findByMemberId(long memberId) {
+        lock.readLock().lock();
+        try {
+            if (loadedMembers.get(memberId) == NO_RECORD) {
+                return Optional.empty();
+            }
+            List<OrderDto> orders = new ArrayList<>();
+            for (long address = memberIndex.get(memberId); address != NO_RECORD; address = previous(address)) {
+                // Skip records superseded by a later version of the same order
+                if (orderIndex.get(orderId(address)) == address) {
+                    orders.add(decode(address));
+                }
+            }
+            orders.sort(Comparator.comparing(OrderDto::getId));
+            return Optional.of(orders);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Stores the latest state of a terminal order, replacing an older one. Other orders are ignored.
+     */
+    public void put(OrderDto order) {
+        if (!isTerminal(order.getStatus())) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!append(order)) {
+                // Neither the old state of the order nor the member's history here are valid now
+                long stale = orderIndex.get(order.getId());
+                if (stale != NO_RECORD) {
+                    orderIndex.put(order.getId(), NO_RECORD);
+                    deadBytes += recordLength(stale);
+                    orders--;
+                }
+                unload(order.getMemberId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Stores all terminal orders of a member read from the database and marks the member loaded.
+     * Orders already present are kept, since they may have been updated after the read.
+     */
+    public void load(long memberId, List<OrderDto> orders) {
+        lock.writeLock().lock();
+        try {
+            long resetsBefore = resets;
+            for (OrderDto order : orders) {
+                if (isTerminal(order.getStatus()) && orderIndex.get(order.getId()) == NO_RECORD && !append(order)) {
+                    return;
+                }
+            }
+            if (resets != resetsBefore) {
+                // Earlier orders of this member were dropped while loading the rest
+                return;
+            }
+            loadedMembers.put(memberId, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return orders;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getUsedBytes() {
+        lock.readLock().lock();
+        try {
+            return usedBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getLiveBytes() {
+        lock.readLock().lock();
+        try {
+            return usedBytes - deadBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getCapacityBytes() {
+        return (long) segmentBytes * maxSegments;
+    }
+
+    public long getResets() {
+        lock.readLock().lock();
+        try {
+            return resets;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            reset();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            reset();
+            // Direct and mapped buffers are released when collected; mapped files are already unlinked
+            segments.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean append(OrderDto order) {
+        byte[] payload;
+        try {
+            scratch.reset();
+            OrderRecordCodec.encode(order, scratchOut);
+            payload = scratch.toByteArray();
+        } catch (IllegalArgumentException e) {
+            log.debug("Order {} does not fit the off-heap layout: {}", order.getId(), e.getMessage());
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        int length = HEADER_BYTES + payload.length;
+        if (length > segmentBytes) {
+            return false;
+        }
+        if (!reserve(length)) {
+            log.info("Off-heap order store is full ({} orders, {} of {} bytes live), starting over",
+                    orders, usedBytes - deadBytes, getCapacityBytes());
+            reset();
+            resets++;
+            reserve(length);
+        }
+
+        ByteBuffer buffer = segments.get(segment);
+        long address = ((long) segment << 32) | writeOffset;
+        long memberHead = memberIndex.get(order.getMemberId());
+        buffer.putInt(writeOffset, length);
+        buffer.putLong(writeOffset + Integer.BYTES, memberHead);
+        buffer.put(writeOffset + HEADER_BYTES, payload);
+        writeOffset += length;
+        usedBytes += length;
+
+        long replaced = orderIndex.put(order.getId(), address);
+        if (replaced != NO_RECORD) {
+            deadBytes += recordLength(replaced);
+        } else {
+            orders++;
+        }
+        memberIndex.put(order.getMemberId(), address);
+        return true;
+    }
+
+    /**
+     * Moves the write position to where the record fits, allocating a segment if needed.
+     */
+    private boolean reserve(int length) {
+        if (!segments.isEmpty() && writeOffset + length <= segmentBytes) {
+            return true;
+        }
+        int next = segments.isEmpty() ? 0 : segment + 1;
+        if (next >= maxSegments) {
+            return false;
+        }
+        if (next == segments.size()) {
+            segments.add(allocate(next));
+        }
+        segment = next;
+        writeOffset = 0;
+        return true;
+    }
+
+    private ByteBuffer allocate(int index) {
+        if (directory == null) {
+            return ByteBuffer.allocateDirect(segmentBytes);
+        }
+        try {
+            Files.createDirectories(directory);
+            Path file = Files.createTempFile(directory, "order-history-" + index + "-", ".seg");
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE)) {
+                // The mapping outlives the channel and the unlinked file
+                return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map off-heap order segment", e);
+        }
+    }
+
+    private void reset() {
+        orderIndex.clear();
+        memberIndex.clear();
+        loadedMembers.clear();
+        orders = 0;
+        segment = 0;
+        writeOffset = 0;
+        usedBytes = 0;
+        deadBytes = 0;
+    }
+
+    private void unload(long memberId) {
+        // LongLongHashMap has no removal; a MISSING value reads the same as an absent key
+        if (loadedMembers.get(memberId) != NO_RECORD) {
+            loadedMembers.put(memberId, NO_RECORD);
+        }
+    }
+
+    private OrderDto decode(long address) {
+        return OrderRecordCodec.decode(segments.get((int) (address >>> 32)), (int) address + HEADER_BYTES);
+    }
+
+    private long previous(long address) {
+        return segments.get((int) (address >>> 32)).getLong((int) address + Integer.BYTES);
+    }
+
+    private long orderId(long address) {
+        return OrderRecordCodec.readId(segments.get((int) (address >>> 32)), (int) address + HEADER_BYTES);
+    }
+
+    private int recordLength(long address) {
+        return segments.get((int) (address >>> 32)).getInt((int) address);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.infrastructure.persistence.history;
+
+import com.example.domain.event.OrderEvents;
+import com.example.domain.event.PaymentEvents;
+import com.example.dto.OrderDto;
+import com.example.infrastructure.persistence.OrderRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Copies orders into the off-heap store once they reach a terminal state, and again when a
+ * payment of a stored order is processed, fails or is refunded. The order is re-read after
+ * commit, so the store always gets the committed state including items and payment.
+ */
+public class OrderHistoryListener {
+
+    private final OffHeapOrderStore store;
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate readTransaction;
+
+    public OrderHistoryListener(OffHeapOrderStore store, OrderRepository orderRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.store = store;
+        this.orderRepository = orderRepository;
+        // The publishing transaction has already committed and cannot be joined
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    @TransactionalEventListener
+    public void onOrderCompleted(OrderEvents.OrderCompleted event) {
+        refresh(event.getOrderId());
+    }
+
+    @TransactionalEventListener
+    public void onOrderCancelled(OrderEvents.OrderCancelled event) {
+        refresh(event.getOrderId());
+    }
+
+    @TransactionalEventListener
+    public void onPaymentProcessed(PaymentEvents.PaymentProcessed event) {
+        refreshStored(event.getOrderId());
+    }
+
+    @TransactionalEventListener
+    public void onPaymentFailed(PaymentEvents.PaymentFailed event) {
+        refreshStored(event.getOrderId());
+    }
+
+    @TransactionalEventListener
+    public void onPaymentRefunded(PaymentEvents.PaymentRefunded event) {
+        refreshStored(event.getOrderId());
+    }
+
+    /**
+     * Payments of open orders change all the time; only orders already in the store need the read.
+     */
+    private void refreshStored(Long orderId) {
+        if (store.contains(orderId)) {
+            refresh(orderId);
+        }
+    }
+
+    private void refresh(Long orderId) {
+        readTransaction.executeWithoutResult(status -> orderRepository.findByIdWithOrderItemsAndPayment(orderId)
+                .map(OrderDto::from)
+                .ifPresent(store::put));
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.infrastructure.persistence.history;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the off-heap read tier of completed and cancelled orders.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.order-history.off-heap")
+public class OrderHistoryProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * Size of one segment; segments are allocated as they fill up.
+     */
+    private int segmentBytes = 16 * 1024 * 1024;
+
+    /**
+     * Off-heap memory reserved at most. Count it in the container memory limit alongside the heap.
+     */
+    private long capacityBytes = 256L * 1024 * 1024;
+
+    /**
+     * Directory for memory-mapped segment files; direct buffers are used when not set.
+     */
+    private String directory;
+}
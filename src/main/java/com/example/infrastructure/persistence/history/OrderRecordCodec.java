@@ -0,0 +1,243 @@
+package com.example.infrastructure.persistence.history;
+
+import com.example.domain.Order;
+import com.example.domain.Payment;
+import com.example.dto.OrderDto;
+import com.example.dto.OrderItemDto;
+import com.example.dto.PaymentDto;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary layout of an order with its items and payment, as stored off heap.
+ * <p>
+ * Big-endian, no field names: ids as 8 bytes, enums as their ordinal in one byte, strings as a
+ * 2-byte length and UTF-8 bytes, amounts as scale plus unscaled two's complement bytes, and
+ * timestamps as epoch second plus nanos. A typical order with two items and a payment takes
+ * about 300 bytes, against well over a kilobyte for the equivalent DTO graph on the heap.
+ */
+final class OrderRecordCodec {
+
+    private static final int NULL_LENGTH = 0xFFFF;
+    private static final long NULL_TIME = Long.MIN_VALUE;
+
+    private OrderRecordCodec() {
+    }
+
+    static void encode(OrderDto order, DataOutputStream out) throws IOException {
+        out.writeLong(order.getId());
+        out.writeLong(order.getMemberId());
+        writeEnum(out, order.getStatus());
+        writeString(out, order.getOrderNumber());
+        writeString(out, order.getMemberName());
+        writeDecimal(out, order.getTotalAmount());
+        writeTime(out, order.getCreatedAt());
+        writeTime(out, order.getUpdatedAt());
+
+        List<OrderItemDto> items = order.getOrderItems() != null ? order.getOrderItems() : List.of();
+        out.writeShort(items.size());
+        for (OrderItemDto item : items) {
+            out.writeLong(item.getId() != null ? item.getId() : 0);
+            writeString(out, item.getProductName());
+            writeString(out, item.getProductDescription());
+            out.writeInt(item.getQuantity());
+            writeDecimal(out, item.getUnitPrice());
+            writeDecimal(out, item.getTotalPrice());
+        }
+
+        PaymentDto payment = order.getPayment();
+        out.writeBoolean(payment != null);
+        if (payment != null) {
+            out.writeLong(payment.getId());
+            writeDecimal(out, payment.getAmount());
+            writeEnum(out, payment.getPaymentMethod());
+            writeEnum(out, payment.getStatus());
+            writeString(out, payment.getTransactionId());
+            writeString(out, payment.getFailureReason());
+            writeTime(out, payment.getCreatedAt());
+            writeTime(out, payment.getUpdatedAt());
+        }
+    }
+
+    /**
+     * Decodes with absolute reads only, so concurrent readers can share the buffer.
+     */
+    static OrderDto decode(ByteBuffer buffer, int offset) {
+        Reader in = new Reader(buffer, offset);
+        long id = in.readLong();
+        long memberId = in.readLong();
+        Order.OrderStatus status = in.readEnum(Order.OrderStatus.values());
+        String orderNumber = in.readString();
+        String memberName = in.readString();
+        BigDecimal totalAmount = in.readDecimal();
+        LocalDateTime createdAt = in.readTime();
+        LocalDateTime updatedAt = in.readTime();
+
+        int itemCount = in.readShort();
+        List<OrderItemDto> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            long itemId = in.readLong();
+            items.add(OrderItemDto.builder()
+                    .id(itemId != 0 ? itemId : null)
+                    .productName(in.readString())
+                    .productDescription(in.readString())
+                    .quantity(in.readInt())
+                    .unitPrice(in.readDecimal())
+                    .totalPrice(in.readDecimal())
+                    .build());
+        }
+
+        PaymentDto payment = null;
+        if (in.readBoolean()) {
+            payment = PaymentDto.builder()
+                    .id(in.readLong())
+                    .orderId(id)
+                    .amount(in.readDecimal())
+                    .paymentMethod(in.readEnum(Payment.PaymentMethod.values()))
+                    .status(in.readEnum(Payment.PaymentStatus.values()))
+                    .transactionId(in.readString())
+                    .failureReason(in.readString())
+                    .createdAt(in.readTime())
+                    .updatedAt(in.readTime())
+                    .build();
+        }
+
+        return OrderDto.builder()
+                .id(id)
+                .orderNumber(orderNumber)
+                .memberId(memberId)
+                .memberName(memberName)
+                .totalAmount(totalAmount)
+                .status(status)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .orderItems(items)
+                .payment(payment)
+                .build();
+    }
+
+    /**
+     * Reads the order id at the start of an encoded order.
+     */
+    static long readId(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset);
+    }
+
+    private static void writeEnum(DataOutputStream out, Enum<?> value) throws IOException {
+        out.writeByte(value != null ? value.ordinal() : -1);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeShort(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length >= NULL_LENGTH) {
+            throw new IllegalArgumentException("String too long for the off-heap layout: " + bytes.length + " bytes");
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        if (value == null) {
+            out.writeByte(0);
+            out.writeByte(0);
+            return;
+        }
+        byte[] unscaled = value.unscaledValue().toByteArray();
+        if (unscaled.length > 127 || value.scale() < Byte.MIN_VALUE || value.scale() > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Amount out of range for the off-heap layout: " + value);
+        }
+        out.writeByte(value.scale());
+        out.writeByte(unscaled.length);
+        out.write(unscaled);
+    }
+
+    private static void writeTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        if (value == null) {
+            out.writeLong(NULL_TIME);
+            return;
+        }
+        out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(value.getNano());
+    }
+
+    private static final class Reader {
+        private final ByteBuffer buffer;
+        private int position;
+
+        Reader(ByteBuffer buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        long readLong() {
+            long value = buffer.getLong(position);
+            position += Long.BYTES;
+            return value;
+        }
+
+        int readInt() {
+            int value = buffer.getInt(position);
+            position += Integer.BYTES;
+            return value;
+        }
+
+        int readShort() {
+            int value = Short.toUnsignedInt(buffer.getShort(position));
+            position += Short.BYTES;
+            return value;
+        }
+
+        boolean readBoolean() {
+            return buffer.get(position++) != 0;
+        }
+
+        <E extends Enum<E>> E readEnum(E[] values) {
+            byte ordinal = buffer.get(position++);
+            return ordinal >= 0 ? values[ordinal] : null;
+        }
+
+        String readString() {
+            int length = readShort();
+            if (length == NULL_LENGTH) {
+                return null;
+            }
+            byte[] bytes = new byte[length];
+            buffer.get(position, bytes);
+            position += length;
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        BigDecimal readDecimal() {
+            byte scale = buffer.get(position++);
+            int length = buffer.get(position++);
+            if (length == 0) {
+                return null;
+            }
+            byte[] unscaled = new byte[length];
+            buffer.get(position, unscaled);
+            position += length;
+            return new BigDecimal(new BigInteger(unscaled), scale);
+        }
+
+        LocalDateTime readTime() {
+            long epochSecond = readLong();
+            if (epochSecond == NULL_TIME) {
+                return null;
+            }
+            return LocalDateTime.ofEpochSecond(epochSecond, readInt(), ZoneOffset.UTC);
+        }
+    }
+}
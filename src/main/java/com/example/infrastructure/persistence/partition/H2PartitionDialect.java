@@ -0,0 +1,66 @@
+package com.example.infrastructure.persistence.partition;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Simulation of monthly partitions for H2, which cannot partition tables.
+ * <p>
+ * The months are only recorded in a {@code table_partitions} catalog; the rows stay in the one
+ * table and dropping a month deletes its range. It keeps development and tests on the same code
+ * path as PostgreSQL, not the cost profile: the drop is a row-by-row delete here.
+ */
+class H2PartitionDialect implements PartitionDialect {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    H2PartitionDialect(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS table_partitions (partition_name VARCHAR(64) PRIMARY KEY, "
+                + "table_name VARCHAR(64) NOT NULL, range_start TIMESTAMP NOT NULL, range_end TIMESTAMP NOT NULL)");
+    }
+
+    @Override
+    public boolean isPartitioned(String table) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM table_partitions WHERE table_name = ?",
+                Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    @Override
+    public void partition(String table, YearMonth first, YearMonth last) {
+        Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM " + table, Timestamp.class);
+        if (oldest != null) {
+            YearMonth oldestMonth = YearMonth.from(oldest.toLocalDateTime());
+            first = oldestMonth.isBefore(first) ? oldestMonth : first;
+        }
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            create(table, month);
+        }
+    }
+
+    @Override
+    public Set<YearMonth> partitions(String table) {
+        return new HashSet<>(jdbcTemplate.query("SELECT range_start FROM table_partitions WHERE table_name = ?",
+                (resultSet, rowNum) -> YearMonth.from(resultSet.getTimestamp(1).toLocalDateTime()), table));
+    }
+
+    @Override
+    public void create(String table, YearMonth month) {
+        jdbcTemplate.update("MERGE INTO table_partitions (partition_name, table_name, range_start, range_end) "
+                        + "KEY (partition_name) VALUES (?, ?, ?, ?)",
+                PartitionDialect.partitionName(table, month), table,
+                Timestamp.valueOf(month.atDay(1).atStartOfDay()), Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay()));
+    }
+
+    @Override
+    public void drop(String table, YearMonth month) {
+        jdbcTemplate.update("DELETE FROM " + table + " WHERE created_at >= ? AND created_at < ?",
+                Timestamp.valueOf(month.atDay(1).atStartOfDay()), Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay()));
+        jdbcTemplate.update("DELETE FROM table_partitions WHERE partition_name = ?", PartitionDialect.partitionName(table, month));
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.infrastructure.persistence.partition;
+
+import java.time.YearMonth;
+import java.util.Set;
+
+/**
+ * Database-specific DDL for tables range-partitioned by month on their created_at column.
+ * Implementations run inside the caller's transaction.
+ */
+interface PartitionDialect {
+
+    boolean isPartitioned(String table);
+
+    /**
+     * Turns the table into a partitioned one, keeping its rows, with a partition for every month
+     * from {@code first} to {@code last}.
+     */
+    void partition(String table, YearMonth first, YearMonth last);
+
+    Set<YearMonth> partitions(String table);
+
+    void create(String table, YearMonth month);
+
+    /**
+     * Removes the month and every row in it; rows of other tables that refer to them are the
+     * caller's concern.
+     */
+    void drop(String table, YearMonth month);
+
+    static String partitionName(String table, YearMonth month) {
+        return String.format("%s_p%04d_%02d", table, month.getYear(), month.getMonthValue());
+    }
+}
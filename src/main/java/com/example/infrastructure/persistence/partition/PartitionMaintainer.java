@@ -0,0 +1,171 @@
+package com.example.infrastructure.persistence.partition;
+
+import com.example.infrastructure.persistence.archive.OrderArchiver;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Keeps orders and payments partitioned by month of created_at.
+ * <p>
+ * On start it partitions the tables Hibernate created, before anything else writes to them.
+ * Every day it makes sure the current month and the next {@code monthsAhead} exist and, with a
+ * retention, drops the months that fell out of it: a catalog operation on PostgreSQL instead of
+ * a delete that bloats the table and its indexes. Order items have no created_at and are deleted
+ * with their orders; payments are never older than their order, so dropping orders first leaves
+ * no payment behind once its own month goes.
+ * <p>
+ * Only settled months go: a month of orders still holding a pending or confirmed order is kept,
+ * and so is a month of payments whose orders are still there. With the order archive enabled, the
+ * month's completed orders are archived before it is dropped instead of being deleted.
+ */
+@Slf4j
+public class PartitionMaintainer implements SmartLifecycle {
+
+    private static final List<String> TABLES = List.of("orders", "payments");
+
+    private final PartitionDialect dialect;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PartitioningProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final OrderArchiver archiver;
+    private volatile boolean running;
+
+    /**
+     * @param archiver the order archiver, or null when the archive is disabled
+     */
+    public PartitionMaintainer(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                               PartitioningProperties properties, MeterRegistry meterRegistry, boolean postgres,
+                               OrderArchiver archiver) {
+        this.dialect = postgres ? new PostgresPartitionDialect(jdbcTemplate) : new H2PartitionDialect(jdbcTemplate);
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.archiver = archiver;
+    }
+
+    @Override
+    public void start() {
+        YearMonth current = YearMonth.now();
+        for (String table : TABLES) {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!dialect.isPartitioned(table)) {
+                    dialect.partition(table, current, current.plusMonths(properties.getMonthsAhead()));
+                }
+            });
+        }
+        maintain();
+        running = true;
+    }
+
+    @Scheduled(cron = "${app.partitioning.cron:0 15 2 * * *}")
+    public void maintain() {
+        YearMonth current = YearMonth.now();
+        for (String table : TABLES) {
+            Set<YearMonth> existing = dialect.partitions(table);
+            for (int i = 0; i <= properties.getMonthsAhead(); i++) {
+                YearMonth month = current.plusMonths(i);
+                if (!existing.contains(month)) {
+                    createPartition(table, month);
+                }
+            }
+        }
+        if (properties.getRetentionMonths() > 0) {
+            YearMonth oldestKept = current.minusMonths(properties.getRetentionMonths());
+            for (String table : TABLES) {
+                for (YearMonth month : partitions(table)) {
+                    if (month.isBefore(oldestKept)) {
+                        dropPartition(table, month);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Months that have a partition, oldest first.
+     */
+    public Set<YearMonth> partitions(String table) {
+        return new TreeSet<>(dialect.partitions(table));
+    }
+
+    public void createPartition(String table, YearMonth month) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> dialect.create(table, month));
+            meterRegistry.counter("db.partitions.created", "table", table).increment();
+            log.info("Created partition {}", PartitionDialect.partitionName(table, month));
+        } catch (RuntimeException e) {
+            log.error("Failed to create partition {}", PartitionDialect.partitionName(table, month), e);
+        }
+    }
+
+    /**
+     * Drops the month unless it still holds live rows, and returns whether it did.
+     */
+    public boolean dropPartition(String table, YearMonth month) {
+        String partition = PartitionDialect.partitionName(table, month);
+        // The range predicate lets PostgreSQL read only the partition being dropped
+        Timestamp from = Timestamp.valueOf(month.atDay(1).atStartOfDay());
+        Timestamp to = Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay());
+        if (table.equals("orders") && archiver != null) {
+            archiver.archiveCreatedBetween(from.toLocalDateTime(), to.toLocalDateTime());
+        }
+        String blocker = transactionTemplate.execute(status -> {
+            if (table.equals("orders")) {
+                Long open = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders WHERE created_at >= ? AND created_at < ? "
+                        + "AND status NOT IN ('COMPLETED', 'CANCELLED')", Long.class, from, to);
+                if (open != null && open > 0) {
+                    return open + " orders not yet completed or cancelled";
+                }
+                String ids = "SELECT id FROM orders WHERE created_at >= ? AND created_at < ?";
+                jdbcTemplate.update("DELETE FROM payments WHERE order_id IN (" + ids + ")", from, to);
+                jdbcTemplate.update("DELETE FROM order_items WHERE order_id IN (" + ids + ")", from, to);
+            } else {
+                Long kept = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " t WHERE t.created_at >= ? "
+                        + "AND t.created_at < ? AND EXISTS (SELECT 1 FROM orders o WHERE o.id = t.order_id)", Long.class, from, to);
+                if (kept != null && kept > 0) {
+                    return kept + " rows whose orders are kept";
+                }
+            }
+            dialect.drop(table, month);
+            return null;
+        });
+        if (blocker != null) {
+            meterRegistry.counter("db.partitions.drop.refused", "table", table).increment();
+            log.warn("Kept partition {} past retention: {}", partition, blocker);
+            return false;
+        }
+        meterRegistry.counter("db.partitions.dropped", "table", table).increment();
+        log.info("Dropped partition {}", partition);
+        return true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Before the write-behind engine (phase 0) replays its log into the tables.
+     */
+    @Override
+    public int getPhase() {
+        return -100;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.infrastructure.persistence.partition;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for monthly range partitioning of the orders and payments tables by created_at.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.partitioning")
+public class PartitioningProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * Partitions kept ready beyond the current month, so inserts never wait on DDL.
+     */
+    private int monthsAhead = 3;
+
+    /**
+     * Full months kept before the current one; older partitions are dropped with their rows once
+     * every order in them is completed or cancelled. Zero keeps everything. With the order archive
+     * enabled, completed orders are archived before their month is dropped.
+     */
+    private int retentionMonths = 0;
+}
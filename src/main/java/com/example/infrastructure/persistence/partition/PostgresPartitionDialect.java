@@ -0,0 +1,197 @@
+package com.example.infrastructure.persistence.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Declarative partitioning ({@code PARTITION BY RANGE (created_at)}) on PostgreSQL.
+ * <p>
+ * Hibernate creates plain tables, so {@link #partition} rebuilds one in place: the old table is
+ * renamed, a partitioned table with the same columns, defaults and checks takes its name, and the
+ * rows are copied over. PostgreSQL requires every unique index of a partitioned table to contain
+ * the partition key, so the primary key becomes {@code (id, created_at)}; ids still come from one
+ * sequence. What the partitioned table can no longer enforce moves to a plain {@code <table>_keys}
+ * table kept in step by a trigger:
+ * <ul>
+ *   <li>it holds every row's id and unique columns such as order_number, with their unique
+ *       constraints, so a duplicate insert still fails,</li>
+ *   <li>foreign keys that pointed at the table point at its id instead, so orphans still fail.</li>
+ * </ul>
+ * Dropping a partition fires no row triggers, so {@link #drop} removes its keys itself.
+ * A default partition catches rows outside the prepared months instead of failing the insert.
+ */
+@Slf4j
+class PostgresPartitionDialect implements PartitionDialect {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    PostgresPartitionDialect(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean isPartitioned(String table) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pg_partitioned_table pt "
+                + "JOIN pg_class c ON c.oid = pt.partrelid WHERE c.relname = ? AND pg_table_is_visible(c.oid)",
+                Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    @Override
+    public void partition(String table, YearMonth first, YearMonth last) {
+        String legacy = table + "_unpartitioned";
+        String sequence = table + "_id_seq";
+        String keys = keysTable(table);
+
+        // Re-pointed at the keys table once it is filled
+        List<Map<String, Object>> references = jdbcTemplate.queryForList("SELECT conrelid::regclass::text AS source, "
+                + "quote_ident(conname) AS name, pg_get_constraintdef(oid) AS definition "
+                + "FROM pg_constraint WHERE contype = 'f' AND confrelid = ?::regclass", table);
+        for (Map<String, Object> reference : references) {
+            jdbcTemplate.execute("ALTER TABLE " + reference.get("source") + " DROP CONSTRAINT " + reference.get("name"));
+        }
+        // Unique constraints and plain unique indexes on columns; the primary key stays on the table
+        List<String> uniqueColumns = jdbcTemplate.queryForList("SELECT string_agg(quote_ident(a.attname), ', ' "
+                + "ORDER BY array_position(i.indkey::int2[], a.attnum)) FROM pg_index i "
+                + "JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = ANY(i.indkey) "
+                + "WHERE i.indrelid = ?::regclass AND i.indisunique AND NOT i.indisprimary "
+                + "AND i.indexprs IS NULL AND i.indpred IS NULL GROUP BY i.indexrelid",
+                String.class, table);
+        List<Map<String, Object>> keyColumns = jdbcTemplate.queryForList("SELECT DISTINCT quote_ident(a.attname) AS name, "
+                + "format_type(a.atttypid, a.atttypmod) AS type FROM pg_index i "
+                + "JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = ANY(i.indkey) "
+                + "WHERE i.indrelid = ?::regclass AND i.indisunique AND NOT i.indisprimary "
+                + "AND i.indexprs IS NULL AND i.indpred IS NULL", table);
+        List<String> foreignKeys = jdbcTemplate.queryForList("SELECT 'CONSTRAINT ' || quote_ident(conname) || ' ' "
+                + "|| pg_get_constraintdef(oid) FROM pg_constraint WHERE contype = 'f' AND conrelid = ?::regclass",
+                String.class, table);
+        // Unique and foreign key columns keep a plain index for lookups on the table itself
+        List<String> indexColumns = jdbcTemplate.queryForList("SELECT string_agg(quote_ident(a.attname), ', ' "
+                + "ORDER BY array_position(i.indkey::int2[], a.attnum)) FROM pg_index i "
+                + "JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = ANY(i.indkey) "
+                + "WHERE i.indrelid = ?::regclass AND NOT i.indisprimary GROUP BY i.indexrelid "
+                + "UNION SELECT string_agg(quote_ident(a.attname), ', ' ORDER BY array_position(c.conkey, a.attnum)) "
+                + "FROM pg_constraint c JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY(c.conkey) "
+                + "WHERE c.conrelid = ?::regclass AND c.contype = 'f' GROUP BY c.oid",
+                String.class, table, table);
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM " + table, Timestamp.class);
+        if (oldest != null) {
+            YearMonth oldestMonth = YearMonth.from(oldest.toLocalDateTime());
+            first = oldestMonth.isBefore(first) ? oldestMonth : first;
+        }
+
+        jdbcTemplate.execute("ALTER TABLE " + table + " RENAME TO " + legacy);
+        // Identity columns are not allowed on partitioned tables before PostgreSQL 17
+        jdbcTemplate.execute("ALTER TABLE " + legacy + " ALTER COLUMN id DROP IDENTITY IF EXISTS");
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + sequence);
+        jdbcTemplate.queryForObject("SELECT setval(?::regclass, ?, false)", Long.class, sequence, maxId + 1);
+
+        jdbcTemplate.execute("CREATE TABLE " + table + " (LIKE " + legacy + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS) "
+                + "PARTITION BY RANGE (created_at)");
+        jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id SET DEFAULT nextval('" + sequence + "')");
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " OWNED BY " + table + ".id");
+        jdbcTemplate.execute("ALTER TABLE " + table + " ADD PRIMARY KEY (id, created_at)");
+        for (String columns : indexColumns) {
+            jdbcTemplate.execute("CREATE INDEX ON " + table + " (" + columns + ")");
+        }
+        for (String foreignKey : foreignKeys) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ADD " + foreignKey);
+        }
+        if (!references.isEmpty() || !uniqueColumns.isEmpty()) {
+            createKeys(table, keyColumns, uniqueColumns);
+        }
+
+        jdbcTemplate.execute("CREATE TABLE " + table + "_default PARTITION OF " + table + " DEFAULT");
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            create(table, month);
+        }
+        int copied = jdbcTemplate.update("INSERT INTO " + table + " SELECT * FROM " + legacy);
+        jdbcTemplate.execute("DROP TABLE " + legacy);
+        for (Map<String, Object> reference : references) {
+            String definition = ((String) reference.get("definition"))
+                    .replaceFirst("REFERENCES " + Pattern.quote(table) + "\\(", "REFERENCES " + keys + "(");
+            jdbcTemplate.execute("ALTER TABLE " + reference.get("source") + " ADD CONSTRAINT " + reference.get("name")
+                    + " " + definition);
+            log.info("Foreign key {} on {} now references {}", reference.get("name"), reference.get("source"), keys);
+        }
+        log.info("Partitioned {} by month from {} to {}, {} rows copied", table, first, last, copied);
+    }
+
+    /**
+     * Creates {@code <table>_keys} with the table's id as primary key and its unique columns under
+     * the same unique constraints, and the trigger that mirrors every insert, update and delete
+     * into it. The trigger fires per row on the partitioned table, so rows copied in afterwards
+     * are checked too.
+     */
+    private void createKeys(String table, List<Map<String, Object>> keyColumns, List<String> uniqueColumns) {
+        String keys = keysTable(table);
+        StringBuilder definition = new StringBuilder("id BIGINT PRIMARY KEY");
+        StringBuilder insertColumns = new StringBuilder("id");
+        StringBuilder insertValues = new StringBuilder("NEW.id");
+        StringBuilder assignments = new StringBuilder("id = NEW.id");
+        for (Map<String, Object> column : keyColumns) {
+            String name = (String) column.get("name");
+            definition.append(", ").append(name).append(' ').append(column.get("type"));
+            insertColumns.append(", ").append(name);
+            insertValues.append(", NEW.").append(name);
+            assignments.append(", ").append(name).append(" = NEW.").append(name);
+        }
+        for (String columns : uniqueColumns) {
+            definition.append(", UNIQUE (").append(columns).append(')');
+        }
+        jdbcTemplate.execute("CREATE TABLE " + keys + " (" + definition + ")");
+        jdbcTemplate.execute("CREATE OR REPLACE FUNCTION " + keys + "_sync() RETURNS trigger LANGUAGE plpgsql AS $$ BEGIN "
+                + "IF TG_OP = 'DELETE' THEN DELETE FROM " + keys + " WHERE id = OLD.id; RETURN OLD; END IF; "
+                + "IF TG_OP = 'UPDATE' THEN UPDATE " + keys + " SET " + assignments + " WHERE id = OLD.id; RETURN NEW; END IF; "
+                + "INSERT INTO " + keys + " (" + insertColumns + ") VALUES (" + insertValues + "); RETURN NEW; END $$");
+        jdbcTemplate.execute("CREATE TRIGGER " + keys + "_sync AFTER INSERT OR UPDATE OR DELETE ON " + table
+                + " FOR EACH ROW EXECUTE FUNCTION " + keys + "_sync()");
+    }
+
+    private static String keysTable(String table) {
+        return table + "_keys";
+    }
+
+    @Override
+    public Set<YearMonth> partitions(String table) {
+        Pattern name = Pattern.compile(Pattern.quote(table) + "_p(\\d{4})_(\\d{2})");
+        Set<YearMonth> months = new HashSet<>();
+        for (String partition : jdbcTemplate.queryForList("SELECT c.relname FROM pg_inherits i "
+                + "JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = ?::regclass", String.class, table)) {
+            Matcher matcher = name.matcher(partition);
+            if (matcher.matches()) {
+                months.add(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+            }
+        }
+        return months;
+    }
+
+    @Override
+    public void create(String table, YearMonth month) {
+        // Fails if the default partition already holds rows of the month; it is then left as is
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + PartitionDialect.partitionName(table, month)
+                + " PARTITION OF " + table + " FOR VALUES FROM ('" + month.atDay(1).atStartOfDay()
+                + "') TO ('" + month.plusMonths(1).atDay(1).atStartOfDay() + "')");
+    }
+
+    @Override
+    public void drop(String table, YearMonth month) {
+        String partition = PartitionDialect.partitionName(table, month);
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, keysTable(table)))) {
+            // Fails on a foreign key if rows of other tables still refer to the month
+            jdbcTemplate.update("DELETE FROM " + keysTable(table) + " WHERE id IN (SELECT id FROM " + partition + ")");
+        }
+        jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition);
+        jdbcTemplate.execute("DROP TABLE " + partition);
+    }
+}
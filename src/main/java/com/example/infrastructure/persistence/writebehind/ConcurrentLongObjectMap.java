@@ -0,0 +1,228 @@
+package com.example.infrastructure.persistence.writebehind;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Concurrent hash map from positive {@code long} keys to objects, without boxing keys.
+ * <p>
+ * Keys are spread over lock-striped segments, each an open-addressing table of parallel
+ * {@code long[]} / {@code Object[]} arrays with linear probing, so a lookup touches two arrays
+ * instead of a chain of node objects and creates no garbage. Zero marks a free slot and cannot
+ * be used as a key.
+ */
+class ConcurrentLongObjectMap<V> {
+
+    private static final int SEGMENTS = 64;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private final Segment<V>[] segments;
+
+    @SuppressWarnings("unchecked")
+    ConcurrentLongObjectMap(int expectedSize) {
+        segments = new Segment[SEGMENTS];
+        int perSegment = Math.max(8, expectedSize / SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment<>(perSegment);
+        }
+    }
+
+    V get(long key) {
+        return segment(key).get(key);
+    }
+
+    V put(long key, V value) {
+        if (key <= 0) {
+            throw new IllegalArgumentException("Keys must be positive: " + key);
+        }
+        if (value == null) {
+            throw new NullPointerException("Value cannot be null");
+        }
+        return segment(key).put(key, value);
+    }
+
+    V remove(long key) {
+        return segment(key).remove(key);
+    }
+
+    boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    int size() {
+        int size = 0;
+        for (Segment<V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Point-in-time copy of the values of each segment; not atomic across segments.
+     */
+    List<V> values() {
+        List<V> values = new ArrayList<>();
+        for (Segment<V> segment : segments) {
+            segment.collect(values);
+        }
+        return values;
+    }
+
+    private Segment<V> segment(long key) {
+        return segments[(int) (mix(key) >>> 58)];
+    }
+
+    static long mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 32);
+    }
+
+    private static final class Segment<V> {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private long[] keys;
+        private Object[] values;
+        private int size;
+
+        Segment(int expectedSize) {
+            int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / LOAD_FACTOR)) * 2 - 1);
+            keys = new long[capacity];
+            values = new Object[capacity];
+        }
+
+        @SuppressWarnings("unchecked")
+        V get(long key) {
+            lock.readLock().lock();
+            try {
+                int mask = keys.length - 1;
+                for (int i = slot(key, mask); ; i = (i + 1) & mask) {
+                    long current = keys[i];
+                    if (current == key) {
+                        return (V) values[i];
+                    }
+                    if (current == 0) {
+                        return null;
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        V put(long key, V value) {
+            lock.writeLock().lock();
+            try {
+                if (size + 1 > keys.length * LOAD_FACTOR) {
+                    resize();
+                }
+                int mask = keys.length - 1;
+                for (int i = slot(key, mask); ; i = (i + 1) & mask) {
+                    if (keys[i] == key) {
+                        V previous = (V) values[i];
+                        values[i] = value;
+                        return previous;
+                    }
+                    if (keys[i] == 0) {
+                        keys[i] = key;
+                        values[i] = value;
+                        size++;
+                        return null;
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        V remove(long key) {
+            lock.writeLock().lock();
+            try {
+                int mask = keys.length - 1;
+                int i = slot(key, mask);
+                while (keys[i] != key) {
+                    if (keys[i] == 0) {
+                        return null;
+                    }
+                    i = (i + 1) & mask;
+                }
+                V previous = (V) values[i];
+                shiftBack(i, mask);
+                size--;
+                return previous;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return size;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        void collect(List<V> target) {
+            lock.readLock().lock();
+            try {
+                for (int i = 0; i < keys.length; i++) {
+                    if (keys[i] != 0) {
+                        target.add((V) values[i]);
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * Backward-shift deletion: moves later entries of the probe run into the gap, so lookups
+         * never need tombstones.
+         */
+        private void shiftBack(int gap, int mask) {
+            int i = gap;
+            while (true) {
+                i = (i + 1) & mask;
+                long key = keys[i];
+                if (key == 0) {
+                    break;
+                }
+                int home = slot(key, mask);
+                // Move the entry if its home slot is not between the gap and its position (cyclically)
+                if (gap <= i ? (home <= gap || home > i) : (home <= gap && home > i)) {
+                    keys[gap] = key;
+                    values[gap] = values[i];
+                    gap = i;
+                }
+            }
+            keys[gap] = 0;
+            values[gap] = null;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            Object[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new Object[oldKeys.length * 2];
+            int mask = keys.length - 1;
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (oldKeys[j] != 0) {
+                    int i = slot(oldKeys[j], mask);
+                    while (keys[i] != 0) {
+                        i = (i + 1) & mask;
+                    }
+                    keys[i] = oldKeys[j];
+                    values[i] = oldValues[j];
+                }
+            }
+        }
+
+        private static int slot(long key, int mask) {
+            return (int) mix(key) & mask;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.infrastructure.persistence.writebehind;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Acknowledged orders the database refused to insert, one file per order next to the
+ * write-ahead log. An order is forced to disk here before the log is checkpointed past it, so
+ * it can still be inspected and entered again by hand instead of being lost.
+ */
+class OrderDeadLetters {
+
+    private static final String FILE_PREFIX = "order-";
+    private static final String FILE_SUFFIX = ".dead";
+    /** writeUTF takes at most 64 KB; database messages are far shorter in practice. */
+    private static final int MAX_REASON_LENGTH = 4096;
+
+    private final Path directory;
+
+    OrderDeadLetters(Path directory) {
+        this.directory = directory;
+    }
+
+    void add(OrderSnapshot snapshot, String reason) throws IOException {
+        Files.createDirectories(directory);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        DataOutputStream out = new DataOutputStream(bytes);
+        String message = reason != null ? reason : "";
+        out.writeUTF(message.length() > MAX_REASON_LENGTH ? message.substring(0, MAX_REASON_LENGTH) : message);
+        snapshot.writeTo(out);
+
+        Path temp = directory.resolve(FILE_PREFIX + snapshot.id() + FILE_SUFFIX + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, directory.resolve(FILE_PREFIX + snapshot.id() + FILE_SUFFIX),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Every dead letter, by order id.
+     */
+    List<Entry> list() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        List<Path> files;
+        try (Stream<Path> paths = Files.list(directory)) {
+            files = paths.filter(path -> path.getFileName().toString().endsWith(FILE_SUFFIX)).toList();
+        }
+        List<Entry> entries = new ArrayList<>(files.size());
+        for (Path file : files) {
+            try (InputStream in = Files.newInputStream(file)) {
+                DataInputStream data = new DataInputStream(in);
+                String reason = data.readUTF();
+                entries.add(new Entry(reason, OrderSnapshot.readFrom(data)));
+            }
+        }
+        entries.sort(Comparator.comparingLong(entry -> entry.snapshot().id()));
+        return entries;
+    }
+
+    record Entry(String reason, OrderSnapshot snapshot) {
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.infrastructure.persistence.writebehind;
+
+import com.example.domain.Order;
+import com.example.dto.OrderDto;
+import com.example.dto.OrderItemDto;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable copy of an order accepted by the write-behind engine but possibly not yet in the
+ * database. It is what the write-ahead log stores and what reads of unflushed orders return.
+ */
+record OrderSnapshot(long id, String orderNumber, long memberId, String memberName, BigDecimal totalAmount,
+                     LocalDateTime createdAt, List<Item> items) {
+
+    record Item(String productName, String productDescription, int quantity, BigDecimal unitPrice,
+                BigDecimal totalPrice) {
+    }
+
+    OrderDto toDto() {
+        return OrderDto.builder()
+                .id(id)
+                .orderNumber(orderNumber)
+                .memberId(memberId)
+                .memberName(memberName)
+                .totalAmount(totalAmount)
+                .status(Order.OrderStatus.PENDING)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .orderItems(items.stream()
+                        .map(item -> OrderItemDto.builder()
+                                .productName(item.productName())
+                                .productDescription(item.productDescription())
+                                .quantity(item.quantity())
+                                .unitPrice(item.unitPrice())
+                                .totalPrice(item.totalPrice())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeLong(id);
+        out.writeUTF(orderNumber);
+        out.writeLong(memberId);
+        out.writeUTF(memberName != null ? memberName : "");
+        out.writeUTF(totalAmount.toPlainString());
+        out.writeUTF(createdAt.toString());
+        out.writeInt(items.size());
+        for (Item item : items) {
+            out.writeUTF(item.productName());
+            out.writeUTF(item.productDescription());
+            out.writeInt(item.quantity());
+            out.writeUTF(item.unitPrice().toPlainString());
+            out.writeUTF(item.totalPrice().toPlainString());
+        }
+    }
+
+    static OrderSnapshot readFrom(DataInput in) throws IOException {
+        long id = in.readLong();
+        String orderNumber = in.readUTF();
+        long memberId = in.readLong();
+        String memberName = in.readUTF();
+        BigDecimal totalAmount = new BigDecimal(in.readUTF());
+        LocalDateTime createdAt = LocalDateTime.parse(in.readUTF());
+        int count = in.readInt();
+        List<Item> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(new Item(in.readUTF(), in.readUTF(), in.readInt(),
+                    new BigDecimal(in.readUTF()), new BigDecimal(in.readUTF())));
+        }
+        return new OrderSnapshot(id, orderNumber, memberId, memberName.isEmpty() ? null : memberName,
+                totalAmount, createdAt, List.copyOf(items));
+    }
+}
@@ -0,0 +1,253 @@
+package com.example.infrastructure.persistence.writebehind;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of accepted orders, split into numbered segment files.
+ * <p>
+ * Each record is {@code [length][crc32c][sequence][order]}. A checkpoint file holds the highest
+ * sequence known to be in the database; segments entirely below it are deleted. On open, records
+ * after the checkpoint are replayed and a torn record at the end of a segment, left by a crash
+ * mid-write, is cut off.
+ * <p>
+ * With {@code syncOnAppend}, {@link #sync} forces the log to disk before a write is acknowledged;
+ * concurrent writers share one force (group commit). Without it, records survive a process crash
+ * but not a power loss.
+ */
+@Slf4j
+class OrderWriteAheadLog implements Closeable {
+
+    private static final String SEGMENT_PREFIX = "orders-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final int HEADER_BYTES = 8;
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final boolean syncOnAppend;
+    private final Object syncLock = new Object();
+
+    private FileChannel current;
+    private long lastSequence;
+    private long checkpointSequence;
+    private volatile long durableSequence;
+
+    OrderWriteAheadLog(Path directory, long segmentBytes, boolean syncOnAppend) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.syncOnAppend = syncOnAppend;
+    }
+
+    /**
+     * Replays every record after the checkpoint, oldest first, then opens the log for appending.
+     */
+    synchronized void open(Consumer<Entry> recovered) throws IOException {
+        Files.createDirectories(directory);
+        Path checkpoint = directory.resolve(CHECKPOINT_FILE);
+        checkpointSequence = Files.exists(checkpoint)
+                ? Long.parseLong(Files.readString(checkpoint, StandardCharsets.UTF_8).trim()) : 0;
+        lastSequence = checkpointSequence;
+
+        List<Path> segments = segments();
+        for (Path segment : segments) {
+            replay(segment, recovered);
+        }
+
+        Path last = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        if (last != null && Files.size(last) < segmentBytes) {
+            current = FileChannel.open(last, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } else {
+            current = openSegment(lastSequence + 1);
+        }
+        durableSequence = lastSequence;
+    }
+
+    /**
+     * Appends the order and returns its sequence; call {@link #sync} before acknowledging it.
+     */
+    synchronized long append(OrderSnapshot snapshot) throws IOException {
+        if (current == null) {
+            throw new IllegalStateException("Write-ahead log is not open");
+        }
+        long sequence = lastSequence + 1;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeLong(sequence);
+        snapshot.writeTo(out);
+        byte[] payload = bytes.toByteArray();
+
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + payload.length)
+                .putInt(payload.length)
+                .putInt((int) crc.getValue())
+                .put(payload)
+                .flip();
+        if (current.size() >= segmentBytes) {
+            current.force(false);
+            current.close();
+            current = openSegment(sequence);
+        }
+        while (record.hasRemaining()) {
+            current.write(record);
+        }
+        lastSequence = sequence;
+        return sequence;
+    }
+
+    /**
+     * Makes every record up to the sequence durable, sharing one force among concurrent callers.
+     */
+    void sync(long sequence) throws IOException {
+        if (!syncOnAppend || durableSequence >= sequence) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (durableSequence >= sequence) {
+                return;
+            }
+            long target;
+            FileChannel channel;
+            synchronized (this) {
+                target = lastSequence;
+                channel = current;
+            }
+            try {
+                channel.force(false);
+            } catch (ClosedChannelException e) {
+                // Rolled over meanwhile; the old segment was forced before it was closed
+            }
+            durableSequence = target;
+        }
+    }
+
+    /**
+     * Records that every order up to the sequence is in the database and deletes the segments
+     * that hold nothing newer.
+     */
+    synchronized void checkpoint(long sequence) throws IOException {
+        if (sequence <= checkpointSequence) {
+            return;
+        }
+        Path temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        Files.writeString(temp, Long.toString(sequence), StandardCharsets.UTF_8);
+        Files.move(temp, directory.resolve(CHECKPOINT_FILE),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        checkpointSequence = sequence;
+
+        List<Path> segments = segments();
+        for (int i = 0; i < segments.size() - 1; i++) {
+            // A segment ends right before the next one starts
+            if (firstSequence(segments.get(i + 1)) - 1 <= sequence) {
+                Files.deleteIfExists(segments.get(i));
+            }
+        }
+    }
+
+    synchronized long getLastSequence() {
+        return lastSequence;
+    }
+
+    synchronized long getCheckpointSequence() {
+        return checkpointSequence;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (current != null) {
+            current.force(false);
+            current.close();
+            current = null;
+        }
+    }
+
+    private void replay(Path segment, Consumer<Entry> recovered) throws IOException {
+        long validBytes = 0;
+        try (InputStream file = Files.newInputStream(segment);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(file, 64 * 1024))) {
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                int expectedCrc = in.readInt();
+                if (length <= 0 || length > segmentBytes + HEADER_BYTES) {
+                    throw new EOFException("Invalid record length " + length);
+                }
+                byte[] payload = in.readNBytes(length);
+                if (payload.length < length) {
+                    throw new EOFException("Truncated record");
+                }
+                CRC32C crc = new CRC32C();
+                crc.update(payload);
+                if ((int) crc.getValue() != expectedCrc) {
+                    throw new EOFException("Checksum mismatch");
+                }
+                DataInputStream record = new DataInputStream(new ByteArrayInputStream(payload));
+                long sequence = record.readLong();
+                OrderSnapshot snapshot = OrderSnapshot.readFrom(record);
+                validBytes += HEADER_BYTES + length;
+                lastSequence = Math.max(lastSequence, sequence);
+                if (sequence > checkpointSequence) {
+                    recovered.accept(new Entry(sequence, snapshot));
+                }
+            }
+        } catch (EOFException e) {
+            log.warn("Cutting off torn write-ahead log record in {} at byte {}: {}", segment.getFileName(), validBytes, e.getMessage());
+        }
+        if (Files.size(segment) > validBytes) {
+            // Also covers a header cut off before its length was complete
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                channel.truncate(validBytes);
+            }
+        }
+    }
+
+    private FileChannel openSegment(long firstSequence) throws IOException {
+        Path segment = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+        return FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long firstSequence(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    record Entry(long sequence, OrderSnapshot snapshot) {
+    }
+}
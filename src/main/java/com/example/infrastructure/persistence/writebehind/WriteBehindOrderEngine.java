@@ -0,0 +1,450 @@
+package com.example.infrastructure.persistence.writebehind;
+
+import com.example.domain.event.DomainEventPublisher;
+import com.example.domain.event.OrderEvents;
+import com.example.infrastructure.datasource.shard.Shard;
+import com.example.infrastructure.datasource.shard.ShardContext;
+import com.example.infrastructure.datasource.shard.ShardRouter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Order persistence that acknowledges an order once it is in the local write-ahead log and
+ * inserts it into the database later, in batches.
+ * <p>
+ * Creating an order allocates its id from an in-process counter, appends it to the log and
+ * keeps it in memory until a background thread has inserted it, so the request path makes no
+ * database round trip. Unflushed orders are served from memory by id and order number; anything
+ * that reads orders through JPA first flushes what it needs (see {@link WriteBehindReadBarrier}).
+ * On start-up the log is replayed and orders missing from the database are inserted, so a crash
+ * loses nothing that was acknowledged. An order the database refuses is moved to the dead
+ * letters ({@link OrderDeadLetters}) before the log is checkpointed past it.
+ * <p>
+ * Ids are only unique while this engine is the sole writer of orders; on shutdown the identity
+ * column is moved past the last id so the JPA engine can take over.
+ * <p>
+ * With sharding, an order takes its id from the range of its member's shard and is inserted
+ * there, holding the member's routing lock so the member cannot move to another shard meanwhile.
+ */
+@Slf4j
+public class WriteBehindOrderEngine implements SmartLifecycle {
+
+    private static final String INSERT_ORDER = "INSERT INTO orders "
+            + "(id, order_number, member_id, total_amount, status, created_at, updated_at, version) "
+            + "VALUES (?, ?, ?, ?, 'PENDING', ?, ?, 0)";
+    private static final String UNSHARDED = "";
+
+    private static final String INSERT_ITEM = "INSERT INTO order_items "
+            + "(order_id, product_name, product_description, quantity, unit_price, total_price) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate flushTransaction;
+    private final DomainEventPublisher eventPublisher;
+    private final WriteBehindProperties properties;
+    private final OrderWriteAheadLog wal;
+    private final OrderDeadLetters deadLetters;
+    private final ShardRouter shardRouter;
+
+    private final ConcurrentLongObjectMap<Pending> pendingById = new ConcurrentLongObjectMap<>(4096);
+    private final Map<String, Long> pendingIdsByNumber = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Pending> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final Map<String, AtomicLong> nextIds = new ConcurrentHashMap<>();
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private volatile long lastQueuedSequence;
+    private volatile boolean running;
+    private Thread flusher;
+
+    private final Timer appendTimer;
+    private final Counter flushedCounter;
+    private final Counter rejectedCounter;
+
+    /**
+     * @param shardRouter the shard router, or null without sharding
+     */
+    public WriteBehindOrderEngine(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                  DomainEventPublisher eventPublisher, WriteBehindProperties properties,
+                                  MeterRegistry meterRegistry, ShardRouter shardRouter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+        // Flushes may be triggered from inside a caller's transaction and must commit on their own
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+        this.flushTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.wal = new OrderWriteAheadLog(Path.of(properties.getWalDirectory()),
+                properties.getSegmentBytes(), properties.isSyncOnAppend());
+        this.deadLetters = new OrderDeadLetters(Path.of(properties.getWalDirectory()).resolve("dead-letter"));
+
+        this.appendTimer = Timer.builder("orders.writebehind.append")
+                .description("Time to accept an order into the write-ahead log")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.flushedCounter = meterRegistry.counter("orders.writebehind.flushed");
+        this.rejectedCounter = meterRegistry.counter("orders.writebehind.rejected");
+        Gauge.builder("orders.writebehind.pending", pendingCount, AtomicInteger::get)
+                .description("Orders accepted but not yet in the database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Accepts a new order and returns it with its id once it is in the write-ahead log.
+     */
+    public OrderSnapshot create(String orderNumber, long memberId, String memberName, BigDecimal totalAmount,
+                                List<OrderSnapshot.Item> items) {
+        if (!running) {
+            throw new IllegalStateException("Write-behind order engine is not running");
+        }
+        if (pendingCount.get() >= properties.getMaxPendingOrders()) {
+            // Back pressure: the caller helps the database catch up instead of growing memory
+            flushPending();
+        }
+        long startNanos = System.nanoTime();
+        OrderSnapshot snapshot;
+        long sequence;
+        appendLock.lock();
+        try {
+            long id = nextIds.get(shardRouter != null ? shardRouter.ownerOf(memberId) : UNSHARDED).getAndIncrement();
+            snapshot = new OrderSnapshot(id, orderNumber, memberId, memberName,
+                    totalAmount, LocalDateTime.now(), List.copyOf(items));
+            sequence = wal.append(snapshot);
+            enqueue(new Pending(sequence, snapshot));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append order to the write-ahead log", e);
+        } finally {
+            appendLock.unlock();
+        }
+        try {
+            wal.sync(sequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to sync the write-ahead log", e);
+        }
+        appendTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        if (pendingCount.get() >= properties.getBatchSize()) {
+            LockSupport.unpark(flusher);
+        }
+        return snapshot;
+    }
+
+    public Optional<OrderSnapshot> findPending(long id) {
+        Pending pending = pendingById.get(id);
+        return pending != null ? Optional.of(pending.snapshot()) : Optional.empty();
+    }
+
+    public Optional<OrderSnapshot> findPendingByOrderNumber(String orderNumber) {
+        Long id = pendingIdsByNumber.get(orderNumber);
+        return id != null ? findPending(id) : Optional.empty();
+    }
+
+    public boolean isPending(long id) {
+        return pendingById.containsKey(id);
+    }
+
+    public boolean hasPending() {
+        return pendingCount.get() > 0;
+    }
+
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * Inserts every order accepted so far and returns once they are committed.
+     * Orders accepted while this runs are left to the next flush.
+     */
+    public void flushPending() {
+        flushLock.lock();
+        try {
+            long target = lastQueuedSequence;
+            while (true) {
+                List<Pending> batch = new ArrayList<>(properties.getBatchSize());
+                Iterator<Pending> iterator = queue.iterator();
+                while (batch.size() < properties.getBatchSize() && iterator.hasNext()) {
+                    Pending next = iterator.next();
+                    if (next.sequence() > target) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                if (batch.isEmpty()) {
+                    return;
+                }
+                write(batch);
+                for (Pending flushed : batch) {
+                    queue.poll();
+                    pendingById.remove(flushed.snapshot().id());
+                    pendingIdsByNumber.remove(flushed.snapshot().orderNumber());
+                    pendingCount.decrementAndGet();
+                }
+                checkpoint(batch.get(batch.size() - 1).sequence());
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void enqueue(Pending pending) {
+        pendingById.put(pending.snapshot().id(), pending);
+        pendingIdsByNumber.put(pending.snapshot().orderNumber(), pending.snapshot().id());
+        queue.add(pending);
+        pendingCount.incrementAndGet();
+        lastQueuedSequence = pending.sequence();
+    }
+
+    private void write(List<Pending> batch) {
+        if (shardRouter == null) {
+            writeTo(batch);
+            return;
+        }
+        List<Lock> locks = shardRouter.routingLocks(batch.stream().map(pending -> pending.snapshot().memberId()).toList());
+        locks.forEach(Lock::lock);
+        try {
+            Map<String, List<Pending>> byShard = new LinkedHashMap<>();
+            for (Pending pending : batch) {
+                byShard.computeIfAbsent(shardRouter.ownerOf(pending.snapshot().memberId()), shard -> new ArrayList<>())
+                        .add(pending);
+            }
+            for (Map.Entry<String, List<Pending>> shard : byShard.entrySet()) {
+                // The flush transaction takes its connection from the shard in the context
+                String previous = ShardContext.enter(shard.getKey());
+                try {
+                    writeTo(shard.getValue());
+                } finally {
+                    ShardContext.restore(previous);
+                }
+            }
+        } finally {
+            locks.forEach(Lock::unlock);
+        }
+    }
+
+    private void writeTo(List<Pending> batch) {
+        try {
+            flushTransaction.executeWithoutResult(status -> insert(batch));
+            flushedCounter.increment(batch.size());
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Order batch insert failed, retrying {} orders one by one: {}", batch.size(), e.getMessage());
+            for (Pending pending : batch) {
+                try {
+                    flushTransaction.executeWithoutResult(status -> insert(List.of(pending)));
+                    flushedCounter.increment();
+                } catch (DuplicateKeyException duplicate) {
+                    // Already inserted before a crash, between the commit and the checkpoint
+                    log.debug("Order {} is already in the database", pending.snapshot().id());
+                } catch (DataIntegrityViolationException invalid) {
+                    deadLetter(pending.snapshot(), invalid);
+                }
+            }
+        }
+        // Any other failure (database unavailable, ...) propagates and leaves the batch queued
+    }
+
+    /**
+     * Fails the flush, leaving the batch queued and the log unchanged, when the dead letter
+     * cannot be written.
+     */
+    private void deadLetter(OrderSnapshot order, DataIntegrityViolationException invalid) {
+        try {
+            deadLetters.add(order, invalid.getMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to move order " + order.id() + " to the dead letters", e);
+        }
+        rejectedCounter.increment();
+        log.error("Moved order {} ({}) that cannot be inserted to the dead letters: {}",
+                order.id(), order.orderNumber(), invalid.getMessage());
+    }
+
+    /**
+     * Orders moved to the dead letters, by id.
+     */
+    List<OrderSnapshot> getDeadLetters() {
+        try {
+            return deadLetters.list().stream().map(OrderDeadLetters.Entry::snapshot).toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the order dead letters", e);
+        }
+    }
+
+    private void insert(List<Pending> batch) {
+        List<Object[]> orders = new ArrayList<>(batch.size());
+        List<Object[]> items = new ArrayList<>(batch.size() * 2);
+        for (Pending pending : batch) {
+            OrderSnapshot order = pending.snapshot();
+            Timestamp createdAt = Timestamp.valueOf(order.createdAt());
+            orders.add(new Object[]{order.id(), order.orderNumber(), order.memberId(), order.totalAmount(), createdAt, createdAt});
+            for (OrderSnapshot.Item item : order.items()) {
+                items.add(new Object[]{order.id(), item.productName(), item.productDescription(),
+                        item.quantity(), item.unitPrice(), item.totalPrice()});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_ORDER, orders);
+        jdbcTemplate.batchUpdate(INSERT_ITEM, items);
+        for (Pending pending : batch) {
+            // Delivered to after-commit listeners once this transaction commits
+            OrderSnapshot order = pending.snapshot();
+            eventPublisher.publish(new OrderEvents.OrderCreated(order.id(), order.orderNumber(), order.memberId(),
+                    order.totalAmount(), order.items().stream()
+                    .map(item -> new OrderEvents.OrderCreated.Item(item.productName(), item.quantity(), item.totalPrice()))
+                    .toList()));
+        }
+    }
+
+    private void checkpoint(long sequence) {
+        try {
+            wal.checkpoint(sequence);
+        } catch (IOException e) {
+            // Harmless: the orders are replayed on restart and recognized as already inserted
+            log.warn("Failed to checkpoint the order write-ahead log at {}: {}", sequence, e.getMessage());
+        }
+    }
+
+    private void runFlusher() {
+        long intervalNanos = properties.getFlushInterval().toNanos();
+        while (running) {
+            LockSupport.parkNanos(this, intervalNanos);
+            try {
+                flushPending();
+            } catch (RuntimeException e) {
+                log.warn("Order write-behind flush failed, {} orders stay queued: {}", pendingCount.get(), e.getMessage());
+                LockSupport.parkNanos(this, Math.max(intervalNanos, TimeUnit.SECONDS.toNanos(1)));
+            }
+        }
+    }
+
+    /**
+     * Moves the identity column of orders past the ids handed out here, so inserts through JPA
+     * do not collide with them.
+     */
+    private void releaseIds() {
+        if (shardRouter == null) {
+            releaseIds(jdbcTemplate, nextIds.get(UNSHARDED).get());
+            return;
+        }
+        for (Shard shard : shardRouter.getShards()) {
+            releaseIds(shard.jdbcTemplate(), nextIds.get(shard.name()).get());
+        }
+    }
+
+    private void releaseIds(JdbcTemplate jdbcTemplate, long next) {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if ("PostgreSQL".equalsIgnoreCase(database)) {
+            jdbcTemplate.queryForObject("SELECT setval(pg_get_serial_sequence('orders', 'id'), ?, false)", Long.class, next);
+        } else if ("H2".equalsIgnoreCase(database)) {
+            jdbcTemplate.execute("ALTER TABLE orders ALTER COLUMN id RESTART WITH " + next);
+        } else {
+            log.warn("Cannot move the orders identity past {} on {}; JPA inserts may collide", next, database);
+        }
+    }
+
+    @Override
+    public void start() {
+        List<Pending> recovered = new ArrayList<>();
+        try {
+            wal.open(entry -> recovered.add(new Pending(entry.sequence(), entry.snapshot())));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open the order write-ahead log", e);
+        }
+        if (shardRouter == null) {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM orders", Long.class);
+            nextIds.put(UNSHARDED, new AtomicLong(maxId + 1));
+        } else {
+            for (Shard shard : shardRouter.getShards()) {
+                Long maxId = shard.jdbcTemplate().queryForObject("SELECT MAX(id) FROM orders WHERE id >= ? AND id < ?",
+                        Long.class, shard.firstId(), shard.endId());
+                nextIds.put(shard.name(), new AtomicLong(maxId != null ? maxId + 1 : shard.firstId()));
+            }
+        }
+        for (Pending pending : recovered) {
+            enqueue(pending);
+            long id = pending.snapshot().id();
+            String range = shardRouter == null ? UNSHARDED : shardRouter.getShards().stream()
+                    .filter(shard -> shard.generated(id)).map(Shard::name).findFirst().orElse(null);
+            if (range != null) {
+                nextIds.get(range).accumulateAndGet(id + 1, Math::max);
+            }
+        }
+        running = true;
+
+        if (!recovered.isEmpty()) {
+            log.info("Recovering {} orders from the write-ahead log", recovered.size());
+            flushPending();
+        }
+        flusher = Thread.ofPlatform().daemon(true).name("order-write-behind").start(this::runFlusher);
+        log.info("Write-behind order engine started (next ids {}, log {})", nextIds, properties.getWalDirectory());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (flusher != null) {
+            LockSupport.unpark(flusher);
+            try {
+                flusher.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            flushPending();
+            releaseIds();
+        } catch (RuntimeException e) {
+            log.error("Failed to flush {} orders on shutdown; they are replayed on the next start", pendingCount.get(), e);
+        }
+        try {
+            wal.close();
+        } catch (IOException e) {
+            log.warn("Failed to close the order write-ahead log: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Starts before and stops after the web server, so no request sees the engine unavailable.
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    record Pending(long sequence, OrderSnapshot snapshot) {
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.infrastructure.persistence.writebehind;
+
+import com.example.application.service.OrderService;
+import com.example.domain.Member;
+import com.example.domain.OrderItem;
+import com.example.dto.OrderDto;
+import com.example.infrastructure.persistence.MemberRepository;
+import com.example.infrastructure.persistence.OrderRepository;
+import com.example.infrastructure.singleflight.SingleFlight;
+import com.example.infrastructure.singleflight.SingleFlightInvalidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link OrderService} for the write-behind engine. New orders go to the write-ahead log instead
+ * of a database transaction, and lookups by id or order number are answered from memory while the
+ * order is unflushed. Every other operation is inherited and runs through JPA as usual.
+ */
+@Slf4j
+public class WriteBehindOrderService extends OrderService {
+
+    private static final int MEMBER_NAME_CACHE_LIMIT = 100_000;
+    private static final int MAX_PRODUCT_NAME_LENGTH = 100;
+    private static final int MAX_PRODUCT_DESCRIPTION_LENGTH = 500;
+    /** Integer digits of the NUMERIC(19, 2) amount columns. */
+    private static final int MAX_AMOUNT_INTEGER_DIGITS = 17;
+
+    private final MemberRepository memberRepository;
+    private final WriteBehindOrderEngine engine;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ConcurrentLongObjectMap<String> memberNames = new ConcurrentLongObjectMap<>(1024);
+
+    public WriteBehindOrderService(OrderRepository orderRepository, MemberRepository memberRepository,
+                                   WriteBehindOrderEngine engine, PlatformTransactionManager transactionManager) {
+        super(orderRepository, memberRepository);
+        this.memberRepository = memberRepository;
+        this.engine = engine;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public OrderDto createOrder(Long memberId, List<OrderItemRequest> orderItems) {
+        log.info("Creating order for member ID: {}", memberId);
+
+        if (orderItems == null || orderItems.isEmpty()) {
+            throw new IllegalArgumentException("Order items cannot be null or empty");
+        }
+        String memberName = findMemberName(memberId);
+
+        List<OrderSnapshot.Item> items = new ArrayList<>(orderItems.size());
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        for (OrderItemRequest itemRequest : orderItems) {
+            // Same validation as the entity path
+            OrderItem orderItem = OrderItem.builder()
+                    .productName(itemRequest.getProductName())
+                    .productDescription(itemRequest.getProductDescription())
+                    .quantity(itemRequest.getQuantity())
+                    .unitPrice(itemRequest.getUnitPrice())
+                    .build();
+            checkColumnLimits(orderItem);
+            items.add(new OrderSnapshot.Item(orderItem.getProductName(), orderItem.getProductDescription(),
+                    orderItem.getQuantity(), orderItem.getUnitPrice(), orderItem.getTotalPrice()));
+            totalAmount = totalAmount.add(orderItem.getTotalPrice());
+        }
+        checkAmount("Order total", totalAmount);
+
+        OrderSnapshot order = engine.create(generateOrderNumber(), memberId, memberName, totalAmount, items);
+        log.info("Order accepted with ID: {} and order number: {}", order.id(), order.orderNumber());
+        return order.toDto();
+    }
+
+    @Override
+    @SingleFlight(SingleFlightInvalidator.ORDERS)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<OrderDto> getOrderById(Long id) {
+        Optional<OrderSnapshot> pending = engine.findPending(id);
+        if (pending.isPresent()) {
+            return pending.map(OrderSnapshot::toDto);
+        }
+        return readOnlyTransaction.execute(status -> super.getOrderById(id));
+    }
+
+    @Override
+    @SingleFlight(SingleFlightInvalidator.ORDERS)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<OrderDto> getOrderByOrderNumber(String orderNumber) {
+        Optional<OrderSnapshot> pending = engine.findPendingByOrderNumber(orderNumber);
+        if (pending.isPresent()) {
+            return pending.map(OrderSnapshot::toDto);
+        }
+        return readOnlyTransaction.execute(status -> super.getOrderByOrderNumber(orderNumber));
+    }
+
+    /**
+     * The order is acknowledged before it is inserted, so anything the columns would refuse has
+     * to be refused here; a row failing later can only be moved to the dead letters.
+     */
+    private static void checkColumnLimits(OrderItem item) {
+        if (item.getProductName().length() > MAX_PRODUCT_NAME_LENGTH) {
+            throw new IllegalArgumentException("Product name cannot exceed " + MAX_PRODUCT_NAME_LENGTH + " characters");
+        }
+        if (item.getProductDescription().length() > MAX_PRODUCT_DESCRIPTION_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Product description cannot exceed " + MAX_PRODUCT_DESCRIPTION_LENGTH + " characters");
+        }
+        checkAmount("Unit price", item.getUnitPrice());
+        checkAmount("Item total", item.getTotalPrice());
+    }
+
+    private static void checkAmount(String name, BigDecimal amount) {
+        if (amount.precision() - amount.scale() > MAX_AMOUNT_INTEGER_DIGITS) {
+            throw new IllegalArgumentException(name + " cannot exceed " + MAX_AMOUNT_INTEGER_DIGITS + " integer digits");
+        }
+    }
+
+    /**
+     * Member names are cached because members are never deleted and the name is only shown
+     * on the order; a renamed member shows the old name on orders until the next restart.
+     */
+    private String findMemberName(Long memberId) {
+        if (memberId == null || memberId <= 0) {
+            throw new IllegalArgumentException("Member not found with ID: " + memberId);
+        }
+        String name = memberNames.get(memberId);
+        if (name != null) {
+            return name;
+        }
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("Member not found with ID: " + memberId));
+        if (memberNames.size() < MEMBER_NAME_CACHE_LIMIT) {
+            memberNames.put(memberId, member.getName());
+        }
+        return member.getName();
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.infrastructure.persistence.writebehind;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the order persistence engine.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.order-store")
+public class WriteBehindProperties {
+
+    /**
+     * jpa writes every order through OrderRepository; write-behind acknowledges orders once they
+     * are in the local write-ahead log and inserts them in batches.
+     */
+    private String engine = "jpa";
+
+    /**
+     * Directory of the write-ahead log. Must be on local disk and used by one process only.
+     */
+    private String walDirectory = "./data/order-wal";
+
+    /**
+     * Whether each order is forced to disk before it is acknowledged. Without it, orders
+     * survive a process crash but not a power loss.
+     */
+    private boolean syncOnAppend = true;
+
+    /**
+     * Size at which the log rolls over to a new segment file.
+     */
+    private long segmentBytes = 64L * 1024 * 1024;
+
+    /**
+     * Orders per insert batch.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Longest time an order waits in memory before it is written to the database.
+     */
+    private Duration flushInterval = Duration.ofMillis(50);
+
+    /**
+     * Unflushed orders at which order creation is refused until the database catches up.
+     */
+    private int maxPendingOrders = 200_000;
+}
@@ -0,0 +1,39 @@
+package com.example.infrastructure.persistence.writebehind;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+import java.util.Set;
+
+/**
+ * Makes orders accepted by the write-behind engine visible to everything that reads them through
+ * {@link com.example.infrastructure.persistence.OrderRepository}, such as payment creation and
+ * the order status transitions. Lookups by order id flush only when that order is still pending;
+ * any other repository call flushes all pending orders first.
+ */
+@Aspect
+public class WriteBehindReadBarrier {
+
+    private static final Set<String> ID_LOOKUPS = Set.of(
+            "findById", "existsById", "getReferenceById", "findByIdWithOrderItemsAndPayment", "findByIdWithMember");
+
+    private final WriteBehindOrderEngine engine;
+
+    public WriteBehindReadBarrier(WriteBehindOrderEngine engine) {
+        this.engine = engine;
+    }
+
+    @Around("this(com.example.infrastructure.persistence.OrderRepository)")
+    public Object flushBeforeRead(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (engine.hasPending()) {
+            Object[] args = joinPoint.getArgs();
+            boolean idLookup = ID_LOOKUPS.contains(joinPoint.getSignature().getName())
+                    && args.length == 1 && args[0] instanceof Long;
+            if (!idLookup || engine.isPending((Long) args[0])) {
+                engine.flushPending();
+            }
+        }
+        return joinPoint.proceed();
+    }
+}
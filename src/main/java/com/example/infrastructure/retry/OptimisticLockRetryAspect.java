@@ -0,0 +1,73 @@
+package com.example.infrastructure.retry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retries {@link RetryOnConflict} methods that fail with an optimistic lock conflict.
+ * Ordered before the transaction interceptor so that every attempt gets its own transaction;
+ * when called inside an existing transaction the conflict is left to the outermost caller.
+ * Backoff uses full jitter so that racing writers do not collide again in lockstep.
+ */
+@Aspect
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@Slf4j
+public class OptimisticLockRetryAspect {
+
+    static final String ATTEMPTS_METRIC = "optimistic.lock.attempts";
+    static final String CONFLICTS_METRIC = "optimistic.lock.conflicts";
+    static final String EXHAUSTED_METRIC = "optimistic.lock.exhausted";
+
+    private final OptimisticLockRetryProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public OptimisticLockRetryAspect(OptimisticLockRetryProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(com.example.infrastructure.retry.RetryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        String operation = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName();
+        Counter attempts = meterRegistry.counter(ATTEMPTS_METRIC, "operation", operation);
+        int maxAttempts = Math.max(1, properties.getMaxAttempts());
+
+        for (int attempt = 1; ; attempt++) {
+            attempts.increment();
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                meterRegistry.counter(CONFLICTS_METRIC, "operation", operation).increment();
+                if (attempt >= maxAttempts) {
+                    meterRegistry.counter(EXHAUSTED_METRIC, "operation", operation).increment();
+                    log.warn("{} gave up after {} conflicting attempts", operation, attempt);
+                    throw e;
+                }
+                log.debug("{} hit an optimistic lock conflict on attempt {}, retrying", operation, attempt);
+                Thread.sleep(backoffMillis(attempt));
+            }
+        }
+    }
+
+    long backoffMillis(int attempt) {
+        long ceiling = properties.getInitialBackoff().toMillis() << Math.min(attempt - 1, 20);
+        long bounded = Math.min(ceiling, properties.getMaxBackoff().toMillis());
+        return bounded <= 0 ? 0 : ThreadLocalRandom.current().nextLong(bounded + 1);
+    }
+}
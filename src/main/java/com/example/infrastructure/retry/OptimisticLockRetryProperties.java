@@ -0,0 +1,28 @@
+package com.example.infrastructure.retry;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for retrying methods annotated with {@link RetryOnConflict}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.optimistic-lock.retry")
+public class OptimisticLockRetryProperties {
+
+    /**
+     * Total attempts including the first one.
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * Backoff ceiling before the first retry; doubled on every further retry.
+     */
+    private Duration initialBackoff = Duration.ofMillis(10);
+
+    private Duration maxBackoff = Duration.ofMillis(200);
+}
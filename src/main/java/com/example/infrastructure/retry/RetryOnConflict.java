@@ -0,0 +1,18 @@
+package com.example.infrastructure.retry;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Retries a transactional method when its commit loses an optimistic lock race.
+ * Each attempt runs in a fresh transaction, so the entity is re-read and the domain
+ * rules are checked again against the state the winner committed.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+}
@@ -0,0 +1,23 @@
+package com.example.infrastructure.singleflight;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Lets concurrent calls with equal arguments share one execution: the first caller runs the
+ * method and the others wait for its result. Meant for read-only methods returning immutable
+ * results. The value names the group whose domain events make earlier results unusable.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SingleFlight {
+
+    /**
+     * One of the groups {@link SingleFlightInvalidator} knows: members, orders or payments.
+     */
+    String value();
+}
@@ -0,0 +1,42 @@
+package com.example.infrastructure.singleflight;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Coalesces calls of {@link SingleFlight} methods. Ordered before every other advice, so that
+ * the leader's call opens the transaction, and routes to a shard when sharding is on, on behalf
+ * of all callers. A call inside a transaction is not shared, since it may need to see that
+ * transaction's own uncommitted changes.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SingleFlightAspect {
+
+    private final SingleFlightLoader loader;
+
+    public SingleFlightAspect(SingleFlightLoader loader) {
+        this.loader = loader;
+    }
+
+    @Around("@annotation(singleFlight)")
+    public Object coalesce(ProceedingJoinPoint joinPoint, SingleFlight singleFlight) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        Object[] args = joinPoint.getArgs();
+        List<Object> call = new ArrayList<>(args.length + 1);
+        call.add(((MethodSignature) joinPoint.getSignature()).getMethod());
+        call.addAll(Arrays.asList(args));
+        return loader.load(singleFlight.value(), call, joinPoint::proceed);
+    }
+}
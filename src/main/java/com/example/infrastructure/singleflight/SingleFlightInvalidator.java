@@ -0,0 +1,53 @@
+package com.example.infrastructure.singleflight;
+
+import com.example.domain.event.MemberEvents;
+import com.example.domain.event.OrderEvents;
+import com.example.domain.event.PaymentEvents;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Ends sharing of results read before a change once it commits. A member's representation
+ * holds its orders and an order holds its payment, so changes invalidate upwards as well.
+ * Ordered first among after-commit listeners, ahead of the entity tag invalidation, so that no
+ * read tagged after the commit is served from a load that started before it.
+ */
+public class SingleFlightInvalidator {
+
+    public static final String MEMBERS = "members";
+    public static final String ORDERS = "orders";
+    public static final String PAYMENTS = "payments";
+
+    private final SingleFlightLoader loader;
+
+    public SingleFlightInvalidator(SingleFlightLoader loader) {
+        this.loader = loader;
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true,
+            classes = {MemberEvents.MemberActivated.class, MemberEvents.MemberDeactivated.class})
+    public void onMemberChanged() {
+        loader.invalidate(MEMBERS);
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true,
+            classes = {OrderEvents.OrderCreated.class, OrderEvents.OrderConfirmed.class,
+                    OrderEvents.OrderCancelled.class, OrderEvents.OrderCompleted.class})
+    public void onOrderChanged() {
+        loader.invalidate(ORDERS);
+        loader.invalidate(MEMBERS);
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true,
+            classes = {PaymentEvents.PaymentCreated.class, PaymentEvents.PaymentProcessed.class,
+                    PaymentEvents.PaymentFailed.class, PaymentEvents.PaymentRefunded.class})
+    public void onPaymentChanged() {
+        loader.invalidate(PAYMENTS);
+        loader.invalidate(ORDERS);
+        loader.invalidate(MEMBERS);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.infrastructure.singleflight;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Table of loads in flight, and of recent results while the TTL allows, keyed by group and
+ * arguments.
+ * <p>
+ * Every group has a generation that its domain events bump after commit. A load only serves
+ * callers of the generation it started in, so a caller that arrives after a commit never gets a
+ * result read before it; it starts a load of its own instead.
+ */
+@Slf4j
+public class SingleFlightLoader {
+
+    static final String LOADS_METRIC = "singleflight.loads";
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final MeterRegistry meterRegistry;
+    private final Map<Key, Flight> flights = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public SingleFlightLoader(SingleFlightProperties properties, MeterRegistry meterRegistry) {
+        this.ttlNanos = properties.getTtl().toNanos();
+        this.maxEntries = properties.getMaxEntries();
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Object load(String group, Object arguments, Loader loader) throws Throwable {
+        long generation = generation(group).get();
+        Key key = new Key(group, arguments);
+        while (true) {
+            Flight existing = flights.get(key);
+            if (existing != null) {
+                if (existing.usableAt(generation, System.nanoTime(), ttlNanos)) {
+                    count(group, existing.future.isDone() ? "cached" : "coalesced");
+                    return existing.await();
+                }
+                flights.remove(key, existing);
+                continue;
+            }
+            Flight flight = new Flight(generation);
+            if (flights.size() >= maxEntries) {
+                flights.values().removeIf(candidate -> candidate.future.isDone());
+            }
+            if (flights.putIfAbsent(key, flight) != null) {
+                continue;
+            }
+            count(group, "executed");
+            return execute(key, flight, loader);
+        }
+    }
+
+    /**
+     * Makes every earlier result of the group unusable for callers arriving from now on.
+     */
+    public void invalidate(String group) {
+        generation(group).incrementAndGet();
+    }
+
+    int size() {
+        return flights.size();
+    }
+
+    private Object execute(Key key, Flight flight, Loader loader) throws Throwable {
+        try {
+            Object result = loader.load();
+            flight.completedAt = System.nanoTime();
+            flight.future.complete(result);
+            if (ttlNanos <= 0) {
+                flights.remove(key, flight);
+            }
+            return result;
+        } catch (Throwable e) {
+            flight.future.completeExceptionally(e);
+            flights.remove(key, flight);
+            throw e;
+        }
+    }
+
+    private AtomicLong generation(String group) {
+        return generations.computeIfAbsent(group, name -> new AtomicLong());
+    }
+
+    private void count(String group, String result) {
+        meterRegistry.counter(LOADS_METRIC, "group", group, "result", result).increment();
+    }
+
+    @FunctionalInterface
+    public interface Loader {
+        Object load() throws Throwable;
+    }
+
+    private record Key(String group, Object arguments) {
+    }
+
+    private static final class Flight {
+        private final long generation;
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        private volatile long completedAt;
+
+        Flight(long generation) {
+            this.generation = generation;
+        }
+
+        boolean usableAt(long currentGeneration, long now, long ttlNanos) {
+            if (generation != currentGeneration) {
+                return false;
+            }
+            // Failed loads are removed by their leader; a completed one lives for the TTL
+            return !future.isDone() || (!future.isCompletedExceptionally() && now - completedAt < ttlNanos);
+        }
+
+        Object await() throws Throwable {
+            try {
+                return future.get();
+            } catch (ExecutionException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.infrastructure.singleflight;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for coalescing concurrent reads of methods annotated with {@link SingleFlight}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.single-flight")
+public class SingleFlightProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * How long a completed result keeps being handed out; zero only shares loads in flight.
+     * A change committed through this node ends it early.
+     */
+    private Duration ttl = Duration.ZERO;
+
+    /**
+     * Upper bound on remembered results; completed ones are dropped when it is reached.
+     */
+    private int maxEntries = 10_000;
+}
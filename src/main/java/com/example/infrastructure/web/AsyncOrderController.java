@@ -0,0 +1,78 @@
+package com.example.infrastructure.web;
+
+import com.example.application.service.OrderService;
+import com.example.domain.Order;
+import com.example.dto.OrderDto;
+import com.example.dto.OrderField;
+import com.example.infrastructure.web.async.AsyncReadExecutor;
+import com.example.infrastructure.web.etag.EntityTagCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The order reads of {@link OrderController}, run on the {@link AsyncReadExecutor} so the
+ * request thread is free while the database works.
+ */
+@RestController
+@RequestMapping("/api/async/orders")
+@ConditionalOnProperty(prefix = "app.async-reads", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class AsyncOrderController {
+
+    private final OrderService orderService;
+    private final EntityTagCache entityTagCache;
+    private final AsyncReadExecutor asyncReads;
+
+    @GetMapping
+    public DeferredResult<ResponseEntity<List<OrderDto>>> getOrdersCreatedBetween(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long memberId,
+            @RequestParam(required = false) String fields) {
+        log.info("Retrieving orders created from {} to {} asynchronously", from, to);
+        Set<OrderField> selected = OrderField.parse(fields);
+        return asyncReads.read(() -> ResponseEntity.ok(orderService.getOrdersCreatedBetween(from, to, memberId, selected)));
+    }
+
+    @GetMapping("/{id}")
+    public DeferredResult<ResponseEntity<OrderDto>> getOrderById(@PathVariable Long id,
+                                                                 @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.info("Retrieving order with ID: {} asynchronously", id);
+        return asyncReads.read(() -> entityTagCache.order(id, ifNoneMatch, () -> orderService.getOrderById(id)));
+    }
+
+    @GetMapping("/order-number/{orderNumber}")
+    public DeferredResult<ResponseEntity<OrderDto>> getOrderByOrderNumber(@PathVariable String orderNumber) {
+        log.info("Retrieving order with order number: {} asynchronously", orderNumber);
+        return asyncReads.read(() -> orderService.getOrderByOrderNumber(orderNumber)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build()));
+    }
+
+    @GetMapping("/member/{memberId}")
+    public DeferredResult<ResponseEntity<List<OrderDto>>> getOrdersByMemberId(@PathVariable Long memberId,
+                                                                              @RequestParam(required = false) String fields) {
+        log.info("Retrieving orders for member ID: {} asynchronously", memberId);
+        Set<OrderField> selected = OrderField.parse(fields);
+        return asyncReads.read(() -> ResponseEntity.ok(orderService.getOrdersByMemberId(memberId, selected)));
+    }
+
+    @GetMapping("/status/{status}")
+    public DeferredResult<ResponseEntity<List<OrderDto>>> getOrdersByStatus(@PathVariable Order.OrderStatus status,
+                                                                            @RequestParam(required = false) String fields) {
+        log.info("Retrieving orders by status: {} asynchronously", status);
+        Set<OrderField> selected = OrderField.parse(fields);
+        return asyncReads.read(() -> ResponseEntity.ok(orderService.getOrdersByStatus(status, selected)));
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.infrastructure.web;
+
+import com.example.application.service.PaymentService;
+import com.example.domain.Payment;
+import com.example.dto.PaymentDto;
+import com.example.infrastructure.web.async.AsyncReadExecutor;
+import com.example.infrastructure.web.etag.EntityTagCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * The payment reads of {@link PaymentController}, run on the {@link AsyncReadExecutor} so the
+ * request thread is free while the database works.
+ */
+@RestController
+@RequestMapping("/api/async/payments")
+@ConditionalOnProperty(prefix = "app.async-reads", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class AsyncPaymentController {
+
+    private final PaymentService paymentService;
+    private final EntityTagCache entityTagCache;
+    private final AsyncReadExecutor asyncReads;
+
+    @GetMapping
+    public DeferredResult<ResponseEntity<List<PaymentDto>>> getPaymentsCreatedBetween(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("Retrieving payments created from {} to {} asynchronously", from, to);
+        return asyncReads.read(() -> ResponseEntity.ok(paymentService.getPaymentsCreatedBetween(from, to)));
+    }
+
+    @GetMapping("/{id}")
+    public DeferredResult<ResponseEntity<PaymentDto>> getPaymentById(@PathVariable Long id,
+                                                                     @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.info("Retrieving payment with ID: {} asynchronously", id);
+        return asyncReads.read(() -> entityTagCache.payment(id, ifNoneMatch, () -> paymentService.getPaymentById(id)));
+    }
+
+    @GetMapping("/order/{orderId}")
+    public DeferredResult<ResponseEntity<PaymentDto>> getPaymentByOrderId(@PathVariable Long orderId,
+                                                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.info("Retrieving payment for order ID: {} asynchronously", orderId);
+        return asyncReads.read(() -> entityTagCache.paymentOfOrder(orderId, ifNoneMatch,
+                () -> paymentService.getPaymentByOrderId(orderId)));
+    }
+
+    @GetMapping("/transaction/{transactionId}")
+    public DeferredResult<ResponseEntity<PaymentDto>> getPaymentByTransactionId(@PathVariable String transactionId) {
+        log.info("Retrieving payment with transaction ID: {} asynchronously", transactionId);
+        return asyncReads.read(() -> paymentService.getPaymentByTransactionId(transactionId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build()));
+    }
+
+    @GetMapping("/status/{status}")
+    public DeferredResult<ResponseEntity<List<PaymentDto>>> getPaymentsByStatus(@PathVariable Payment.PaymentStatus status) {
+        log.info("Retrieving payments by status: {} asynchronously", status);
+        return asyncReads.read(() -> ResponseEntity.ok(paymentService.getPaymentsByStatus(status)));
+    }
+
+    @GetMapping("/member/{memberId}")
+    public DeferredResult<ResponseEntity<List<PaymentDto>>> getPaymentsByMemberId(@PathVariable Long memberId) {
+        log.info("Retrieving payments for member ID: {} asynchronously", memberId);
+        return asyncReads.read(() -> ResponseEntity.ok(paymentService.getPaymentsByMemberId(memberId)));
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.infrastructure.web;
+
+import com.example.application.service.OrderService;
+import com.example.application.service.PaymentService;
+import com.example.dto.BatchGetResult;
+import com.example.dto.OrderDto;
+import com.example.dto.PaymentDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Fetches many orders or payments by id in one call. GET takes {@code ids=1,2,3}; POST takes the
+ * same ids in the body for lists too long for a URL. Items come back in the order asked for, with
+ * the ids that do not exist listed under {@code missing}.
+ */
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Batch Get", description = "Orders and payments by id, many in one call")
+public class BatchGetController {
+
+    private final OrderService orderService;
+    private final PaymentService paymentService;
+
+    @GetMapping("/api/orders:batchGet")
+    @Operation(summary = "Get orders by ids", description = "Up to 500 orders in request order, with the ids not found")
+    public ResponseEntity<BatchGetResult<OrderDto>> batchGetOrders(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(orders(ids));
+    }
+
+    @PostMapping("/api/orders:batchGet")
+    @Operation(summary = "Get orders by ids", description = "Like GET, with the ids in the request body")
+    public ResponseEntity<BatchGetResult<OrderDto>> batchGetOrders(@Valid @RequestBody BatchGetRequest request) {
+        return ResponseEntity.ok(orders(request.getIds()));
+    }
+
+    @GetMapping("/api/payments:batchGet")
+    @Operation(summary = "Get payments by ids", description = "Up to 500 payments in request order, with the ids not found")
+    public ResponseEntity<BatchGetResult<PaymentDto>> batchGetPayments(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(payments(ids));
+    }
+
+    @PostMapping("/api/payments:batchGet")
+    @Operation(summary = "Get payments by ids", description = "Like GET, with the ids in the request body")
+    public ResponseEntity<BatchGetResult<PaymentDto>> batchGetPayments(@Valid @RequestBody BatchGetRequest request) {
+        return ResponseEntity.ok(payments(request.getIds()));
+    }
+
+    private BatchGetResult<OrderDto> orders(List<Long> ids) {
+        log.info("Retrieving {} orders by ID in one batch", ids.size());
+        requireIds(ids);
+        return BatchGetResult.of(ids, orderService.getOrdersByIds(ids), OrderDto::getId);
+    }
+
+    private BatchGetResult<PaymentDto> payments(List<Long> ids) {
+        log.info("Retrieving {} payments by ID in one batch", ids.size());
+        requireIds(ids);
+        return BatchGetResult.of(ids, paymentService.getPaymentsByIds(ids), PaymentDto::getId);
+    }
+
+    private static void requireIds(List<Long> ids) {
+        if (ids.isEmpty() || ids.contains(null)) {
+            throw new IllegalArgumentException("ids must be a non-empty list of ids");
+        }
+    }
+
+    @Data
+    public static class BatchGetRequest {
+        @NotEmpty(message = "ids are required")
+        @Size(max = OrderService.MAX_BATCH_SIZE, message = "At most 500 ids can be fetched at once")
+        private List<@NotNull Long> ids;
+    }
+}
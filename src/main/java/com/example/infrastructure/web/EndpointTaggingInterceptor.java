@@ -0,0 +1,26 @@
+package com.example.infrastructure.web;
+
+import com.example.infrastructure.datasource.RequestEndpointContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Exposes the matched endpoint (e.g. "GET /api/orders/{id}") to the current thread
+ * so that connection hold time can be attributed to it.
+ */
+public class EndpointTaggingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        RequestEndpointContext.set(request.getMethod() + " " + (pattern != null ? pattern : "unmapped"));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestEndpointContext.clear();
+    }
+}
@@ -3,6 +3,7 @@ package com.example.infrastructure.web;
 import com.example.application.service.MemberService;
 import com.example.domain.Member;
 import com.example.dto.MemberDto;
+import com.example.infrastructure.web.etag.EntityTagCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -15,6 +16,7 @@ import jakarta.validation.constraints.Pattern;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -29,6 +31,7 @@ import java.util.List;
 public class MemberController {
 
     private final MemberService memberService;
+    private final EntityTagCache entityTagCache;
 
     @PostMapping
     @Operation(summary = "Create a new member", description = "Creates a new member with the provided information")
@@ -51,14 +54,14 @@ public class MemberController {
     @Operation(summary = "Get member by ID", description = "Retrieves a member by their unique identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Member found"),
+            @ApiResponse(responseCode = "304", description = "Member unchanged since the If-None-Match tag"),
             @ApiResponse(responseCode = "404", description = "Member not found")
     })
     public ResponseEntity<MemberDto> getMemberById(
-            @Parameter(description = "Member ID") @PathVariable Long id) {
+            @Parameter(description = "Member ID") @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("Retrieving member with ID: {}", id);
-        return memberService.getMemberById(id)
-                .map(member -> ResponseEntity.ok(member))
-                .orElse(ResponseEntity.notFound().build());
+        return entityTagCache.member(id, ifNoneMatch, () -> memberService.getMemberById(id));
     }
 
     @GetMapping("/email/{email}")
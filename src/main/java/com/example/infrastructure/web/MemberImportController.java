@@ -0,0 +1,43 @@
+package com.example.infrastructure.web;
+
+import com.example.infrastructure.importer.MemberImportFormat;
+import com.example.infrastructure.importer.MemberImportReport;
+import com.example.infrastructure.importer.MemberImporter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+
+@RestController
+@RequestMapping("/api/members/import")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Member Management", description = "APIs for managing members")
+public class MemberImportController {
+
+    private final MemberImporter memberImporter;
+
+    @PostMapping(consumes = {"text/csv", "application/x-ndjson"})
+    @Operation(summary = "Bulk import members",
+            description = "Streams a CSV (with an email,name,phoneNumber header) or NDJSON request body into the members table")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished; see the report for rejected rows"),
+            @ApiResponse(responseCode = "400", description = "Unsupported format or malformed header")
+    })
+    public ResponseEntity<MemberImportReport> importMembers(HttpServletRequest request) throws IOException {
+        log.info("Importing members from request body ({})", request.getContentType());
+        MemberImportFormat format = MemberImportFormat.fromContentType(request.getContentType());
+        MemberImportReport report = memberImporter.importMembers(Channels.newChannel(request.getInputStream()), format);
+        return ResponseEntity.ok(report);
+    }
+}
@@ -1,21 +1,29 @@
 package com.example.infrastructure.web;
 
 import com.example.domain.Order;
+import com.example.dto.KeysetPage;
 import com.example.dto.OrderDto;
+import com.example.dto.OrderField;
 import com.example.application.service.OrderService;
+import com.example.infrastructure.web.etag.EntityTagCache;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -25,6 +33,7 @@ import java.util.List;
 public class OrderController {
 
     private final OrderService orderService;
+    private final EntityTagCache entityTagCache;
 
     @PostMapping
     public ResponseEntity<OrderDto> createOrder(@Valid @RequestBody CreateOrderRequest request) {
@@ -49,12 +58,22 @@ public class OrderController {
         }
     }
 
+    @GetMapping
+    public ResponseEntity<List<OrderDto>> getOrdersCreatedBetween(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long memberId,
+            @RequestParam(required = false) String fields) {
+        log.info("Retrieving orders created from {} to {}", from, to);
+        List<OrderDto> orders = orderService.getOrdersCreatedBetween(from, to, memberId, OrderField.parse(fields));
+        return ResponseEntity.ok(orders);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<OrderDto> getOrderById(@PathVariable Long id) {
+    public ResponseEntity<OrderDto> getOrderById(@PathVariable Long id,
+                                                 @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("Retrieving order with ID: {}", id);
-        return orderService.getOrderById(id)
-                .map(order -> ResponseEntity.ok(order))
-                .orElse(ResponseEntity.notFound().build());
+        return entityTagCache.order(id, ifNoneMatch, () -> orderService.getOrderById(id));
     }
 
     @GetMapping("/order-number/{orderNumber}")
@@ -66,19 +85,29 @@ public class OrderController {
     }
 
     @GetMapping("/member/{memberId}")
-    public ResponseEntity<List<OrderDto>> getOrdersByMemberId(@PathVariable Long memberId) {
+    public ResponseEntity<List<OrderDto>> getOrdersByMemberId(@PathVariable Long memberId,
+                                                              @RequestParam(required = false) String fields) {
         log.info("Retrieving orders for member ID: {}", memberId);
-        List<OrderDto> orders = orderService.getOrdersByMemberId(memberId);
+        List<OrderDto> orders = orderService.getOrdersByMemberId(memberId, OrderField.parse(fields));
         return ResponseEntity.ok(orders);
     }
 
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<OrderDto>> getOrdersByStatus(@PathVariable Order.OrderStatus status) {
+    public ResponseEntity<List<OrderDto>> getOrdersByStatus(@PathVariable Order.OrderStatus status,
+                                                            @RequestParam(required = false) String fields) {
         log.info("Retrieving orders by status: {}", status);
-        List<OrderDto> orders = orderService.getOrdersByStatus(status);
+        List<OrderDto> orders = orderService.getOrdersByStatus(status, OrderField.parse(fields));
         return ResponseEntity.ok(orders);
     }
 
+    @GetMapping(value = "/status/{status}", params = "limit")
+    public ResponseEntity<KeysetPage<OrderDto>> getOrdersByStatus(@PathVariable Order.OrderStatus status,
+                                                                  @RequestParam(required = false) Long afterId,
+                                                                  @RequestParam int limit) {
+        log.info("Retrieving orders by status: {} after ID: {} limit: {}", status, afterId, limit);
+        return ResponseEntity.ok(orderService.getOrdersByStatus(status, afterId, limit));
+    }
+
     @PutMapping("/{id}/confirm")
     public ResponseEntity<OrderDto> confirmOrder(@PathVariable Long id) {
         log.info("Confirming order with ID: {}", id);
@@ -135,9 +164,11 @@ public class OrderController {
         @Data
         public static class OrderItemRequest {
             @NotBlank(message = "Product name is required")
+            @Size(max = 100, message = "Product name cannot exceed 100 characters")
             private String productName;
 
             @NotBlank(message = "Product description is required")
+            @Size(max = 500, message = "Product description cannot exceed 500 characters")
             private String productDescription;
 
             @NotNull(message = "Quantity is required")
@@ -146,6 +177,7 @@ public class OrderController {
 
             @NotNull(message = "Unit price is required")
             @DecimalMin(value = "0.01", message = "Unit price must be greater than 0")
+            @Digits(integer = 17, fraction = 2, message = "Unit price must fit 17 integer and 2 fraction digits")
             private BigDecimal unitPrice;
         }
     }
@@ -0,0 +1,85 @@
+package com.example.infrastructure.web;
+
+import com.example.domain.Order;
+import com.example.infrastructure.export.OrderExportCriteria;
+import com.example.infrastructure.export.OrderExportFormat;
+import com.example.infrastructure.export.OrderExportProperties;
+import com.example.infrastructure.export.OrderExporter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api/orders/export")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Order Export", description = "Bulk export of orders with their items and payments")
+public class OrderExportController {
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final OrderExporter orderExporter;
+    private final OrderExportProperties exportProperties;
+
+    @GetMapping
+    @Operation(summary = "Export orders",
+            description = "Streams one row per order item, joined with its order and payment, as NDJSON or CSV")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @Parameter(description = "ndjson or csv") @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) Order.OrderStatus status,
+            @Parameter(description = "First order date, inclusive")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last order date, inclusive")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Compress the response with Content-Encoding: gzip")
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        OrderExportFormat exportFormat = OrderExportFormat.from(format);
+        OrderExportCriteria criteria = OrderExportCriteria.builder()
+                .status(status)
+                .from(from != null ? from.atStartOfDay() : null)
+                .to(to != null ? to.plusDays(1).atStartOfDay() : null)
+                .build();
+        log.info("Exporting orders as {} (status: {}, from: {}, to: {}, gzip: {})", exportFormat, status, from, to, gzip);
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                // Sync flush: each periodic flush of the exporter reaches the client as a complete block
+                GZIPOutputStream compressed = new GZIPOutputStream(out, GZIP_BUFFER_SIZE, true) {
+                    {
+                        def.setLevel(exportProperties.getGzipLevel());
+                    }
+                };
+                orderExporter.export(criteria, exportFormat, compressed);
+                compressed.finish();
+            } else {
+                orderExporter.export(criteria, exportFormat, out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("orders." + exportFormat.getExtension())
+                        .build()
+                        .toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.infrastructure.web;
+
+import com.example.dto.OrderField;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Writes only the order properties named in {@code fields=}, so a narrowed listing does not
+ * carry the unselected ones as nulls.
+ */
+@RestControllerAdvice(assignableTypes = {OrderController.class, AsyncOrderController.class})
+public class OrderFieldsResponseAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    public static final String PARAMETER = "fields";
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        HttpServletRequest servletRequest = ((ServletServerHttpRequest) request).getServletRequest();
+        String fields = servletRequest.getParameter(PARAMETER);
+        if (fields == null || fields.isBlank()) {
+            return;
+        }
+        Set<String> properties;
+        try {
+            properties = OrderField.parse(fields).stream()
+                    .map(OrderField::getProperty)
+                    .collect(Collectors.toSet());
+        } catch (IllegalArgumentException e) {
+            // Endpoints without field selection ignore the parameter
+            return;
+        }
+        bodyContainer.setFilters(new SimpleFilterProvider()
+                .addFilter(OrderField.FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(properties)));
+    }
+
+    /**
+     * Attaches the {@link OrderField#FILTER} filter to OrderDto without annotating the DTO itself;
+     * where no filter is supplied every property is written.
+     */
+    @JsonFilter(OrderField.FILTER)
+    public interface OrderDtoMixin {
+    }
+}
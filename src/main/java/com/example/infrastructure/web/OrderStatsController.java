@@ -0,0 +1,36 @@
+package com.example.infrastructure.web;
+
+import com.example.reporting.OrderStatsReport;
+import com.example.reporting.OrderStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/reports/order-stats")
+@RequiredArgsConstructor
+@Tag(name = "Order Statistics", description = "Order amount percentiles and distinct buyers from mergeable sketches")
+public class OrderStatsController {
+
+    private final OrderStatsService orderStatsService;
+
+    @GetMapping
+    @Operation(summary = "Get order statistics",
+            description = "Estimated p50/p95/p99 order amount and distinct buyers per day, merged across nodes")
+    public ResponseEntity<OrderStatsReport> getOrderStats(
+            @Parameter(description = "First day, inclusive")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day, inclusive")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(orderStatsService.getStats(from, to));
+    }
+}
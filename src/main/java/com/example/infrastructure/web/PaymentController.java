@@ -1,18 +1,23 @@
 package com.example.infrastructure.web;
 
 import com.example.domain.Payment;
+import com.example.dto.KeysetPage;
 import com.example.dto.PaymentDto;
 import com.example.application.service.PaymentService;
+import com.example.infrastructure.web.etag.EntityTagCache;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -22,6 +27,7 @@ import java.util.List;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final EntityTagCache entityTagCache;
 
     @PostMapping
     public ResponseEntity<PaymentDto> createPayment(@Valid @RequestBody CreatePaymentRequest request) {
@@ -35,20 +41,27 @@ public class PaymentController {
         }
     }
 
+    @GetMapping
+    public ResponseEntity<List<PaymentDto>> getPaymentsCreatedBetween(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("Retrieving payments created from {} to {}", from, to);
+        List<PaymentDto> payments = paymentService.getPaymentsCreatedBetween(from, to);
+        return ResponseEntity.ok(payments);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<PaymentDto> getPaymentById(@PathVariable Long id) {
+    public ResponseEntity<PaymentDto> getPaymentById(@PathVariable Long id,
+                                                     @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("Retrieving payment with ID: {}", id);
-        return paymentService.getPaymentById(id)
-                .map(payment -> ResponseEntity.ok(payment))
-                .orElse(ResponseEntity.notFound().build());
+        return entityTagCache.payment(id, ifNoneMatch, () -> paymentService.getPaymentById(id));
     }
 
     @GetMapping("/order/{orderId}")
-    public ResponseEntity<PaymentDto> getPaymentByOrderId(@PathVariable Long orderId) {
+    public ResponseEntity<PaymentDto> getPaymentByOrderId(@PathVariable Long orderId,
+                                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("Retrieving payment for order ID: {}", orderId);
-        return paymentService.getPaymentByOrderId(orderId)
-                .map(payment -> ResponseEntity.ok(payment))
-                .orElse(ResponseEntity.notFound().build());
+        return entityTagCache.paymentOfOrder(orderId, ifNoneMatch, () -> paymentService.getPaymentByOrderId(orderId));
     }
 
     @GetMapping("/transaction/{transactionId}")
@@ -66,6 +79,14 @@ public class PaymentController {
         return ResponseEntity.ok(payments);
     }
 
+    @GetMapping(value = "/status/{status}", params = "limit")
+    public ResponseEntity<KeysetPage<PaymentDto>> getPaymentsByStatus(@PathVariable Payment.PaymentStatus status,
+                                                                      @RequestParam(required = false) Long afterId,
+                                                                      @RequestParam int limit) {
+        log.info("Retrieving payments by status: {} after ID: {} limit: {}", status, afterId, limit);
+        return ResponseEntity.ok(paymentService.getPaymentsByStatus(status, afterId, limit));
+    }
+
     @GetMapping("/member/{memberId}")
     public ResponseEntity<List<PaymentDto>> getPaymentsByMemberId(@PathVariable Long memberId) {
         log.info("Retrieving payments for member ID: {}", memberId);
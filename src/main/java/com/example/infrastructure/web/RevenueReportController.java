@@ -0,0 +1,53 @@
+package com.example.infrastructure.web;
+
+import com.example.reporting.RevenueReport;
+import com.example.reporting.RevenueReportService;
+import com.example.reporting.RevenueRollupRebuilder;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/reports/revenue")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Revenue Reports", description = "Revenue per day and payment method from incrementally maintained rollups")
+public class RevenueReportController {
+
+    private final RevenueReportService revenueReportService;
+    private final RevenueRollupRebuilder revenueRollupRebuilder;
+
+    @GetMapping
+    @Operation(summary = "Get revenue", description = "Processed, refunded and net payment amounts and completed orders per day and payment method")
+    public ResponseEntity<RevenueReport> getRevenue(
+            @Parameter(description = "First day, inclusive")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day, inclusive")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "CREDIT_CARD, BANK_TRANSFER, ... or NONE for orders completed without payment")
+            @RequestParam(required = false) String paymentMethod) {
+        return ResponseEntity.ok(revenueReportService.getRevenue(from, to, paymentMethod));
+    }
+
+    @PostMapping("/rebuild")
+    @Operation(summary = "Rebuild revenue rollups", description = "Recomputes the rollups of the given days from the payments and orders tables")
+    public ResponseEntity<Map<String, Object>> rebuild(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("Rebuilding revenue rollups for {} to {}", from, to);
+        int buckets = revenueRollupRebuilder.rebuild(from, to);
+        return ResponseEntity.ok(Map.of("from", from, "to", to, "buckets", buckets));
+    }
+}
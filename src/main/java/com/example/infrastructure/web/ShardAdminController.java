@@ -0,0 +1,68 @@
+package com.example.infrastructure.web;
+
+import com.example.infrastructure.datasource.shard.ConsistentHashRing;
+import com.example.infrastructure.datasource.shard.Shard;
+import com.example.infrastructure.datasource.shard.ShardRebalancer;
+import com.example.infrastructure.datasource.shard.ShardRouter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/admin/shards")
+@ConditionalOnProperty(prefix = "app.datasource.sharding", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Shards", description = "Member-id sharding status and online re-sharding")
+public class ShardAdminController {
+
+    private final ShardRouter shardRouter;
+    private final ShardRebalancer shardRebalancer;
+
+    @GetMapping
+    @Operation(summary = "Get shard status", description = "Configured shards, the hash ring and any re-sharding in progress")
+    public ResponseEntity<ShardStatus> getStatus() {
+        ConsistentHashRing target = shardRouter.getTargetRing();
+        return ResponseEntity.ok(new ShardStatus(
+                shardRouter.getShards().stream().map(Shard::name).toList(),
+                shardRouter.getRing().getShards(),
+                target != null ? target.getShards() : null,
+                shardRouter.getRelocatedCount()));
+    }
+
+    @PostMapping("/{name}")
+    @Operation(summary = "Add a shard to the ring",
+            description = "Moves the members the extended ring assigns to the shard in the background, one member at a time")
+    public ResponseEntity<ShardStatus> addShard(@PathVariable String name) {
+        shardRouter.getShard(name);
+        if (shardRouter.getRing().contains(name)) {
+            throw new IllegalArgumentException("Shard is already on the ring: " + name);
+        }
+        if (shardRouter.getTargetRing() != null) {
+            log.warn("Not adding shard {}: re-sharding is already in progress", name);
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(getStatus().getBody());
+        }
+        log.info("Adding shard {} to the ring", name);
+        CompletableFuture.runAsync(() -> shardRebalancer.addShard(name))
+                .exceptionally(e -> {
+                    log.error("Adding shard {} failed", name, e);
+                    return null;
+                });
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(getStatus().getBody());
+    }
+
+    public record ShardStatus(List<String> shards, List<String> ring, List<String> targetRing, int relocatedMembers) {
+    }
+}
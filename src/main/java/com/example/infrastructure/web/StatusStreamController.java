@@ -0,0 +1,54 @@
+package com.example.infrastructure.web;
+
+import com.example.infrastructure.web.stream.StatusStreamProperties;
+import com.example.infrastructure.web.stream.StatusStreamRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/status-events")
+@ConditionalOnProperty(prefix = "app.status-stream", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Status Events", description = "Server-Sent Events stream of order and payment status changes")
+public class StatusStreamController {
+
+    public static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    private final StatusStreamRegistry statusStreamRegistry;
+    private final StatusStreamProperties properties;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream status changes",
+            description = "Order and payment status changes of a member and/or the given orders as text/event-stream; "
+                    + "reconnect with Last-Event-ID to receive what was missed")
+    public SseEmitter streamStatusChanges(@RequestParam(required = false) Long memberId,
+                                          @RequestParam(required = false) List<Long> orderIds,
+                                          @RequestHeader(value = LAST_EVENT_ID, required = false) String lastEventId) {
+        Set<Long> orders = orderIds != null ? Set.copyOf(orderIds.stream().filter(Objects::nonNull).toList()) : Set.of();
+        if (memberId == null && orders.isEmpty()) {
+            throw new IllegalArgumentException("memberId or orderIds is required");
+        }
+        if (orders.size() > properties.getMaxOrderIds()) {
+            throw new IllegalArgumentException("At most " + properties.getMaxOrderIds() + " orderIds can be streamed at once");
+        }
+        log.debug("Streaming status changes of member {} and orders {} from event {}", memberId, orders, lastEventId);
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        statusStreamRegistry.subscribe(emitter, memberId, orders, lastEventId);
+        return emitter;
+    }
+}
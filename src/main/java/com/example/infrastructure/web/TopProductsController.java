@@ -0,0 +1,35 @@
+package com.example.infrastructure.web;
+
+import com.example.reporting.TopProductsMetric;
+import com.example.reporting.TopProductsReport;
+import com.example.reporting.TopProductsTracker;
+import com.example.reporting.TopProductsWindow;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/reports/top-products")
+@RequiredArgsConstructor
+@Tag(name = "Top Products", description = "Live approximate product rankings from recent orders")
+public class TopProductsController {
+
+    private final TopProductsTracker topProductsTracker;
+
+    @GetMapping
+    @Operation(summary = "Get top products",
+            description = "Approximate top products by ordered quantity or revenue, from an in-memory sketch fed by order creation")
+    public ResponseEntity<TopProductsReport> getTopProducts(
+            @Parameter(description = "hour, day or all") @RequestParam(defaultValue = "hour") String window,
+            @Parameter(description = "quantity or revenue") @RequestParam(defaultValue = "quantity") String metric,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(topProductsTracker.top(
+                TopProductsWindow.from(window), TopProductsMetric.from(metric), limit));
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.infrastructure.web.assets;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Copies the Swagger UI webjar out of its jar into a plain directory and writes a
+ * maximum-compression .gz next to every text asset, once at startup.
+ * <p>
+ * Served from there by Tomcat's default servlet, an asset is a real file: the kernel can send it
+ * with sendfile and a client accepting gzip gets the .gz without any per-request compression,
+ * instead of every request being read out of the jar and copied through the dispatcher.
+ */
+@Slf4j
+public class PrecompressedAssetPublisher {
+
+    public static final String MOUNT = "/swagger-ui";
+
+    private static final String WEBJAR = "META-INF/resources/webjars/swagger-ui/";
+    private static final Set<String> COMPRESSIBLE = Set.of("js", "css", "html", "json", "map", "svg", "txt");
+    // springdoc rewrites these per request with the API configuration, so they stay with it
+    private static final Set<String> TRANSFORMED = Set.of("index.html", "swagger-initializer.js");
+
+    private final StaticAssetProperties properties;
+
+    public PrecompressedAssetPublisher(StaticAssetProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Publishes the assets and returns their paths relative to {@link #MOUNT}.
+     */
+    public List<String> publish() throws IOException {
+        Path root = getRoot();
+        Files.createDirectories(root);
+        List<String> published = new ArrayList<>();
+        long rawBytes = 0;
+        long gzipBytes = 0;
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources("classpath*:" + WEBJAR + "*/**")) {
+            if (!resource.isReadable()) {
+                continue;
+            }
+            String url = resource.getURL().toString();
+            String versioned = url.substring(url.indexOf(WEBJAR) + WEBJAR.length());
+            String path = versioned.substring(versioned.indexOf('/') + 1);
+            if (path.isEmpty() || path.endsWith("/") || TRANSFORMED.contains(path)) {
+                continue;
+            }
+            Path target = root.resolve(path).normalize();
+            if (!target.startsWith(root)) {
+                continue;
+            }
+            Files.createDirectories(target.getParent());
+            try (InputStream in = resource.getInputStream()) {
+                Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            rawBytes += Files.size(target);
+            if (isCompressible(path) && Files.size(target) >= properties.getMinCompressSize().toBytes()) {
+                gzipBytes += gzip(target);
+            }
+            published.add(path);
+        }
+        log.info("Published {} Swagger UI assets to {} ({} bytes, {} bytes as .gz)", published.size(), root, rawBytes, gzipBytes);
+        return published;
+    }
+
+    public Path getRoot() {
+        return properties.getDirectory().resolve(MOUNT.substring(1)).toAbsolutePath().normalize();
+    }
+
+    private static boolean isCompressible(String path) {
+        int dot = path.lastIndexOf('.');
+        return dot >= 0 && COMPRESSIBLE.contains(path.substring(dot + 1));
+    }
+
+    private static long gzip(Path file) throws IOException {
+        Path compressed = file.resolveSibling(file.getFileName() + ".gz");
+        Path temp = file.resolveSibling(file.getFileName() + ".gz.tmp");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp), 64 * 1024) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            Files.copy(file, out);
+        }
+        Files.move(temp, compressed, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return Files.size(compressed);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.infrastructure.web.assets;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration for serving the Swagger UI assets precompressed and by sendfile.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.static-assets")
+public class StaticAssetProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Where the assets and their .gz variants are written at startup.
+     */
+    private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "member-order-payment-static");
+
+    /**
+     * Smallest asset that gets a .gz variant; below it the headers outweigh the saving.
+     */
+    private DataSize minCompressSize = DataSize.ofKilobytes(1);
+
+    /**
+     * Smallest file handed to the kernel with sendfile instead of copied through the JVM.
+     */
+    private DataSize sendfileMinSize = DataSize.ofKilobytes(48);
+}
@@ -0,0 +1,130 @@
+package com.example.infrastructure.web.async;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs database reads for the asynchronous endpoints on a bounded pool, so the servlet thread
+ * is handed back while the read waits for a connection and the query.
+ * <p>
+ * The pool and its queue are both bounded: a read that finds the queue full is answered 503
+ * right away, and one that has not finished within the timeout, queueing included, is answered
+ * 503 and cancelled. Cancelling interrupts the read if it is running and drops it if it is still
+ * queued; a client that disconnects cancels its read the same way.
+ */
+@Slf4j
+public class AsyncReadExecutor implements AutoCloseable {
+
+    public static final String METRIC = "async.reads";
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final String retryAfterSeconds;
+    private final Counter completed;
+    private final Counter failed;
+    private final Counter rejected;
+    private final Counter timedOut;
+
+    public AsyncReadExecutor(AsyncReadProperties properties, MeterRegistry meterRegistry) {
+        this.executor = new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(),
+                0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                Thread.ofPlatform().name("db-read-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = properties.getTimeout().toMillis();
+        this.retryAfterSeconds = Long.toString(Math.max(1, properties.getRetryAfter().toSeconds()));
+        this.completed = counter(meterRegistry, "completed");
+        this.failed = counter(meterRegistry, "failed");
+        this.rejected = counter(meterRegistry, "rejected");
+        this.timedOut = counter(meterRegistry, "timeout");
+        Gauge.builder(METRIC + ".queued", executor, pool -> pool.getQueue().size())
+                .description("Reads waiting for a database read thread")
+                .register(meterRegistry);
+        Gauge.builder(METRIC + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Reads currently running")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the read on the pool; the servlet thread returns as soon as this does.
+     */
+    public <T> DeferredResult<ResponseEntity<T>> read(Supplier<ResponseEntity<T>> query) {
+        DeferredResult<ResponseEntity<T>> deferred = new DeferredResult<>();
+        CompletableFuture<ResponseEntity<T>> future = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                if (future.isDone()) {
+                    return;
+                }
+                try {
+                    future.complete(query.get());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.debug("Database read queue is full, answering 503");
+            deferred.setResult(unavailable());
+            return deferred;
+        }
+
+        future.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS).whenComplete((response, error) -> {
+            if (error == null) {
+                completed.increment();
+                deferred.setResult(response);
+                return;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof TimeoutException || cause instanceof CancellationException) {
+                task.cancel(true);
+            }
+            if (cause instanceof TimeoutException) {
+                timedOut.increment();
+                deferred.setResult(unavailable());
+            } else if (!(cause instanceof CancellationException)) {
+                failed.increment();
+                deferred.setErrorResult(cause);
+            }
+        });
+        // The request is already over: drop or interrupt the read
+        deferred.onError(e -> future.cancel(true));
+        deferred.onTimeout(() -> future.cancel(true));
+        return deferred;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> ResponseEntity<T> unavailable() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds)
+                .build();
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(METRIC)
+                .description("Asynchronous database reads by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.infrastructure.web.async;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the asynchronous order and payment read endpoints under /api/async.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.async-reads")
+public class AsyncReadProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Threads running the database reads. More than the connection pool only makes them wait
+     * for a connection instead of in the queue.
+     */
+    private int threads = 20;
+
+    /**
+     * Reads waiting for a thread; beyond this a request is answered 503 at once.
+     */
+    private int queueCapacity = 1000;
+
+    /**
+     * How long a read may take, queueing included, before it is cancelled and answered 503.
+     */
+    private Duration timeout = Duration.ofSeconds(5);
+
+    /**
+     * Value of the Retry-After header on a 503.
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
@@ -0,0 +1,254 @@
+package com.example.infrastructure.web.etag;
+
+import com.example.dto.MemberDto;
+import com.example.dto.OrderDto;
+import com.example.dto.PaymentDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET for members, orders and payments, backed by a map of the current entity tag
+ * of each recently served resource.
+ * <p>
+ * A request whose If-None-Match holds the remembered tag is answered 304 without reading the
+ * database; otherwise the resource is read, tagged and remembered. Domain events invalidate the
+ * tags after commit. Every invalidation also bumps a stamp of the resource's stripe, and a tag
+ * is dropped again if the stamp moved since before its read, so a read racing a commit can never
+ * pin the old tag. A member's tag covers its orders, so the map also remembers which member an
+ * order belongs to.
+ */
+@Slf4j
+public class EntityTagCache {
+
+    private static final int STRIPES = 4096;
+
+    private final boolean cacheVersions;
+    private final int maxEntries;
+    private final Map<Resource, String> tags = new ConcurrentHashMap<>();
+    private final Map<Long, Long> orderMembers = new ConcurrentHashMap<>();
+    private final AtomicLongArray stamps = new AtomicLongArray(STRIPES);
+    private final ReadWriteLock clearLock = new ReentrantReadWriteLock();
+    private final Map<Resource.Type, Outcomes> outcomes = new EnumMap<>(Resource.Type.class);
+
+    public EntityTagCache(EntityTagProperties properties, MeterRegistry meterRegistry) {
+        this.cacheVersions = properties.isCacheVersions();
+        this.maxEntries = properties.getMaxEntries();
+        for (Resource.Type type : Resource.Type.values()) {
+            outcomes.put(type, new Outcomes(type, meterRegistry));
+        }
+        Gauge.builder("http.etag.versions", tags, Map::size)
+                .description("Resources in the entity tag version map")
+                .register(meterRegistry);
+    }
+
+    public ResponseEntity<MemberDto> member(Long id, String ifNoneMatch, Supplier<Optional<MemberDto>> loader) {
+        return get(new Resource(Resource.Type.MEMBER, id), ifNoneMatch, loader, EntityTags::of,
+                member -> {
+                    if (member.getOrders() != null) {
+                        member.getOrders().forEach(order -> orderMembers.put(order.getId(), member.getId()));
+                    }
+                });
+    }
+
+    public ResponseEntity<OrderDto> order(Long id, String ifNoneMatch, Supplier<Optional<OrderDto>> loader) {
+        return get(new Resource(Resource.Type.ORDER, id), ifNoneMatch, loader, EntityTags::of,
+                order -> {
+                    if (order.getMemberId() != null) {
+                        orderMembers.put(order.getId(), order.getMemberId());
+                    }
+                });
+    }
+
+    public ResponseEntity<PaymentDto> payment(Long id, String ifNoneMatch, Supplier<Optional<PaymentDto>> loader) {
+        return get(new Resource(Resource.Type.PAYMENT, id), ifNoneMatch, loader, EntityTags::of, payment -> {
+        });
+    }
+
+    public ResponseEntity<PaymentDto> paymentOfOrder(Long orderId, String ifNoneMatch,
+                                                     Supplier<Optional<PaymentDto>> loader) {
+        return get(new Resource(Resource.Type.ORDER_PAYMENT, orderId), ifNoneMatch, loader, EntityTags::of,
+                payment -> {
+                });
+    }
+
+    void memberChanged(Long memberId) {
+        invalidate(Resource.Type.MEMBER, memberId);
+    }
+
+    void orderChanged(Long orderId, Long memberId) {
+        invalidate(Resource.Type.ORDER, orderId);
+        invalidate(Resource.Type.MEMBER, memberId != null ? memberId : orderMembers.get(orderId));
+    }
+
+    void paymentChanged(Long paymentId, Long orderId) {
+        invalidate(Resource.Type.PAYMENT, paymentId);
+        invalidate(Resource.Type.ORDER_PAYMENT, orderId);
+        if (orderId != null) {
+            orderChanged(orderId, null);
+        }
+    }
+
+    int size() {
+        return tags.size();
+    }
+
+    private <T> ResponseEntity<T> get(Resource resource, String ifNoneMatch, Supplier<Optional<T>> loader,
+                                      Function<T, String> tagger, Consumer<T> related) {
+        Outcomes counters = outcomes.get(resource.type());
+        if (ifNoneMatch != null && cacheVersions) {
+            String current = tags.get(resource);
+            if (current != null && matches(ifNoneMatch, current)) {
+                counters.cached.increment();
+                return notModified(current);
+            }
+        }
+
+        int stripe = resource.stripe();
+        long stamp = stamps.get(stripe);
+        Optional<T> body = loader.get();
+        if (body.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        String tag = tagger.apply(body.get());
+        if (cacheVersions) {
+            remember(resource, stripe, stamp, tag, () -> related.accept(body.get()));
+        }
+        if (ifNoneMatch == null) {
+            counters.unconditional.increment();
+        } else if (matches(ifNoneMatch, tag)) {
+            counters.notModified.increment();
+            return notModified(tag);
+        } else {
+            counters.modified.increment();
+        }
+        // JSON, CBOR and Smile share the weak tag; Vary keeps caches from serving one for another
+        return ResponseEntity.ok().eTag(tag).cacheControl(CacheControl.noCache()).varyBy(HttpHeaders.ACCEPT)
+                .body(body.get());
+    }
+
+    private void remember(Resource resource, int stripe, long stamp, String tag, Runnable related) {
+        if (tags.size() + orderMembers.size() >= maxEntries) {
+            clear();
+        }
+        clearLock.readLock().lock();
+        try {
+            related.run();
+            tags.put(resource, tag);
+            // Checked after the put: an invalidation either sees the tag and removes it, or bumped the stamp first
+            if (stamps.get(stripe) != stamp) {
+                tags.remove(resource, tag);
+            }
+        } finally {
+            clearLock.readLock().unlock();
+        }
+    }
+
+    private void invalidate(Resource.Type type, Long id) {
+        if (id == null || !cacheVersions) {
+            return;
+        }
+        Resource resource = new Resource(type, id);
+        stamps.incrementAndGet(resource.stripe());
+        tags.remove(resource);
+    }
+
+    /**
+     * Drops everything at once, so that no member tag outlives the orders it is known to cover.
+     */
+    private void clear() {
+        clearLock.writeLock().lock();
+        try {
+            tags.clear();
+            orderMembers.clear();
+        } finally {
+            clearLock.writeLock().unlock();
+        }
+        log.debug("Entity tag version map reached {} entries and was cleared", maxEntries);
+    }
+
+    private static <T> ResponseEntity<T> notModified(String tag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tag).cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT).build();
+    }
+
+    /**
+     * Weak comparison, as If-None-Match requires: a W/ prefix on either side is ignored.
+     */
+    static boolean matches(String ifNoneMatch, String tag) {
+        String current = tag.startsWith("W/") ? tag.substring(2) : tag;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*")) {
+                return true;
+            }
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if (trimmed.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    record Resource(Type type, long id) {
+
+        int stripe() {
+            long h = (id * 0x9E3779B97F4A7C15L) ^ type.ordinal();
+            return (int) ((h ^ (h >>> 32)) & (STRIPES - 1));
+        }
+
+        enum Type {
+            MEMBER, ORDER, PAYMENT, ORDER_PAYMENT
+        }
+    }
+
+    private static final class Outcomes {
+        private final Counter cached;
+        private final Counter notModified;
+        private final Counter modified;
+        private final Counter unconditional;
+
+        Outcomes(Resource.Type type, MeterRegistry meterRegistry) {
+            String resource = type.name().toLowerCase();
+            cached = counter(meterRegistry, resource, "not_modified_cached");
+            notModified = counter(meterRegistry, resource, "not_modified");
+            modified = counter(meterRegistry, resource, "modified");
+            unconditional = counter(meterRegistry, resource, "unconditional");
+            Gauge.builder("http.etag.not_modified.ratio", this, Outcomes::notModifiedRatio)
+                    .description("Share of conditional GETs answered 304")
+                    .tag("resource", resource)
+                    .register(meterRegistry);
+        }
+
+        private double notModifiedRatio() {
+            double conditional = cached.count() + notModified.count() + modified.count();
+            return conditional == 0 ? 0 : (cached.count() + notModified.count()) / conditional;
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, String resource, String outcome) {
+            return Counter.builder("http.etag.requests")
+                    .description("Conditional GET handling by outcome")
+                    .tag("resource", resource)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.infrastructure.web.etag;
+
+import com.example.domain.event.MemberEvents;
+import com.example.domain.event.OrderEvents;
+import com.example.domain.event.PaymentEvents;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Forgets entity tags once a change is committed. Events published outside a transaction, such
+ * as by the write-behind order engine, are handled right away.
+ */
+public class EntityTagInvalidator {
+
+    private final EntityTagCache cache;
+
+    public EntityTagInvalidator(EntityTagCache cache) {
+        this.cache = cache;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberActivated(MemberEvents.MemberActivated event) {
+        cache.memberChanged(event.getMemberId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberDeactivated(MemberEvents.MemberDeactivated event) {
+        cache.memberChanged(event.getMemberId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCreated(OrderEvents.OrderCreated event) {
+        cache.orderChanged(event.getOrderId(), event.getMemberId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderConfirmed(OrderEvents.OrderConfirmed event) {
+        cache.orderChanged(event.getOrderId(), event.getMemberId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCancelled(OrderEvents.OrderCancelled event) {
+        cache.orderChanged(event.getOrderId(), event.getMemberId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCompleted(OrderEvents.OrderCompleted event) {
+        cache.orderChanged(event.getOrderId(), event.getMemberId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaymentCreated(PaymentEvents.PaymentCreated event) {
+        cache.paymentChanged(event.getPaymentId(), event.getOrderId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaymentProcessed(PaymentEvents.PaymentProcessed event) {
+        cache.paymentChanged(event.getPaymentId(), event.getOrderId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaymentFailed(PaymentEvents.PaymentFailed event) {
+        cache.paymentChanged(event.getPaymentId(), event.getOrderId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaymentRefunded(PaymentEvents.PaymentRefunded event) {
+        cache.paymentChanged(event.getPaymentId(), event.getOrderId());
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.infrastructure.web.etag;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for entity tags on member, order and payment reads.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.etag")
+public class EntityTagProperties {
+
+    /**
+     * Answer a matching If-None-Match from the in-memory version map, without reading the
+     * database. Only safe while every change goes through this application node.
+     */
+    private boolean cacheVersions = true;
+
+    /**
+     * Upper bound on resources held in the version map; it is cleared when full.
+     */
+    private int maxEntries = 100_000;
+}
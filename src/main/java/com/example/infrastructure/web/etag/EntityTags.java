@@ -0,0 +1,69 @@
+package com.example.infrastructure.web.etag;
+
+import com.example.dto.MemberDto;
+import com.example.dto.OrderDto;
+import com.example.dto.PaymentDto;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Weak entity tags for the resource representations. A tag covers the fields a change can
+ * touch (status, last modification time and, for orders and members, the nested payment and
+ * orders), so it changes whenever a committed update changes the response. The JSON, CBOR and
+ * Smile bodies of one version are semantically equal but not byte-equal, so they share a weak
+ * tag rather than claiming a strong one.
+ */
+final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    static String of(MemberDto member) {
+        StringBuilder fields = new StringBuilder(64)
+                .append(member.getId()).append('|')
+                .append(member.getStatus()).append('|')
+                .append(member.getUpdatedAt()).append('|')
+                .append(member.getName()).append('|')
+                .append(member.getPhoneNumber());
+        if (member.getOrders() != null) {
+            member.getOrders().forEach(order -> appendOrder(fields.append('|'), order));
+        }
+        return quote(fields);
+    }
+
+    static String of(OrderDto order) {
+        return quote(appendOrder(new StringBuilder(64), order));
+    }
+
+    static String of(PaymentDto payment) {
+        return quote(appendPayment(new StringBuilder(48), payment));
+    }
+
+    private static StringBuilder appendOrder(StringBuilder fields, OrderDto order) {
+        fields.append(order.getId()).append('|')
+                .append(order.getStatus()).append('|')
+                .append(order.getUpdatedAt()).append('|')
+                .append(order.getMemberName()).append('|');
+        return order.getPayment() != null ? appendPayment(fields, order.getPayment()) : fields.append('-');
+    }
+
+    private static StringBuilder appendPayment(StringBuilder fields, PaymentDto payment) {
+        return fields.append(payment.getId()).append('|')
+                .append(payment.getStatus()).append('|')
+                .append(payment.getUpdatedAt()).append('|')
+                .append(payment.getTransactionId()).append('|')
+                .append(payment.getFailureReason());
+    }
+
+    /**
+     * FNV-1a over the fields, as a weak quoted hex string.
+     */
+    private static String quote(CharSequence fields) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : fields.toString().getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        return "W/\"" + Long.toHexString(hash) + "\"";
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.infrastructure.web.idempotency;
+
+import com.example.infrastructure.persistence.IdempotencyRecord;
+import com.example.infrastructure.persistence.IdempotencyRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Idempotency store backed by the idempotency_keys table.
+ * Concurrent duplicates on this node are still coalesced in memory; the table lets a retry
+ * that lands on another node, or after a restart, replay the completed response.
+ */
+@Slf4j
+public class DatabaseIdempotencyStore implements IdempotencyStore {
+
+    private final InMemoryIdempotencyStore inFlight;
+    private final IdempotencyRecordRepository repository;
+    private final Duration ttl;
+
+    public DatabaseIdempotencyStore(IdempotencyProperties properties, IdempotencyRecordRepository repository) {
+        this.inFlight = new InMemoryIdempotencyStore(properties);
+        this.repository = repository;
+        this.ttl = properties.getTtl();
+    }
+
+    @Override
+    public Reservation reserve(String key) {
+        Reservation reservation = inFlight.reserve(key);
+        if (!reservation.isOwner()) {
+            return reservation;
+        }
+        Optional<IdempotencyRecord> stored = repository.findActive(key, LocalDateTime.now().minus(ttl));
+        if (stored.isPresent()) {
+            IdempotencyRecord record = stored.get();
+            inFlight.complete(reservation,
+                    new StoredResponse(record.getRequestHash(), record.getStatus(), record.getContentType(),
+                            record.getLocation(), record.getEtag(), record.getBody()));
+            return reservation.asDuplicate();
+        }
+        return reservation;
+    }
+
+    @Override
+    public void complete(Reservation reservation, StoredResponse response) {
+        try {
+            repository.save(new IdempotencyRecord(reservation.getKey(), response.getRequestHash(), response.getStatus(),
+                    response.getContentType(), response.getLocation(), response.getEtag(), response.getBody(),
+                    LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            // The response is still replayed from memory on this node
+            log.warn("Failed to persist idempotency key {}: {}", reservation.getKey(), e.getMessage());
+        }
+        inFlight.complete(reservation, response);
+    }
+
+    @Override
+    public void release(Reservation reservation) {
+        inFlight.release(reservation);
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.cleanup-interval:PT10M}")
+    @Transactional
+    public void deleteExpired() {
+        int deleted = repository.deleteExpired(LocalDateTime.now().minus(ttl));
+        if (deleted > 0) {
+            log.debug("Deleted {} expired idempotency keys", deleted);
+        }
+    }
+}
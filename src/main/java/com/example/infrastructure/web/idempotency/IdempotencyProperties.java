@@ -0,0 +1,51 @@
+package com.example.infrastructure.web.idempotency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration for Idempotency-Key handling on mutation endpoints.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.idempotency")
+public class IdempotencyProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Where completed responses are kept: in memory only, or also in the idempotency_keys table.
+     */
+    private StoreType store = StoreType.MEMORY;
+
+    /**
+     * How long a completed response is replayed for the same key.
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * Upper bound on keys held in memory; the oldest completed keys are evicted first.
+     */
+    private int maxEntries = 100_000;
+
+    /**
+     * How long a duplicate request waits for the in-flight original before giving up with 409.
+     */
+    private Duration waitTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Endpoints honouring the header, as "METHOD /ant/path/pattern".
+     */
+    private List<String> endpoints = new ArrayList<>(List.of(
+            "POST /api/orders",
+            "PUT /api/payments/*/process"));
+
+    public enum StoreType {
+        MEMORY, JDBC
+    }
+}
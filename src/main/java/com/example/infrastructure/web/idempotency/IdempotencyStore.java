@@ -0,0 +1,42 @@
+package com.example.infrastructure.web.idempotency;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Store for idempotency keys.
+ * The first request for a key becomes its owner and executes; concurrent and later duplicates
+ * wait on the same future and replay the owner's response.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Reserves the key, or joins the execution that already holds it.
+     */
+    Reservation reserve(String key);
+
+    /**
+     * Records the owner's response and releases every waiting duplicate with it.
+     */
+    void complete(Reservation reservation, StoredResponse response);
+
+    /**
+     * Gives the key up after a failed execution so that a retry can run again.
+     */
+    void release(Reservation reservation);
+
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+    class Reservation {
+        private final String key;
+        private final boolean owner;
+        private final CompletableFuture<StoredResponse> response;
+
+        Reservation asDuplicate() {
+            return new Reservation(key, false, response);
+        }
+    }
+}
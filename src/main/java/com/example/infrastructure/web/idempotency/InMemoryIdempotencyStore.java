@@ -0,0 +1,100 @@
+package com.example.infrastructure.web.idempotency;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded in-memory idempotency store with a fixed time-to-live per key.
+ * Since every key lives for the same TTL, insertion order is expiry order and a FIFO queue
+ * is enough to evict expired keys, and the oldest completed ones when over capacity.
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongSupplier nanoClock;
+
+    public InMemoryIdempotencyStore(IdempotencyProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    InMemoryIdempotencyStore(IdempotencyProperties properties, LongSupplier nanoClock) {
+        this.ttlNanos = properties.getTtl().toNanos();
+        this.maxEntries = properties.getMaxEntries();
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public Reservation reserve(String key) {
+        while (true) {
+            long now = nanoClock.getAsLong();
+            Entry fresh = new Entry(key, new CompletableFuture<>(), now + ttlNanos);
+            Entry existing = entries.putIfAbsent(key, fresh);
+            if (existing == null) {
+                insertionOrder.add(fresh);
+                evict(now);
+                return new Reservation(key, true, fresh.response);
+            }
+            if (existing.isExpired(now)) {
+                entries.remove(key, existing);
+                continue;
+            }
+            return new Reservation(key, false, existing.response);
+        }
+    }
+
+    @Override
+    public void complete(Reservation reservation, StoredResponse response) {
+        reservation.getResponse().complete(response);
+    }
+
+    @Override
+    public void release(Reservation reservation) {
+        entries.computeIfPresent(reservation.getKey(),
+                (key, entry) -> entry.response == reservation.getResponse() ? null : entry);
+        reservation.getResponse().completeExceptionally(
+                new CancellationException("Original request for key " + reservation.getKey() + " failed"));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict(long now) {
+        Entry head;
+        while ((head = insertionOrder.peek()) != null) {
+            Entry current = entries.get(head.key);
+            if (current != head) {
+                insertionOrder.poll(); // already released or replaced
+            } else if (head.isExpired(now) || (entries.size() > maxEntries && head.response.isDone())) {
+                insertionOrder.poll();
+                entries.remove(head.key, head);
+            } else {
+                break; // in-flight keys are never evicted; the bound may be exceeded briefly
+            }
+        }
+    }
+
+    private static class Entry {
+        private final String key;
+        private final CompletableFuture<StoredResponse> response;
+        private final long expiresAtNanos;
+
+        Entry(String key, CompletableFuture<StoredResponse> response, long expiresAtNanos) {
+            this.key = key;
+            this.response = response;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos > 0;
+        }
+    }
+}
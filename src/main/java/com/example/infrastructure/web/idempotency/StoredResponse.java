@@ -0,0 +1,19 @@
+package com.example.infrastructure.web.idempotency;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Response captured for an idempotency key and replayed to retries, with the hash of the request
+ * that produced it so that a key reused for a different request is recognized.
+ */
+@Getter
+@RequiredArgsConstructor
+public class StoredResponse {
+    private final String requestHash;
+    private final int status;
+    private final String contentType;
+    private final String location;
+    private final String etag;
+    private final byte[] body;
+}
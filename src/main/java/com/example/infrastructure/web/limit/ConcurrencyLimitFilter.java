@@ -0,0 +1,179 @@
+package com.example.infrastructure.web.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Sheds load on the configured endpoint groups before it reaches the database.
+ * <p>
+ * Each group has a {@link VegasLimit}; a request over its group's limit gets an immediate 503
+ * with Retry-After instead of waiting for a pooled connection. While a group is congested, groups
+ * of lower priority may only use {@code lowPriorityShare} of their own limit, so listings back off
+ * before payment processing does.
+ */
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    public static final String REJECTED_METRIC = "http.concurrency.rejected";
+
+    private final List<Route> routes = new ArrayList<>();
+    private final List<VegasLimit> limits = new ArrayList<>();
+    private final Map<String, Counter> rejected;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final double lowPriorityShare;
+    private final String retryAfterSeconds;
+    private final LongSupplier nanoClock;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.lowPriorityShare = properties.getLowPriorityShare();
+        this.retryAfterSeconds = Long.toString(Math.max(1, properties.getRetryAfter().toSeconds()));
+        this.nanoClock = nanoClock;
+        for (ConcurrencyLimitProperties.Group group : properties.getGroups()) {
+            VegasLimit limit = new VegasLimit(group, properties, nanoClock);
+            limits.add(limit);
+            for (String endpoint : group.getEndpoints()) {
+                String[] parts = endpoint.trim().split("\\s+", 2);
+                routes.add(new Route(parts[0], parts[1], limit));
+            }
+            Gauge.builder("http.concurrency.limit", limit, VegasLimit::getLimit)
+                    .description("Current adaptive concurrency limit of the endpoint group")
+                    .tag("group", limit.getName())
+                    .register(meterRegistry);
+            Gauge.builder("http.concurrency.inflight", limit, VegasLimit::getInflight)
+                    .description("Requests of the endpoint group currently admitted")
+                    .tag("group", limit.getName())
+                    .register(meterRegistry);
+        }
+        this.rejected = limits.stream().collect(Collectors.toMap(VegasLimit::getName,
+                limit -> Counter.builder(REJECTED_METRIC)
+                        .description("Requests shed with 503 by the concurrency limiter")
+                        .tag("group", limit.getName())
+                        .register(meterRegistry)));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return route(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        VegasLimit limit = route(request);
+        if (!limit.tryAcquire(shareFor(limit))) {
+            rejected.get(limit.getName()).increment();
+            log.debug("Shedding {} {}: {} at limit {}", request.getMethod(), request.getRequestURI(),
+                    limit.getName(), limit.getLimit());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Server is busy, retry later");
+            return;
+        }
+
+        Permit permit = new Permit(limit, nanoClock.getAsLong());
+        try {
+            chain.doFilter(request, response);
+        } catch (ServletException | IOException | RuntimeException e) {
+            permit.release(true);
+            throw e;
+        }
+        if (request.isAsyncStarted()) {
+            // The handler returned a future; the request is only done when the response is
+            request.getAsyncContext().addListener(permit);
+        } else {
+            permit.release(isDropped(response.getStatus()));
+        }
+    }
+
+    private double shareFor(VegasLimit limit) {
+        for (VegasLimit other : limits) {
+            if (other.getPriority() > limit.getPriority() && other.isCongested()) {
+                return lowPriorityShare;
+            }
+        }
+        return 1.0;
+    }
+
+    private VegasLimit route(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Route route : routes) {
+            if (route.method().equalsIgnoreCase(request.getMethod()) && pathMatcher.match(route.pattern(), path)) {
+                return route.limit();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Timeouts and overload further down shrink the limit like long latency does.
+     */
+    private static boolean isDropped(int status) {
+        return status == HttpStatus.SERVICE_UNAVAILABLE.value() || status == HttpStatus.GATEWAY_TIMEOUT.value();
+    }
+
+    private record Route(String method, String pattern, VegasLimit limit) {
+    }
+
+    private class Permit implements AsyncListener {
+
+        private final VegasLimit limit;
+        private final long startedAt;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Permit(VegasLimit limit, long startedAt) {
+            this.limit = limit;
+            this.startedAt = startedAt;
+        }
+
+        void release(boolean dropped) {
+            if (released.compareAndSet(false, true)) {
+                limit.release(nanoClock.getAsLong() - startedAt, dropped);
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            HttpServletResponse response = (HttpServletResponse) event.getSuppliedResponse();
+            release(response != null && isDropped(response.getStatus()));
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release(true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release(true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
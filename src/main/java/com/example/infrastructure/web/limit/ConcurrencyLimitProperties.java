@@ -0,0 +1,98 @@
+package com.example.infrastructure.web.limit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration for adaptive concurrency limiting on the order and payment endpoints.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Value of the Retry-After header on a 503 for a shed request.
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /**
+     * How long a group counts as congested after its latency last pointed at queueing or it last
+     * shed a request.
+     */
+    private Duration congestionWindow = Duration.ofSeconds(1);
+
+    /**
+     * Fraction of its own limit a group may use while a group of higher priority is congested.
+     */
+    private double lowPriorityShare = 0.5;
+
+    /**
+     * How far each new limit estimate moves the current one (1 = jump straight to it).
+     */
+    private double smoothing = 1.0;
+
+    /**
+     * Endpoint groups, each with its own limit; a request belongs to the first group that matches.
+     */
+    private List<Group> groups = new ArrayList<>(List.of(
+            group("payment-processing", 100,
+                    "POST /api/payments",
+                    "PUT /api/payments/*/process",
+                    "PUT /api/payments/*/fail",
+                    "PUT /api/payments/*/refund"),
+            group("order-writes", 50,
+                    "POST /api/orders",
+                    "PUT /api/orders/*/confirm",
+                    "PUT /api/orders/*/cancel",
+                    "PUT /api/orders/*/complete"),
+            group("listings", 0,
+                    "GET /api/orders",
+                    "GET /api/orders/{id:\\d+}",
+                    "GET /api/orders/order-number/*",
+                    "GET /api/orders/member/*",
+                    "GET /api/orders/status/*",
+                    "GET /api/payments",
+                    "GET /api/payments/**",
+                    "GET /api/async/**",
+                    "GET /api/*:batchGet",
+                    "POST /api/*:batchGet")));
+
+    @Getter
+    @Setter
+    public static class Group {
+
+        private String name;
+
+        /**
+         * Groups of lower priority give up part of their limit while a higher one is congested.
+         */
+        private int priority;
+
+        /**
+         * Endpoints in the group, as "METHOD /ant/path/pattern".
+         */
+        private List<String> endpoints = new ArrayList<>();
+
+        private int initialLimit = 20;
+
+        private int minLimit = 1;
+
+        private int maxLimit = 200;
+    }
+
+    private static Group group(String name, int priority, String... endpoints) {
+        Group group = new Group();
+        group.setName(name);
+        group.setPriority(priority);
+        group.setEndpoints(new ArrayList<>(List.of(endpoints)));
+        return group;
+    }
+}
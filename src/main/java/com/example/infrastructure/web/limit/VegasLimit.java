@@ -0,0 +1,155 @@
+package com.example.infrastructure.web.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limit for one endpoint group, adjusted from observed latency in the manner of TCP
+ * Vegas.
+ * <p>
+ * The lowest latency seen approximates the no-load latency. For every completed request, the
+ * number of requests queued behind the bottleneck is estimated as
+ * {@code limit * (1 - noLoadRtt / rtt)}: with little queueing the limit grows quickly, with a lot
+ * it shrinks by {@code log10(limit)}. Requests above the limit are not admitted at all, so
+ * latency stays near the no-load latency instead of growing with the backlog. The no-load
+ * latency is re-probed now and then so it can follow a database that got slower for good.
+ */
+final class VegasLimit {
+
+    private static final int PROBE_MULTIPLIER = 30;
+
+    private final String name;
+    private final int priority;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final long congestionWindowNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private volatile int limit;
+    private volatile long congestedAt;
+    private volatile boolean everCongested;
+
+    // Guarded by this
+    private double estimatedLimit;
+    private long noLoadRttNanos;
+    private long samplesUntilProbe;
+
+    VegasLimit(ConcurrencyLimitProperties.Group group, ConcurrencyLimitProperties properties, LongSupplier nanoClock) {
+        if (group.getMinLimit() < 1 || group.getMaxLimit() < group.getMinLimit()) {
+            throw new IllegalArgumentException("Concurrency limit group " + group.getName()
+                    + " needs 1 <= min-limit <= max-limit");
+        }
+        this.name = group.getName();
+        this.priority = group.getPriority();
+        this.minLimit = group.getMinLimit();
+        this.maxLimit = group.getMaxLimit();
+        this.smoothing = properties.getSmoothing();
+        this.congestionWindowNanos = properties.getCongestionWindow().toNanos();
+        this.nanoClock = nanoClock;
+        this.estimatedLimit = Math.clamp(group.getInitialLimit(), minLimit, maxLimit);
+        this.limit = (int) estimatedLimit;
+        this.samplesUntilProbe = nextProbe(limit);
+    }
+
+    /**
+     * Admits a request if fewer than {@code share} of the limit are in flight.
+     */
+    boolean tryAcquire(double share) {
+        int allowed = Math.max(1, (int) (limit * share));
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) {
+                congestedAt = nanoClock.getAsLong();
+                everCongested = true;
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns the permit of a finished request and feeds its latency into the limit.
+     *
+     * @param dropped whether the request timed out or was refused further down
+     */
+    void release(long rttNanos, boolean dropped) {
+        int inflightAtCompletion = inflight.getAndDecrement();
+        update(rttNanos, inflightAtCompletion, dropped);
+    }
+
+    boolean isCongested() {
+        return everCongested && nanoClock.getAsLong() - congestedAt < congestionWindowNanos;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    int getPriority() {
+        return priority;
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    int getInflight() {
+        return inflight.get();
+    }
+
+    private synchronized void update(long rttNanos, int inflightAtCompletion, boolean dropped) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        if (--samplesUntilProbe <= 0) {
+            // Forget the minimum so a lasting slowdown becomes the new baseline
+            samplesUntilProbe = nextProbe(limit);
+            noLoadRttNanos = rttNanos;
+            return;
+        }
+        if (noLoadRttNanos == 0 || rttNanos < noLoadRttNanos) {
+            noLoadRttNanos = rttNanos;
+            return;
+        }
+
+        double current = estimatedLimit;
+        double step = Math.max(1.0, Math.log10(current));
+        double target;
+        if (dropped) {
+            target = current - step;
+            markCongested();
+        } else if (inflightAtCompletion * 2 < current) {
+            // Too little traffic to say anything about the limit
+            return;
+        } else {
+            double queued = Math.ceil(current * (1 - (double) noLoadRttNanos / rttNanos));
+            if (queued <= step) {
+                target = current + 6 * step;
+            } else if (queued < 3 * step) {
+                target = current + step;
+            } else if (queued > 6 * step) {
+                target = current - step;
+                markCongested();
+            } else {
+                return;
+            }
+        }
+        target = Math.clamp(target, minLimit, maxLimit);
+        estimatedLimit = (1 - smoothing) * current + smoothing * target;
+        limit = (int) estimatedLimit;
+    }
+
+    private void markCongested() {
+        congestedAt = nanoClock.getAsLong();
+        everCongested = true;
+    }
+
+    private static long nextProbe(int limit) {
+        // Jitter keeps groups and nodes from re-probing in lockstep
+        return (long) (PROBE_MULTIPLIER * limit * (1 + Math.random()));
+    }
+}
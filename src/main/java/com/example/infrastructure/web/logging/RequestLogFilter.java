@@ -0,0 +1,155 @@
+package com.example.infrastructure.web.logging;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Logs one line per request in place of the per-call controller and service logs: failed and
+ * slow requests always, the rest at the sample rate of their endpoint. A 503 with Retry-After is
+ * load shedding rather than a failure: it is counted and logged at WARN at most once a second,
+ * so an overload does not flood the error log. The values are passed as structured arguments, so
+ * the JSON encoder writes them as fields and nothing is formatted for a request that is not
+ * logged.
+ */
+@Slf4j
+public class RequestLogFilter extends OncePerRequestFilter {
+
+    private static final long SHED_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final double sampleRate;
+    private final Map<String, Double> endpointRates;
+    private final long slowThresholdNanos;
+    /** Shed requests since the last shed log line. */
+    private final AtomicLong shed = new AtomicLong();
+    private final AtomicLong nextShedLogAt = new AtomicLong(System.nanoTime());
+
+    public RequestLogFilter(RequestLogProperties properties) {
+        this.sampleRate = properties.getSampleRate();
+        this.endpointRates = Map.copyOf(properties.getEndpoints());
+        this.slowThresholdNanos = properties.getSlowThreshold().toNanos();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long startedAt = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } catch (ServletException | IOException | RuntimeException e) {
+            log(request, null, HttpStatus.INTERNAL_SERVER_ERROR.value(), startedAt, e);
+            throw e;
+        }
+        if (request.isAsyncStarted()) {
+            // Deferred results and streams are logged when they complete
+            request.getAsyncContext().addListener(new AsyncListener() {
+                private final AtomicBoolean logged = new AtomicBoolean();
+
+                @Override
+                public void onComplete(AsyncEvent event) {
+                    if (logged.compareAndSet(false, true)) {
+                        log(request, response, response.getStatus(), startedAt, null);
+                    }
+                }
+
+                @Override
+                public void onTimeout(AsyncEvent event) {
+                    // Completes with the timeout response, logged by onComplete
+                }
+
+                @Override
+                public void onError(AsyncEvent event) {
+                    if (logged.compareAndSet(false, true)) {
+                        log(request, null, HttpStatus.INTERNAL_SERVER_ERROR.value(), startedAt, event.getThrowable());
+                    }
+                }
+
+                @Override
+                public void onStartAsync(AsyncEvent event) {
+                    event.getAsyncContext().addListener(this);
+                }
+            });
+        } else {
+            log(request, response, response.getStatus(), startedAt, null);
+        }
+    }
+
+    /**
+     * @param response the completed response, or null when the request failed with an exception
+     */
+    private void log(HttpServletRequest request, HttpServletResponse response, int status, long startedAt,
+                     Throwable failure) {
+        long elapsed = System.nanoTime() - startedAt;
+        String endpoint = endpointOf(request);
+        String contentType = response != null ? response.getContentType() : null;
+        if (failure == null && isShed(response, status)) {
+            logShed(request, endpoint, status);
+        } else if (failure != null || status >= HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+            log.error("Request failed {} {} {} {}", kv("endpoint", endpoint), kv("path", request.getRequestURI()),
+                    kv("status", status), kv("durationMs", TimeUnit.NANOSECONDS.toMillis(elapsed)), failure);
+        } else if (elapsed >= slowThresholdNanos && !isStream(contentType)) {
+            log.warn("Slow request {} {} {} {}", kv("endpoint", endpoint), kv("path", request.getRequestURI()),
+                    kv("status", status), kv("durationMs", TimeUnit.NANOSECONDS.toMillis(elapsed)));
+        } else if (log.isInfoEnabled()) {
+            double rate = endpointRates.getOrDefault(endpoint, sampleRate);
+            if (rate >= 1.0 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate)) {
+                log.info("Request {} {} {} {} {}", kv("endpoint", endpoint), kv("path", request.getRequestURI()),
+                        kv("status", status), kv("durationMs", TimeUnit.NANOSECONDS.toMillis(elapsed)),
+                        kv("sampleRate", rate));
+            }
+        }
+    }
+
+    private void logShed(HttpServletRequest request, String endpoint, int status) {
+        shed.incrementAndGet();
+        long now = System.nanoTime();
+        long next = nextShedLogAt.get();
+        if (now - next >= 0 && nextShedLogAt.compareAndSet(next, now + SHED_LOG_INTERVAL_NANOS)) {
+            log.warn("Requests shed {} {} {} {}", kv("endpoint", endpoint), kv("path", request.getRequestURI()),
+                    kv("status", status), kv("shedSinceLastLog", shed.getAndSet(0)));
+        }
+    }
+
+    /**
+     * A 503 the concurrency limiter or the async read executor turned away, telling the client when
+     * to retry.
+     */
+    private static boolean isShed(HttpServletResponse response, int status) {
+        return status == HttpStatus.SERVICE_UNAVAILABLE.value() && response.getHeader(HttpHeaders.RETRY_AFTER) != null;
+    }
+
+    /**
+     * The mapped pattern, so all ids of an endpoint share one sample rate; the path for requests
+     * turned away before reaching a handler.
+     */
+    private static String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+
+    /**
+     * Exports and status streams are meant to stay open.
+     */
+    private static boolean isStream(String contentType) {
+        return contentType != null && (contentType.startsWith(MediaType.TEXT_EVENT_STREAM_VALUE)
+                || contentType.startsWith("application/x-ndjson") || contentType.startsWith("text/csv"));
+    }
+}
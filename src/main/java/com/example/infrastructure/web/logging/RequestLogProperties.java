@@ -0,0 +1,35 @@
+package com.example.infrastructure.web.logging;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration for the sampled per-request log line.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.request-logging")
+public class RequestLogProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * Share of successful, fast requests that are logged (0 none .. 1 all).
+     */
+    private double sampleRate = 0.01;
+
+    /**
+     * Sample rates by endpoint, keyed like "GET /api/orders/{id}" as the handler is mapped.
+     */
+    private Map<String, Double> endpoints = new LinkedHashMap<>();
+
+    /**
+     * Requests taking at least this long are always logged.
+     */
+    private Duration slowThreshold = Duration.ofMillis(500);
+}
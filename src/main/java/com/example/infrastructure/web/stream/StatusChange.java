@@ -0,0 +1,24 @@
+package com.example.infrastructure.web.stream;
+
+import java.time.LocalDateTime;
+
+/**
+ * One order or payment status change as sent on the stream. The id numbers the change on this
+ * node and starts over when the node restarts; the event id clients resume from prefixes it with
+ * the boot epoch (see {@link StatusChangeLog}).
+ *
+ * @param type the domain event type, such as OrderConfirmed or PaymentRefunded
+ * @param paymentId null for order changes
+ * @param status the order or payment status after the change
+ */
+public record StatusChange(long id, String type, Long memberId, Long orderId, Long paymentId, String status,
+                           LocalDateTime occurredOn) {
+
+    public boolean isPayment() {
+        return paymentId != null;
+    }
+
+    StatusChange withId(long id) {
+        return new StatusChange(id, type, memberId, orderId, paymentId, status, occurredOn);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.infrastructure.web.stream;
+
+import com.example.domain.Order;
+import com.example.domain.Payment;
+import com.example.domain.event.DomainEvent;
+import com.example.domain.event.OrderEvents;
+import com.example.domain.event.PaymentEvents;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Publishes order and payment status changes to the stream once they are committed. Events
+ * published outside a transaction, such as by the write-behind order engine, go out right away.
+ */
+public class StatusChangeListener {
+
+    private final StatusStreamRegistry registry;
+
+    public StatusChangeListener(StatusStreamRegistry registry) {
+        this.registry = registry;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCreated(OrderEvents.OrderCreated event) {
+        order(event, event.getMemberId(), event.getOrderId(), Order.OrderStatus.PENDING);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderConfirmed(OrderEvents.OrderConfirmed event) {
+        order(event, event.getMemberId(), event.getOrderId(), Order.OrderStatus.CONFIRMED);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCancelled(OrderEvents.OrderCancelled event) {
+        order(event, event.getMemberId(), event.getOrderId(), Order.OrderStatus.CANCELLED);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCompleted(OrderEvents.OrderCompleted event) {
+        order(event, event.getMemberId(), event.getOrderId(), Order.OrderStatus.COMPLETED);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaymentCreated(PaymentEvents.PaymentCreated event) {
+        payment(event, event.getMemberId(), event.getOrderId(), event.getPaymentId(), Payment.PaymentStatus.PENDING);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaymentProcessed(PaymentEvents.PaymentProcessed event) {
+        payment(event, event.getMemberId(), event.getOrderId(), event.getPaymentId(), Payment.PaymentStatus.COMPLETED);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaymentFailed(PaymentEvents.PaymentFailed event) {
+        payment(event, event.getMemberId(), event.getOrderId(), event.getPaymentId(), Payment.PaymentStatus.FAILED);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaymentRefunded(PaymentEvents.PaymentRefunded event) {
+        payment(event, event.getMemberId(), event.getOrderId(), event.getPaymentId(), Payment.PaymentStatus.REFUNDED);
+    }
+
+    private void order(DomainEvent event, Long memberId, Long orderId, Order.OrderStatus status) {
+        registry.publish(new StatusChange(0, event.getEventType(), memberId, orderId, null, status.name(),
+                event.getOccurredOn()));
+    }
+
+    private void payment(DomainEvent event, Long memberId, Long orderId, Long paymentId, Payment.PaymentStatus status) {
+        registry.publish(new StatusChange(0, event.getEventType(), memberId, orderId, paymentId, status.name(),
+                event.getOccurredOn()));
+    }
+}
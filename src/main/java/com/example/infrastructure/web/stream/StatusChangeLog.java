@@ -0,0 +1,87 @@
+package com.example.infrastructure.web.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The most recent status changes in a ring, numbered as they are appended, for subscribers that
+ * reconnect with Last-Event-ID. Appending and reading take no lock.
+ * <p>
+ * Numbers start over when the node restarts, so event ids are {@code <epoch>-<number>} with an
+ * epoch chosen per boot: an id from before a restart, or from another node, is then recognized
+ * instead of being mistaken for a recent one.
+ */
+class StatusChangeLog {
+
+    private final AtomicReferenceArray<StatusChange> ring;
+    private final AtomicLong sequence = new AtomicLong();
+    private final String epoch;
+
+    StatusChangeLog(int capacity) {
+        this(capacity, Long.toString(System.currentTimeMillis(), 36));
+    }
+
+    StatusChangeLog(int capacity, String epoch) {
+        this.ring = new AtomicReferenceArray<>(capacity);
+        this.epoch = epoch;
+    }
+
+    /**
+     * Numbers the change and keeps it, overwriting the oldest once the ring is full.
+     */
+    StatusChange append(StatusChange change) {
+        long id = sequence.incrementAndGet();
+        StatusChange numbered = change.withId(id);
+        ring.set((int) (id % ring.length()), numbered);
+        return numbered;
+    }
+
+    long lastId() {
+        return sequence.get();
+    }
+
+    String eventId(long id) {
+        return epoch + "-" + id;
+    }
+
+    /**
+     * The change number in an event id handed out by this boot, or null for any other id.
+     */
+    Long idOf(String eventId) {
+        int separator = eventId.lastIndexOf('-');
+        if (separator < 0 || !eventId.substring(0, separator).equals(epoch)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The changes after {@code lastId} still in the ring, oldest first, or null when some of them
+     * are gone or the id was never handed out, so the subscriber has to start over.
+     */
+    List<StatusChange> since(long lastId) {
+        long latest = sequence.get();
+        if (lastId > latest || lastId < latest - ring.length()) {
+            return null;
+        }
+        List<StatusChange> changes = new ArrayList<>((int) (latest - lastId));
+        for (long id = lastId + 1; id <= latest; id++) {
+            StatusChange change = ring.get((int) (id % ring.length()));
+            if (change == null || change.id() < id) {
+                // Numbered but not stored yet; it is delivered live
+                continue;
+            }
+            if (change.id() > id) {
+                return null;
+            }
+            changes.add(change);
+        }
+        return changes;
+    }
+}
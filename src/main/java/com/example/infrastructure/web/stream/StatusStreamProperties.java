@@ -0,0 +1,45 @@
+package com.example.infrastructure.web.stream;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the order and payment status event stream.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.status-stream")
+public class StatusStreamProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Events waiting to be written to one subscriber. A subscriber that falls this far behind
+     * is disconnected and catches up by reconnecting with Last-Event-ID.
+     */
+    private int bufferSize = 256;
+
+    /**
+     * Recent changes kept for resuming with Last-Event-ID; older ids get a reset event.
+     */
+    private int replayCapacity = 10_000;
+
+    /**
+     * Interval of the comment line sent to idle subscribers, which keeps proxies from closing the
+     * connection and finds clients that went away.
+     */
+    private Duration heartbeat = Duration.ofSeconds(15);
+
+    /**
+     * How long one connection stays open; the client then reconnects and resumes.
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    /**
+     * Order ids one subscription may name.
+     */
+    private int maxOrderIds = 100;
+}
@@ -0,0 +1,177 @@
+package com.example.infrastructure.web.stream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fans status changes out to the open streams subscribed to the member or the order.
+ * <p>
+ * Subscribers are indexed by member id and by order id in concurrent maps, so publishing is a
+ * lookup and a queue append per subscriber without any lock, and an idle stream holds no thread:
+ * writes run on a virtual thread only while a subscriber has something queued. A subscriber whose
+ * queue fills up is disconnected rather than slowing anyone down; its client resumes with
+ * Last-Event-ID from the replay log.
+ */
+@Slf4j
+public class StatusStreamRegistry implements AutoCloseable {
+
+    public static final String METRIC = "sse.status";
+
+    private final ConcurrentMap<Long, Set<StatusSubscriber>> byMember = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Set<StatusSubscriber>> byOrder = new ConcurrentHashMap<>();
+    private final Set<StatusSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final StatusChangeLog changeLog;
+    private final int bufferSize;
+    private final ExecutorService sender = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sse-", 0).factory());
+    private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("sse-heartbeat").daemon(true).factory());
+    private final Counter published;
+    private final Counter slowDisconnects;
+
+    public StatusStreamRegistry(StatusStreamProperties properties, MeterRegistry meterRegistry) {
+        this.changeLog = new StatusChangeLog(properties.getReplayCapacity());
+        this.bufferSize = properties.getBufferSize();
+        this.published = Counter.builder(METRIC + ".events")
+                .description("Status changes published to the stream")
+                .register(meterRegistry);
+        this.slowDisconnects = Counter.builder(METRIC + ".disconnected")
+                .description("Subscribers disconnected because their buffer was full")
+                .tag("reason", "slow")
+                .register(meterRegistry);
+        Gauge.builder(METRIC + ".subscribers", subscribers, Set::size)
+                .description("Open status streams")
+                .register(meterRegistry);
+        long heartbeat = properties.getHeartbeat().toMillis();
+        heartbeats.scheduleAtFixedRate(this::heartbeat, heartbeat, heartbeat, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Streams the changes of the member's orders and payments, and of the given orders, to the
+     * emitter. With a {@code lastEventId} the changes since then are sent first, or a reset event
+     * when they are no longer all known or the id is from another boot or node.
+     */
+    public void subscribe(SseEmitter emitter, Long memberId, Set<Long> orderIds, String lastEventId) {
+        StatusSubscriber subscriber = new StatusSubscriber(emitter, memberId, orderIds, bufferSize, changeLog::eventId);
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onError(e -> unregister(subscriber));
+        register(subscriber);
+
+        // Registered first, so a change is either in the log snapshot or queued live, or both
+        List<StatusChange> backlog;
+        if (lastEventId == null || lastEventId.isBlank()) {
+            backlog = List.of(StatusSubscriber.heartbeat());
+        } else {
+            Long lastId = changeLog.idOf(lastEventId.trim());
+            List<StatusChange> missed = lastId != null ? changeLog.since(lastId) : null;
+            backlog = missed != null
+                    ? missed.stream().filter(subscriber::matches).toList()
+                    : List.of(StatusSubscriber.reset(changeLog.lastId()));
+        }
+        subscriber.start(backlog, sender);
+    }
+
+    public void publish(StatusChange change) {
+        StatusChange numbered = changeLog.append(change);
+        published.increment();
+        if (numbered.memberId() != null) {
+            deliver(byMember.get(numbered.memberId()), numbered, null);
+        }
+        if (numbered.orderId() != null) {
+            deliver(byOrder.get(numbered.orderId()), numbered, numbered.memberId());
+        }
+    }
+
+    /**
+     * The event id clients see for the change number.
+     */
+    String eventId(long id) {
+        return changeLog.eventId(id);
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void close() {
+        heartbeats.shutdownNow();
+        subscribers.forEach(StatusSubscriber::close);
+        sender.shutdownNow();
+    }
+
+    /**
+     * Subscribers of the member already got the change from the member index.
+     */
+    private void deliver(Set<StatusSubscriber> targets, StatusChange change, Long deliveredToMember) {
+        if (targets == null) {
+            return;
+        }
+        for (StatusSubscriber subscriber : targets) {
+            if (deliveredToMember != null && deliveredToMember.equals(subscriber.getMemberId())) {
+                continue;
+            }
+            if (subscriber.offer(change)) {
+                subscriber.schedule(sender);
+            } else if (!subscriber.isClosed()) {
+                slowDisconnects.increment();
+                log.debug("Disconnecting a status stream of member {} that fell {} events behind",
+                        subscriber.getMemberId(), bufferSize);
+                subscriber.close();
+            }
+        }
+    }
+
+    private void heartbeat() {
+        for (StatusSubscriber subscriber : subscribers) {
+            // A subscriber with a full queue is busy enough and about to be dropped anyway
+            if (subscriber.offer(StatusSubscriber.heartbeat())) {
+                subscriber.schedule(sender);
+            }
+        }
+    }
+
+    private void register(StatusSubscriber subscriber) {
+        subscribers.add(subscriber);
+        if (subscriber.getMemberId() != null) {
+            add(byMember, subscriber.getMemberId(), subscriber);
+        }
+        subscriber.getOrderIds().forEach(orderId -> add(byOrder, orderId, subscriber));
+    }
+
+    private void unregister(StatusSubscriber subscriber) {
+        if (!subscribers.remove(subscriber)) {
+            return;
+        }
+        if (subscriber.getMemberId() != null) {
+            remove(byMember, subscriber.getMemberId(), subscriber);
+        }
+        subscriber.getOrderIds().forEach(orderId -> remove(byOrder, orderId, subscriber));
+    }
+
+    private static void add(ConcurrentMap<Long, Set<StatusSubscriber>> index, Long key, StatusSubscriber subscriber) {
+        index.compute(key, (id, set) -> {
+            Set<StatusSubscriber> target = set != null ? set : ConcurrentHashMap.newKeySet();
+            target.add(subscriber);
+            return target;
+        });
+    }
+
+    private static void remove(ConcurrentMap<Long, Set<StatusSubscriber>> index, Long key, StatusSubscriber subscriber) {
+        index.computeIfPresent(key, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+}
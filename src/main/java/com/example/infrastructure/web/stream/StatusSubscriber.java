@@ -0,0 +1,158 @@
+package com.example.infrastructure.web.stream;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * One open stream: what it subscribed to and the changes not yet written to it.
+ * <p>
+ * Publishers only append to the bounded queue and make sure one drain task is scheduled; the
+ * drain task is the only writer of the connection, so a slow client never holds up a publisher.
+ * Changes missed while disconnected are written first, before anything published since.
+ */
+class StatusSubscriber {
+
+    static final String HEARTBEAT = "heartbeat";
+    static final String RESET = "reset";
+
+    private static final StatusChange HEARTBEAT_CHANGE = new StatusChange(0, HEARTBEAT, null, null, null, null, null);
+
+    private final SseEmitter emitter;
+    private final Long memberId;
+    private final Set<Long> orderIds;
+    private final int capacity;
+    private final LongFunction<String> eventIds;
+    private final Queue<StatusChange> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile boolean started;
+    private List<StatusChange> backlog = List.of();
+    private Set<Long> replayed = Set.of();
+
+    StatusSubscriber(SseEmitter emitter, Long memberId, Set<Long> orderIds, int capacity,
+                     LongFunction<String> eventIds) {
+        this.emitter = emitter;
+        this.memberId = memberId;
+        this.orderIds = orderIds;
+        this.capacity = capacity;
+        this.eventIds = eventIds;
+    }
+
+    static StatusChange heartbeat() {
+        return HEARTBEAT_CHANGE;
+    }
+
+    /**
+     * Tells the client its Last-Event-ID can no longer be resumed: it should reload the state it
+     * shows and carry on from {@code lastId}.
+     */
+    static StatusChange reset(long lastId) {
+        return new StatusChange(lastId, RESET, null, null, null, null, null);
+    }
+
+    Long getMemberId() {
+        return memberId;
+    }
+
+    Set<Long> getOrderIds() {
+        return orderIds;
+    }
+
+    boolean matches(StatusChange change) {
+        return (memberId != null && memberId.equals(change.memberId())) || orderIds.contains(change.orderId());
+    }
+
+    /**
+     * Starts writing: first the backlog, then whatever was queued meanwhile that the backlog does
+     * not already hold.
+     */
+    void start(List<StatusChange> backlog, Executor executor) {
+        this.backlog = backlog;
+        this.replayed = backlog.stream()
+                .filter(change -> !HEARTBEAT.equals(change.type()) && !RESET.equals(change.type()))
+                .map(StatusChange::id)
+                .collect(Collectors.toUnmodifiableSet());
+        this.started = true;
+        schedule(executor);
+    }
+
+    /**
+     * Queues a change; false when the queue is full.
+     */
+    boolean offer(StatusChange change) {
+        if (queued.incrementAndGet() > capacity) {
+            queued.decrementAndGet();
+            return false;
+        }
+        queue.add(change);
+        return true;
+    }
+
+    void schedule(Executor executor) {
+        if (started && !closed.get() && draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+            }
+        }
+    }
+
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            emitter.complete();
+        }
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    private void drain() {
+        do {
+            try {
+                for (StatusChange change : backlog) {
+                    send(change);
+                }
+                backlog = List.of();
+                StatusChange change;
+                while (!closed.get() && (change = queue.poll()) != null) {
+                    queued.decrementAndGet();
+                    if (!replayed.contains(change.id())) {
+                        send(change);
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client went away; completing runs the emitter callbacks that unregister us
+                if (closed.compareAndSet(false, true)) {
+                    emitter.completeWithError(e);
+                }
+            }
+            draining.set(false);
+        } while (!queue.isEmpty() && !closed.get() && draining.compareAndSet(false, true));
+    }
+
+    private void send(StatusChange change) throws IOException {
+        switch (change.type()) {
+            case HEARTBEAT -> emitter.send(SseEmitter.event().comment(HEARTBEAT));
+            case RESET -> emitter.send(SseEmitter.event().id(eventIds.apply(change.id())).name(RESET).data(""));
+            default -> emitter.send(SseEmitter.event()
+                    .id(eventIds.apply(change.id()))
+                    .name(change.isPayment() ? "payment" : "order")
+                    .data(change, MediaType.APPLICATION_JSON));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.reporting;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Count-Min Sketch over string keys.
+ * <p>
+ * Estimates never undercount; with {@code width} counters per row they overcount by at most
+ * {@code e / width} of the total with probability {@code 1 - e^-depth}. Sketches of the same
+ * dimensions add up cell by cell, which is how windows are merged. Not thread-safe.
+ */
+class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final long[] counters;
+    private long total;
+
+    CountMinSketch(int width, int depth) {
+        if (width < 1 || depth < 1) {
+            throw new IllegalArgumentException("Sketch width and depth must be positive");
+        }
+        this.width = width;
+        this.depth = depth;
+        this.counters = new long[width * depth];
+    }
+
+    /**
+     * Adds to the key and returns its new estimate.
+     */
+    long add(String key, long count) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int cell = row * width + index(h1, h2, row);
+            counters[cell] += count;
+            estimate = Math.min(estimate, counters[cell]);
+        }
+        total += count;
+        return estimate;
+    }
+
+    long estimate(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[row * width + index(h1, h2, row)]);
+        }
+        return estimate;
+    }
+
+    void merge(CountMinSketch other) {
+        if (other.width != width || other.depth != depth) {
+            throw new IllegalArgumentException("Sketch dimensions differ");
+        }
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] += other.counters[i];
+        }
+        total += other.total;
+    }
+
+    void clear() {
+        Arrays.fill(counters, 0);
+        total = 0;
+    }
+
+    long getTotal() {
+        return total;
+    }
+
+    /**
+     * Largest overcount expected for any key at the configured confidence.
+     */
+    long errorBound() {
+        return (long) Math.ceil(Math.E / width * total);
+    }
+
+    int getWidth() {
+        return width;
+    }
+
+    int getDepth() {
+        return depth;
+    }
+
+    private int index(int h1, int h2, int row) {
+        // Kirsch-Mitzenmacher: row hashes derived from two independent ones
+        return Math.floorMod(h1 + row * h2, width);
+    }
+
+    /**
+     * FNV-1a over the UTF-8 bytes, so keys with equal {@link String#hashCode} still get different
+     * cells, then the SplitMix64 finalizer so both 32-bit halves are well mixed.
+     */
+    private static long hash(String key) {
+        long h = 0xCBF29CE484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xFF;
+            h *= 0x100000001B3L;
+        }
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+}
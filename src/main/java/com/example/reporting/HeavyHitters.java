@@ -0,0 +1,72 @@
+package com.example.reporting;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Approximate top-K keys of a stream in fixed memory: a {@link CountMinSketch} estimates every
+ * key and a min-heap keeps the {@code capacity} keys with the highest estimates seen so far.
+ * A key outside the heap replaces the smallest entry once its estimate exceeds it. Not thread-safe.
+ */
+class HeavyHitters {
+
+    private final CountMinSketch sketch;
+    private final int capacity;
+    private final Map<String, Candidate> candidates = new HashMap<>();
+    private final PriorityQueue<Candidate> heap = new PriorityQueue<>(Comparator.comparingLong(Candidate::count));
+
+    HeavyHitters(int capacity, int width, int depth) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.sketch = new CountMinSketch(width, depth);
+    }
+
+    void add(String key, long count) {
+        long estimate = sketch.add(key, count);
+        Candidate current = candidates.get(key);
+        if (current != null) {
+            // Capacity is small, so the linear removal is cheaper than an indexed heap
+            heap.remove(current);
+        } else if (heap.size() >= capacity) {
+            if (heap.peek().count() >= estimate) {
+                return;
+            }
+            candidates.remove(heap.poll().key());
+        }
+        Candidate updated = new Candidate(key, estimate);
+        candidates.put(key, updated);
+        heap.add(updated);
+    }
+
+    /**
+     * Tracked keys, highest estimate first.
+     */
+    List<Candidate> top(int limit) {
+        List<Candidate> sorted = new ArrayList<>(heap);
+        sorted.sort(Comparator.comparingLong(Candidate::count).reversed().thenComparing(Candidate::key));
+        return sorted.subList(0, Math.min(limit, sorted.size()));
+    }
+
+    Iterable<String> keys() {
+        return candidates.keySet();
+    }
+
+    CountMinSketch sketch() {
+        return sketch;
+    }
+
+    void clear() {
+        sketch.clear();
+        candidates.clear();
+        heap.clear();
+    }
+
+    record Candidate(String key, long count) {
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.reporting;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This node's order amount and buyer sketches per day.
+ * <p>
+ * Orders are recorded in memory and the sketches of changed days are periodically written to
+ * this node's rows in order_stats_sketches. A day that is not in memory is first loaded from
+ * its row, so a restarted node keeps adding to what it persisted earlier. Orders recorded since
+ * the last flush are lost if the process dies.
+ */
+@Component
+@Slf4j
+public class OrderStatsAccumulator implements SmartLifecycle {
+
+    private final Map<LocalDate, OrderStatsBucket> buckets = new ConcurrentHashMap<>();
+    private final OrderStatsSketchRepository repository;
+    private final OrderStatsProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+    private volatile boolean running;
+
+    public OrderStatsAccumulator(OrderStatsSketchRepository repository, OrderStatsProperties properties,
+                                 TransactionTemplate transactionTemplate) {
+        this.repository = repository;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.nodeId = properties.getNodeId() != null && !properties.getNodeId().isBlank()
+                ? properties.getNodeId() : hostName();
+    }
+
+    public void record(LocalDate day, double amount, long memberId) {
+        buckets.computeIfAbsent(day, this::load).record(amount, memberId);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * This node's in-memory bucket of the day, if any. Callers must only read it through
+     * {@link OrderStatsBucket#mergeInto}.
+     */
+    OrderStatsBucket bucket(LocalDate day) {
+        return buckets.get(day);
+    }
+
+    @Scheduled(fixedDelayString = "${app.reporting.order-stats.flush-interval:PT30S}")
+    public void flush() {
+        LocalDate oldestInMemory = LocalDate.now().minusDays(Math.max(1, properties.getMemoryDays()) - 1L);
+        for (Map.Entry<LocalDate, OrderStatsBucket> entry : buckets.entrySet()) {
+            LocalDate day = entry.getKey();
+            OrderStatsBucket bucket = entry.getValue();
+            if (bucket.isDirty()) {
+                byte[][] snapshot = bucket.snapshot();
+                try {
+                    transactionTemplate.executeWithoutResult(status -> save(day, snapshot));
+                } catch (RuntimeException e) {
+                    bucket.markDirty();
+                    log.warn("Failed to persist order stats sketches of {}: {}", day, e.getMessage());
+                    continue;
+                }
+            }
+            if (day.isBefore(oldestInMemory) && !bucket.isDirty()) {
+                buckets.remove(day, bucket);
+            }
+        }
+    }
+
+    private void save(LocalDate day, byte[][] snapshot) {
+        OrderStatsSketchId id = new OrderStatsSketchId(day, nodeId);
+        repository.findById(id).ifPresentOrElse(
+                sketch -> sketch.update(snapshot[0], snapshot[1]),
+                () -> repository.save(new OrderStatsSketch(id, snapshot[0], snapshot[1])));
+    }
+
+    private OrderStatsBucket load(LocalDate day) {
+        return repository.findById(new OrderStatsSketchId(day, nodeId))
+                .map(sketch -> OrderStatsBucket.fromBytes(sketch.getAmountDigest(), sketch.getBuyerSketch()))
+                .orElseGet(() -> OrderStatsBucket.empty(properties));
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "local";
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        flush();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
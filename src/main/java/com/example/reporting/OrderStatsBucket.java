@@ -0,0 +1,62 @@
+package com.example.reporting;
+
+/**
+ * Order amount digest and buyer sketch of one day, guarded by the bucket's own lock.
+ */
+class OrderStatsBucket {
+
+    private final TDigest amounts;
+    private final HyperLogLog buyers;
+    private boolean dirty;
+
+    OrderStatsBucket(TDigest amounts, HyperLogLog buyers) {
+        this.amounts = amounts;
+        this.buyers = buyers;
+    }
+
+    static OrderStatsBucket empty(OrderStatsProperties properties) {
+        return new OrderStatsBucket(new TDigest(properties.getCompression()), new HyperLogLog(properties.getHllPrecision()));
+    }
+
+    static OrderStatsBucket fromBytes(byte[] amountDigest, byte[] buyerSketch) {
+        return new OrderStatsBucket(TDigest.fromBytes(amountDigest), HyperLogLog.fromBytes(buyerSketch));
+    }
+
+    synchronized void record(double amount, long memberId) {
+        amounts.add(amount);
+        buyers.add(memberId);
+        dirty = true;
+    }
+
+    /**
+     * Adds this bucket's sketches to the target's.
+     */
+    synchronized void mergeInto(OrderStatsBucket target) {
+        target.amounts.merge(amounts);
+        target.buyers.merge(buyers);
+    }
+
+    synchronized boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Serializes the sketches and clears the dirty flag, as one step so no record is missed.
+     */
+    synchronized byte[][] snapshot() {
+        dirty = false;
+        return new byte[][]{amounts.toBytes(), buyers.toBytes()};
+    }
+
+    synchronized void markDirty() {
+        dirty = true;
+    }
+
+    TDigest amounts() {
+        return amounts;
+    }
+
+    HyperLogLog buyers() {
+        return buyers;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.reporting;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * /actuator/orderstats: today's order amount percentiles and distinct buyers across all nodes,
+ * and /actuator/orderstats/{day} for any other day.
+ */
+@Component
+@Endpoint(id = "orderstats")
+@RequiredArgsConstructor
+public class OrderStatsEndpoint {
+
+    private final OrderStatsService orderStatsService;
+
+    @ReadOperation
+    public OrderStatsSummary today() {
+        return summaryOf(LocalDate.now());
+    }
+
+    @ReadOperation
+    public OrderStatsSummary day(@Selector String day) {
+        return summaryOf(LocalDate.parse(day));
+    }
+
+    private OrderStatsSummary summaryOf(LocalDate day) {
+        return orderStatsService.getStats(day, day).getTotal();
+    }
+}
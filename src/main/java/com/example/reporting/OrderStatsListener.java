@@ -0,0 +1,21 @@
+package com.example.reporting;
+
+import com.example.domain.event.OrderEvents;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Feeds every committed order into the amount and buyer sketches of its day.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderStatsListener {
+
+    private final OrderStatsAccumulator accumulator;
+
+    @TransactionalEventListener
+    public void onOrderCreated(OrderEvents.OrderCreated event) {
+        accumulator.record(event.getOccurredOn().toLocalDate(), event.getTotalAmount().doubleValue(), event.getMemberId());
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.reporting;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.function.Function;
+
+/**
+ * Gauges of today's order amount percentiles and distinct buyers on this node.
+ * Percentiles do not add up across nodes; use the actuator endpoint for cluster-wide figures.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderStatsMetrics implements MeterBinder {
+
+    private static final long CACHE_MILLIS = 5_000;
+
+    private final OrderStatsService orderStatsService;
+    private volatile OrderStatsSummary cached;
+    private volatile long cachedAt;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        amountGauge(registry, "0.5", OrderStatsSummary::getP50Amount);
+        amountGauge(registry, "0.95", OrderStatsSummary::getP95Amount);
+        amountGauge(registry, "0.99", OrderStatsSummary::getP99Amount);
+        Gauge.builder("orders.buyers.distinct.today", this, metrics -> metrics.summary().getDistinctBuyers())
+                .description("Estimated distinct members who ordered today on this node")
+                .register(registry);
+        Gauge.builder("orders.count.today", this, metrics -> metrics.summary().getOrders())
+                .description("Orders created today on this node")
+                .register(registry);
+    }
+
+    private void amountGauge(MeterRegistry registry, String quantile, Function<OrderStatsSummary, BigDecimal> value) {
+        Gauge.builder("orders.amount.today", this, metrics -> {
+                    BigDecimal amount = value.apply(metrics.summary());
+                    return amount != null ? amount.doubleValue() : Double.NaN;
+                })
+                .tag("quantile", quantile)
+                .description("Estimated order amount percentile of today's orders on this node")
+                .register(registry);
+    }
+
+    private OrderStatsSummary summary() {
+        // One scrape reads five gauges; compute the sketches once
+        long now = System.currentTimeMillis();
+        OrderStatsSummary summary = cached;
+        if (summary == null || now - cachedAt > CACHE_MILLIS) {
+            summary = orderStatsService.today();
+            cached = summary;
+            cachedAt = now;
+        }
+        return summary;
+    }
+}
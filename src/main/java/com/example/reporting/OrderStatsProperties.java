@@ -0,0 +1,39 @@
+package com.example.reporting;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the order amount percentile and distinct buyer sketches.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.reporting.order-stats")
+public class OrderStatsProperties {
+
+    /**
+     * Identifies this node's rows; defaults to the host name. Must be unique per running node.
+     */
+    private String nodeId;
+
+    /**
+     * t-digest compression; higher is more accurate and larger.
+     */
+    private double compression = 100;
+
+    /**
+     * HyperLogLog precision; 14 uses 16 KB per day with about 0.8% error.
+     */
+    private int hllPrecision = 14;
+
+    /**
+     * Days, ending today, whose sketches stay in memory after being persisted.
+     */
+    private int memoryDays = 2;
+
+    /**
+     * Longest range a single report may cover, in days.
+     */
+    private int maxRangeDays = 366;
+}
@@ -0,0 +1,20 @@
+package com.example.reporting;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Order amount percentiles and distinct buyers per day over a range, merged across nodes.
+ * The total merges the days' sketches, so a buyer ordering on several days is counted once.
+ */
+@Getter
+@Builder
+public class OrderStatsReport {
+    private final LocalDate from;
+    private final LocalDate to;
+    private final List<OrderStatsSummary> days;
+    private final OrderStatsSummary total;
+}
@@ -0,0 +1,79 @@
+package com.example.reporting;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Answers percentile and distinct buyer queries by merging the per-day sketches of every node.
+ * This node's days are taken from memory, which is ahead of its persisted rows.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OrderStatsService {
+
+    private final OrderStatsSketchRepository repository;
+    private final OrderStatsAccumulator accumulator;
+    private final OrderStatsProperties properties;
+
+    public OrderStatsReport getStats(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("From and to dates are required");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("From date must not be after to date");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= properties.getMaxRangeDays()) {
+            throw new IllegalArgumentException("Report range cannot exceed " + properties.getMaxRangeDays() + " days");
+        }
+
+        Map<LocalDate, OrderStatsBucket> days = new TreeMap<>();
+        for (OrderStatsSketch sketch : repository.findByDayBetween(from, to)) {
+            LocalDate day = sketch.getId().getDay();
+            if (sketch.getId().getNodeId().equals(accumulator.getNodeId()) && accumulator.bucket(day) != null) {
+                continue;
+            }
+            OrderStatsBucket.fromBytes(sketch.getAmountDigest(), sketch.getBuyerSketch())
+                    .mergeInto(days.computeIfAbsent(day, d -> OrderStatsBucket.empty(properties)));
+        }
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            OrderStatsBucket local = accumulator.bucket(day);
+            if (local != null) {
+                local.mergeInto(days.computeIfAbsent(day, d -> OrderStatsBucket.empty(properties)));
+            }
+        }
+
+        OrderStatsBucket total = OrderStatsBucket.empty(properties);
+        List<OrderStatsSummary> summaries = new ArrayList<>(days.size());
+        days.forEach((day, bucket) -> {
+            bucket.mergeInto(total);
+            summaries.add(OrderStatsSummary.of(day, bucket.amounts(), bucket.buyers()));
+        });
+        return OrderStatsReport.builder()
+                .from(from)
+                .to(to)
+                .days(summaries)
+                .total(OrderStatsSummary.of(null, total.amounts(), total.buyers()))
+                .build();
+    }
+
+    /**
+     * Today's figures on this node only, for the gauges.
+     */
+    OrderStatsSummary today() {
+        OrderStatsBucket today = OrderStatsBucket.empty(properties);
+        OrderStatsBucket local = accumulator.bucket(LocalDate.now());
+        if (local != null) {
+            local.mergeInto(today);
+        }
+        return OrderStatsSummary.of(LocalDate.now(), today.amounts(), today.buyers());
+    }
+}
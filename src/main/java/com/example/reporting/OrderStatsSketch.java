@@ -0,0 +1,45 @@
+package com.example.reporting;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Serialized order amount digest and buyer sketch of one day as seen by one node.
+ * Each node only ever overwrites its own rows; readers merge the rows of all nodes.
+ */
+@Entity
+@Table(name = "order_stats_sketches")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderStatsSketch {
+
+    @EmbeddedId
+    private OrderStatsSketchId id;
+
+    @Column(nullable = false, length = 1_048_576)
+    private byte[] amountDigest;
+
+    @Column(nullable = false, length = 1_048_576)
+    private byte[] buyerSketch;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public OrderStatsSketch(OrderStatsSketchId id, byte[] amountDigest, byte[] buyerSketch) {
+        this.id = id;
+        update(amountDigest, buyerSketch);
+    }
+
+    public void update(byte[] amountDigest, byte[] buyerSketch) {
+        this.amountDigest = amountDigest;
+        this.buyerSketch = buyerSketch;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.reporting;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * One node's sketches of one calendar day.
+ */
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderStatsSketchId implements Serializable {
+
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate day;
+
+    @Column(name = "node_id", nullable = false, length = 100)
+    private String nodeId;
+
+    public OrderStatsSketchId(LocalDate day, String nodeId) {
+        if (day == null || nodeId == null) {
+            throw new NullPointerException("Day and node id cannot be null");
+        }
+        this.day = day;
+        this.nodeId = nodeId;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.reporting;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface OrderStatsSketchRepository extends JpaRepository<OrderStatsSketch, OrderStatsSketchId> {
+
+    @Query("SELECT s FROM OrderStatsSketch s WHERE s.id.day BETWEEN :from AND :to ORDER BY s.id.day")
+    List<OrderStatsSketch> findByDayBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
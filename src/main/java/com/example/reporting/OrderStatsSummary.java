@@ -0,0 +1,41 @@
+package com.example.reporting;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * Estimated order amount percentiles and distinct buyers of one day, or of a whole range when day is null.
+ */
+@Getter
+@Builder
+public class OrderStatsSummary {
+    private final LocalDate day;
+    private final long orders;
+    private final long distinctBuyers;
+    private final BigDecimal minAmount;
+    private final BigDecimal p50Amount;
+    private final BigDecimal p95Amount;
+    private final BigDecimal p99Amount;
+    private final BigDecimal maxAmount;
+
+    static OrderStatsSummary of(LocalDate day, TDigest amounts, HyperLogLog buyers) {
+        return OrderStatsSummary.builder()
+                .day(day)
+                .orders(amounts.size())
+                .distinctBuyers(buyers.cardinality())
+                .minAmount(amount(amounts.getMin()))
+                .p50Amount(amount(amounts.quantile(0.5)))
+                .p95Amount(amount(amounts.quantile(0.95)))
+                .p99Amount(amount(amounts.quantile(0.99)))
+                .maxAmount(amount(amounts.getMax()))
+                .build();
+    }
+
+    private static BigDecimal amount(double value) {
+        return Double.isNaN(value) ? null : BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.reporting;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Revenue of one day and payment method; day and payment method are null on report totals.
+ */
+@Getter
+@Builder
+public class RevenueBucket {
+    private final LocalDate day;
+    private final String paymentMethod;
+    private final long processedCount;
+    private final BigDecimal processedAmount;
+    private final long refundedCount;
+    private final BigDecimal refundedAmount;
+    private final BigDecimal netAmount;
+    private final long completedOrders;
+    private final BigDecimal completedOrderAmount;
+
+    static RevenueBucket of(LocalDate day, String paymentMethod, RevenueDelta delta) {
+        return RevenueBucket.builder()
+                .day(day)
+                .paymentMethod(paymentMethod)
+                .processedCount(delta.getProcessedCount())
+                .processedAmount(delta.getProcessedAmount())
+                .refundedCount(delta.getRefundedCount())
+                .refundedAmount(delta.getRefundedAmount())
+                .netAmount(delta.getNetAmount())
+                .completedOrders(delta.getCompletedOrders())
+                .completedOrderAmount(delta.getCompletedOrderAmount())
+                .build();
+    }
+}
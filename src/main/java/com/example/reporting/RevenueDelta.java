@@ -0,0 +1,55 @@
+package com.example.reporting;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Immutable set of counters added to one rollup bucket.
+ */
+@Getter
+public class RevenueDelta {
+
+    public static final RevenueDelta ZERO = new RevenueDelta(0, BigDecimal.ZERO, 0, BigDecimal.ZERO, 0, BigDecimal.ZERO);
+
+    private final long processedCount;
+    private final BigDecimal processedAmount;
+    private final long refundedCount;
+    private final BigDecimal refundedAmount;
+    private final long completedOrders;
+    private final BigDecimal completedOrderAmount;
+
+    public RevenueDelta(long processedCount, BigDecimal processedAmount,
+                        long refundedCount, BigDecimal refundedAmount,
+                        long completedOrders, BigDecimal completedOrderAmount) {
+        this.processedCount = processedCount;
+        this.processedAmount = processedAmount;
+        this.refundedCount = refundedCount;
+        this.refundedAmount = refundedAmount;
+        this.completedOrders = completedOrders;
+        this.completedOrderAmount = completedOrderAmount;
+    }
+
+    public static RevenueDelta processed(BigDecimal amount) {
+        return new RevenueDelta(1, amount, 0, BigDecimal.ZERO, 0, BigDecimal.ZERO);
+    }
+
+    public static RevenueDelta refunded(BigDecimal amount) {
+        return new RevenueDelta(0, BigDecimal.ZERO, 1, amount, 0, BigDecimal.ZERO);
+    }
+
+    public static RevenueDelta orderCompleted(BigDecimal amount) {
+        return new RevenueDelta(0, BigDecimal.ZERO, 0, BigDecimal.ZERO, 1, amount);
+    }
+
+    public RevenueDelta plus(RevenueDelta other) {
+        return new RevenueDelta(
+                processedCount + other.processedCount, processedAmount.add(other.processedAmount),
+                refundedCount + other.refundedCount, refundedAmount.add(other.refundedAmount),
+                completedOrders + other.completedOrders, completedOrderAmount.add(other.completedOrderAmount));
+    }
+
+    public BigDecimal getNetAmount() {
+        return processedAmount.subtract(refundedAmount);
+    }
+}
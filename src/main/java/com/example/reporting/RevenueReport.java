@@ -0,0 +1,19 @@
+package com.example.reporting;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Revenue over a range of days, per day and payment method, with totals.
+ */
+@Getter
+@Builder
+public class RevenueReport {
+    private final LocalDate from;
+    private final LocalDate to;
+    private final List<RevenueBucket> buckets;
+    private final RevenueBucket total;
+}
@@ -0,0 +1,74 @@
+package com.example.reporting;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Answers revenue range queries from the rollup buckets: the cost is one row per day and payment
+ * method in the range, independent of how many payments and orders those days hold.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RevenueReportService {
+
+    private static final Comparator<RevenueRollupId> BUCKET_ORDER = Comparator
+            .comparing(RevenueRollupId::getDay)
+            .thenComparing(RevenueRollupId::getPaymentMethod);
+
+    private final RevenueRollupRepository repository;
+    private final RevenueRollupAccumulator accumulator;
+    private final RevenueReportingProperties properties;
+
+    /**
+     * Revenue per day and payment method for every day in [from, to], including increments not yet flushed.
+     *
+     * @param paymentMethod optional filter; {@link RevenueRollupId#NO_PAYMENT} selects orders completed without payment
+     */
+    public RevenueReport getRevenue(LocalDate from, LocalDate to, String paymentMethod) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("From and to dates are required");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("From date must not be after to date");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= properties.getMaxRangeDays()) {
+            throw new IllegalArgumentException("Report range cannot exceed " + properties.getMaxRangeDays() + " days");
+        }
+
+        Map<RevenueRollupId, RevenueDelta> buckets = new TreeMap<>(BUCKET_ORDER);
+        for (RevenueRollup rollup : repository.findByDayBetween(from, to)) {
+            buckets.merge(rollup.getId(), rollup.toDelta(), RevenueDelta::plus);
+        }
+        accumulator.pendingSnapshot().forEach((id, delta) -> {
+            if (!id.getDay().isBefore(from) && !id.getDay().isAfter(to)) {
+                buckets.merge(id, delta, RevenueDelta::plus);
+            }
+        });
+        if (paymentMethod != null) {
+            buckets.keySet().removeIf(id -> !id.getPaymentMethod().equalsIgnoreCase(paymentMethod));
+        }
+
+        RevenueDelta total = RevenueDelta.ZERO;
+        for (RevenueDelta delta : buckets.values()) {
+            total = total.plus(delta);
+        }
+        List<RevenueBucket> rows = buckets.entrySet().stream()
+                .map(entry -> RevenueBucket.of(entry.getKey().getDay(), entry.getKey().getPaymentMethod(), entry.getValue()))
+                .toList();
+        return RevenueReport.builder()
+                .from(from)
+                .to(to)
+                .buckets(rows)
+                .total(RevenueBucket.of(null, paymentMethod, total))
+                .build();
+    }
+}
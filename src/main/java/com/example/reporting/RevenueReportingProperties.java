@@ -0,0 +1,24 @@
+package com.example.reporting;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the revenue rollups.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.reporting.revenue")
+public class RevenueReportingProperties {
+
+    /**
+     * Number of closed days, ending yesterday, recomputed from the source tables by the nightly rebuild.
+     */
+    private int rebuildDays = 2;
+
+    /**
+     * Longest range a single report may cover, in days.
+     */
+    private int maxRangeDays = 3660;
+}
@@ -0,0 +1,59 @@
+package com.example.reporting;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Pre-aggregated revenue of one day and payment method.
+ * Processed and refunded figures are bucketed by the day the payment was processed or refunded,
+ * completed orders by the day they were completed.
+ */
+@Entity
+@Table(name = "revenue_daily_rollups")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevenueRollup {
+
+    @EmbeddedId
+    private RevenueRollupId id;
+
+    @Column(nullable = false)
+    private long processedCount;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal processedAmount;
+
+    @Column(nullable = false)
+    private long refundedCount;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal refundedAmount;
+
+    @Column(nullable = false)
+    private long completedOrders;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal completedOrderAmount;
+
+    public RevenueRollup(RevenueRollupId id, RevenueDelta delta) {
+        this.id = id;
+        this.processedCount = delta.getProcessedCount();
+        this.processedAmount = delta.getProcessedAmount();
+        this.refundedCount = delta.getRefundedCount();
+        this.refundedAmount = delta.getRefundedAmount();
+        this.completedOrders = delta.getCompletedOrders();
+        this.completedOrderAmount = delta.getCompletedOrderAmount();
+    }
+
+    public RevenueDelta toDelta() {
+        return new RevenueDelta(processedCount, processedAmount, refundedCount, refundedAmount,
+                completedOrders, completedOrderAmount);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.reporting;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Buffers rollup increments in memory and periodically adds them to revenue_daily_rollups.
+ * Every payment of a day lands in the same few buckets, so writing each increment straight to the
+ * table would make concurrent requests queue on the same rows; flushing merges them into one
+ * update per bucket. Reports add the unflushed increments, so they never lag behind.
+ * Increments still buffered when the process dies are lost until the nightly rebuild.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RevenueRollupAccumulator implements SmartLifecycle {
+
+    private final Map<RevenueRollupId, RevenueDelta> pending = new ConcurrentHashMap<>();
+    private final RevenueRollupRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private volatile boolean running;
+
+    public void add(RevenueRollupId id, RevenueDelta delta) {
+        pending.merge(id, delta, RevenueDelta::plus);
+    }
+
+    /**
+     * Increments not yet written to the table.
+     */
+    public Map<RevenueRollupId, RevenueDelta> pendingSnapshot() {
+        return new HashMap<>(pending);
+    }
+
+    @Scheduled(fixedDelayString = "${app.reporting.revenue.flush-interval:PT5S}")
+    public void flush() {
+        for (RevenueRollupId id : pending.keySet()) {
+            RevenueDelta delta = pending.remove(id);
+            if (delta == null) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> apply(id, delta));
+            } catch (RuntimeException e) {
+                // Keep the increment for the next flush
+                pending.merge(id, delta, RevenueDelta::plus);
+                log.warn("Failed to flush revenue rollup {} {}: {}", id.getDay(), id.getPaymentMethod(), e.getMessage());
+            }
+        }
+    }
+
+    private void apply(RevenueRollupId id, RevenueDelta delta) {
+        int updated = repository.increment(id,
+                delta.getProcessedCount(), delta.getProcessedAmount(),
+                delta.getRefundedCount(), delta.getRefundedAmount(),
+                delta.getCompletedOrders(), delta.getCompletedOrderAmount());
+        if (updated == 0) {
+            // First increment of the bucket; a concurrent insert fails this flush and is retried
+            repository.saveAndFlush(new RevenueRollup(id, delta));
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        flush();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
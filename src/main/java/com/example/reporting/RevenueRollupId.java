@@ -0,0 +1,40 @@
+package com.example.reporting;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Bucket of a revenue rollup: one calendar day and one payment method.
+ */
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevenueRollupId implements Serializable {
+
+    /**
+     * Payment method of orders completed without a payment.
+     */
+    public static final String NO_PAYMENT = "NONE";
+
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate day;
+
+    @Column(name = "payment_method", nullable = false, length = 20)
+    private String paymentMethod;
+
+    public RevenueRollupId(LocalDate day, String paymentMethod) {
+        if (day == null) {
+            throw new NullPointerException("Day cannot be null");
+        }
+        this.day = day;
+        this.paymentMethod = paymentMethod != null ? paymentMethod : NO_PAYMENT;
+    }
+}
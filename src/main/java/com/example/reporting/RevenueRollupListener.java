@@ -0,0 +1,49 @@
+package com.example.reporting;
+
+import com.example.domain.event.OrderEvents;
+import com.example.domain.event.PaymentEvents;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Feeds committed payment and order transitions into the revenue rollups.
+ * Listening after commit keeps rolled-back and retried transactions out of the totals.
+ */
+@Component
+@RequiredArgsConstructor
+public class RevenueRollupListener {
+
+    private final RevenueRollupAccumulator accumulator;
+
+    /**
+     * Counts a payment once, on the day of its first completion, as the rebuild does; a refunded
+     * payment captured again stays in the refunded totals too.
+     */
+    @TransactionalEventListener
+    public void onPaymentProcessed(PaymentEvents.PaymentProcessed event) {
+        if (!event.isFirstCompletion()) {
+            return;
+        }
+        accumulator.add(new RevenueRollupId(event.getProcessedAt().toLocalDate(), event.getPaymentMethod()),
+                RevenueDelta.processed(event.getAmount()));
+    }
+
+    /**
+     * Counts a refund once, on the day of the first one, as the rebuild does.
+     */
+    @TransactionalEventListener
+    public void onPaymentRefunded(PaymentEvents.PaymentRefunded event) {
+        if (!event.isFirstRefund()) {
+            return;
+        }
+        accumulator.add(new RevenueRollupId(event.getRefundedAt().toLocalDate(), event.getPaymentMethod()),
+                RevenueDelta.refunded(event.getRefundAmount()));
+    }
+
+    @TransactionalEventListener
+    public void onOrderCompleted(OrderEvents.OrderCompleted event) {
+        accumulator.add(new RevenueRollupId(event.getCompletedAt().toLocalDate(), event.getPaymentMethod()),
+                RevenueDelta.orderCompleted(event.getTotalAmount()));
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.reporting;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevenueRollupRepository extends JpaRepository<RevenueRollup, RevenueRollupId> {
+
+    @Query("SELECT r FROM RevenueRollup r WHERE r.id.day BETWEEN :from AND :to ORDER BY r.id.day, r.id.paymentMethod")
+    List<RevenueRollup> findByDayBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Adds to an existing bucket in place, so concurrent writers never overwrite each other.
+     */
+    @Modifying
+    @Query("UPDATE RevenueRollup r SET "
+            + "r.processedCount = r.processedCount + :processedCount, "
+            + "r.processedAmount = r.processedAmount + :processedAmount, "
+            + "r.refundedCount = r.refundedCount + :refundedCount, "
+            + "r.refundedAmount = r.refundedAmount + :refundedAmount, "
+            + "r.completedOrders = r.completedOrders + :completedOrders, "
+            + "r.completedOrderAmount = r.completedOrderAmount + :completedOrderAmount "
+            + "WHERE r.id = :id")
+    int increment(@Param("id") RevenueRollupId id,
+                  @Param("processedCount") long processedCount,
+                  @Param("processedAmount") BigDecimal processedAmount,
+                  @Param("refundedCount") long refundedCount,
+                  @Param("refundedAmount") BigDecimal refundedAmount,
+                  @Param("completedOrders") long completedOrders,
+                  @Param("completedOrderAmount") BigDecimal completedOrderAmount);
+
+    @Modifying
+    @Query("DELETE FROM RevenueRollup r WHERE r.id.day BETWEEN :from AND :to")
+    int deleteByDayBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT CAST(p.processedAt AS LocalDate), p.paymentMethod, COUNT(p), SUM(p.amount) FROM Payment p "
+            + "WHERE p.processedAt >= :from AND p.processedAt < :to "
+            + "GROUP BY CAST(p.processedAt AS LocalDate), p.paymentMethod")
+    List<Object[]> aggregateProcessedPayments(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT CAST(p.refundedAt AS LocalDate), p.paymentMethod, COUNT(p), SUM(p.amount) FROM Payment p "
+            + "WHERE p.refundedAt >= :from AND p.refundedAt < :to "
+            + "GROUP BY CAST(p.refundedAt AS LocalDate), p.paymentMethod")
+    List<Object[]> aggregateRefundedPayments(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT CAST(o.completedAt AS LocalDate), p.paymentMethod, COUNT(o), SUM(o.totalAmount) FROM Order o "
+            + "LEFT JOIN o.payment p "
+            + "WHERE o.completedAt >= :from AND o.completedAt < :to "
+            + "GROUP BY CAST(o.completedAt AS LocalDate), p.paymentMethod")
+    List<Object[]> aggregateCompletedOrders(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
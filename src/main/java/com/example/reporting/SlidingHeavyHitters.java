@@ -0,0 +1,75 @@
+package com.example.reporting;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * Heavy hitters over a sliding window, kept as a ring of fixed-length slots.
+ * <p>
+ * Each slot has its own sketch and heap; a slot is cleared and reused once it falls out of the
+ * window, so memory never grows. Queries sum the live sketches and rank the union of the slots'
+ * candidates against the sum, so a key that is steady across slots but never on top of a single
+ * one can still be missed. The window moves in steps of one slot.
+ */
+class SlidingHeavyHitters {
+
+    private final HeavyHitters[] slots;
+    private final long[] slotIds;
+    private final long slotMillis;
+    private final LongSupplier clock;
+    private final int width;
+    private final int depth;
+
+    SlidingHeavyHitters(Duration window, int slotCount, int capacity, int width, int depth, LongSupplier clock) {
+        if (slotCount < 1 || window.toMillis() < slotCount) {
+            throw new IllegalArgumentException("Window must hold at least one millisecond per slot");
+        }
+        this.slots = new HeavyHitters[slotCount];
+        this.slotIds = new long[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = new HeavyHitters(capacity, width, depth);
+            slotIds[i] = -1;
+        }
+        this.slotMillis = window.toMillis() / slotCount;
+        this.clock = clock;
+        this.width = width;
+        this.depth = depth;
+    }
+
+    synchronized void add(String key, long count) {
+        long slotId = clock.getAsLong() / slotMillis;
+        int index = (int) Math.floorMod(slotId, (long) slots.length);
+        if (slotIds[index] != slotId) {
+            slots[index].clear();
+            slotIds[index] = slotId;
+        }
+        slots[index].add(key, count);
+    }
+
+    synchronized Ranking top(int limit) {
+        long oldest = clock.getAsLong() / slotMillis - slots.length + 1;
+        CountMinSketch merged = new CountMinSketch(width, depth);
+        Set<String> keys = new HashSet<>();
+        for (int i = 0; i < slots.length; i++) {
+            if (slotIds[i] >= oldest) {
+                merged.merge(slots[i].sketch());
+                slots[i].keys().forEach(keys::add);
+            }
+        }
+        List<HeavyHitters.Candidate> ranked = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            ranked.add(new HeavyHitters.Candidate(key, merged.estimate(key)));
+        }
+        ranked.sort(Comparator.comparingLong(HeavyHitters.Candidate::count).reversed()
+                .thenComparing(HeavyHitters.Candidate::key));
+        return new Ranking(ranked.subList(0, Math.min(limit, ranked.size())), merged.getTotal(), merged.errorBound());
+    }
+
+    record Ranking(List<HeavyHitters.Candidate> top, long total, long errorBound) {
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.reporting;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Merging t-digest for quantiles of a stream of values.
+ * <p>
+ * Values are clustered into centroids whose size shrinks towards both tails, so extreme
+ * quantiles stay accurate while memory is bounded by roughly {@code 2 x compression} centroids.
+ * Digests merge by re-clustering their centroids, which makes them combinable across time
+ * buckets and nodes, and they serialize to a compact byte form. Not thread-safe.
+ */
+public class TDigest {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private final double compression;
+    private double[] means;
+    private double[] weights;
+    private int centroidCount;
+    private final double[] bufferMeans;
+    private final double[] bufferWeights;
+    private int bufferCount;
+    private double totalWeight;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public TDigest(double compression) {
+        if (compression < 10) {
+            throw new IllegalArgumentException("Compression must be at least 10");
+        }
+        this.compression = compression;
+        int capacity = (int) Math.ceil(compression * 2) + 10;
+        this.means = new double[capacity];
+        this.weights = new double[capacity];
+        this.bufferMeans = new double[capacity * 5];
+        this.bufferWeights = new double[capacity * 5];
+    }
+
+    public void add(double value) {
+        add(value, 1);
+    }
+
+    public void add(double value, double weight) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("Cannot add NaN");
+        }
+        if (bufferCount == bufferMeans.length) {
+            compress();
+        }
+        bufferMeans[bufferCount] = value;
+        bufferWeights[bufferCount] = weight;
+        bufferCount++;
+        totalWeight += weight;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    public void merge(TDigest other) {
+        other.compress();
+        for (int i = 0; i < other.centroidCount; i++) {
+            if (bufferCount == bufferMeans.length) {
+                compress();
+            }
+            bufferMeans[bufferCount] = other.means[i];
+            bufferWeights[bufferCount] = other.weights[i];
+            bufferCount++;
+        }
+        totalWeight += other.totalWeight;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Estimated value at quantile {@code q} in [0, 1], or NaN when nothing was added.
+     */
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1");
+        }
+        compress();
+        if (centroidCount == 0) {
+            return Double.NaN;
+        }
+        if (centroidCount == 1) {
+            return means[0];
+        }
+        double index = q * totalWeight;
+        if (index < weights[0] / 2) {
+            return min + (means[0] - min) * index / (weights[0] / 2);
+        }
+        double weightSoFar = weights[0] / 2;
+        for (int i = 0; i < centroidCount - 1; i++) {
+            double step = (weights[i] + weights[i + 1]) / 2;
+            if (weightSoFar + step > index) {
+                return means[i] + (means[i + 1] - means[i]) * (index - weightSoFar) / step;
+            }
+            weightSoFar += step;
+        }
+        int last = centroidCount - 1;
+        double tail = weights[last] / 2;
+        return means[last] + (max - means[last]) * Math.min(1, (index - weightSoFar) / tail);
+    }
+
+    public long size() {
+        return Math.round(totalWeight);
+    }
+
+    public double getMin() {
+        return totalWeight == 0 ? Double.NaN : min;
+    }
+
+    public double getMax() {
+        return totalWeight == 0 ? Double.NaN : max;
+    }
+
+    int centroidCount() {
+        compress();
+        return centroidCount;
+    }
+
+    public byte[] toBytes() {
+        compress();
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 8 * 4 + 4 + centroidCount * 16);
+        buffer.put(FORMAT_VERSION)
+                .putDouble(compression)
+                .putDouble(totalWeight)
+                .putDouble(min)
+                .putDouble(max)
+                .putInt(centroidCount);
+        for (int i = 0; i < centroidCount; i++) {
+            buffer.putDouble(means[i]).putDouble(weights[i]);
+        }
+        return buffer.array();
+    }
+
+    public static TDigest fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte version = buffer.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported t-digest format: " + version);
+        }
+        TDigest digest = new TDigest(buffer.getDouble());
+        double totalWeight = buffer.getDouble();
+        double min = buffer.getDouble();
+        double max = buffer.getDouble();
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            double mean = buffer.getDouble();
+            double weight = buffer.getDouble();
+            if (digest.bufferCount == digest.bufferMeans.length) {
+                digest.compress();
+            }
+            digest.bufferMeans[digest.bufferCount] = mean;
+            digest.bufferWeights[digest.bufferCount] = weight;
+            digest.bufferCount++;
+        }
+        digest.totalWeight = totalWeight;
+        digest.min = min;
+        digest.max = max;
+        return digest;
+    }
+
+    private void compress() {
+        if (bufferCount == 0) {
+            return;
+        }
+        int count = centroidCount + bufferCount;
+        double[] allMeans = Arrays.copyOf(means, count);
+        double[] allWeights = Arrays.copyOf(weights, count);
+        System.arraycopy(bufferMeans, 0, allMeans, centroidCount, bufferCount);
+        System.arraycopy(bufferWeights, 0, allWeights, centroidCount, bufferCount);
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(allMeans[a], allMeans[b]));
+
+        double total = 0;
+        for (int i = 0; i < count; i++) {
+            total += allWeights[i];
+        }
+        int merged = 0;
+        double currentMean = allMeans[order[0]];
+        double currentWeight = allWeights[order[0]];
+        double weightSoFar = 0;
+        for (int i = 1; i < count; i++) {
+            int next = order[i];
+            double proposed = currentWeight + allWeights[next];
+            double q0 = weightSoFar / total;
+            double q2 = (weightSoFar + proposed) / total;
+            // Centroids may hold at most 4 N q (1 - q) / compression points, so the tails stay fine-grained
+            double limit = 4 * total * Math.min(q0 * (1 - q0), q2 * (1 - q2)) / compression;
+            if (proposed <= Math.max(1, limit)) {
+                currentMean += (allMeans[next] - currentMean) * allWeights[next] / proposed;
+                currentWeight = proposed;
+            } else {
+                merged = append(merged, currentMean, currentWeight);
+                weightSoFar += currentWeight;
+                currentMean = allMeans[next];
+                currentWeight = allWeights[next];
+            }
+        }
+        merged = append(merged, currentMean, currentWeight);
+        centroidCount = merged;
+        bufferCount = 0;
+    }
+
+    private int append(int index, double mean, double weight) {
+        if (index == means.length) {
+            means = Arrays.copyOf(means, index * 2);
+            weights = Arrays.copyOf(weights, index * 2);
+        }
+        means[index] = mean;
+        weights[index] = weight;
+        return index + 1;
+    }
+}
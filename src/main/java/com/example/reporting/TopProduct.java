@@ -0,0 +1,17 @@
+package com.example.reporting;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * One ranked product; the estimate may overcount by the report's error bound but never undercounts.
+ */
+@Getter
+@Builder
+public class TopProduct {
+    private final int rank;
+    private final String productName;
+    private final BigDecimal estimate;
+}
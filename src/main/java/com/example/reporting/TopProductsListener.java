@@ -0,0 +1,23 @@
+package com.example.reporting;
+
+import com.example.domain.event.OrderEvents;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Feeds the items of every committed order into the top products ranking.
+ */
+@Component
+@RequiredArgsConstructor
+public class TopProductsListener {
+
+    private final TopProductsTracker tracker;
+
+    @TransactionalEventListener
+    public void onOrderCreated(OrderEvents.OrderCreated event) {
+        for (OrderEvents.OrderCreated.Item item : event.getItems()) {
+            tracker.record(item.productName(), item.quantity(), item.totalPrice());
+        }
+    }
+}
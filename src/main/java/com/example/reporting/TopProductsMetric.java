@@ -0,0 +1,19 @@
+package com.example.reporting;
+
+import java.util.Locale;
+
+/**
+ * What products are ranked by: units ordered or order item revenue.
+ */
+public enum TopProductsMetric {
+    QUANTITY,
+    REVENUE;
+
+    public static TopProductsMetric from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported ranking metric: " + value);
+        }
+    }
+}
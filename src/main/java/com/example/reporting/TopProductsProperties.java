@@ -0,0 +1,40 @@
+package com.example.reporting;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the top products ranking. Memory is fixed at roughly
+ * {@code 2 metrics x (hourSlots + daySlots + 1) x sketchWidth x sketchDepth x 8} bytes.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.reporting.top-products")
+public class TopProductsProperties {
+
+    /**
+     * Candidate products tracked per slot; the largest ranking that can be requested.
+     */
+    private int capacity = 100;
+
+    /**
+     * Counters per sketch row; estimates overcount by at most e / width of the window total.
+     */
+    private int sketchWidth = 2048;
+
+    /**
+     * Rows per sketch; the error bound holds with probability 1 - e^-depth.
+     */
+    private int sketchDepth = 4;
+
+    /**
+     * Slots of the last-hour window, which moves in steps of one slot.
+     */
+    private int hourSlots = 12;
+
+    /**
+     * Slots of the last-day window.
+     */
+    private int daySlots = 24;
+}
@@ -0,0 +1,26 @@
+package com.example.reporting;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Approximate top products of a window, ranked by quantity or revenue.
+ */
+@Getter
+@Builder
+public class TopProductsReport {
+    private final TopProductsWindow window;
+    private final TopProductsMetric metric;
+    /**
+     * Exact quantity or revenue of all products in the window.
+     */
+    private final BigDecimal total;
+    /**
+     * Largest expected overcount of any estimate.
+     */
+    private final BigDecimal errorBound;
+    private final List<TopProduct> products;
+}
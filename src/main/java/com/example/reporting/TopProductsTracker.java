@@ -0,0 +1,97 @@
+package com.example.reporting;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Live, approximate top products by quantity and revenue for the last hour, the last day and
+ * since startup, in fixed memory regardless of how many orders or distinct products are seen.
+ * Revenue is counted in hundredths so that it fits the sketch's integer counters.
+ */
+@Component
+public class TopProductsTracker {
+
+    private static final int REVENUE_SCALE = 2;
+
+    private final Map<TopProductsMetric, Map<TopProductsWindow, SlidingHeavyHitters>> rankings =
+            new EnumMap<>(TopProductsMetric.class);
+    private final int capacity;
+
+    @Autowired
+    public TopProductsTracker(TopProductsProperties properties) {
+        this(properties, System::currentTimeMillis);
+    }
+
+    TopProductsTracker(TopProductsProperties properties, LongSupplier clock) {
+        this.capacity = properties.getCapacity();
+        for (TopProductsMetric metric : TopProductsMetric.values()) {
+            Map<TopProductsWindow, SlidingHeavyHitters> windows = new EnumMap<>(TopProductsWindow.class);
+            for (TopProductsWindow window : TopProductsWindow.values()) {
+                windows.put(window, create(window, properties, clock));
+            }
+            rankings.put(metric, windows);
+        }
+    }
+
+    private static SlidingHeavyHitters create(TopProductsWindow window, TopProductsProperties properties, LongSupplier clock) {
+        // All time is one slot that never expires
+        Duration duration = window.getDuration() != null ? window.getDuration() : Duration.ofMillis(Long.MAX_VALUE);
+        int slots = switch (window) {
+            case HOUR -> properties.getHourSlots();
+            case DAY -> properties.getDaySlots();
+            case ALL -> 1;
+        };
+        return new SlidingHeavyHitters(duration, slots, properties.getCapacity(),
+                properties.getSketchWidth(), properties.getSketchDepth(), clock);
+    }
+
+    public void record(String productName, int quantity, BigDecimal revenue) {
+        if (productName == null || quantity <= 0) {
+            return;
+        }
+        long revenueUnits = revenue.setScale(REVENUE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValue();
+        for (SlidingHeavyHitters window : rankings.get(TopProductsMetric.QUANTITY).values()) {
+            window.add(productName, quantity);
+        }
+        if (revenueUnits > 0) {
+            for (SlidingHeavyHitters window : rankings.get(TopProductsMetric.REVENUE).values()) {
+                window.add(productName, revenueUnits);
+            }
+        }
+    }
+
+    public TopProductsReport top(TopProductsWindow window, TopProductsMetric metric, int limit) {
+        if (limit < 1 || limit > capacity) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + capacity);
+        }
+        SlidingHeavyHitters.Ranking ranking = rankings.get(metric).get(window).top(limit);
+        List<TopProduct> products = new ArrayList<>(ranking.top().size());
+        for (HeavyHitters.Candidate candidate : ranking.top()) {
+            products.add(TopProduct.builder()
+                    .rank(products.size() + 1)
+                    .productName(candidate.key())
+                    .estimate(toValue(metric, candidate.count()))
+                    .build());
+        }
+        return TopProductsReport.builder()
+                .window(window)
+                .metric(metric)
+                .total(toValue(metric, ranking.total()))
+                .errorBound(toValue(metric, ranking.errorBound()))
+                .products(products)
+                .build();
+    }
+
+    private static BigDecimal toValue(TopProductsMetric metric, long count) {
+        return metric == TopProductsMetric.REVENUE ? BigDecimal.valueOf(count, REVENUE_SCALE) : BigDecimal.valueOf(count);
+    }
+}
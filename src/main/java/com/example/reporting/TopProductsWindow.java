@@ -0,0 +1,34 @@
+package com.example.reporting;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Time windows of the top products ranking.
+ */
+public enum TopProductsWindow {
+    HOUR(Duration.ofHours(1)),
+    DAY(Duration.ofDays(1)),
+    /**
+     * Since the application started.
+     */
+    ALL(null);
+
+    private final Duration duration;
+
+    TopProductsWindow(Duration duration) {
+        this.duration = duration;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public static TopProductsWindow from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported ranking window: " + value);
+        }
+    }
+}
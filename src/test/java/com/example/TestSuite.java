@@ -37,6 +37,7 @@ import org.junit.platform.suite.api.SuiteDisplayName;
     "com.example.controller",       // Controller tests
     "com.example.dto",             // DTO tests
     "com.example.integration",      // Integration tests
+    "com.example.infrastructure",   // Infrastructure component tests
     "com.example.performance",      // Performance tests
     "com.example.testdata"          // Test data builders
 })
@@ -0,0 +1,125 @@
+package com.example.controller;
+
+import com.example.domain.Member;
+import com.example.infrastructure.persistence.MemberRepository;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("CBOR/Smile 콘텐츠 협상 테스트")
+class BinaryContentNegotiationTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private final ObjectMapper json = new ObjectMapper().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+    private final CBORMapper cbor = new CBORMapper();
+
+    private MockMvc mockMvc;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        member = memberRepository.save(Member.builder()
+                .email("binary@example.com")
+                .name("Binary User")
+                .phoneNumber("010-1111-2222")
+                .build());
+    }
+
+    @Test
+    @DisplayName("CBOR 요청 본문으로 주문을 만들고 CBOR로 응답")
+    void createOrder_CborRoundTrip() throws Exception {
+        // Given
+        byte[] body = cbor.writeValueAsBytes(Map.of(
+                "memberId", member.getId(),
+                "orderItems", List.of(Map.of(
+                        "productName", "Binary Product",
+                        "productDescription", "Encoded as CBOR",
+                        "quantity", 3,
+                        "unitPrice", new BigDecimal("12345.67")))));
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        // Then
+        JsonNode order = cbor.readTree(result.getResponse().getContentAsByteArray());
+        assertThat(order.get("memberId").asLong()).isEqualTo(member.getId());
+        assertThat(order.get("totalAmount").decimalValue()).isEqualByComparingTo("37037.01");
+        assertThat(order.get("orderItems").get(0).get("unitPrice").decimalValue()).isEqualByComparingTo("12345.67");
+        assertThat(order.get("createdAt").isTextual()).isTrue();
+    }
+
+    @Test
+    @DisplayName("JSON, CBOR, Smile 응답은 같은 DTO를 담음")
+    void sameOrder_DecodesIdenticallyInEveryFormat() throws Exception {
+        // Given
+        MvcResult created = mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json.writeValueAsString(Map.of(
+                                "memberId", member.getId(),
+                                "orderItems", List.of(Map.of(
+                                        "productName", "Product",
+                                        "quantity", 2,
+                                        "unitPrice", new BigDecimal("99.90")))))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        long orderId = json.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+
+        // When
+        JsonNode fromJson = json.readTree(fetch(orderId, MediaType.APPLICATION_JSON));
+        JsonNode fromCbor = cbor.readTree(fetch(orderId, MediaType.APPLICATION_CBOR));
+        JsonNode fromSmile = new SmileMapper().readTree(fetch(orderId, SMILE));
+
+        // Then
+        assertThat(fromCbor).isEqualTo(fromJson);
+        assertThat(fromSmile).isEqualTo(fromJson);
+    }
+
+    private byte[] fetch(long orderId, MediaType mediaType) throws Exception {
+        return mockMvc.perform(get("/api/orders/{id}", orderId).accept(mediaType))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andExpect(header().string("Vary", "Accept"))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+}
@@ -21,6 +21,8 @@ import org.springframework.web.context.WebApplicationContext;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -270,6 +272,32 @@ class OrderControllerIntegrationTest {
                     .andExpect(jsonPath("$").isArray())
                     .andExpect(jsonPath("$.length()").value(0));
         }
+
+        @Test
+        @DisplayName("fields로 선택한 속성만 응답")
+        void getOrdersByMemberId_SparseFields() throws Exception {
+            // When & Then
+            mockMvc.perform(get("/api/orders/member/{memberId}", testMember.getId())
+                            .param("fields", "orderNumber,status,totalAmount"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(1))
+                    .andExpect(jsonPath("$[0].id").exists())
+                    .andExpect(jsonPath("$[0].orderNumber").exists())
+                    .andExpect(jsonPath("$[0].status").value("PENDING"))
+                    .andExpect(jsonPath("$[0].totalAmount").exists())
+                    .andExpect(jsonPath("$[0].memberName").doesNotExist())
+                    .andExpect(jsonPath("$[0].orderItems").doesNotExist())
+                    .andExpect(jsonPath("$[0].payment").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("알 수 없는 fields 속성은 400")
+        void getOrdersByMemberId_UnknownField() throws Exception {
+            // When & Then
+            mockMvc.perform(get("/api/orders/member/{memberId}", testMember.getId())
+                            .param("fields", "orderNumber,password"))
+                    .andExpect(status().isBadRequest());
+        }
     }
 
     @Nested
@@ -411,6 +439,50 @@ class OrderControllerIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("주문 일괄 조회 API 테스트")
+    class BatchGetOrdersTest {
+
+        @Test
+        @DisplayName("요청한 순서대로 주문을 돌려주고 없는 ID를 따로 알려줌")
+        void batchGetOrders_PreservesRequestOrderAndReportsMissing() throws Exception {
+            // Given
+            Order first = orderRepository.save(Order.builder()
+                    .orderNumber("ORD-BATCH-001")
+                    .member(testMember)
+                    .totalAmount(BigDecimal.valueOf(100.00))
+                    .build());
+            Order second = orderRepository.save(Order.builder()
+                    .orderNumber("ORD-BATCH-002")
+                    .member(testMember)
+                    .totalAmount(BigDecimal.valueOf(200.00))
+                    .build());
+
+            // When & Then
+            mockMvc.perform(get("/api/orders:batchGet")
+                            .param("ids", second.getId() + ",999999," + first.getId() + "," + second.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items.length()").value(2))
+                    .andExpect(jsonPath("$.items[0].orderNumber").value("ORD-BATCH-002"))
+                    .andExpect(jsonPath("$.items[0].memberName").value("Test User"))
+                    .andExpect(jsonPath("$.items[1].orderNumber").value("ORD-BATCH-001"))
+                    .andExpect(jsonPath("$.missing[0]").value(999999));
+        }
+
+        @Test
+        @DisplayName("본문으로 500개를 넘는 ID를 요청하면 400")
+        void batchGetOrders_TooManyIds_Returns400() throws Exception {
+            // Given
+            List<Long> ids = LongStream.rangeClosed(1, 501).boxed().toList();
+
+            // When & Then
+            mockMvc.perform(post("/api/orders:batchGet")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(Map.of("ids", ids))))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     @DisplayName("주문 검증 테스트")
     class OrderValidationTest {
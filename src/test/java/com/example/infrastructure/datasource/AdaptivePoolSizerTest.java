@@ -0,0 +1,118 @@
+package com.example.infrastructure.datasource;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.PoolStats;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("커넥션 풀 계측 및 적응형 크기 조정 테스트")
+class AdaptivePoolSizerTest {
+
+    @Nested
+    @DisplayName("풀 크기 결정 테스트")
+    class NextSizeTest {
+
+        private ConnectionPoolProperties.Adaptive settings;
+
+        @BeforeEach
+        void setUp() {
+            settings = new ConnectionPoolProperties.Adaptive();
+            settings.setMinSize(5);
+            settings.setMaxSize(20);
+            settings.setStep(2);
+        }
+
+        @Test
+        @DisplayName("대기 시간이 사용 시간보다 길면 풀 확장")
+        void waitDominates_Grows() {
+            // When
+            int next = AdaptivePoolSizer.nextSize(settings, 10, 8, 10, 40.0, 10.0, 10.0);
+
+            // Then
+            assertThat(next).isEqualTo(12);
+        }
+
+        @Test
+        @DisplayName("최대 크기를 넘지 않음")
+        void grow_CappedAtMax() {
+            // When
+            int next = AdaptivePoolSizer.nextSize(settings, 20, 8, 20, 40.0, 10.0, 10.0);
+
+            // Then
+            assertThat(next).isEqualTo(20);
+        }
+
+        @Test
+        @DisplayName("DB 지연이 기준치를 넘으면 대기가 있어도 축소")
+        void databaseSaturated_Shrinks() {
+            // When
+            int next = AdaptivePoolSizer.nextSize(settings, 10, 8, 10, 100.0, 50.0, 10.0);
+
+            // Then
+            assertThat(next).isEqualTo(8);
+        }
+
+        @Test
+        @DisplayName("유휴 상태면 최소 크기까지 축소")
+        void idle_ShrinksToMin() {
+            // When
+            int next = AdaptivePoolSizer.nextSize(settings, 6, 0, 0, 0.0, 5.0, 5.0);
+
+            // Then
+            assertThat(next).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("적정 부하면 크기 유지")
+        void steadyLoad_KeepsSize() {
+            // When
+            int next = AdaptivePoolSizer.nextSize(settings, 10, 0, 8, 0.1, 5.0, 5.0);
+
+            // Then
+            assertThat(next).isEqualTo(10);
+        }
+    }
+
+    @Nested
+    @DisplayName("엔드포인트별 커넥션 점유 시간 테스트")
+    class HoldTimeTest {
+
+        @Test
+        @DisplayName("커넥션 반환 시 현재 엔드포인트 태그로 기록")
+        void connectionUsage_RecordedPerEndpoint() {
+            // Given
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            IMetricsTracker tracker = new EndpointAwareMetricsTrackerFactory(registry)
+                    .create("test-pool", new PoolStats(0) {
+                        @Override
+                        protected void update() {
+                        }
+                    });
+
+            // When
+            RequestEndpointContext.set("GET /api/orders/{id}");
+            try {
+                tracker.recordConnectionUsageMillis(42);
+            } finally {
+                RequestEndpointContext.clear();
+            }
+            tracker.recordConnectionUsageMillis(7);
+
+            // Then
+            Timer endpointTimer = registry.find(EndpointAwareMetricsTrackerFactory.HOLD_TIME_METRIC)
+                    .tag("endpoint", "GET /api/orders/{id}").timer();
+            Timer backgroundTimer = registry.find(EndpointAwareMetricsTrackerFactory.HOLD_TIME_METRIC)
+                    .tag("endpoint", RequestEndpointContext.NONE).timer();
+            assertThat(endpointTimer).isNotNull();
+            assertThat(endpointTimer.count()).isEqualTo(1);
+            assertThat(backgroundTimer).isNotNull();
+            assertThat(registry.find("hikaricp.connections.usage").tag("pool", "test-pool").timer()).isNotNull();
+        }
+    }
+}
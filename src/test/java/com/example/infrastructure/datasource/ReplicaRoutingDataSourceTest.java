@@ -0,0 +1,132 @@
+package com.example.infrastructure.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ReplicaRoutingDataSource 테스트")
+class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("routing_primary", "primary");
+        replica = h2("routing_replica", "replica");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 레플리카로 라우팅")
+    void readOnlyTransaction_RoutesToReplica() {
+        // Given
+        ReplicaPool pool = new ReplicaPool(List.of(new ReplicaPool.Node("replica-1", replica)),
+                Duration.ofSeconds(1), Duration.ofSeconds(10), null);
+
+        // When
+        String node = readNode(pool, true);
+
+        // Then
+        assertThat(node).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 프라이머리로 라우팅")
+    void readWriteTransaction_RoutesToPrimary() {
+        // Given
+        ReplicaPool pool = new ReplicaPool(List.of(new ReplicaPool.Node("replica-1", replica)),
+                Duration.ofSeconds(1), Duration.ofSeconds(10), null);
+
+        // When
+        String node = readNode(pool, false);
+
+        // Then
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 프라이머리로 폴백")
+    void laggingReplica_FallsBackToPrimary() {
+        // Given
+        ReplicaPool pool = new ReplicaPool(List.of(new ReplicaPool.Node("replica-1", replica)),
+                Duration.ofSeconds(1), Duration.ofSeconds(10), "SELECT 60");
+        pool.checkHealth();
+
+        // When
+        String node = readNode(pool, true);
+
+        // Then
+        assertThat(pool.getNodes().get(0).isHealthy()).isFalse();
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("정상 레플리카 간 라운드 로빈")
+    void healthyReplicas_AreUsedRoundRobin() {
+        // Given
+        DataSource secondReplica = h2("routing_replica_2", "replica-2");
+        ReplicaPool pool = new ReplicaPool(List.of(
+                new ReplicaPool.Node("replica-1", replica),
+                new ReplicaPool.Node("replica-2", secondReplica)),
+                Duration.ofSeconds(1), Duration.ofSeconds(10), "SELECT 0");
+        pool.checkHealth();
+
+        // When
+        String first = pool.nextReplica().orElseThrow();
+        String second = pool.nextReplica().orElseThrow();
+        String third = pool.nextReplica().orElseThrow();
+
+        // Then
+        assertThat(first).isNotEqualTo(second);
+        assertThat(third).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("프라이머리와 같은 이름이나 중복된 이름의 레플리카는 시작 시 거절")
+    void reservedOrDuplicateReplicaName_IsRejected() {
+        // Given
+        ReplicaPool namedPrimary = new ReplicaPool(List.of(new ReplicaPool.Node(ReplicaRoutingDataSource.PRIMARY, replica)),
+                Duration.ofSeconds(1), Duration.ofSeconds(10), null);
+        ReplicaPool duplicated = new ReplicaPool(List.of(
+                new ReplicaPool.Node("replica-1", replica),
+                new ReplicaPool.Node("replica-1", replica)),
+                Duration.ofSeconds(1), Duration.ofSeconds(10), null);
+
+        // When & Then
+        assertThatThrownBy(() -> new ReplicaRoutingDataSource(primary, namedPrimary))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("reserved");
+        assertThatThrownBy(() -> new ReplicaRoutingDataSource(primary, duplicated))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("more than once");
+    }
+
+    private String readNode(ReplicaPool pool, boolean readOnly) {
+        DataSource routing = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, pool));
+        JdbcTemplate jdbc = new JdbcTemplate(routing);
+        TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(routing));
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbc.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private static DataSource h2(String database, String nodeName) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        jdbc.execute("DELETE FROM node");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", nodeName);
+        return dataSource;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.infrastructure.datasource.shard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ConsistentHashRing 테스트")
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 100_000;
+
+    @Test
+    @DisplayName("연속된 회원 ID가 샤드에 고르게 분산")
+    void sequentialKeys_AreSpreadEvenly() {
+        // Given
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("shard-0", "shard-1", "shard-2"), 160);
+
+        // When
+        Map<String, Integer> counts = new HashMap<>();
+        for (long key = 1; key <= KEYS; key++) {
+            counts.merge(ring.shardFor(key), 1, Integer::sum);
+        }
+
+        // Then
+        assertThat(counts).hasSize(3);
+        assertThat(counts.values()).allSatisfy(count ->
+                assertThat(count).isBetween(KEYS * 28 / 100, KEYS * 39 / 100));
+    }
+
+    @Test
+    @DisplayName("샤드를 추가하면 약 1/n의 키만 새 샤드로 이동")
+    void addingShard_MovesOnlyItsShareToTheNewShard() {
+        // Given
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("shard-0", "shard-1", "shard-2"), 160);
+        ConsistentHashRing extended = ring.withShard("shard-3");
+
+        // When
+        int moved = 0;
+        for (long key = 1; key <= KEYS; key++) {
+            String before = ring.shardFor(key);
+            String after = extended.shardFor(key);
+            if (!before.equals(after)) {
+                assertThat(after).isEqualTo("shard-3");
+                moved++;
+            }
+        }
+
+        // Then
+        assertThat(extended.getShards()).containsExactlyInAnyOrder("shard-0", "shard-1", "shard-2", "shard-3");
+        assertThat(moved).isBetween(KEYS * 19 / 100, KEYS * 31 / 100);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.infrastructure.datasource.shard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ShardSchema 테스트")
+class ShardSchemaTest {
+
+    @Test
+    @DisplayName("다른 샤드에서 옮겨 온 행이 있어도 ID는 자기 샤드 범위에서 이어짐")
+    void initialize_RestartsIdsWithinTheShardRange() {
+        // Given
+        Map<String, DataSource> shards = new LinkedHashMap<>();
+        for (String name : new String[]{"schema0", "schema1"}) {
+            DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            for (String table : ShardSchema.SHARDED_TABLES) {
+                jdbcTemplate.execute("CREATE TABLE " + table + " (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY)");
+            }
+            shards.put(name, dataSource);
+        }
+        long shard1Base = 1L << ShardRouter.ID_SHIFT;
+        JdbcTemplate shard0 = new JdbcTemplate(shards.get("schema0"));
+        JdbcTemplate shard1 = new JdbcTemplate(shards.get("schema1"));
+        shard0.update("INSERT INTO orders (id) VALUES (7), (?)", shard1Base + 40);
+        shard1.update("INSERT INTO orders (id) VALUES (?), (12)", shard1Base + 3);
+
+        // When
+        new ShardSchema().initialize(shards);
+        shard0.update("INSERT INTO orders DEFAULT VALUES");
+        shard1.update("INSERT INTO orders DEFAULT VALUES");
+        shard0.update("INSERT INTO payments DEFAULT VALUES");
+        shard1.update("INSERT INTO payments DEFAULT VALUES");
+
+        // Then
+        assertThat(shard0.queryForObject("SELECT MAX(id) FROM orders WHERE id < ?", Long.class, shard1Base)).isEqualTo(8);
+        assertThat(shard1.queryForObject("SELECT MAX(id) FROM orders", Long.class)).isEqualTo(shard1Base + 4);
+        assertThat(shard0.queryForObject("SELECT id FROM payments", Long.class)).isEqualTo(1);
+        assertThat(shard1.queryForObject("SELECT id FROM payments", Long.class)).isEqualTo(shard1Base + 1);
+    }
+}
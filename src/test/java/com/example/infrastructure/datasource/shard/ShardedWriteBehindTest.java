@@ -0,0 +1,107 @@
+package com.example.infrastructure.datasource.shard;
+
+import com.example.application.service.MemberService;
+import com.example.application.service.OrderService;
+import com.example.dto.OrderDto;
+import com.example.infrastructure.persistence.writebehind.WriteBehindOrderEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Sharding with the write-behind order store; not transactional, the engine commits on its own.
+ */
+@SpringBootTest(properties = {
+        "app.datasource.sharding.enabled=true",
+        "app.datasource.sharding.shards[0].name=shard-0",
+        "app.datasource.sharding.shards[0].url=jdbc:h2:mem:shardedwb0;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "app.datasource.sharding.shards[0].username=sa",
+        "app.datasource.sharding.shards[1].name=shard-1",
+        "app.datasource.sharding.shards[1].url=jdbc:h2:mem:shardedwb1;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "app.datasource.sharding.shards[1].username=sa",
+        "app.order-store.flush-interval=1h",
+        "app.order-store.sync-on-append=false"
+})
+@ActiveProfiles({"test", "write-behind"})
+@DisplayName("샤딩과 write-behind 주문 저장소 동시 사용 테스트")
+class ShardedWriteBehindTest {
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("app.order-store.wal-directory", () -> {
+            try {
+                return Files.createTempDirectory("sharded-order-wal").toString();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private WriteBehindOrderEngine engine;
+
+    @AfterEach
+    void tearDown() {
+        engine.flushPending();
+        for (Shard shard : shardRouter.getShards()) {
+            shard.jdbcTemplate().update("DELETE FROM order_items");
+            shard.jdbcTemplate().update("DELETE FROM orders");
+            shard.jdbcTemplate().update("DELETE FROM members");
+        }
+        shardRouter.getDirectory().jdbcTemplate().update("DELETE FROM member_emails");
+    }
+
+    @Test
+    @DisplayName("주문은 회원 샤드의 ID 범위에서 발급되어 그 샤드에 기록되고, ID·주문 번호 조회도 그 샤드로 라우팅")
+    void orders_AreWrittenToAndReadFromTheMemberShard() {
+        // Given
+        List<OrderDto> orders = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Long memberId = memberService.createMember("writebehind" + i + "@example.com", "Member " + i,
+                    String.format("010-3000-%04d", i)).getId();
+            orders.add(orderService.createOrder(memberId, List.of(
+                    new OrderService.OrderItemRequest("Desk lamp", "LED desk lamp", 1, new BigDecimal("42000")))));
+        }
+
+        // When
+        engine.flushPending();
+
+        // Then
+        assertThat(orders).extracting(order -> shardRouter.ownerOf(order.getMemberId())).contains("shard-0", "shard-1");
+        for (OrderDto order : orders) {
+            Shard owner = shardRouter.getShard(shardRouter.ownerOf(order.getMemberId()));
+            assertThat(owner.generated(order.getId())).isTrue();
+            for (Shard shard : shardRouter.getShards()) {
+                assertThat(shard.jdbcTemplate().queryForObject("SELECT COUNT(*) FROM orders WHERE id = ?", Long.class,
+                        order.getId())).isEqualTo(shard == owner ? 1 : 0);
+            }
+            assertThat(orderService.getOrderById(order.getId())).map(OrderDto::getMemberId).contains(order.getMemberId());
+            assertThat(orderService.getOrderByOrderNumber(order.getOrderNumber())).map(OrderDto::getId).contains(order.getId());
+            assertThat(orderService.getOrdersByMemberId(order.getMemberId())).extracting(OrderDto::getId)
+                    .containsExactly(order.getId());
+        }
+    }
+}
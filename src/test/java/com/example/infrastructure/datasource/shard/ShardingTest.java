@@ -0,0 +1,269 @@
+package com.example.infrastructure.datasource.shard;
+
+import com.example.application.service.MemberService;
+import com.example.application.service.OrderService;
+import com.example.application.service.PaymentService;
+import com.example.domain.Order;
+import com.example.domain.Payment;
+import com.example.dto.KeysetPage;
+import com.example.dto.MemberDto;
+import com.example.dto.OrderDto;
+import com.example.dto.PaymentDto;
+import com.example.infrastructure.importer.MemberImportReport;
+import com.example.infrastructure.importer.MemberImporter;
+import com.example.reporting.RevenueReport;
+import com.example.reporting.RevenueReportService;
+import com.example.reporting.RevenueRollupAccumulator;
+import com.example.reporting.RevenueRollupRebuilder;
+import com.example.reporting.RevenueRollupRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Three in-memory databases, two of them on the ring; not transactional, every shard commits.
+ */
+@SpringBootTest(properties = {
+        "app.datasource.sharding.enabled=true",
+        "app.datasource.sharding.ring=shard-0,shard-1",
+        "app.datasource.sharding.shards[0].name=shard-0",
+        "app.datasource.sharding.shards[0].url=jdbc:h2:mem:sharding0;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "app.datasource.sharding.shards[0].username=sa",
+        "app.datasource.sharding.shards[1].name=shard-1",
+        "app.datasource.sharding.shards[1].url=jdbc:h2:mem:sharding1;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "app.datasource.sharding.shards[1].username=sa",
+        "app.datasource.sharding.shards[2].name=shard-2",
+        "app.datasource.sharding.shards[2].url=jdbc:h2:mem:sharding2;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "app.datasource.sharding.shards[2].username=sa"
+})
+@ActiveProfiles("test")
+@DisplayName("회원 ID 샤딩 테스트")
+class ShardingTest {
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private ShardRebalancer shardRebalancer;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private MemberImporter memberImporter;
+
+    @Autowired
+    private RevenueRollupRebuilder revenueRollupRebuilder;
+
+    @Autowired
+    private RevenueRollupAccumulator revenueRollupAccumulator;
+
+    @Autowired
+    private RevenueRollupRepository revenueRollupRepository;
+
+    @Autowired
+    private RevenueReportService revenueReportService;
+
+    @TempDir
+    private Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        for (Shard shard : shardRouter.getShards()) {
+            shard.jdbcTemplate().update("DELETE FROM payments");
+            shard.jdbcTemplate().update("DELETE FROM order_items");
+            shard.jdbcTemplate().update("DELETE FROM orders");
+            shard.jdbcTemplate().update("DELETE FROM members");
+        }
+        shardRouter.getDirectory().jdbcTemplate().update("DELETE FROM member_emails");
+    }
+
+    @Test
+    @DisplayName("회원의 주문·항목·결제는 회원과 같은 샤드에 저장")
+    void memberData_IsColocatedOnTheMemberShard() {
+        // Given
+        List<Long> memberIds = createMembers(6);
+
+        // When
+        List<OrderDto> orders = new ArrayList<>();
+        for (Long memberId : memberIds) {
+            orders.add(createPaidOrder(memberId));
+        }
+
+        // Then
+        assertThat(memberIds).extracting(shardRouter::ownerOf).contains("shard-0", "shard-1");
+        for (OrderDto order : orders) {
+            Shard owner = shardRouter.getShard(shardRouter.ownerOf(order.getMemberId()));
+            assertThat(count(owner, "SELECT COUNT(*) FROM members WHERE id = ?", order.getMemberId())).isEqualTo(1);
+            assertThat(count(owner, "SELECT COUNT(*) FROM orders WHERE id = ?", order.getId())).isEqualTo(1);
+            assertThat(count(owner, "SELECT COUNT(*) FROM order_items WHERE order_id = ?", order.getId())).isEqualTo(1);
+            assertThat(count(owner, "SELECT COUNT(*) FROM payments WHERE order_id = ?", order.getId())).isEqualTo(1);
+            assertThat(orderService.getOrderById(order.getId())).isPresent();
+            assertThat(paymentService.getPaymentByOrderId(order.getId())).isPresent();
+        }
+    }
+
+    @Test
+    @DisplayName("전체 조회와 상태별 키셋 페이지는 모든 샤드를 ID 순으로 병합")
+    void scatterGather_MergesShardsInIdOrder() {
+        // Given
+        List<Long> memberIds = createMembers(6);
+        List<Long> orderIds = new ArrayList<>();
+        for (Long memberId : memberIds) {
+            orderIds.add(createPaidOrder(memberId).getId());
+        }
+
+        // When
+        List<Long> paged = new ArrayList<>();
+        Long afterId = null;
+        do {
+            KeysetPage<OrderDto> page = orderService.getOrdersByStatus(Order.OrderStatus.PENDING, afterId, 4);
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(4);
+            page.items().forEach(order -> paged.add(order.getId()));
+            afterId = page.nextAfterId();
+        } while (afterId != null);
+
+        // Then
+        assertThat(memberService.getAllMembers()).extracting(MemberDto::getId).containsExactlyElementsOf(memberIds);
+        assertThat(paged).containsExactlyElementsOf(orderIds.stream().sorted().toList());
+        assertThat(paymentService.getPaymentsByStatus(Payment.PaymentStatus.PENDING)).hasSize(orderIds.size());
+        assertThat(memberService.getMemberByEmail("member5@example.com")).isPresent();
+    }
+
+    @Test
+    @DisplayName("이메일 중복은 다른 샤드의 회원이어도 거절")
+    void duplicateEmail_IsRejectedAcrossShards() {
+        // Given
+        memberService.createMember("unique@example.com", "First User", "010-2000-0001");
+
+        // When & Then
+        assertThatThrownBy(() -> memberService.createMember("unique@example.com", "Second User", "010-2000-0002"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(memberService.getAllMembers()).hasSize(1);
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("샤드를 추가하면 해당 회원만 옮겨지고 모든 데이터를 계속 조회")
+    void addShard_MovesItsMembersAndKeepsDataReadable() {
+        // Given
+        List<Long> memberIds = createMembers(12);
+        for (Long memberId : memberIds) {
+            createPaidOrder(memberId);
+        }
+
+        // When
+        int moved = shardRebalancer.addShard("shard-2");
+
+        // Then
+        assertThat(shardRouter.getRing().getShards()).containsExactly("shard-0", "shard-1", "shard-2");
+        assertThat(shardRouter.getTargetRing()).isNull();
+        long onNewShard = memberIds.stream().filter(id -> shardRouter.ownerOf(id).equals("shard-2")).count();
+        assertThat(moved).isPositive().isEqualTo((int) onNewShard);
+        for (Long memberId : memberIds) {
+            for (Shard shard : shardRouter.getShards()) {
+                int expected = shard.name().equals(shardRouter.ownerOf(memberId)) ? 1 : 0;
+                assertThat(count(shard, "SELECT COUNT(*) FROM members WHERE id = ?", memberId)).isEqualTo(expected);
+                assertThat(count(shard, "SELECT COUNT(*) FROM orders WHERE member_id = ?", memberId)).isEqualTo(expected);
+            }
+            List<OrderDto> orders = orderService.getOrdersByMemberId(memberId);
+            assertThat(orders).hasSize(1);
+            assertThat(orderService.getOrderById(orders.get(0).getId())).isPresent();
+            assertThat(paymentService.getPaymentsByMemberId(memberId)).extracting(PaymentDto::getOrderId)
+                    .containsExactly(orders.get(0).getId());
+        }
+        assertThat(memberService.getAllMembers()).hasSize(memberIds.size());
+    }
+
+    @Test
+    @DisplayName("가져온 회원은 샤드 ID를 받아 소유 샤드와 이메일 디렉터리에 저장")
+    void importedMembers_AreShardedAndReserved() throws Exception {
+        // Given
+        memberService.createMember("existing@example.com", "Existing User", "010-3000-0000");
+        Path file = tempDir.resolve("members.csv");
+        List<String> lines = new ArrayList<>(List.of("email,name,phoneNumber", "existing@example.com,Existing Again,010-3000-0001"));
+        for (int i = 0; i < 6; i++) {
+            lines.add("imported" + i + "@example.com,Imported " + i + "," + String.format("010-3100-%04d", i));
+        }
+        Files.write(file, lines);
+
+        // When
+        MemberImportReport report = memberImporter.importFile(file);
+
+        // Then
+        assertThat(report.getImported()).isEqualTo(6);
+        assertThat(report.getDuplicates()).isEqualTo(1);
+        List<Long> memberIds = memberService.getAllMembers().stream().map(MemberDto::getId).toList();
+        assertThat(memberIds).hasSize(7).extracting(shardRouter::ownerOf).contains("shard-0", "shard-1");
+        for (Long memberId : memberIds) {
+            Shard owner = shardRouter.getShard(shardRouter.ownerOf(memberId));
+            assertThat(count(owner, "SELECT COUNT(*) FROM members WHERE id = ?", memberId)).isEqualTo(1);
+        }
+        assertThat(shardRouter.getDirectory().jdbcTemplate()
+                .queryForObject("SELECT COUNT(*) FROM member_emails", Long.class)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("매출 롤업 재계산은 모든 샤드의 결제를 합산")
+    void revenueRebuild_SumsEveryShard() {
+        // Given
+        List<Long> memberIds = createMembers(6);
+        for (Long memberId : memberIds) {
+            OrderDto order = createPaidOrder(memberId);
+            paymentService.processPayment(paymentService.getPaymentByOrderId(order.getId()).orElseThrow().getId());
+        }
+        revenueRollupAccumulator.flush();
+        revenueRollupRepository.deleteAll();
+
+        // When
+        revenueRollupRebuilder.rebuild(LocalDate.now(), LocalDate.now());
+        RevenueReport report = revenueReportService.getRevenue(LocalDate.now(), LocalDate.now(), "CREDIT_CARD");
+
+        // Then
+        assertThat(memberIds).extracting(shardRouter::ownerOf).contains("shard-0", "shard-1");
+        assertThat(report.getTotal().getProcessedCount()).isEqualTo(memberIds.size());
+        assertThat(report.getTotal().getProcessedAmount()).isEqualByComparingTo(new BigDecimal("42000").multiply(
+                BigDecimal.valueOf(memberIds.size())));
+        revenueRollupRepository.deleteAll();
+    }
+
+    private List<Long> createMembers(int count) {
+        List<Long> memberIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            memberIds.add(memberService.createMember("member" + i + "@example.com", "Member " + i,
+                    String.format("010-1000-%04d", i)).getId());
+        }
+        return memberIds;
+    }
+
+    private OrderDto createPaidOrder(Long memberId) {
+        OrderDto order = orderService.createOrder(memberId, List.of(
+                new OrderService.OrderItemRequest("Desk lamp", "LED desk lamp", 1, new BigDecimal("42000"))));
+        paymentService.createPayment(order.getId(), Payment.PaymentMethod.CREDIT_CARD);
+        return order;
+    }
+
+    private static long count(Shard shard, String sql, Long id) {
+        return shard.jdbcTemplate().queryForObject(sql, Long.class, id);
+    }
+}
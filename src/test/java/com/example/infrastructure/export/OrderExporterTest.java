@@ -0,0 +1,120 @@
+package com.example.infrastructure.export;
+
+import com.example.application.service.MemberService;
+import com.example.application.service.OrderService;
+import com.example.application.service.PaymentService;
+import com.example.domain.Order;
+import com.example.domain.Payment;
+import com.example.dto.OrderDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("주문 내보내기 테스트")
+class OrderExporterTest {
+
+    @Autowired
+    private OrderExporter orderExporter;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private OrderDto paidOrder;
+    private OrderDto pendingOrder;
+
+    @BeforeEach
+    void setUp() {
+        var member = memberService.createMember("export@example.com", "Export User", "010-1212-3434");
+        paidOrder = orderService.createOrder(member.getId(), List.of(
+                new OrderService.OrderItemRequest("Keyboard", "Mechanical, \"tenkeyless\"", 1, new BigDecimal("120000")),
+                new OrderService.OrderItemRequest("Mouse", "Wireless", 2, new BigDecimal("30000"))));
+        var payment = paymentService.createPayment(paidOrder.getId(), Payment.PaymentMethod.CREDIT_CARD);
+        paymentService.processPayment(payment.getId());
+        orderService.confirmOrder(paidOrder.getId());
+
+        pendingOrder = orderService.createOrder(member.getId(), List.of(
+                new OrderService.OrderItemRequest("Monitor", "27 inch", 1, new BigDecimal("350000"))));
+    }
+
+    @Test
+    @DisplayName("주문 항목마다 주문과 결제 정보를 합친 NDJSON 한 줄을 출력")
+    void exportNdjson_OneLinePerItem() throws Exception {
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = orderExporter.export(OrderExportCriteria.builder().build(), OrderExportFormat.NDJSON, out);
+
+        // Then
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(rows).isEqualTo(3);
+        assertThat(lines).hasSize(3);
+
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("order_id").asLong()).isEqualTo(paidOrder.getId());
+        assertThat(first.get("product_name").asText()).isEqualTo("Keyboard");
+        assertThat(first.get("payment_method").asText()).isEqualTo("CREDIT_CARD");
+        assertThat(first.get("payment_status").asText()).isEqualTo("COMPLETED");
+
+        JsonNode unpaid = objectMapper.readTree(lines.get(2));
+        assertThat(unpaid.get("order_id").asLong()).isEqualTo(pendingOrder.getId());
+        assertThat(unpaid.get("payment_id").isNull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("CSV는 헤더 한 줄과 주문 항목별 행을 출력")
+    void exportCsv_WithHeader() throws Exception {
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        orderExporter.export(OrderExportCriteria.builder().build(), OrderExportFormat.CSV, out);
+
+        // Then
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(0)).startsWith("order_id,order_number,member_id,order_status");
+        assertThat(lines.get(1)).contains(",Keyboard,");
+    }
+
+    @Test
+    @DisplayName("상태와 기간 조건으로 필터링")
+    void export_FiltersByStatusAndDate() throws Exception {
+        // Given
+        OrderExportCriteria criteria = OrderExportCriteria.builder()
+                .status(Order.OrderStatus.PENDING)
+                .from(LocalDateTime.now().minusDays(1))
+                .to(LocalDateTime.now().plusDays(1))
+                .build();
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = orderExporter.export(criteria, OrderExportFormat.NDJSON, out);
+
+        // Then
+        assertThat(rows).isEqualTo(1);
+        assertThat(out.toString(StandardCharsets.UTF_8)).contains("Monitor");
+    }
+}
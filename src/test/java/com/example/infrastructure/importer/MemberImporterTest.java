@@ -0,0 +1,172 @@
+package com.example.infrastructure.importer;
+
+import com.example.application.service.MemberService;
+import com.example.infrastructure.persistence.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.BufferedWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Not transactional: the importer commits each batch itself.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("회원 대량 가져오기 테스트")
+class MemberImporterTest {
+
+    @Autowired
+    private MemberImporter memberImporter;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @TempDir
+    private Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAll();
+    }
+
+    @Nested
+    @DisplayName("CSV 가져오기")
+    class CsvImportTest {
+
+        @Test
+        @DisplayName("유효한 행만 저장하고 잘못된 행과 중복은 거절 파일에 기록")
+        void importCsv_RejectsInvalidAndDuplicateRows() throws Exception {
+            // Given
+            memberService.createMember("existing@example.com", "Existing User", "010-0000-0000");
+            Path file = write("members.csv", List.of(
+                    "email,name,phoneNumber",
+                    "alice@example.com,Alice,010-1111-1111",
+                    "\"bob@example.com\",\"Kim, Bob\",010-2222-2222",
+                    "not-an-email,Broken,010-3333-3333",
+                    "carol@example.com,Carol,12345",
+                    "ALICE@example.com,Alice Again,010-4444-4444",
+                    "existing@example.com,Existing Again,010-5555-5555",
+                    "dave@example.com,,010-6666-6666"
+            ));
+
+            // When
+            MemberImportReport report = memberImporter.importFile(file);
+
+            // Then
+            assertThat(report.getTotalRows()).isEqualTo(7);
+            assertThat(report.getImported()).isEqualTo(2);
+            assertThat(report.getRejected()).isEqualTo(5);
+            assertThat(report.getDuplicates()).isEqualTo(2);
+            assertThat(memberRepository.findByEmail("bob@example.com")).get()
+                    .extracting("name").isEqualTo("Kim, Bob");
+            assertThat(Files.readAllLines(Path.of(report.getRejectFile())))
+                    .hasSize(6)
+                    .anyMatch(line -> line.startsWith("4,") && line.contains("Invalid email format"))
+                    .anyMatch(line -> line.startsWith("6,") && line.contains("Duplicate email in file"))
+                    .anyMatch(line -> line.startsWith("7,") && line.contains("already exists"));
+        }
+
+        @Test
+        @DisplayName("컬럼 길이를 넘는 이메일은 해당 행만 거절하고 나머지는 저장")
+        void importCsv_RejectsEmailLongerThanColumn() throws Exception {
+            // Given
+            String longEmail = "a".repeat(45) + "@example.com";
+            Path file = write("members.csv", List.of(
+                    "email,name,phoneNumber",
+                    "grace@example.com,Grace,010-1212-1212",
+                    longEmail + ",Long Email,010-3434-3434",
+                    "heidi@example.com,Heidi,010-5656-5656"
+            ));
+
+            // When
+            MemberImportReport report = memberImporter.importFile(file);
+
+            // Then
+            assertThat(report.getImported()).isEqualTo(2);
+            assertThat(report.getRejected()).isEqualTo(1);
+            assertThat(report.getDuplicates()).isZero();
+            assertThat(Files.readAllLines(Path.of(report.getRejectFile())))
+                    .anyMatch(line -> line.startsWith("3,") && line.contains("Email cannot exceed 50 characters"));
+        }
+
+        @Test
+        @DisplayName("여러 배치에 걸친 대량 파일도 모두 저장")
+        void importCsv_AcrossManyBatches() throws Exception {
+            // Given
+            Path file = tempDir.resolve("bulk.csv");
+            int rows = 5_000;
+            try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+                writer.write("email,name,phoneNumber");
+                writer.newLine();
+                for (int i = 0; i < rows; i++) {
+                    writer.write("bulk" + i + "@example.com,Bulk User " + i + ",010-" + String.format("%04d-%04d", i / 10000, i % 10000));
+                    writer.newLine();
+                }
+            }
+
+            // When
+            MemberImportReport report = memberImporter.importFile(file);
+
+            // Then
+            assertThat(report.getImported()).isEqualTo(rows);
+            assertThat(report.getRejectFile()).isNull();
+            assertThat(memberRepository.count()).isEqualTo(rows);
+            System.out.printf("Imported %d members in %d ms (%.0f rows/s)%n",
+                    report.getImported(), report.getElapsedMillis(), report.getRowsPerSecond());
+        }
+
+        @Test
+        @DisplayName("필수 컬럼이 없는 헤더는 거절")
+        void importCsv_MissingColumn_Throws() throws Exception {
+            // Given
+            Path file = write("members.csv", List.of("email,name", "alice@example.com,Alice"));
+
+            // When & Then
+            assertThatThrownBy(() -> memberImporter.importFile(file))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("phonenumber");
+        }
+    }
+
+    @Nested
+    @DisplayName("NDJSON 가져오기")
+    class NdjsonImportTest {
+
+        @Test
+        @DisplayName("한 줄에 하나의 객체를 가져오고 잘못된 JSON은 거절")
+        void importNdjson() throws Exception {
+            // Given
+            Path file = write("members.ndjson", List.of(
+                    "{\"email\":\"erin@example.com\",\"name\":\"Erin\",\"phoneNumber\":\"010-7777-7777\"}",
+                    "{\"email\":\"frank@example.com\",\"name\":\"Frank\",\"phone_number\":\"010-8888-8888\"}",
+                    "{broken"
+            ));
+
+            // When
+            MemberImportReport report = memberImporter.importFile(file);
+
+            // Then
+            assertThat(report.getImported()).isEqualTo(2);
+            assertThat(report.getRejected()).isEqualTo(1);
+            assertThat(memberRepository.existsByEmail("frank@example.com")).isTrue();
+        }
+    }
+
+    private Path write(String fileName, List<String> lines) throws Exception {
+        return Files.write(tempDir.resolve(fileName), lines);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.infrastructure.persistence.archive;
+
+import com.example.domain.Order;
+import com.example.domain.Payment;
+import com.example.dto.OrderDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("주문 아카이브 파트 테스트")
+class ArchivePartTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 1, 15);
+
+    @TempDir
+    private Path directory;
+
+    @Nested
+    @DisplayName("파트 파일")
+    class PartFileTest {
+
+        @Test
+        @DisplayName("쓴 주문을 그대로 읽고 컬럼 압축으로 크기가 줄어듦")
+        void writeAndScan_RoundTrips() throws Exception {
+            // Given
+            List<ArchivedOrder> orders = orders(1, 2_000, 50);
+
+            // When
+            ArchivePart written = ArchivePart.write(directory.resolve("part.orda"), DAY, orders);
+            ArchivePart opened = ArchivePart.open(written.getPath());
+
+            // Then
+            assertThat(opened.getRows()).isEqualTo(2_000);
+            assertThat(opened.getCompletedDate()).isEqualTo(DAY);
+            assertThat(opened.scan(order -> true)).isEqualTo(orders);
+            assertThat(opened.getCompressedBytes()).isLessThan(opened.getRawBytes() / 2);
+        }
+
+        @Test
+        @DisplayName("id 범위와 블룸 필터로 없는 키를 걸러냄")
+        void footer_PrunesMissingKeys() throws Exception {
+            // Given
+            ArchivePart part = ArchivePart.open(ArchivePart.write(directory.resolve("part.orda"), DAY,
+                    orders(1_000, 1_000, 100)).getPath());
+
+            // When
+            int falsePositives = 0;
+            for (long id = 100_000; id < 110_000; id++) {
+                if (part.mayContainOrderNumber("ORD-" + id)) {
+                    falsePositives++;
+                }
+            }
+
+            // Then
+            assertThat(part.mayContainId(1_500)).isTrue();
+            assertThat(part.mayContainId(2_000)).isFalse();
+            assertThat(part.mayContainOrderNumber("ORD-1500")).isTrue();
+            assertThat(part.mayContainMember(1)).isTrue();
+            assertThat(part.mayContainMember(101)).isFalse();
+            // About 1% expected
+            assertThat(falsePositives).isLessThan(300);
+        }
+    }
+
+    @Nested
+    @DisplayName("아카이브 카탈로그")
+    class CatalogTest {
+
+        @Test
+        @DisplayName("다시 열면 기존 파트를 읽고 같은 주문은 가장 최근 파트를 사용")
+        void reopen_NewestPartWins() throws Exception {
+            // Given
+            OrderArchive archive = new OrderArchive(directory);
+            List<ArchivedOrder> first = orders(1, 10, 3);
+            archive.register(ArchivePart.write(archive.partFile(DAY, 1), DAY, first));
+            Thread.sleep(5);
+            ArchivedOrder refunded = withPaymentStatus(first.get(0), Payment.PaymentStatus.REFUNDED);
+            archive.register(ArchivePart.write(archive.partFile(DAY, 0), DAY, List.of(refunded)));
+
+            // When
+            OrderArchive reopened = new OrderArchive(directory);
+
+            // Then
+            assertThat(reopened.getPartCount()).isEqualTo(2);
+            assertThat(reopened.findByOrderNumber("ORD-1")).get()
+                    .extracting(order -> order.getPayment().getStatus()).isEqualTo(Payment.PaymentStatus.REFUNDED);
+            assertThat(reopened.findById(5)).get().extracting(OrderDto::getOrderNumber).isEqualTo("ORD-5");
+            assertThat(reopened.findByMemberId(2)).extracting(OrderDto::getId).containsExactly(2L, 5L, 8L);
+            assertThat(reopened.findByMemberId(1)).extracting(OrderDto::getId).containsExactly(1L, 4L, 7L, 10L);
+            assertThat(reopened.findByOrderNumber("ORD-11")).isEmpty();
+        }
+    }
+
+    private static List<ArchivedOrder> orders(long firstId, int count, int members) {
+        List<ArchivedOrder> orders = new ArrayList<>(count);
+        for (long id = firstId; id < firstId + count; id++) {
+            LocalDateTime createdAt = DAY.minusDays(1).atTime(9, 0).plusSeconds(id);
+            long memberId = 1 + (id - firstId) % members;
+            orders.add(new ArchivedOrder(id, "ORD-" + id, memberId, "Member " + memberId,
+                    new BigDecimal("30000.00"), Order.OrderStatus.COMPLETED, createdAt, createdAt.plusDays(1),
+                    DAY.atTime(12, 0).plusSeconds(id),
+                    List.of(new ArchivedOrder.Item(id * 2, "Product " + id % 20, "Description " + id % 20, 3,
+                                    new BigDecimal("10000.00"), new BigDecimal("30000.00"))),
+                    id % 7 == 0 ? null : new ArchivedOrder.ArchivedPayment(id + 100_000, new BigDecimal("30000.00"),
+                            Payment.PaymentMethod.values()[(int) (id % 4)], Payment.PaymentStatus.COMPLETED,
+                            "TXN-" + id, null, createdAt.plusMinutes(1), null, createdAt, createdAt.plusMinutes(1))));
+        }
+        return orders;
+    }
+
+    private static ArchivedOrder withPaymentStatus(ArchivedOrder order, Payment.PaymentStatus status) {
+        ArchivedOrder.ArchivedPayment payment = order.payment();
+        return new ArchivedOrder(order.id(), order.orderNumber(), order.memberId(), order.memberName(),
+                order.totalAmount(), order.status(), order.createdAt(), order.updatedAt(), order.completedAt(),
+                order.items(), new ArchivedOrder.ArchivedPayment(payment.id(), payment.amount(), payment.paymentMethod(),
+                status, payment.transactionId(), payment.failureReason(), payment.processedAt(),
+                LocalDateTime.of(2024, 2, 1, 0, 0), payment.createdAt(), payment.updatedAt()));
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.infrastructure.persistence.archive;
+
+import com.example.application.service.MemberService;
+import com.example.application.service.OrderService;
+import com.example.application.service.PaymentService;
+import com.example.domain.Order;
+import com.example.domain.Payment;
+import com.example.dto.OrderDto;
+import com.example.infrastructure.persistence.MemberRepository;
+import com.example.infrastructure.persistence.OrderRepository;
+import com.example.infrastructure.persistence.PaymentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Not transactional: the archiver commits its own batches.
+ */
+@SpringBootTest(properties = "app.order-archive.enabled=true")
+@ActiveProfiles("test")
+@DisplayName("주문 아카이브 이동 테스트")
+class OrderArchiverTest {
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("app.order-archive.directory", () -> {
+            try {
+                return Files.createTempDirectory("order-archive").toString();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    @Autowired
+    private OrderArchiver orderArchiver;
+
+    @Autowired
+    private OrderArchive orderArchive;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @AfterEach
+    void tearDown() {
+        paymentRepository.deleteAll();
+        orderRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("오래전에 완료된 주문만 아카이브로 옮기고 조회는 그대로 동작")
+    void archive_MovesColdOrdersAndKeepsThemReadable() {
+        // Given
+        Long memberId = memberService.createMember("archive@example.com", "Archive User", "010-7878-9090").getId();
+        OrderDto cold = completeOrder(memberId);
+        OrderDto recent = completeOrder(memberId);
+        OrderDto open = createOrder(memberId);
+        LocalDateTime longAgo = LocalDate.now().minusDays(200).atTime(15, 30);
+        jdbcTemplate.update("UPDATE orders SET completed_at = ? WHERE id = ?", Timestamp.valueOf(longAgo), cold.getId());
+        long partsBefore = orderArchive.getPartCount();
+
+        // When
+        int archived = orderArchiver.archive(LocalDate.now().minusDays(90).atStartOfDay());
+
+        // Then
+        assertThat(archived).isEqualTo(1);
+        assertThat(orderArchive.getPartCount()).isEqualTo(partsBefore + 1);
+        assertThat(orderRepository.findById(cold.getId())).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM payments WHERE order_id = ?", Long.class, cold.getId())).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_items WHERE order_id = ?", Long.class, cold.getId())).isZero();
+
+        OrderDto fromArchive = orderService.getOrderByOrderNumber(cold.getOrderNumber()).orElseThrow();
+        assertThat(fromArchive.getStatus()).isEqualTo(Order.OrderStatus.COMPLETED);
+        assertThat(fromArchive.getMemberName()).isEqualTo("Archive User");
+        assertThat(fromArchive.getOrderItems()).hasSize(1);
+        assertThat(fromArchive.getPayment().getStatus()).isEqualTo(Payment.PaymentStatus.COMPLETED);
+        assertThat(orderService.getOrderById(cold.getId())).contains(fromArchive);
+        assertThat(orderService.getOrdersByMemberId(memberId)).extracting(OrderDto::getId)
+                .containsExactly(cold.getId(), recent.getId(), open.getId());
+        assertThat(orderService.getOrderByOrderNumber("ORD-UNKNOWN")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("옮길 주문이 없으면 파트를 만들지 않음")
+    void archive_NothingCold_WritesNothing() {
+        // Given
+        Long memberId = memberService.createMember("fresh@example.com", "Fresh User", "010-1111-0000").getId();
+        completeOrder(memberId);
+        long partsBefore = orderArchive.getPartCount();
+
+        // When
+        int archived = orderArchiver.archive(LocalDate.now().minusDays(90).atStartOfDay());
+
+        // Then
+        assertThat(archived).isZero();
+        assertThat(orderArchive.getPartCount()).isEqualTo(partsBefore);
+    }
+
+    private OrderDto completeOrder(Long memberId) {
+        OrderDto order = createOrder(memberId);
+        orderService.confirmOrder(order.getId());
+        Long paymentId = paymentService.createPayment(order.getId(), Payment.PaymentMethod.BANK_TRANSFER).getId();
+        paymentService.processPayment(paymentId);
+        return orderService.completeOrder(order.getId());
+    }
+
+    private OrderDto createOrder(Long memberId) {
+        return orderService.createOrder(memberId, List.of(
+                new OrderService.OrderItemRequest("Desk lamp", "LED desk lamp", 1, new BigDecimal("42000"))));
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.infrastructure.persistence.history;
+
+import com.example.domain.Order;
+import com.example.domain.Payment;
+import com.example.dto.OrderDto;
+import com.example.dto.OrderItemDto;
+import com.example.dto.PaymentDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("오프힙 주문 이력 저장소 테스트")
+class OffHeapOrderStoreTest {
+
+    private OffHeapOrderStore store = new OffHeapOrderStore(64 * 1024, 1024 * 1024, null);
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Nested
+    @DisplayName("저장과 조회")
+    class PutAndFindTest {
+
+        @Test
+        @DisplayName("주문·항목·결제를 그대로 복원")
+        void find_RoundTripsOrderGraph() {
+            // Given
+            OrderDto order = order(1, 7, Order.OrderStatus.COMPLETED, Payment.PaymentStatus.COMPLETED);
+
+            // When
+            store.put(order);
+
+            // Then
+            assertThat(store.find(1)).contains(order);
+            assertThat(store.find(2)).isEmpty();
+            assertThat(store.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("진행 중인 주문은 저장하지 않음")
+        void put_OpenOrder_IsIgnored() {
+            store.put(order(1, 7, Order.OrderStatus.CONFIRMED, null));
+
+            assertThat(store.find(1)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("같은 주문을 다시 저장하면 최신 상태로 교체")
+        void put_Again_ReplacesOrder() {
+            // Given
+            store.load(7, List.of(order(1, 7, Order.OrderStatus.COMPLETED, Payment.PaymentStatus.COMPLETED)));
+
+            // When
+            store.put(order(1, 7, Order.OrderStatus.COMPLETED, Payment.PaymentStatus.REFUNDED));
+
+            // Then
+            assertThat(store.find(1)).get()
+                    .extracting(found -> found.getPayment().getStatus()).isEqualTo(Payment.PaymentStatus.REFUNDED);
+            assertThat(store.findByMemberId(7)).get().asList().hasSize(1);
+            assertThat(store.getLiveBytes()).isLessThan(store.getUsedBytes());
+        }
+
+        @Test
+        @DisplayName("memory-mapped 세그먼트도 같은 결과")
+        void mappedSegments_RoundTrip(@TempDir Path directory) {
+            // Given
+            store.close();
+            store = new OffHeapOrderStore(64 * 1024, 1024 * 1024, directory);
+            OrderDto order = order(3, 7, Order.OrderStatus.CANCELLED, null);
+
+            // When
+            store.put(order);
+
+            // Then
+            assertThat(store.find(3)).contains(order);
+        }
+    }
+
+    @Nested
+    @DisplayName("회원별 이력")
+    class MemberHistoryTest {
+
+        @Test
+        @DisplayName("전체를 적재한 회원만 id 순으로 조회")
+        void findByMemberId_OnlyWhenLoaded() {
+            // Given
+            store.put(order(5, 7, Order.OrderStatus.COMPLETED, Payment.PaymentStatus.COMPLETED));
+            assertThat(store.findByMemberId(7)).isEmpty();
+
+            // When
+            store.load(7, List.of(
+                    order(2, 7, Order.OrderStatus.CANCELLED, null),
+                    order(5, 7, Order.OrderStatus.COMPLETED, Payment.PaymentStatus.COMPLETED),
+                    order(9, 7, Order.OrderStatus.PENDING, null)));
+            store.put(order(3, 8, Order.OrderStatus.COMPLETED, Payment.PaymentStatus.COMPLETED));
+
+            // Then
+            assertThat(store.isLoaded(7)).isTrue();
+            assertThat(store.findByMemberId(7)).get().asList()
+                    .extracting("id").containsExactly(2L, 5L);
+            assertThat(store.isLoaded(8)).isFalse();
+        }
+
+        @Test
+        @DisplayName("가득 차면 비우고 회원은 다시 적재 대상이 됨")
+        void full_ResetsStore() {
+            // Given
+            store.close();
+            store = new OffHeapOrderStore(4096, 8192, null);
+            store.load(7, List.of(order(1, 7, Order.OrderStatus.COMPLETED, Payment.PaymentStatus.COMPLETED)));
+
+            // When
+            for (long id = 2; id <= 100; id++) {
+                store.put(order(id, 8, Order.OrderStatus.COMPLETED, Payment.PaymentStatus.COMPLETED));
+            }
+
+            // Then
+            assertThat(store.getResets()).isPositive();
+            assertThat(store.isLoaded(7)).isFalse();
+            assertThat(store.find(100)).isPresent();
+            assertThat(store.getUsedBytes()).isLessThanOrEqualTo(store.getCapacityBytes());
+        }
+    }
+
+    static OrderDto order(long id, long memberId, Order.OrderStatus status, Payment.PaymentStatus paymentStatus) {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 10, 0, 0, 123_456_789);
+        return OrderDto.builder()
+                .id(id)
+                .orderNumber("ORD-20240301100000000-" + id)
+                .memberId(memberId)
+                .memberName("회원 " + memberId)
+                .totalAmount(new BigDecimal("35000.00"))
+                .status(status)
+                .createdAt(createdAt)
+                .updatedAt(createdAt.plusHours(1))
+                .orderItems(List.of(
+                        OrderItemDto.builder().id(id * 10).productName("Keyboard").productDescription("Mechanical keyboard")
+                                .quantity(1).unitPrice(new BigDecimal("25000.00")).totalPrice(new BigDecimal("25000.00")).build(),
+                        OrderItemDto.builder().id(id * 10 + 1).productName("Mouse pad").productDescription("Large mouse pad")
+                                .quantity(2).unitPrice(new BigDecimal("5000.00")).totalPrice(new BigDecimal("10000.00")).build()))
+                .payment(paymentStatus == null ? null : PaymentDto.builder()
+                        .id(id + 1000)
+                        .orderId(id)
+                        .amount(new BigDecimal("35000.00"))
+                        .paymentMethod(Payment.PaymentMethod.CREDIT_CARD)
+                        .status(paymentStatus)
+                        .transactionId("TXN-" + id)
+                        .createdAt(createdAt)
+                        .updatedAt(createdAt.plusMinutes(5))
+                        .build())
+                .build();
+    }
+}
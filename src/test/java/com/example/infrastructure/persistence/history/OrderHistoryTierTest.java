@@ -0,0 +1,141 @@
+package com.example.infrastructure.persistence.history;
+
+import com.example.application.service.MemberService;
+import com.example.application.service.OrderService;
+import com.example.application.service.PaymentService;
+import com.example.domain.Order;
+import com.example.domain.Payment;
+import com.example.dto.OrderDto;
+import com.example.infrastructure.persistence.MemberRepository;
+import com.example.infrastructure.persistence.OrderRepository;
+import com.example.infrastructure.persistence.PaymentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Not transactional: the store is filled by after-commit listeners.
+ */
+@SpringBootTest(properties = "app.order-history.off-heap.enabled=true")
+@ActiveProfiles("test")
+@DisplayName("오프힙 주문 이력 읽기 계층 테스트")
+class OrderHistoryTierTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private OffHeapOrderStore store;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @AfterEach
+    void tearDown() {
+        paymentRepository.deleteAll();
+        orderRepository.deleteAll();
+        memberRepository.deleteAll();
+        store.clear();
+    }
+
+    @Test
+    @DisplayName("완료·취소된 주문은 오프힙에서, 진행 중인 주문은 DB에서 읽어 회원 이력을 구성")
+    void memberHistory_CombinesOffHeapAndDatabase() {
+        // Given
+        Long memberId = memberService.createMember("history@example.com", "History User", "010-5656-7878").getId();
+        OrderDto completed = createOrder(memberId);
+        OrderDto open = createOrder(memberId);
+        orderService.confirmOrder(completed.getId());
+        Long paymentId = paymentService.createPayment(completed.getId(), Payment.PaymentMethod.CREDIT_CARD).getId();
+        paymentService.processPayment(paymentId);
+        orderService.completeOrder(completed.getId());
+
+        // When: the first read loads the member's terminal orders
+        List<OrderDto> firstRead = orderService.getOrdersByMemberId(memberId);
+        OrderDto cancelled = createOrder(memberId);
+        orderService.cancelOrder(cancelled.getId());
+        List<OrderDto> secondRead = orderService.getOrdersByMemberId(memberId);
+
+        // Then
+        assertThat(store.isLoaded(memberId)).isTrue();
+        assertThat(firstRead).extracting(OrderDto::getId).containsExactlyInAnyOrder(completed.getId(), open.getId());
+        assertThat(secondRead).extracting(OrderDto::getId, OrderDto::getStatus).containsExactly(
+                tuple(completed.getId(), Order.OrderStatus.COMPLETED),
+                tuple(open.getId(), Order.OrderStatus.PENDING),
+                tuple(cancelled.getId(), Order.OrderStatus.CANCELLED));
+        assertThat(store.find(cancelled.getId())).isPresent();
+        assertThat(store.find(open.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("환불하면 저장된 주문의 결제 상태도 갱신")
+    void refund_RefreshesStoredOrder() {
+        // Given
+        Long memberId = memberService.createMember("refund@example.com", "Refund User", "010-1313-2424").getId();
+        OrderDto order = createOrder(memberId);
+        orderService.confirmOrder(order.getId());
+        Long paymentId = paymentService.createPayment(order.getId(), Payment.PaymentMethod.CASH).getId();
+        paymentService.processPayment(paymentId);
+        orderService.completeOrder(order.getId());
+        assertThat(store.find(order.getId())).get()
+                .extracting(stored -> stored.getPayment().getStatus()).isEqualTo(Payment.PaymentStatus.COMPLETED);
+
+        // When
+        paymentService.refundPayment(paymentId);
+
+        // Then
+        assertThat(orderService.getOrderById(order.getId())).get()
+                .extracting(stored -> stored.getPayment().getStatus()).isEqualTo(Payment.PaymentStatus.REFUNDED);
+    }
+
+    @Test
+    @DisplayName("저장된 주문의 결제를 다시 처리하거나 실패시키면 저장된 결제 상태도 갱신")
+    void paymentProcessedOrFailed_RefreshesStoredOrder() {
+        // Given
+        Long memberId = memberService.createMember("payment@example.com", "Payment User", "010-3535-4646").getId();
+        OrderDto completed = createOrder(memberId);
+        orderService.confirmOrder(completed.getId());
+        Long completedPaymentId = paymentService.createPayment(completed.getId(), Payment.PaymentMethod.CASH).getId();
+        paymentService.processPayment(completedPaymentId);
+        orderService.completeOrder(completed.getId());
+        paymentService.refundPayment(completedPaymentId);
+        OrderDto cancelled = createOrder(memberId);
+        Long cancelledPaymentId = paymentService.createPayment(cancelled.getId(), Payment.PaymentMethod.CASH).getId();
+        orderService.cancelOrder(cancelled.getId());
+
+        // When
+        paymentService.processPayment(completedPaymentId);
+        paymentService.failPayment(cancelledPaymentId, "Card declined");
+
+        // Then
+        assertThat(store.find(completed.getId())).get()
+                .extracting(stored -> stored.getPayment().getStatus()).isEqualTo(Payment.PaymentStatus.COMPLETED);
+        assertThat(store.find(cancelled.getId())).get()
+                .extracting(stored -> stored.getPayment().getStatus()).isEqualTo(Payment.PaymentStatus.FAILED);
+    }
+
+    private OrderDto createOrder(Long memberId) {
+        return orderService.createOrder(memberId, List.of(
+                new OrderService.OrderItemRequest("Headset", "Noise cancelling headset", 1, new BigDecimal("150000"))));
+    }
+}
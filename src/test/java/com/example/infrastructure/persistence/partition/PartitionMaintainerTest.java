@@ -0,0 +1,177 @@
+package com.example.infrastructure.persistence.partition;
+
+import com.example.application.service.MemberService;
+import com.example.application.service.OrderService;
+import com.example.application.service.PaymentService;
+import com.example.domain.Payment;
+import com.example.dto.OrderDto;
+import com.example.dto.PaymentDto;
+import com.example.infrastructure.persistence.MemberRepository;
+import com.example.infrastructure.persistence.OrderRepository;
+import com.example.infrastructure.persistence.PaymentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs against the H2 simulation; not transactional, the maintainer commits its own DDL.
+ */
+@SpringBootTest(properties = {"app.partitioning.enabled=true", "app.partitioning.retention-months=12"})
+@ActiveProfiles("test")
+@DisplayName("월별 파티션 관리 테스트")
+class PartitionMaintainerTest {
+
+    @Autowired
+    private PartitionMaintainer partitionMaintainer;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @AfterEach
+    void tearDown() {
+        paymentRepository.deleteAll();
+        orderRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("시작 시 이번 달부터 앞으로 3개월 파티션을 미리 생성")
+    void start_CreatesFuturePartitions() {
+        // Given
+        YearMonth current = YearMonth.now();
+
+        // When & Then
+        for (String table : List.of("orders", "payments")) {
+            assertThat(partitionMaintainer.partitions(table))
+                    .contains(current, current.plusMonths(1), current.plusMonths(2), current.plusMonths(3));
+        }
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 종결 주문의 월 파티션은 주문·항목·결제와 함께 삭제")
+    void maintain_DropsExpiredMonthsWithDependentRows() {
+        // Given
+        Long memberId = memberService.createMember("partition@example.com", "Partition User", "010-3232-4545").getId();
+        OrderDto expired = createPaidOrder(memberId);
+        OrderDto kept = createPaidOrder(memberId);
+        YearMonth expiredMonth = YearMonth.now().minusMonths(14);
+        partitionMaintainer.createPartition("orders", expiredMonth);
+        partitionMaintainer.createPartition("payments", expiredMonth);
+        Timestamp longAgo = Timestamp.valueOf(expiredMonth.atDay(10).atTime(9, 0));
+        jdbcTemplate.update("UPDATE orders SET created_at = ?, status = 'CANCELLED' WHERE id = ?", longAgo, expired.getId());
+        jdbcTemplate.update("UPDATE payments SET created_at = ? WHERE order_id = ?", longAgo, expired.getId());
+
+        // When
+        partitionMaintainer.maintain();
+
+        // Then
+        assertThat(partitionMaintainer.partitions("orders")).doesNotContain(expiredMonth).contains(YearMonth.now());
+        assertThat(partitionMaintainer.partitions("payments")).doesNotContain(expiredMonth);
+        assertThat(orderRepository.findById(expired.getId())).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_items WHERE order_id = ?", Long.class, expired.getId())).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM payments WHERE order_id = ?", Long.class, expired.getId())).isZero();
+        assertThat(orderRepository.findById(kept.getId())).isPresent();
+        assertThat(paymentService.getPaymentByOrderId(kept.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지났어도 진행 중인 주문이 남은 월 파티션과 그 결제는 유지")
+    void maintain_KeepsMonthsWithOpenOrders() {
+        // Given
+        Long memberId = memberService.createMember("open@example.com", "Open User", "010-4545-6767").getId();
+        OrderDto open = createPaidOrder(memberId);
+        YearMonth expiredMonth = YearMonth.now().minusMonths(15);
+        partitionMaintainer.createPartition("orders", expiredMonth);
+        partitionMaintainer.createPartition("payments", expiredMonth);
+        Timestamp longAgo = Timestamp.valueOf(expiredMonth.atDay(10).atTime(9, 0));
+        jdbcTemplate.update("UPDATE orders SET created_at = ? WHERE id = ?", longAgo, open.getId());
+        jdbcTemplate.update("UPDATE payments SET created_at = ? WHERE order_id = ?", longAgo, open.getId());
+
+        // When
+        partitionMaintainer.maintain();
+
+        // Then
+        assertThat(partitionMaintainer.partitions("orders")).contains(expiredMonth);
+        assertThat(partitionMaintainer.partitions("payments")).contains(expiredMonth);
+        assertThat(orderRepository.findById(open.getId())).isPresent();
+        assertThat(paymentService.getPaymentByOrderId(open.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("파티션 전환 후 다른 달에 같은 주문 번호를 넣으면 거부")
+    void partitioned_RejectsDuplicateOrderNumber() {
+        // Given
+        Long memberId = memberService.createMember("unique@example.com", "Unique User", "010-7878-9090").getId();
+        OrderDto order = createPaidOrder(memberId);
+        Timestamp lastMonth = Timestamp.valueOf(YearMonth.now().minusMonths(1).atDay(3).atTime(10, 0));
+
+        // When & Then
+        assertThatThrownBy(() -> jdbcTemplate.update("INSERT INTO orders (order_number, member_id, total_amount, status, "
+                        + "created_at, updated_at) SELECT order_number, member_id, total_amount, status, ?, ? FROM orders WHERE id = ?",
+                lastMonth, lastMonth, order.getId()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("생성일 범위 조회는 범위 안의 주문과 결제만 반환")
+    void createdBetween_ReturnsOnlyRowsInRange() {
+        // Given
+        Long memberId = memberService.createMember("range@example.com", "Range User", "010-5656-7878").getId();
+        OrderDto lastMonth = createPaidOrder(memberId);
+        OrderDto today = createPaidOrder(memberId);
+        LocalDateTime earlier = LocalDate.now().minusMonths(1).withDayOfMonth(5).atTime(12, 0);
+        jdbcTemplate.update("UPDATE orders SET created_at = ? WHERE id = ?", Timestamp.valueOf(earlier), lastMonth.getId());
+        jdbcTemplate.update("UPDATE payments SET created_at = ? WHERE order_id = ?", Timestamp.valueOf(earlier), lastMonth.getId());
+
+        // When
+        List<OrderDto> orders = orderService.getOrdersCreatedBetween(LocalDate.now(), LocalDate.now(), null);
+        List<OrderDto> memberOrders = orderService.getOrdersCreatedBetween(earlier.toLocalDate(), LocalDate.now(), memberId);
+
+        // Then
+        assertThat(orders).extracting(OrderDto::getId).containsExactly(today.getId());
+        assertThat(memberOrders).extracting(OrderDto::getId).containsExactly(lastMonth.getId(), today.getId());
+        assertThat(paymentService.getPaymentsCreatedBetween(earlier.toLocalDate(), earlier.toLocalDate()))
+                .extracting(PaymentDto::getOrderId).containsExactly(lastMonth.getId());
+        assertThatThrownBy(() -> orderService.getOrdersCreatedBetween(LocalDate.now(), LocalDate.now().minusDays(1), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private OrderDto createPaidOrder(Long memberId) {
+        OrderDto order = orderService.createOrder(memberId, List.of(
+                new OrderService.OrderItemRequest("Desk lamp", "LED desk lamp", 1, new BigDecimal("42000"))));
+        paymentService.createPayment(order.getId(), Payment.PaymentMethod.CREDIT_CARD);
+        return order;
+    }
+}
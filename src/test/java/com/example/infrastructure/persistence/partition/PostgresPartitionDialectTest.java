@@ -0,0 +1,92 @@
+package com.example.infrastructure.persistence.partition;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs the partitioning DDL against a real PostgreSQL on tables shaped like the ones Hibernate
+ * creates; skipped where Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("PostgreSQL 파티션 전환 제약 조건 테스트")
+class PostgresPartitionDialectTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private JdbcTemplate jdbcTemplate;
+    private PostgresPartitionDialect dialect;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS order_items, payments, payments_keys, orders, orders_keys CASCADE");
+        jdbcTemplate.execute("DROP SEQUENCE IF EXISTS orders_id_seq, payments_id_seq");
+        jdbcTemplate.execute("CREATE TABLE orders (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "order_number VARCHAR(50) NOT NULL UNIQUE, created_at TIMESTAMP(6) NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE order_items (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "order_id BIGINT NOT NULL REFERENCES orders (id))");
+        jdbcTemplate.execute("CREATE TABLE payments (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "order_id BIGINT NOT NULL UNIQUE REFERENCES orders (id), created_at TIMESTAMP(6) NOT NULL)");
+        jdbcTemplate.update("INSERT INTO orders (order_number, created_at) VALUES ('ORD-1', now())");
+        dialect = new PostgresPartitionDialect(jdbcTemplate);
+        dialect.partition("orders", YearMonth.now(), YearMonth.now().plusMonths(1));
+        dialect.partition("payments", YearMonth.now(), YearMonth.now().plusMonths(1));
+    }
+
+    @Test
+    @DisplayName("파티션 전환 후에도 중복 주문 번호는 거부")
+    void partition_KeepsOrderNumberUnique() {
+        // Given
+        assertThat(dialect.isPartitioned("orders")).isTrue();
+
+        // When & Then
+        assertThatThrownBy(() -> jdbcTemplate.update("INSERT INTO orders (order_number, created_at) "
+                + "VALUES ('ORD-1', now() - INTERVAL '40 days')"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("파티션 전환 후에도 없는 주문을 가리키는 항목과 결제는 거부")
+    void partition_KeepsReferencesToOrders() {
+        // Given
+        Long orderId = jdbcTemplate.queryForObject("SELECT id FROM orders WHERE order_number = 'ORD-1'", Long.class);
+        jdbcTemplate.update("INSERT INTO payments (order_id, created_at) VALUES (?, now())", orderId);
+
+        // When & Then
+        assertThatThrownBy(() -> jdbcTemplate.update("INSERT INTO order_items (order_id) VALUES (?)", orderId + 1000))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThatThrownBy(() -> jdbcTemplate.update("INSERT INTO payments (order_id, created_at) VALUES (?, now())", orderId))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThatThrownBy(() -> jdbcTemplate.update("DELETE FROM orders WHERE id = ?", orderId))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("월 파티션 삭제는 참조가 남아 있으면 실패하고, 정리 후에는 키도 함께 삭제")
+    void drop_RemovesKeysOnlyWithoutReferences() {
+        // Given
+        Long orderId = jdbcTemplate.queryForObject("SELECT id FROM orders WHERE order_number = 'ORD-1'", Long.class);
+        jdbcTemplate.update("INSERT INTO order_items (order_id) VALUES (?)", orderId);
+
+        // When & Then
+        assertThatThrownBy(() -> dialect.drop("orders", YearMonth.now()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        jdbcTemplate.update("DELETE FROM order_items WHERE order_id = ?", orderId);
+        dialect.drop("orders", YearMonth.now());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders_keys", Long.class)).isZero();
+        jdbcTemplate.update("INSERT INTO orders (order_number, created_at) VALUES ('ORD-1', now() - INTERVAL '40 days')");
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.infrastructure.persistence.writebehind;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("주문 WAL 테스트")
+class OrderWriteAheadLogTest {
+
+    @TempDir
+    private Path directory;
+
+    @Nested
+    @DisplayName("기록과 재생")
+    class ReplayTest {
+
+        @Test
+        @DisplayName("다시 열면 기록한 주문을 순서대로 재생")
+        void reopen_ReplaysInOrder() throws IOException {
+            // Given
+            try (OrderWriteAheadLog wal = new OrderWriteAheadLog(directory, 1024 * 1024, true)) {
+                wal.open(entry -> fail("Nothing to replay"));
+                for (long id = 1; id <= 3; id++) {
+                    wal.sync(wal.append(snapshot(id)));
+                }
+            }
+
+            // When
+            List<OrderWriteAheadLog.Entry> replayed = new ArrayList<>();
+            try (OrderWriteAheadLog wal = new OrderWriteAheadLog(directory, 1024 * 1024, true)) {
+                wal.open(replayed::add);
+
+                // Then
+                assertThat(replayed).extracting(OrderWriteAheadLog.Entry::sequence).containsExactly(1L, 2L, 3L);
+                assertThat(replayed.get(1).snapshot()).isEqualTo(snapshot(2));
+                assertThat(wal.append(snapshot(4))).isEqualTo(4);
+            }
+        }
+
+        @Test
+        @DisplayName("끝이 잘린 레코드는 버리고 이어서 기록")
+        void tornTail_IsCutOff() throws IOException {
+            // Given
+            try (OrderWriteAheadLog wal = new OrderWriteAheadLog(directory, 1024 * 1024, false)) {
+                wal.open(entry -> { });
+                wal.append(snapshot(1));
+                wal.append(snapshot(2));
+            }
+            Path segment = segments().get(0);
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                channel.truncate(channel.size() - 5);
+            }
+
+            // When
+            List<OrderWriteAheadLog.Entry> replayed = new ArrayList<>();
+            try (OrderWriteAheadLog wal = new OrderWriteAheadLog(directory, 1024 * 1024, false)) {
+                wal.open(replayed::add);
+                wal.append(snapshot(3));
+            }
+
+            // Then
+            List<OrderWriteAheadLog.Entry> afterAppend = new ArrayList<>();
+            try (OrderWriteAheadLog wal = new OrderWriteAheadLog(directory, 1024 * 1024, false)) {
+                wal.open(afterAppend::add);
+            }
+            assertThat(replayed).extracting(entry -> entry.snapshot().id()).containsExactly(1L);
+            assertThat(afterAppend).extracting(entry -> entry.snapshot().id()).containsExactly(1L, 3L);
+        }
+
+        @Test
+        @DisplayName("체크포인트 이전 주문은 재생하지 않고 다 쓴 세그먼트는 삭제")
+        void checkpoint_SkipsAndDeletesSegments() throws IOException {
+            // Given
+            long lastSequence;
+            try (OrderWriteAheadLog wal = new OrderWriteAheadLog(directory, 512, false)) {
+                wal.open(entry -> { });
+                for (long id = 1; id <= 20; id++) {
+                    wal.append(snapshot(id));
+                }
+                int segmentsBefore = segments().size();
+
+                // When
+                wal.checkpoint(15);
+                lastSequence = wal.getLastSequence();
+
+                // Then
+                assertThat(segmentsBefore).isGreaterThan(2);
+                assertThat(segments().size()).isLessThan(segmentsBefore);
+            }
+            List<OrderWriteAheadLog.Entry> replayed = new ArrayList<>();
+            try (OrderWriteAheadLog wal = new OrderWriteAheadLog(directory, 512, false)) {
+                wal.open(replayed::add);
+                assertThat(wal.getCheckpointSequence()).isEqualTo(15);
+                assertThat(wal.getLastSequence()).isEqualTo(lastSequence);
+            }
+            assertThat(replayed).extracting(entry -> entry.snapshot().id()).containsExactly(16L, 17L, 18L, 19L, 20L);
+        }
+    }
+
+    @Nested
+    @DisplayName("long 키 맵")
+    class ConcurrentLongObjectMapTest {
+
+        @Test
+        @DisplayName("무작위 추가·삭제 결과가 HashMap과 동일")
+        void randomOperations_MatchHashMap() {
+            // Given
+            ConcurrentLongObjectMap<String> map = new ConcurrentLongObjectMap<>(16);
+            Map<Long, String> expected = new HashMap<>();
+            Random random = new Random(7);
+
+            // When
+            for (int i = 0; i < 200_000; i++) {
+                long key = 1 + random.nextInt(5_000);
+                if (random.nextInt(3) == 0) {
+                    assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+                } else {
+                    String value = "v" + i;
+                    assertThat(map.put(key, value)).isEqualTo(expected.put(key, value));
+                }
+            }
+
+            // Then
+            assertThat(map.size()).isEqualTo(expected.size());
+            expected.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+            assertThat(map.values()).containsExactlyInAnyOrderElementsOf(expected.values());
+            assertThat(map.containsKey(5_001)).isFalse();
+        }
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".wal")).sorted().toList();
+        }
+    }
+
+    private static OrderSnapshot snapshot(long id) {
+        return new OrderSnapshot(id, "ORD-" + id, 7, "Member", new BigDecimal("20000.00"),
+                LocalDateTime.of(2024, 5, 1, 12, 0), List.of(
+                new OrderSnapshot.Item("Product", "Description", 2, new BigDecimal("10000.00"), new BigDecimal("20000.00"))));
+    }
+}
@@ -0,0 +1,267 @@
+package com.example.infrastructure.persistence.writebehind;
+
+import com.example.application.service.OrderService;
+import com.example.domain.Member;
+import com.example.domain.Order;
+import com.example.domain.event.DomainEventPublisher;
+import com.example.dto.OrderDto;
+import com.example.infrastructure.persistence.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Not transactional: orders reach the database through the engine's own transactions.
+ * The flush interval is long so that the tests decide when orders are written.
+ */
+@SpringBootTest
+@ActiveProfiles({"test", "write-behind"})
+@DisplayName("Write-behind 주문 저장소 테스트")
+class WriteBehindOrderEngineTest {
+
+    private static final Path WAL_DIRECTORY = createTempDirectory();
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:writebehind;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        registry.add("app.order-store.wal-directory", WAL_DIRECTORY::toString);
+        registry.add("app.order-store.flush-interval", () -> "1h");
+        registry.add("app.order-store.sync-on-append", () -> "false");
+    }
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private WriteBehindOrderEngine engine;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DomainEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @TempDir
+    private Path recoveryDirectory;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder()
+                .email("write-behind@example.com")
+                .name("Write Behind")
+                .phoneNumber("010-1212-3434")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.flushPending();
+        jdbcTemplate.update("DELETE FROM payments");
+        jdbcTemplate.update("DELETE FROM order_items");
+        jdbcTemplate.update("DELETE FROM orders");
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("DB에 반영되기 전에도 생성한 주문을 조회하고, JPA 경로는 먼저 반영")
+    void createOrder_IsReadableBeforeFlush() {
+        // When
+        OrderDto created = orderService.createOrder(member.getId(), List.of(
+                new OrderService.OrderItemRequest("Keyboard", "Mechanical keyboard", 2, new BigDecimal("50000"))));
+
+        // Then
+        assertThat(created.getId()).isNotNull();
+        assertThat(created.getTotalAmount()).isEqualByComparingTo("100000");
+        assertThat(countOrders()).isZero();
+        assertThat(orderService.getOrderById(created.getId())).get()
+                .extracting(OrderDto::getOrderNumber).isEqualTo(created.getOrderNumber());
+        assertThat(orderService.getOrderByOrderNumber(created.getOrderNumber())).get()
+                .extracting(OrderDto::getMemberName).isEqualTo("Write Behind");
+
+        OrderDto confirmed = orderService.confirmOrder(created.getId());
+        assertThat(confirmed.getStatus()).isEqualTo(Order.OrderStatus.CONFIRMED);
+        assertThat(countOrders()).isEqualTo(1);
+        assertThat(orderService.getOrderById(created.getId())).get()
+                .satisfies(order -> assertThat(order.getOrderItems()).hasSize(1));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 회원의 주문은 거절")
+    void createOrder_UnknownMember_Throws() {
+        assertThatThrownBy(() -> orderService.createOrder(999_999L, List.of(
+                new OrderService.OrderItemRequest("Mouse", "Wireless mouse", 1, new BigDecimal("30000")))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(engine.hasPending()).isFalse();
+    }
+
+    @Test
+    @DisplayName("컬럼 한도를 넘는 상품명과 금액은 WAL에 기록하기 전에 거절")
+    void createOrder_OverColumnLimits_Throws() {
+        assertThatThrownBy(() -> orderService.createOrder(member.getId(), List.of(
+                new OrderService.OrderItemRequest("P".repeat(101), "Too long name", 1, new BigDecimal("1000")))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Product name");
+        assertThatThrownBy(() -> orderService.createOrder(member.getId(), List.of(
+                new OrderService.OrderItemRequest("Gold bar", "Too expensive", 2, new BigDecimal("99999999999999999")))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Item total");
+        assertThat(engine.hasPending()).isFalse();
+    }
+
+    @Test
+    @DisplayName("DB가 거부한 주문은 버리지 않고 데드 레터로 옮긴 뒤 나머지는 반영")
+    void flush_MovesRefusedOrderToDeadLetters() {
+        // Given: an order past the checks of the service, which only the database refuses
+        OrderSnapshot refused = engine.create("ORD-DEAD-LETTER", member.getId(), member.getName(), new BigDecimal("1000"),
+                List.of(new OrderSnapshot.Item("N".repeat(101), "Too long name", 1, new BigDecimal("1000"), new BigDecimal("1000"))));
+        OrderDto accepted = orderService.createOrder(member.getId(), List.of(
+                new OrderService.OrderItemRequest("Pen", "Ballpoint pen", 1, new BigDecimal("1500"))));
+
+        // When
+        engine.flushPending();
+
+        // Then
+        assertThat(engine.hasPending()).isFalse();
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM orders", Long.class)).containsExactly(accepted.getId());
+        assertThat(engine.getDeadLetters()).extracting(OrderSnapshot::orderNumber).contains(refused.orderNumber());
+    }
+
+    @Test
+    @DisplayName("동시에 생성한 주문이 모두 고유한 ID로 반영")
+    void concurrentCreates_AllFlushedWithUniqueIds() throws Exception {
+        // Given
+        int threads = 8;
+        int ordersPerThread = 500;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        long startTime = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < ordersPerThread; i++) {
+                    ids.add(orderService.createOrder(member.getId(), List.of(
+                            new OrderService.OrderItemRequest("Cable", "USB-C cable", 1, new BigDecimal("9900")))).getId());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        long acceptMillis = (System.nanoTime() - startTime) / 1_000_000;
+        executor.shutdown();
+        engine.flushPending();
+
+        // Then
+        assertThat(ids).hasSize(threads * ordersPerThread);
+        assertThat(countOrders()).isEqualTo(threads * ordersPerThread);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_items", Long.class))
+                .isEqualTo(threads * ordersPerThread);
+        assertThat(engine.hasPending()).isFalse();
+
+        Timer append = meterRegistry.get("orders.writebehind.append").timer();
+        StringBuilder percentiles = new StringBuilder();
+        for (ValueAtPercentile value : append.takeSnapshot().percentileValues()) {
+            percentiles.append(String.format(" p%.0f=%.1fus", value.percentile() * 100, value.value(TimeUnit.MICROSECONDS)));
+        }
+        System.out.printf("Accepted %,d orders in %d ms, append latency%s%n", ids.size(), acceptMillis, percentiles);
+    }
+
+    @Test
+    @DisplayName("재시작 시 WAL의 주문을 DB에 반영하고 이미 있는 주문은 건너뜀")
+    void start_RecoversOrdersFromWal() throws IOException {
+        // Given: two acknowledged orders, one of which reached the database before the crash
+        OrderSnapshot inserted = snapshot(5_000_001L);
+        OrderSnapshot lost = snapshot(5_000_002L);
+        try (OrderWriteAheadLog wal = new OrderWriteAheadLog(recoveryDirectory, 1024 * 1024, false)) {
+            wal.open(entry -> { });
+            wal.append(inserted);
+            wal.append(lost);
+        }
+        jdbcTemplate.update("INSERT INTO orders (id, order_number, member_id, total_amount, status, created_at, updated_at, version) "
+                + "VALUES (?, ?, ?, ?, 'PENDING', ?, ?, 0)", inserted.id(), inserted.orderNumber(), member.getId(),
+                inserted.totalAmount(), inserted.createdAt(), inserted.createdAt());
+
+        WriteBehindProperties properties = new WriteBehindProperties();
+        properties.setEngine("write-behind");
+        properties.setWalDirectory(recoveryDirectory.toString());
+        properties.setFlushInterval(Duration.ofHours(1));
+        WriteBehindOrderEngine restarted = new WriteBehindOrderEngine(jdbcTemplate, transactionManager,
+                eventPublisher, properties, new SimpleMeterRegistry(), null);
+
+        // When
+        restarted.start();
+        try {
+            // Then
+            assertThat(restarted.hasPending()).isFalse();
+            assertThat(jdbcTemplate.queryForList("SELECT id FROM orders ORDER BY id", Long.class))
+                    .containsExactly(inserted.id(), lost.id());
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_items WHERE order_id = ?",
+                    Long.class, lost.id())).isEqualTo(1);
+            assertThat(restarted.create("ORD-RECOVERED-3", member.getId(), member.getName(),
+                    new BigDecimal("1000"), List.of()).id()).isEqualTo(lost.id() + 1);
+        } finally {
+            restarted.stop();
+        }
+    }
+
+    private OrderSnapshot snapshot(long id) {
+        return new OrderSnapshot(id, "ORD-RECOVERED-" + id, member.getId(), member.getName(), new BigDecimal("20000.00"),
+                LocalDateTime.now().withNano(0), List.of(
+                new OrderSnapshot.Item("Monitor", "27 inch monitor", 1, new BigDecimal("20000.00"), new BigDecimal("20000.00"))));
+    }
+
+    private long countOrders() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Long.class);
+    }
+
+    private static Path createTempDirectory() {
+        try {
+            return Files.createTempDirectory("order-wal");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.infrastructure.singleflight;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SingleFlightLoader 테스트")
+class SingleFlightLoaderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlightProperties properties;
+    private ExecutorService executor;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new SingleFlightProperties();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        executions = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 조회는 한 번만 실행하고 결과를 공유")
+    void concurrentLoads_ShareOneExecution() throws Exception {
+        // Given
+        SingleFlightLoader loader = new SingleFlightLoader(properties, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 50;
+
+        // When
+        List<Future<Object>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(loadAsync(loader, () -> {
+                executions.incrementAndGet();
+                release.await();
+                return "order-1";
+            }));
+        }
+        awaitCount("coalesced", callers - 1);
+        release.countDown();
+
+        // Then
+        for (Future<Object> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("order-1");
+        }
+        assertThat(executions).hasValue(1);
+        assertThat(count("executed")).isEqualTo(1);
+        assertThat(loader.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("무효화 이후에 온 호출은 진행 중인 이전 조회에 합류하지 않음")
+    void loadAfterInvalidation_DoesNotJoinEarlierFlight() throws Exception {
+        // Given
+        SingleFlightLoader loader = new SingleFlightLoader(properties, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Object> before = loadAsync(loader, () -> {
+            started.countDown();
+            release.await();
+            return "before";
+        });
+        started.await(5, TimeUnit.SECONDS);
+
+        // When
+        loader.invalidate("orders");
+        Object after = loader.load("orders", 1L, () -> "after");
+        release.countDown();
+
+        // Then
+        assertThat(after).isEqualTo("after");
+        assertThat(before.get(5, TimeUnit.SECONDS)).isEqualTo("before");
+        assertThat(count("executed")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("TTL 동안 완료된 결과를 재사용하고 무효화되면 다시 조회")
+    void completedResult_IsReusedWithinTtl() throws Throwable {
+        // Given
+        properties.setTtl(Duration.ofMinutes(1));
+        SingleFlightLoader loader = new SingleFlightLoader(properties, meterRegistry);
+        SingleFlightLoader.Loader load = () -> "member-" + executions.incrementAndGet();
+
+        // When
+        Object first = loader.load("members", 7L, load);
+        Object second = loader.load("members", 7L, load);
+        loader.invalidate("members");
+        Object third = loader.load("members", 7L, load);
+
+        // Then
+        assertThat(first).isEqualTo("member-1");
+        assertThat(second).isEqualTo("member-1");
+        assertThat(third).isEqualTo("member-2");
+        assertThat(count("cached")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패한 조회는 기억하지 않음")
+    void failedLoad_IsNotRemembered() throws Throwable {
+        // Given
+        properties.setTtl(Duration.ofMinutes(1));
+        SingleFlightLoader loader = new SingleFlightLoader(properties, meterRegistry);
+
+        // When
+        assertThatThrownBy(() -> loader.load("payments", 3L, () -> {
+            throw new IllegalArgumentException("boom");
+        })).isInstanceOf(IllegalArgumentException.class);
+        Object retried = loader.load("payments", 3L, () -> "payment-3");
+
+        // Then
+        assertThat(retried).isEqualTo("payment-3");
+        assertThat(count("executed")).isEqualTo(2);
+    }
+
+    private Future<Object> loadAsync(SingleFlightLoader loader, SingleFlightLoader.Loader load) {
+        return executor.submit(() -> {
+            try {
+                return loader.load("orders", 1L, load);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private double count(String result) {
+        var counter = meterRegistry.find(SingleFlightLoader.LOADS_METRIC).tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private void awaitCount(String result, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count(result) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.infrastructure.web.assets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Swagger UI 정적 자산 사전 압축 테스트")
+class PrecompressedAssetPublisherTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("웹자르 자산을 디스크에 풀고 큰 텍스트 자산마다 더 작은 .gz를 만듦")
+    void publish_WritesAssetsWithGzipVariants() throws Exception {
+        // Given
+        StaticAssetProperties properties = new StaticAssetProperties();
+        properties.setDirectory(directory);
+        PrecompressedAssetPublisher publisher = new PrecompressedAssetPublisher(properties);
+
+        // When
+        List<String> published = publisher.publish();
+
+        // Then
+        assertThat(published).contains("swagger-ui-bundle.js", "swagger-ui.css");
+        Path bundle = publisher.getRoot().resolve("swagger-ui-bundle.js");
+        Path compressed = publisher.getRoot().resolve("swagger-ui-bundle.js.gz");
+        assertThat(compressed).exists();
+        assertThat(Files.size(compressed)).isLessThan(Files.size(bundle) / 2);
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(compressed))) {
+            assertThat(Arrays.equals(in.readAllBytes(), Files.readAllBytes(bundle))).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("springdoc이 요청마다 고쳐 쓰는 파일은 게시하지 않음")
+    void publish_LeavesTransformedFilesToSpringdoc() throws Exception {
+        // Given
+        StaticAssetProperties properties = new StaticAssetProperties();
+        properties.setDirectory(directory);
+        PrecompressedAssetPublisher publisher = new PrecompressedAssetPublisher(properties);
+
+        // When
+        List<String> published = publisher.publish();
+
+        // Then
+        assertThat(published).doesNotContain("index.html", "swagger-initializer.js");
+        assertThat(publisher.getRoot().resolve("swagger-initializer.js")).doesNotExist();
+    }
+}
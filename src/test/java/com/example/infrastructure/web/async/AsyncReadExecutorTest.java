@@ -0,0 +1,130 @@
+package com.example.infrastructure.web.async;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("비동기 DB 조회 실행기 테스트")
+class AsyncReadExecutorTest {
+
+    private AsyncReadProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private AsyncReadExecutor executor;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        properties = new AsyncReadProperties();
+        properties.setThreads(1);
+        properties.setQueueCapacity(1);
+        properties.setTimeout(Duration.ofSeconds(5));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("조회 결과를 요청 스레드 밖에서 채움")
+    void read_CompletesWithQueryResult() throws Exception {
+        // Given
+        executor = new AsyncReadExecutor(properties, meterRegistry);
+
+        // When
+        DeferredResult<ResponseEntity<String>> result = executor.read(() -> ResponseEntity.ok(Thread.currentThread().getName()));
+
+        // Then
+        ResponseEntity<String> response = await(result);
+        assertThat(response.getBody()).startsWith("db-read-");
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘기면 503으로 응답하고 실행 중인 조회를 인터럽트")
+    void slowRead_TimesOutAndIsInterrupted() throws Exception {
+        // Given
+        properties.setTimeout(Duration.ofMillis(100));
+        executor = new AsyncReadExecutor(properties, meterRegistry);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        // When
+        DeferredResult<ResponseEntity<String>> result = executor.read(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return ResponseEntity.ok("late");
+        });
+
+        // Then
+        ResponseEntity<?> response = await(result);
+        assertThat(response.getStatusCode().value()).isEqualTo(503);
+        assertThat(response.getHeaders().getFirst("Retry-After")).isEqualTo("1");
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get(AsyncReadExecutor.METRIC).tag("outcome", "timeout").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 즉시 503으로 응답")
+    void fullQueue_IsRejectedImmediately() throws Exception {
+        // Given: one read running and one queued
+        executor = new AsyncReadExecutor(properties, meterRegistry);
+        executor.read(() -> blockUntilReleased());
+        executor.read(() -> blockUntilReleased());
+
+        // When
+        DeferredResult<ResponseEntity<String>> result = executor.read(() -> ResponseEntity.ok("never"));
+
+        // Then
+        assertThat(result.hasResult()).isTrue();
+        assertThat(((ResponseEntity<?>) result.getResult()).getStatusCode().value()).isEqualTo(503);
+        assertThat(meterRegistry.get(AsyncReadExecutor.METRIC).tag("outcome", "rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회 예외는 그대로 예외 처리기로 전달")
+    void failingRead_PassesExceptionOn() throws Exception {
+        // Given
+        executor = new AsyncReadExecutor(properties, meterRegistry);
+
+        // When
+        DeferredResult<ResponseEntity<String>> result = executor.read(() -> {
+            throw new IllegalArgumentException("Order not found");
+        });
+
+        // Then
+        assertThat(await(result)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ResponseEntity<String> blockUntilReleased() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return ResponseEntity.ok("released");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T await(DeferredResult<?> result) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!result.hasResult() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(result.hasResult()).isTrue();
+        return (T) result.getResult();
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.infrastructure.web.etag;
+
+import com.example.domain.Order;
+import com.example.domain.Payment;
+import com.example.dto.MemberDto;
+import com.example.dto.OrderDto;
+import com.example.dto.PaymentDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("EntityTagCache 테스트")
+class EntityTagCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private EntityTagCache cache;
+    private AtomicReference<OrderDto> stored;
+    private AtomicInteger reads;
+    private Supplier<Optional<OrderDto>> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new EntityTagCache(new EntityTagProperties(), meterRegistry);
+        stored = new AtomicReference<>(order(Order.OrderStatus.PENDING, null));
+        reads = new AtomicInteger();
+        loader = () -> {
+            reads.incrementAndGet();
+            return Optional.of(stored.get());
+        };
+    }
+
+    @Test
+    @DisplayName("일치하는 If-None-Match는 DB 조회 없이 304 응답")
+    void matchingTag_IsAnsweredFromVersionMap() {
+        // Given
+        String tag = cache.order(1L, null, loader).getHeaders().getETag();
+
+        // When
+        ResponseEntity<OrderDto> response = cache.order(1L, tag, loader);
+
+        // Then
+        assertThat(tag).startsWith("W/\"");
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo(tag);
+        assertThat(reads).hasValue(1);
+        assertThat(meterRegistry.get("http.etag.not_modified.ratio").tag("resource", "order").gauge().value())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("변경 이벤트 이후에는 다시 조회해 새 ETag와 200 응답")
+    void invalidatedTag_ReadsAgain() {
+        // Given
+        String tag = cache.order(1L, null, loader).getHeaders().getETag();
+        stored.set(order(Order.OrderStatus.CONFIRMED, null));
+        cache.orderChanged(1L, 10L);
+
+        // When
+        ResponseEntity<OrderDto> response = cache.order(1L, tag, loader);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNotEqualTo(tag);
+        assertThat(response.getBody().getStatus()).isEqualTo(Order.OrderStatus.CONFIRMED);
+        assertThat(reads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 읽은 ETag를 기억하지 않음")
+    void invalidationDuringRead_IsNotPinned() {
+        // Given
+        Supplier<Optional<OrderDto>> racingLoader = () -> {
+            Optional<OrderDto> before = loader.get();
+            stored.set(order(Order.OrderStatus.CONFIRMED, null));
+            cache.orderChanged(1L, 10L);
+            return before;
+        };
+        String staleTag = cache.order(1L, null, racingLoader).getHeaders().getETag();
+
+        // When
+        ResponseEntity<OrderDto> response = cache.order(1L, staleTag, loader);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getStatus()).isEqualTo(Order.OrderStatus.CONFIRMED);
+    }
+
+    @Test
+    @DisplayName("결제 변경은 주문과 그 주문을 가진 회원의 ETag도 무효화")
+    void paymentChange_InvalidatesOrderAndMember() {
+        // Given
+        AtomicInteger memberReads = new AtomicInteger();
+        Supplier<Optional<MemberDto>> memberLoader = () -> {
+            memberReads.incrementAndGet();
+            return Optional.of(MemberDto.builder().id(10L).name("Tag User")
+                    .orders(List.of(stored.get())).build());
+        };
+        String memberTag = cache.member(10L, null, memberLoader).getHeaders().getETag();
+        String orderTag = cache.order(1L, null, loader).getHeaders().getETag();
+        stored.set(order(Order.OrderStatus.PENDING, Payment.PaymentStatus.PENDING));
+
+        // When
+        cache.paymentChanged(5L, 1L);
+
+        // Then
+        assertThat(cache.member(10L, memberTag, memberLoader).getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(cache.order(1L, orderTag, loader).getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(memberReads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("약한 비교와 와일드카드를 지원")
+    void ifNoneMatch_UsesWeakComparison() {
+        // When & Then
+        assertThat(EntityTagCache.matches("W/\"abc\"", "\"abc\"")).isTrue();
+        assertThat(EntityTagCache.matches("\"x\", \"abc\"", "\"abc\"")).isTrue();
+        assertThat(EntityTagCache.matches("*", "\"abc\"")).isTrue();
+        assertThat(EntityTagCache.matches("\"abd\"", "\"abc\"")).isFalse();
+    }
+
+    private static OrderDto order(Order.OrderStatus status, Payment.PaymentStatus paymentStatus) {
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 3, 1, 12, 0);
+        return OrderDto.builder()
+                .id(1L)
+                .memberId(10L)
+                .status(status)
+                .updatedAt(status == Order.OrderStatus.PENDING ? updatedAt : updatedAt.plusMinutes(1))
+                .payment(paymentStatus == null ? null
+                        : PaymentDto.builder().id(5L).orderId(1L).status(paymentStatus).updatedAt(updatedAt).build())
+                .build();
+    }
+}
@@ -0,0 +1,272 @@
+package com.example.infrastructure.web.idempotency;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Idempotency-Key 처리 테스트")
+class IdempotencyFilterTest {
+
+    private IdempotencyProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new IdempotencyProperties();
+        properties.setWaitTimeout(Duration.ofSeconds(5));
+    }
+
+    @Nested
+    @DisplayName("인메모리 저장소 테스트")
+    class InMemoryStoreTest {
+
+        @Test
+        @DisplayName("첫 요청만 소유자가 되고 중복 요청은 같은 응답을 공유")
+        void duplicate_SharesOwnersResponse() throws Exception {
+            // Given
+            InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(properties);
+            IdempotencyStore.Reservation owner = store.reserve("key-1");
+            IdempotencyStore.Reservation duplicate = store.reserve("key-1");
+
+            // When
+            store.complete(owner, new StoredResponse("hash", 201, "application/json", null, null, "{}".getBytes()));
+
+            // Then
+            assertThat(owner.isOwner()).isTrue();
+            assertThat(duplicate.isOwner()).isFalse();
+            assertThat(duplicate.getResponse().get().getStatus()).isEqualTo(201);
+        }
+
+        @Test
+        @DisplayName("실패 후 해제하면 다음 요청이 다시 소유자가 됨")
+        void release_AllowsReexecution() {
+            // Given
+            InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(properties);
+            IdempotencyStore.Reservation owner = store.reserve("key-1");
+
+            // When
+            store.release(owner);
+
+            // Then
+            assertThat(owner.getResponse()).isCompletedExceptionally();
+            assertThat(store.reserve("key-1").isOwner()).isTrue();
+        }
+
+        @Test
+        @DisplayName("TTL이 지난 키는 다시 실행")
+        void expiredKey_IsReservedAgain() {
+            // Given
+            AtomicLong clock = new AtomicLong();
+            properties.setTtl(Duration.ofSeconds(10));
+            InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(properties, clock::get);
+            IdempotencyStore.Reservation first = store.reserve("key-1");
+            store.complete(first, new StoredResponse("hash", 200, null, null, null, new byte[0]));
+
+            // When
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(11));
+
+            // Then
+            assertThat(store.reserve("key-1").isOwner()).isTrue();
+        }
+
+        @Test
+        @DisplayName("용량을 넘으면 가장 오래된 완료 키부터 제거")
+        void overCapacity_EvictsOldestCompleted() {
+            // Given
+            properties.setMaxEntries(2);
+            InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(properties);
+
+            // When
+            for (int i = 0; i < 5; i++) {
+                IdempotencyStore.Reservation reservation = store.reserve("key-" + i);
+                store.complete(reservation, new StoredResponse("hash", 200, null, null, null, new byte[0]));
+            }
+
+            // Then
+            assertThat(store.size()).isLessThanOrEqualTo(3);
+            assertThat(store.reserve("key-0").isOwner()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("필터 테스트")
+    class FilterTest {
+
+        @Test
+        @DisplayName("같은 키의 재시도는 저장된 응답을 재생")
+        void retry_ReplaysStoredResponse() throws Exception {
+            // Given
+            AtomicInteger executions = new AtomicInteger();
+            IdempotencyFilter filter = new IdempotencyFilter(new InMemoryIdempotencyStore(properties), properties);
+            FilterChain chain = (request, response) -> {
+                executions.incrementAndGet();
+                response.setContentType("application/json");
+                response.getOutputStream().write(("{\"execution\":" + executions.get() + "}").getBytes());
+            };
+
+            // When
+            MockHttpServletResponse first = perform(filter, chain, "PUT", "/api/payments/1/process", "abc");
+            MockHttpServletResponse retry = perform(filter, chain, "PUT", "/api/payments/1/process", "abc");
+
+            // Then
+            assertThat(executions.get()).isEqualTo(1);
+            assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString());
+            assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        }
+
+        @Test
+        @DisplayName("재시도는 Location과 ETag 헤더도 재생")
+        void retry_ReplaysLocationAndEtag() throws Exception {
+            // Given
+            IdempotencyFilter filter = new IdempotencyFilter(new InMemoryIdempotencyStore(properties), properties);
+            FilterChain chain = (request, response) -> {
+                jakarta.servlet.http.HttpServletResponse http = (jakarta.servlet.http.HttpServletResponse) response;
+                http.setStatus(201);
+                http.setHeader("Location", "/api/orders/7");
+                http.setHeader("ETag", "\"v1\"");
+                http.setContentType("application/json");
+                http.getOutputStream().write("{\"id\":7}".getBytes());
+            };
+
+            // When
+            perform(filter, chain, "POST", "/api/orders", "order-3", "{\"memberId\":1}");
+            MockHttpServletResponse retry = perform(filter, chain, "POST", "/api/orders", "order-3", "{\"memberId\":1}");
+
+            // Then
+            assertThat(retry.getStatus()).isEqualTo(201);
+            assertThat(retry.getHeader("Location")).isEqualTo("/api/orders/7");
+            assertThat(retry.getHeader("ETag")).isEqualTo("\"v1\"");
+            assertThat(retry.getContentType()).startsWith("application/json");
+        }
+
+        @Test
+        @DisplayName("같은 키를 다른 본문으로 재사용하면 실행하지 않고 422")
+        void reusedKeyWithDifferentBody_IsRejected() throws Exception {
+            // Given
+            AtomicInteger executions = new AtomicInteger();
+            List<String> bodies = new ArrayList<>();
+            IdempotencyFilter filter = new IdempotencyFilter(new InMemoryIdempotencyStore(properties), properties);
+            FilterChain chain = (request, response) -> {
+                executions.incrementAndGet();
+                bodies.add(new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+                response.getOutputStream().write("created".getBytes());
+            };
+
+            // When
+            perform(filter, chain, "POST", "/api/orders", "order-4", "{\"memberId\":1}");
+            MockHttpServletResponse reused = perform(filter, chain, "POST", "/api/orders", "order-4", "{\"memberId\":2}");
+
+            // Then
+            assertThat(executions.get()).isEqualTo(1);
+            assertThat(bodies).containsExactly("{\"memberId\":1}");
+            assertThat(reused.getStatus()).isEqualTo(422);
+            assertThat(reused.getContentAsString()).doesNotContain("created");
+        }
+
+        @Test
+        @DisplayName("동시에 들어온 중복 요청은 한 번만 실행")
+        void concurrentDuplicates_ExecuteOnce() throws Exception {
+            // Given
+            AtomicInteger executions = new AtomicInteger();
+            CountDownLatch release = new CountDownLatch(1);
+            IdempotencyFilter filter = new IdempotencyFilter(new InMemoryIdempotencyStore(properties), properties);
+            FilterChain chain = (request, response) -> {
+                executions.incrementAndGet();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                response.getOutputStream().write("created".getBytes());
+            };
+            int threadCount = 20;
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+            // When
+            List<Future<MockHttpServletResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executor.submit(() -> perform(filter, chain, "POST", "/api/orders", "order-1")));
+            }
+            Thread.sleep(200);
+            release.countDown();
+            List<String> bodies = new ArrayList<>();
+            for (Future<MockHttpServletResponse> future : futures) {
+                bodies.add(future.get(10, TimeUnit.SECONDS).getContentAsString(StandardCharsets.UTF_8));
+            }
+            executor.shutdown();
+
+            // Then
+            assertThat(executions.get()).isEqualTo(1);
+            assertThat(bodies).containsOnly("created");
+        }
+
+        @Test
+        @DisplayName("서버 오류 응답은 저장하지 않고 재시도 시 다시 실행")
+        void serverError_IsNotStored() throws Exception {
+            // Given
+            AtomicInteger executions = new AtomicInteger();
+            IdempotencyFilter filter = new IdempotencyFilter(new InMemoryIdempotencyStore(properties), properties);
+            FilterChain chain = (request, response) -> {
+                if (executions.incrementAndGet() == 1) {
+                    ((jakarta.servlet.http.HttpServletResponse) response).setStatus(503);
+                }
+            };
+
+            // When
+            perform(filter, chain, "POST", "/api/orders", "order-2");
+            MockHttpServletResponse retry = perform(filter, chain, "POST", "/api/orders", "order-2");
+
+            // Then
+            assertThat(executions.get()).isEqualTo(2);
+            assertThat(retry.getStatus()).isEqualTo(200);
+        }
+
+        @Test
+        @DisplayName("설정되지 않은 엔드포인트는 헤더가 있어도 매번 실행")
+        void unconfiguredEndpoint_PassesThrough() throws Exception {
+            // Given
+            AtomicInteger executions = new AtomicInteger();
+            IdempotencyFilter filter = new IdempotencyFilter(new InMemoryIdempotencyStore(properties), properties);
+            FilterChain chain = (request, response) -> executions.incrementAndGet();
+
+            // When
+            perform(filter, chain, "PUT", "/api/payments/1/refund", "abc");
+            perform(filter, chain, "PUT", "/api/payments/1/refund", "abc");
+
+            // Then
+            assertThat(executions.get()).isEqualTo(2);
+        }
+
+        private MockHttpServletResponse perform(IdempotencyFilter filter, FilterChain chain,
+                                                String method, String uri, String key) throws Exception {
+            return perform(filter, chain, method, uri, key, "");
+        }
+
+        private MockHttpServletResponse perform(IdempotencyFilter filter, FilterChain chain,
+                                                String method, String uri, String key, String body) throws Exception {
+            MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+            request.addHeader(IdempotencyFilter.HEADER, key);
+            request.setContent(body.getBytes(StandardCharsets.UTF_8));
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, chain);
+            return response;
+        }
+    }
+}
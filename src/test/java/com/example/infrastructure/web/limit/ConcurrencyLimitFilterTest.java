@@ -0,0 +1,175 @@
+package com.example.infrastructure.web.limit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("적응형 동시성 제한 테스트")
+class ConcurrencyLimitFilterTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private ConcurrencyLimitProperties properties;
+    private AtomicLong clock;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ConcurrencyLimitProperties();
+        properties.setCongestionWindow(Duration.ofSeconds(1));
+        clock = new AtomicLong(1_000 * MILLIS);
+    }
+
+    @Nested
+    @DisplayName("Vegas 한도 테스트")
+    class VegasLimitTest {
+
+        @Test
+        @DisplayName("지연이 무부하 수준이면 한도가 늘어남")
+        void steadyLatency_GrowsLimit() {
+            // Given
+            VegasLimit limit = new VegasLimit(group(20), properties, clock::get);
+
+            // When
+            for (int i = 0; i < 20; i++) {
+                limit.tryAcquire(1.0);
+            }
+            for (int i = 0; i < 20; i++) {
+                limit.release(10 * MILLIS, false);
+            }
+
+            // Then
+            assertThat(limit.getLimit()).isGreaterThan(20);
+            assertThat(limit.getInflight()).isZero();
+        }
+
+        @Test
+        @DisplayName("지연이 무부하의 몇 배로 늘면 한도가 줄고 혼잡으로 표시")
+        void risingLatency_ShrinksLimit() {
+            // Given
+            VegasLimit limit = new VegasLimit(group(20), properties, clock::get);
+            limit.tryAcquire(1.0);
+            limit.release(10 * MILLIS, false);
+
+            // When
+            for (int round = 0; round < 5; round++) {
+                int admitted = 0;
+                while (limit.tryAcquire(1.0)) {
+                    admitted++;
+                }
+                for (int i = 0; i < admitted; i++) {
+                    limit.release(100 * MILLIS, false);
+                }
+            }
+
+            // Then
+            assertThat(limit.getLimit()).isLessThan(20);
+            assertThat(limit.isCongested()).isTrue();
+        }
+
+        @Test
+        @DisplayName("한도를 넘는 요청은 대기 없이 거절")
+        void overLimit_IsRejected() {
+            // Given
+            VegasLimit limit = new VegasLimit(group(2), properties, clock::get);
+
+            // When & Then
+            assertThat(limit.tryAcquire(1.0)).isTrue();
+            assertThat(limit.tryAcquire(1.0)).isTrue();
+            assertThat(limit.tryAcquire(1.0)).isFalse();
+            assertThat(limit.getInflight()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("필터 테스트")
+    class FilterTest {
+
+        @Test
+        @DisplayName("한도를 넘으면 503과 Retry-After로 응답하고 핸들러를 호출하지 않음")
+        void overLimit_Returns503WithRetryAfter() throws Exception {
+            // Given
+            properties.getGroups().forEach(group -> group.setInitialLimit(1));
+            ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(properties, new SimpleMeterRegistry(), clock::get);
+            MockHttpServletResponse inside = new MockHttpServletResponse();
+            MockHttpServletResponse shed = new MockHttpServletResponse();
+
+            // When: the second request arrives while the first still holds the only permit
+            FilterChain chain = (request, response) ->
+                    filter.doFilter(new MockHttpServletRequest("PUT", "/api/payments/2/process"), shed, (req, res) -> {
+                        throw new AssertionError("Shed request reached the handler");
+                    });
+            filter.doFilter(new MockHttpServletRequest("PUT", "/api/payments/1/process"), inside, chain);
+
+            // Then
+            assertThat(inside.getStatus()).isEqualTo(200);
+            assertThat(shed.getStatus()).isEqualTo(503);
+            assertThat(shed.getHeader("Retry-After")).isEqualTo("1");
+        }
+
+        @Test
+        @DisplayName("결제 처리 그룹이 혼잡하면 목록 조회는 한도의 일부만 사용")
+        void congestedPayments_ShedListingsFirst() throws Exception {
+            // Given
+            properties.getGroups().forEach(group -> group.setInitialLimit(4));
+            ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(properties, new SimpleMeterRegistry(), clock::get);
+            // Saturate payment processing once so it counts as congested
+            nest(filter, "PUT", "/api/payments/1/process", 5, new MockHttpServletResponse());
+
+            // When
+            MockHttpServletResponse listing = new MockHttpServletResponse();
+            nest(filter, "GET", "/api/orders/status/PENDING", 3, listing);
+
+            // Then: listings may only hold half of their limit of four
+            assertThat(listing.getStatus()).isEqualTo(503);
+        }
+
+        @Test
+        @DisplayName("스트리밍 내보내기처럼 그룹에 없는 엔드포인트는 제한하지 않음")
+        void unmatchedEndpoint_IsNotLimited() throws Exception {
+            // Given
+            properties.getGroups().forEach(group -> group.setInitialLimit(1));
+            ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(properties, new SimpleMeterRegistry(), clock::get);
+            MockHttpServletResponse last = new MockHttpServletResponse();
+
+            // When
+            nest(filter, "GET", "/api/orders/export", 3, last);
+
+            // Then
+            assertThat(last.getStatus()).isEqualTo(200);
+        }
+    }
+
+    /**
+     * Sends {@code depth} requests, each arriving while all earlier ones are still in flight;
+     * the innermost response goes to {@code last}.
+     */
+    private void nest(ConcurrencyLimitFilter filter, String method, String path, int depth,
+                      MockHttpServletResponse last) throws Exception {
+        FilterChain chain = (request, response) -> {
+        };
+        for (int i = 0; i < depth; i++) {
+            FilterChain inner = chain;
+            MockHttpServletResponse response = i == 0 ? last : new MockHttpServletResponse();
+            chain = (req, res) -> filter.doFilter(new MockHttpServletRequest(method, path), response, inner);
+        }
+        chain.doFilter(null, null);
+    }
+
+    private ConcurrencyLimitProperties.Group group(int initialLimit) {
+        ConcurrencyLimitProperties.Group group = new ConcurrencyLimitProperties.Group();
+        group.setName("test");
+        group.setInitialLimit(initialLimit);
+        return group;
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.infrastructure.web.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("샘플링 요청 로그 필터 테스트")
+class RequestLogFilterTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(RequestLogFilter.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private RequestLogProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RequestLogProperties();
+        properties.setSampleRate(0.0);
+        properties.setSlowThreshold(Duration.ofSeconds(10));
+        appender.start();
+        logger.addAppender(appender);
+        logger.setLevel(Level.INFO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(null);
+    }
+
+    @Test
+    @DisplayName("샘플링 비율이 0이면 정상 요청은 기록하지 않지만 5xx는 항상 기록")
+    void zeroSampleRate_LogsOnlyErrors() throws Exception {
+        // Given
+        RequestLogFilter filter = new RequestLogFilter(properties);
+
+        // When
+        filter.doFilter(request("GET", "/api/orders/1", "/api/orders/{id}"), new MockHttpServletResponse(), ok());
+        filter.doFilter(request("GET", "/api/orders/2", "/api/orders/{id}"), new MockHttpServletResponse(),
+                (req, res) -> ((MockHttpServletResponse) res).setStatus(500));
+
+        // Then
+        assertThat(appender.list).hasSize(1);
+        assertThat(appender.list.get(0).getLevel()).isEqualTo(Level.ERROR);
+        assertThat(appender.list.get(0).getFormattedMessage())
+                .contains("endpoint=GET /api/orders/{id}", "path=/api/orders/2", "status=500");
+    }
+
+    @Test
+    @DisplayName("엔드포인트별 비율이 전역 비율보다 우선")
+    void endpointRate_OverridesDefault() throws Exception {
+        // Given
+        properties.setEndpoints(Map.of("POST /api/payments", 1.0));
+        RequestLogFilter filter = new RequestLogFilter(properties);
+
+        // When
+        filter.doFilter(request("POST", "/api/payments", "/api/payments"), new MockHttpServletResponse(), ok());
+        filter.doFilter(request("GET", "/api/payments/1", "/api/payments/{id}"), new MockHttpServletResponse(), ok());
+
+        // Then
+        assertThat(appender.list).singleElement()
+                .satisfies(event -> assertThat(event.getFormattedMessage()).contains("endpoint=POST /api/payments", "sampleRate=1.0"));
+    }
+
+    @Test
+    @DisplayName("느린 요청은 샘플링과 관계없이 WARN으로 기록")
+    void slowRequest_IsAlwaysLogged() throws Exception {
+        // Given
+        properties.setSlowThreshold(Duration.ofMillis(20));
+        RequestLogFilter filter = new RequestLogFilter(properties);
+
+        // When
+        filter.doFilter(request("GET", "/api/orders/member/1", "/api/orders/member/{memberId}"),
+                new MockHttpServletResponse(), (req, res) -> sleep(50));
+
+        // Then
+        assertThat(appender.list).singleElement()
+                .satisfies(event -> assertThat(event.getLevel()).isEqualTo(Level.WARN));
+    }
+
+    @Test
+    @DisplayName("Retry-After가 붙은 503은 셰딩이므로 ERROR가 아닌 WARN으로 초당 한 번만 기록")
+    void shedRequests_AreLoggedAtWarnOncePerInterval() throws Exception {
+        // Given
+        RequestLogFilter filter = new RequestLogFilter(properties);
+        FilterChain shed = (req, res) -> {
+            ((MockHttpServletResponse) res).setStatus(503);
+            ((MockHttpServletResponse) res).setHeader("Retry-After", "1");
+        };
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            filter.doFilter(request("GET", "/api/orders/" + i, "/api/orders/{id}"), new MockHttpServletResponse(), shed);
+        }
+        filter.doFilter(request("GET", "/api/orders/9", "/api/orders/{id}"), new MockHttpServletResponse(),
+                (req, res) -> ((MockHttpServletResponse) res).setStatus(503));
+
+        // Then
+        assertThat(appender.list).extracting(ILoggingEvent::getLevel).containsExactly(Level.WARN, Level.ERROR);
+        assertThat(appender.list.get(0).getFormattedMessage()).contains("status=503", "shedSinceLastLog=1");
+    }
+
+    private static MockHttpServletRequest request(String method, String path, String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        return request;
+    }
+
+    private static FilterChain ok() {
+        return (req, res) -> {
+        };
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.infrastructure.web.stream;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("상태 변경 SSE 구독 레지스트리 테스트")
+class StatusStreamRegistryTest {
+
+    private StatusStreamProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private StatusStreamRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new StatusStreamProperties();
+        properties.setHeartbeat(Duration.ofHours(1));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.close();
+    }
+
+    @Test
+    @DisplayName("회원 구독자는 그 회원의 주문·결제 변경만 받음")
+    void memberSubscriber_ReceivesOnlyItsMembersChanges() throws Exception {
+        // Given
+        registry = new StatusStreamRegistry(properties, meterRegistry);
+        RecordingEmitter emitter = new RecordingEmitter();
+        registry.subscribe(emitter, 1L, Set.of(), null);
+
+        // When
+        registry.publish(order(1L, 10L, "CONFIRMED"));
+        registry.publish(order(2L, 20L, "CONFIRMED"));
+        registry.publish(payment(1L, 10L, 100L, "COMPLETED"));
+
+        // Then
+        await(() -> emitter.changes.size() == 2);
+        assertThat(emitter.changes).extracting(StatusChange::orderId).containsExactly(10L, 10L);
+        assertThat(emitter.changes).extracting(StatusChange::status).containsExactly("CONFIRMED", "COMPLETED");
+        assertThat(emitter.changes.get(1).isPayment()).isTrue();
+    }
+
+    @Test
+    @DisplayName("주문과 회원을 함께 구독해도 같은 변경은 한 번만 받음")
+    void memberAndOrderSubscriber_ReceivesEachChangeOnce() throws Exception {
+        // Given
+        registry = new StatusStreamRegistry(properties, meterRegistry);
+        RecordingEmitter emitter = new RecordingEmitter();
+        registry.subscribe(emitter, 1L, Set.of(10L, 30L), null);
+
+        // When
+        registry.publish(order(1L, 10L, "CONFIRMED"));
+        registry.publish(order(3L, 30L, "CANCELLED"));
+
+        // Then
+        await(() -> emitter.changes.size() == 2);
+        Thread.sleep(50);
+        assertThat(emitter.changes).extracting(StatusChange::orderId).containsExactly(10L, 30L);
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID로 재연결하면 놓친 변경을 먼저 보내고, 너무 오래된 ID에는 reset을 보냄")
+    void resume_ReplaysMissedChangesOrResets() throws Exception {
+        // Given
+        properties.setReplayCapacity(3);
+        registry = new StatusStreamRegistry(properties, meterRegistry);
+        registry.publish(order(1L, 10L, "PENDING"));
+        registry.publish(order(2L, 20L, "PENDING"));
+        registry.publish(order(1L, 10L, "CONFIRMED"));
+
+        // When
+        RecordingEmitter resumed = new RecordingEmitter();
+        registry.subscribe(resumed, 1L, Set.of(), registry.eventId(1));
+        registry.publish(order(1L, 10L, "COMPLETED"));
+        registry.publish(order(1L, 11L, "PENDING"));
+        RecordingEmitter tooOld = new RecordingEmitter();
+        registry.subscribe(tooOld, 1L, Set.of(), registry.eventId(1));
+
+        // Then
+        await(() -> resumed.changes.size() == 3);
+        assertThat(resumed.changes).extracting(StatusChange::id).containsExactly(3L, 4L, 5L);
+        assertThat(resumed.frames.get(0)).contains("id:" + registry.eventId(3));
+        await(() -> tooOld.frames.stream().anyMatch(frame -> frame.contains("event:reset")));
+    }
+
+    @Test
+    @DisplayName("재시작 전이나 다른 노드의 Last-Event-ID는 번호가 같아도 reset을 보냄")
+    void resume_WithIdFromAnotherBoot_Resets() throws Exception {
+        // Given
+        StatusStreamRegistry previousBoot = new StatusStreamRegistry(properties, meterRegistry);
+        previousBoot.close();
+        Thread.sleep(5);
+        registry = new StatusStreamRegistry(properties, meterRegistry);
+        registry.publish(order(1L, 10L, "PENDING"));
+        registry.publish(order(1L, 10L, "CONFIRMED"));
+
+        // When
+        RecordingEmitter staleEpoch = new RecordingEmitter();
+        registry.subscribe(staleEpoch, 1L, Set.of(), previousBoot.eventId(1));
+        RecordingEmitter bareNumber = new RecordingEmitter();
+        registry.subscribe(bareNumber, 1L, Set.of(), "1");
+
+        // Then
+        assertThat(previousBoot.eventId(1)).isNotEqualTo(registry.eventId(1));
+        await(() -> staleEpoch.frames.stream().anyMatch(frame -> frame.contains("event:reset")));
+        await(() -> bareNumber.frames.stream().anyMatch(frame -> frame.contains("event:reset")));
+        assertThat(staleEpoch.frames).anyMatch(frame -> frame.contains("id:" + registry.eventId(2)));
+        assertThat(staleEpoch.changes).isEmpty();
+    }
+
+    @Test
+    @DisplayName("버퍼를 넘길 만큼 느린 구독자는 연결을 끊음")
+    void slowSubscriber_IsDisconnected() throws Exception {
+        // Given
+        properties.setBufferSize(2);
+        registry = new StatusStreamRegistry(properties, meterRegistry);
+        CountDownLatch unblock = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(unblock);
+        registry.subscribe(slow, 1L, Set.of(), null);
+
+        // When: the first write blocks while more changes arrive
+        for (long i = 0; i < 5; i++) {
+            registry.publish(order(1L, 10L + i, "PENDING"));
+        }
+
+        // Then
+        await(() -> slow.completed);
+        unblock.countDown();
+        assertThat(meterRegistry.get(StatusStreamRegistry.METRIC + ".disconnected").counter().count()).isEqualTo(1);
+    }
+
+    private static StatusChange order(Long memberId, Long orderId, String status) {
+        return new StatusChange(0, "Order" + status, memberId, orderId, null, status, LocalDateTime.now());
+    }
+
+    private static StatusChange payment(Long memberId, Long orderId, Long paymentId, String status) {
+        return new StatusChange(0, "Payment" + status, memberId, orderId, paymentId, status, LocalDateTime.now());
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    /**
+     * Keeps what would be written to the client instead of writing it.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        final List<String> frames = new CopyOnWriteArrayList<>();
+        final List<StatusChange> changes = new CopyOnWriteArrayList<>();
+        final CountDownLatch unblock;
+        volatile boolean completed;
+
+        RecordingEmitter() {
+            this(new CountDownLatch(0));
+        }
+
+        RecordingEmitter(CountDownLatch unblock) {
+            this.unblock = unblock;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                unblock.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            StringBuilder frame = new StringBuilder();
+            builder.build().forEach(part -> {
+                if (part.getData() instanceof StatusChange change) {
+                    changes.add(change);
+                } else {
+                    frame.append(part.getData());
+                }
+            });
+            frames.add(frame.toString());
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
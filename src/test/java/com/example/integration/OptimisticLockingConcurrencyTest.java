@@ -0,0 +1,204 @@
+package com.example.integration;
+
+import com.example.application.service.MemberService;
+import com.example.application.service.OrderService;
+import com.example.application.service.PaymentService;
+import com.example.domain.Order;
+import com.example.domain.Payment;
+import com.example.dto.OrderDto;
+import com.example.infrastructure.persistence.MemberRepository;
+import com.example.infrastructure.persistence.OrderRepository;
+import com.example.infrastructure.persistence.PaymentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Races hundreds of threads on the same order and payment.
+ * Not transactional: every service call must commit on its own for the versions to collide.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("낙관적 락 동시성 테스트")
+class OptimisticLockingConcurrencyTest {
+
+    private static final int THREAD_COUNT = 200;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long orderId;
+
+    @BeforeEach
+    void setUp() {
+        var member = memberService.createMember("race@example.com", "Race User", "010-5555-0000");
+        OrderDto order = orderService.createOrder(member.getId(), List.of(
+                new OrderService.OrderItemRequest("Race Product", "Contended item", 1, new BigDecimal("10000"))));
+        orderId = order.getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        paymentRepository.deleteAll();
+        orderRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Nested
+    @DisplayName("주문 상태 경쟁")
+    class OrderRaceTest {
+
+        @Test
+        @DisplayName("동시 주문 확정은 한 번만 성공하고 나머지는 재시도 후 상태 오류로 거절")
+        void concurrentConfirm_OnlyOneWins() throws InterruptedException {
+            // Given
+            double conflictsBefore = conflicts("OrderService.confirmOrder");
+
+            // When
+            RaceResult result = race(i -> orderService.confirmOrder(orderId));
+
+            // Then
+            Order order = orderRepository.findById(orderId).orElseThrow();
+            assertThat(result.unexpected).isEmpty();
+            assertThat(result.succeeded.get()).isEqualTo(1);
+            assertThat(result.rejected.get()).isEqualTo(THREAD_COUNT - 1);
+            assertThat(order.getStatus()).isEqualTo(Order.OrderStatus.CONFIRMED);
+            assertThat(order.getVersion()).isEqualTo(1L);
+            assertThat(conflicts("OrderService.confirmOrder")).isGreaterThan(conflictsBefore);
+        }
+
+        @Test
+        @DisplayName("동시 완료와 취소는 한쪽만 반영되어 업데이트가 유실되지 않음")
+        void concurrentCompleteAndCancel_NoLostUpdate() throws InterruptedException {
+            // Given
+            orderService.confirmOrder(orderId);
+            AtomicInteger completed = new AtomicInteger();
+            AtomicInteger cancelled = new AtomicInteger();
+
+            // When
+            RaceResult result = race(i -> {
+                if (i % 2 == 0) {
+                    orderService.completeOrder(orderId);
+                    completed.incrementAndGet();
+                } else {
+                    orderService.cancelOrder(orderId);
+                    cancelled.incrementAndGet();
+                }
+            });
+
+            // Then
+            Order order = orderRepository.findById(orderId).orElseThrow();
+            assertThat(result.unexpected).isEmpty();
+            if (order.getStatus() == Order.OrderStatus.COMPLETED) {
+                assertThat(completed.get()).isEqualTo(1);
+                assertThat(cancelled.get()).isZero();
+            } else {
+                assertThat(order.getStatus()).isEqualTo(Order.OrderStatus.CANCELLED);
+                assertThat(completed.get()).isZero();
+                assertThat(cancelled.get()).isPositive();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("결제 상태 경쟁")
+    class PaymentRaceTest {
+
+        @Test
+        @DisplayName("동시 환불은 모두 성공하지만 상태 변경은 한 번만 기록")
+        void concurrentRefund_AppliedOnce() throws InterruptedException {
+            // Given
+            var payment = paymentService.createPayment(orderId, Payment.PaymentMethod.CREDIT_CARD);
+            paymentService.processPayment(payment.getId());
+
+            // When
+            RaceResult result = race(i -> paymentService.refundPayment(payment.getId()));
+
+            // Then
+            Payment refunded = paymentRepository.findById(payment.getId()).orElseThrow();
+            assertThat(result.unexpected).isEmpty();
+            assertThat(result.succeeded.get()).isEqualTo(THREAD_COUNT);
+            assertThat(refunded.getStatus()).isEqualTo(Payment.PaymentStatus.REFUNDED);
+            assertThat(refunded.getVersion()).isEqualTo(2L);
+        }
+    }
+
+    private RaceResult race(IntConsumer action) throws InterruptedException {
+        RaceResult result = new RaceResult();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            int index = i;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    action.accept(index);
+                    result.succeeded.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    result.rejected.incrementAndGet();
+                } catch (Throwable e) {
+                    result.unexpected.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long startTime = System.currentTimeMillis();
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        System.out.printf("%d racing threads finished in %d ms%n", THREAD_COUNT, System.currentTimeMillis() - startTime);
+        return result;
+    }
+
+    private double conflicts(String operation) {
+        var counter = meterRegistry.find("optimistic.lock.conflicts").tag("operation", operation).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private static class RaceResult {
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger rejected = new AtomicInteger();
+        private final Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.performance;
+
+import com.example.domain.Member;
+import com.example.infrastructure.persistence.MemberRepository;
+import com.example.infrastructure.web.async.AsyncReadExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs the same slow member order listing through GET /api/orders/member/{memberId} and its
+ * /api/async counterpart, with the same 20 Tomcat request threads and 400 concurrent clients,
+ * while a probe keeps fetching a cheap lookup of a second member who has no orders.
+ * <p>
+ * The synchronous listing holds a request thread per read, so at most 20 are in progress and
+ * the probe queues behind them. The asynchronous one hands the thread back, so the reads in
+ * progress are bounded by the read pool and its queue instead, and the probe is still served.
+ *
+ * 실행 방법: ./gradlew test --tests '*AsyncReadLoadTest' -Dloadtest=true [-Dasync.orders=2000]
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=false",
+        "server.tomcat.threads.max=20",
+        "server.tomcat.threads.min-spare=20",
+        "server.tomcat.max-connections=2000",
+        "app.concurrency-limit.enabled=false",
+        "app.async-reads.threads=10",
+        "app.async-reads.queue-capacity=2000",
+        "app.async-reads.timeout=60s"
+})
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("동기 vs 비동기 조회 부하 테스트")
+class AsyncReadLoadTest {
+
+    private static final long ORDERS = Long.getLong("async.orders", 2_000L);
+    private static final long ID_OFFSET = 50_000_000_000L;
+    private static final int CLIENTS = 400;
+    private static final Duration RUN_DURATION = Duration.ofSeconds(15);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Member member;
+    private Member probed;
+
+    @BeforeAll
+    void seed() {
+        member = memberRepository.save(Member.builder()
+                .email("async-load@example.com")
+                .name("Async Load")
+                .phoneNumber("010-5050-5050")
+                .build());
+        probed = memberRepository.save(Member.builder()
+                .email("async-probe@example.com")
+                .name("Async Probe")
+                .phoneNumber("010-5050-5051")
+                .build());
+        jdbcTemplate.update("INSERT INTO orders (id, order_number, member_id, total_amount, status, created_at, updated_at, version) "
+                + "SELECT ? + X, 'ASYNC-' || X, ?, 30000, 'COMPLETED', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0 "
+                + "FROM SYSTEM_RANGE(1, ?)", ID_OFFSET, member.getId(), ORDERS);
+        jdbcTemplate.update("INSERT INTO order_items (order_id, product_name, product_description, quantity, unit_price, total_price) "
+                + "SELECT ? + X, 'Product ' || MOD(X, 100), 'Async load test product', 3, 10000, 30000 "
+                + "FROM SYSTEM_RANGE(1, ?)", ID_OFFSET, ORDERS);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM order_items WHERE order_id > ?", ID_OFFSET);
+        jdbcTemplate.update("DELETE FROM orders WHERE id > ?", ID_OFFSET);
+        memberRepository.delete(member);
+        memberRepository.delete(probed);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"/api/orders", "/api/async/orders"})
+    void load(String base) throws Exception {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Timer reads = Timer.builder("load.reads").publishPercentiles(0.5, 0.99).register(registry);
+        Timer probes = Timer.builder("load.probes").publishPercentiles(0.5, 0.99).register(registry);
+        LongAdder errors = new LongAdder();
+        AtomicInteger peakInProgress = new AtomicInteger();
+        HttpRequest read = HttpRequest.newBuilder(URI.create("http://localhost:" + port + base + "/member/" + member.getId()))
+                .timeout(Duration.ofSeconds(90)).build();
+        HttpRequest probe = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/members/" + probed.getId()))
+                .timeout(Duration.ofSeconds(90)).build();
+        long deadline = System.nanoTime() + RUN_DURATION.toNanos();
+
+        // When
+        try (HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.submit(() -> loop(client, read, reads, errors, deadline));
+            }
+            clients.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    peakInProgress.accumulateAndGet(asyncReadsInProgress(), Math::max);
+                    Thread.sleep(10);
+                }
+                return null;
+            });
+            clients.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    loop(client, probe, probes, errors, System.nanoTime() + 1);
+                    Thread.sleep(50);
+                }
+                return null;
+            });
+        }
+
+        // Then
+        double seconds = RUN_DURATION.toSeconds();
+        System.out.printf("%s: %.0f reads/s, read p50 %.0f ms p99 %.0f ms, in progress %s, "
+                        + "probe p50 %.1f ms p99 %.1f ms, errors %d%n",
+                base, reads.count() / seconds, percentile(reads, 0.5), percentile(reads, 0.99),
+                base.contains("async") ? "up to " + peakInProgress.get() : "at most 20 (request threads)",
+                percentile(probes, 0.5), percentile(probes, 0.99), errors.sum());
+        assertThat(reads.count()).isPositive();
+        assertThat(probes.count()).isPositive();
+    }
+
+    private static void loop(HttpClient client, HttpRequest request, Timer timer, LongAdder errors, long deadline) {
+        do {
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                } else {
+                    errors.increment();
+                }
+            } catch (Exception e) {
+                errors.increment();
+            }
+        } while (System.nanoTime() < deadline);
+    }
+
+    private int asyncReadsInProgress() {
+        return (int) (meterRegistry.get(AsyncReadExecutor.METRIC + ".queued").gauge().value()
+                + meterRegistry.get(AsyncReadExecutor.METRIC + ".active").gauge().value());
+    }
+
+    private static double percentile(Timer timer, double percentile) {
+        return Arrays.stream(timer.takeSnapshot().percentileValues())
+                .filter(value -> value.percentile() == percentile)
+                .mapToDouble(value -> value.value(TimeUnit.MILLISECONDS))
+                .findFirst().orElse(0);
+    }
+}
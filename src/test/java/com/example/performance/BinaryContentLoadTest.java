@@ -0,0 +1,152 @@
+package com.example.performance;
+
+import com.example.domain.Member;
+import com.example.infrastructure.persistence.MemberRepository;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Drives GET /api/orders/member/{memberId} end to end with JSON, CBOR and Smile responses and
+ * compares throughput, latency and bytes on the wire. Load shedding is off so that every format
+ * is measured at full offered load.
+ *
+ * 실행 방법: ./gradlew test --tests '*BinaryContentLoadTest' -Dloadtest=true
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.concurrency-limit.enabled=false",
+        "spring.threads.virtual.enabled=true"
+})
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("JSON vs CBOR vs Smile 종단 간 부하 테스트")
+class BinaryContentLoadTest {
+
+    private static final Duration RUN_DURATION = Duration.ofSeconds(15);
+    private static final int CONNECTIONS = 200;
+    private static final int ORDERS = 50;
+    private static final long ID_OFFSET = 30_000_000_000L;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Member member;
+
+    @BeforeAll
+    void seed() {
+        member = memberRepository.save(Member.builder()
+                .email("binary-load@example.com")
+                .name("Binary Load")
+                .phoneNumber("010-7070-7070")
+                .build());
+        jdbcTemplate.update("INSERT INTO orders (id, order_number, member_id, total_amount, status, created_at, updated_at, version) "
+                + "SELECT ? + X, 'LOAD-' || X, ?, 185185.05, 'COMPLETED', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0 "
+                + "FROM SYSTEM_RANGE(1, ?)", ID_OFFSET, member.getId(), ORDERS);
+        for (int item = 1; item <= 5; item++) {
+            jdbcTemplate.update("INSERT INTO order_items (order_id, product_name, product_description, quantity, unit_price, total_price) "
+                    + "SELECT ? + X, 'Product ' || X, 'Load test product', ?, 12345.67, 12345.67 * ? "
+                    + "FROM SYSTEM_RANGE(1, ?)", ID_OFFSET, item, item, ORDERS);
+        }
+        jdbcTemplate.update("INSERT INTO payments (order_id, amount, payment_method, status, transaction_id, created_at, updated_at, version) "
+                + "SELECT ? + X, 185185.05, 'CREDIT_CARD', 'COMPLETED', 'TX-' || X, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0 "
+                + "FROM SYSTEM_RANGE(1, ?)", ID_OFFSET, ORDERS);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM payments WHERE order_id > ?", ID_OFFSET);
+        jdbcTemplate.update("DELETE FROM order_items WHERE order_id > ?", ID_OFFSET);
+        jdbcTemplate.update("DELETE FROM orders WHERE id > ?", ID_OFFSET);
+        memberRepository.delete(member);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"application/json", "application/cbor", "application/x-jackson-smile"})
+    void load(String accept) throws Exception {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Timer latency = Timer.builder("load.latency")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+        LongAdder errors = new LongAdder();
+        LongAdder bytes = new LongAdder();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(
+                        "http://localhost:" + port + "/api/orders/member/" + member.getId()))
+                .header("Accept", accept)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + RUN_DURATION.toNanos();
+
+        // When
+        try (HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+             ExecutorService connections = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONNECTIONS; i++) {
+                connections.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                            if (response.statusCode() == 200) {
+                                latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                                bytes.add(response.body().length);
+                            } else {
+                                errors.increment();
+                            }
+                        } catch (Exception e) {
+                            errors.increment();
+                        }
+                    }
+                });
+            }
+        }
+
+        // Then
+        double throughput = latency.count() / (double) RUN_DURATION.toSeconds();
+        double p50 = 0;
+        double p99 = 0;
+        for (ValueAtPercentile percentile : latency.takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == 0.5) {
+                p50 = percentile.value(TimeUnit.MILLISECONDS);
+            } else if (percentile.percentile() == 0.99) {
+                p99 = percentile.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        System.out.printf("[%s] throughput=%.0f req/s p50=%.1fms p99=%.1fms %,d bytes/response errors=%d%n",
+                accept, throughput, p50, p99, latency.count() == 0 ? 0 : bytes.sum() / latency.count(), errors.sum());
+        assertThat(latency.count()).isGreaterThan(0);
+    }
+}
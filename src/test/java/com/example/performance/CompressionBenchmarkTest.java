@@ -0,0 +1,147 @@
+package com.example.performance;
+
+import com.example.domain.Member;
+import com.example.infrastructure.persistence.MemberRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Measures bytes on the wire and server CPU time per uncompressed MB for an order export and
+ * for the Swagger UI bundle, uncompressed, gzipped by Tomcat on Accept-Encoding, and gzipped by
+ * the export itself (?gzip=true) or served from the precompressed .gz. Client and server share
+ * the JVM, so the CPU figure includes reading the response; compare the modes, not the values.
+ *
+ * 실행 방법: ./gradlew test --tests '*CompressionBenchmarkTest' -Dloadtest=true [-Dcompression.rows=1000000]
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.concurrency-limit.enabled=false")
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("응답 압축 벤치마크")
+class CompressionBenchmarkTest {
+
+    private static final long ROWS = Long.getLong("compression.rows", 1_000_000L);
+    private static final long ID_OFFSET = 40_000_000_000L;
+    private static final double MB = 1024.0 * 1024.0;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Member member;
+
+    @BeforeAll
+    void seed() {
+        member = memberRepository.save(Member.builder()
+                .email("compression-bench@example.com")
+                .name("Compression Bench")
+                .phoneNumber("010-6060-6060")
+                .build());
+        jdbcTemplate.update("INSERT INTO orders (id, order_number, member_id, total_amount, status, created_at, updated_at, version) "
+                + "SELECT ? + X, 'BENCH-' || X, ?, 10000, 'COMPLETED', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0 "
+                + "FROM SYSTEM_RANGE(1, ?)", ID_OFFSET, member.getId(), ROWS);
+        jdbcTemplate.update("INSERT INTO order_items (order_id, product_name, product_description, quantity, unit_price, total_price) "
+                + "SELECT ? + X, 'Product ' || MOD(X, 1000), 'Benchmark item', 1, 10000, 10000 "
+                + "FROM SYSTEM_RANGE(1, ?)", ID_OFFSET, ROWS);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM order_items WHERE order_id > ?", ID_OFFSET);
+        jdbcTemplate.update("DELETE FROM orders WHERE id > ?", ID_OFFSET);
+        memberRepository.delete(member);
+    }
+
+    @ParameterizedTest(name = "{0} {1}")
+    @CsvSource({
+            "/api/orders/export?format=ndjson, identity",
+            "/api/orders/export?format=ndjson, gzip",
+            "/api/orders/export?format=ndjson&gzip=true, identity",
+            "/api/orders/export?format=csv, gzip",
+            "/swagger-ui/swagger-ui-bundle.js, identity",
+            "/swagger-ui/swagger-ui-bundle.js, gzip"
+    })
+    void transfer(String path, String acceptEncoding) throws Exception {
+        // Given
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Accept-Encoding", acceptEncoding)
+                .build();
+        com.sun.management.OperatingSystemMXBean os =
+                (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+
+        // When
+        long cpuStart = os.getProcessCpuTime();
+        long startTime = System.nanoTime();
+        HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        boolean gzipped = "gzip".equals(response.headers().firstValue("Content-Encoding").orElse(null));
+        CountingInputStream wire = new CountingInputStream(response.body());
+        CountingInputStream raw = new CountingInputStream(gzipped ? new GZIPInputStream(wire, 64 * 1024) : wire);
+        try (raw) {
+            raw.transferTo(OutputStream.nullOutputStream());
+        }
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+        long cpuMillis = (os.getProcessCpuTime() - cpuStart) / 1_000_000;
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        System.out.printf("%s Accept-Encoding=%s: %s, %,.1f MB raw, %,.1f MB on the wire (%.1f%%), %,d ms, %.1f CPU ms/MB%n",
+                path, acceptEncoding, gzipped ? "gzip" : "identity", raw.count / MB, wire.count / MB,
+                100.0 * wire.count / Math.max(1, raw.count), elapsedMillis, cpuMillis / Math.max(raw.count / MB, 1e-9));
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.performance;
+
+import com.example.domain.Member;
+import com.example.infrastructure.persistence.MemberRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Exports 10M order rows through GET /api/orders/export and reports throughput and the heap
+ * high-water mark, which should stay flat regardless of the row count.
+ *
+ * 실행 방법: ./gradlew test --tests '*OrderExportBenchmarkTest' -Dloadtest=true [-Dexport.rows=10000000]
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("주문 내보내기 벤치마크")
+class OrderExportBenchmarkTest {
+
+    private static final long ROWS = Long.getLong("export.rows", 10_000_000L);
+    private static final long ID_OFFSET = 10_000_000_000L;
+    private static final long SEED_CHUNK = 1_000_000L;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Member member;
+
+    @BeforeAll
+    void seed() {
+        member = memberRepository.save(Member.builder()
+                .email("export-bench@example.com")
+                .name("Export Bench")
+                .phoneNumber("010-9090-9090")
+                .build());
+        long startTime = System.currentTimeMillis();
+        for (long from = 1; from <= ROWS; from += SEED_CHUNK) {
+            long to = Math.min(from + SEED_CHUNK - 1, ROWS);
+            jdbcTemplate.update("INSERT INTO orders (id, order_number, member_id, total_amount, status, created_at, updated_at, version) "
+                    + "SELECT ? + X, 'BENCH-' || X, ?, 10000, 'COMPLETED', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0 "
+                    + "FROM SYSTEM_RANGE(?, ?)", ID_OFFSET, member.getId(), from, to);
+            jdbcTemplate.update("INSERT INTO order_items (order_id, product_name, product_description, quantity, unit_price, total_price) "
+                    + "SELECT ? + X, 'Product ' || MOD(X, 1000), 'Benchmark item', 1, 10000, 10000 "
+                    + "FROM SYSTEM_RANGE(?, ?)", ID_OFFSET, from, to);
+        }
+        System.out.printf("Seeded %,d order rows in %d ms%n", ROWS, System.currentTimeMillis() - startTime);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM order_items WHERE order_id > ?", ID_OFFSET);
+        jdbcTemplate.update("DELETE FROM orders WHERE id > ?", ID_OFFSET);
+        memberRepository.delete(member);
+    }
+
+    @ParameterizedTest(name = "{0}, gzip={1}")
+    @CsvSource({"ndjson,false", "ndjson,true", "csv,false", "csv,true"})
+    void export(String format, boolean gzip) throws Exception {
+        // Given
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(
+                "http://localhost:" + port + "/api/orders/export?format=" + format + "&gzip=" + gzip)).build();
+        HeapSampler heap = new HeapSampler();
+
+        // When
+        long startTime = System.nanoTime();
+        HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        CountingInputStream wire = new CountingInputStream(response.body());
+        long lines = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                gzip ? new GZIPInputStream(wire, 64 * 1024) : wire, StandardCharsets.UTF_8), 64 * 1024)) {
+            while (reader.readLine() != null) {
+                lines++;
+            }
+        }
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+        heap.stop();
+
+        // Then
+        long rows = format.equals("csv") ? lines - 1 : lines;
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(rows).isGreaterThanOrEqualTo(ROWS);
+        System.out.printf("%s gzip=%s: %,d rows, %,d bytes on the wire in %,d ms (%,.0f rows/s, %.1f MB/s), peak heap %,d MB%n",
+                format, gzip, rows, wire.count, elapsedMillis, rows * 1000.0 / elapsedMillis,
+                wire.count / 1024.0 / 1024.0 * 1000.0 / elapsedMillis, heap.peakBytes.get() / (1024 * 1024));
+    }
+
+    private static class HeapSampler {
+        private final AtomicLong peakBytes = new AtomicLong();
+        private final AtomicBoolean running = new AtomicBoolean(true);
+        private final Thread thread;
+
+        HeapSampler() {
+            MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+            thread = Thread.ofPlatform().daemon(true).start(() -> {
+                while (running.get()) {
+                    peakBytes.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+                    try {
+                        Thread.sleep(50);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            });
+        }
+
+        void stop() throws InterruptedException {
+            running.set(false);
+            thread.join();
+        }
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.performance;
+
+import com.example.domain.Member;
+import com.example.infrastructure.persistence.MemberRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Compares response size and latency of GET /api/orders/member/{memberId} in full against
+ * narrowed {@code fields=} selections, for one member with many orders of several items each.
+ *
+ * 실행 방법: ./gradlew test --tests '*OrderFieldsBenchmarkTest' -Dloadtest=true [-Dfields.orders=5000]
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("주문 목록 fields 선택 벤치마크")
+class OrderFieldsBenchmarkTest {
+
+    private static final long ORDERS = Long.getLong("fields.orders", 5_000L);
+    private static final int ITEMS_PER_ORDER = 5;
+    private static final long ID_OFFSET = 20_000_000_000L;
+    private static final int WARMUP = 5;
+    private static final int RUNS = 20;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Member member;
+
+    @BeforeAll
+    void seed() {
+        member = memberRepository.save(Member.builder()
+                .email("fields-bench@example.com")
+                .name("Fields Bench")
+                .phoneNumber("010-8080-8080")
+                .build());
+        jdbcTemplate.update("INSERT INTO orders (id, order_number, member_id, total_amount, status, created_at, updated_at, version) "
+                + "SELECT ? + X, 'BENCH-' || X, ?, 50000, 'COMPLETED', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0 "
+                + "FROM SYSTEM_RANGE(1, ?)", ID_OFFSET, member.getId(), ORDERS);
+        for (int item = 0; item < ITEMS_PER_ORDER; item++) {
+            jdbcTemplate.update("INSERT INTO order_items (order_id, product_name, product_description, quantity, unit_price, total_price) "
+                    + "SELECT ? + X, 'Product ' || MOD(X, 1000), 'A reasonably long benchmark product description', 1, 10000, 10000 "
+                    + "FROM SYSTEM_RANGE(1, ?)", ID_OFFSET, ORDERS);
+        }
+        jdbcTemplate.update("INSERT INTO payments (order_id, amount, payment_method, status, transaction_id, created_at, updated_at, version) "
+                + "SELECT ? + X, 50000, 'CREDIT_CARD', 'COMPLETED', 'TX-' || X, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0 "
+                + "FROM SYSTEM_RANGE(1, ?)", ID_OFFSET, ORDERS);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM payments WHERE order_id > ?", ID_OFFSET);
+        jdbcTemplate.update("DELETE FROM order_items WHERE order_id > ?", ID_OFFSET);
+        jdbcTemplate.update("DELETE FROM orders WHERE id > ?", ID_OFFSET);
+        memberRepository.delete(member);
+    }
+
+    @ParameterizedTest(name = "fields={0}")
+    @ValueSource(strings = {"", "orderNumber,status,totalAmount", "orderNumber,status,totalAmount,memberName",
+            "orderNumber,status,totalAmount,payment", "orderNumber,orderItems"})
+    void listMemberOrders(String fields) throws Exception {
+        // Given
+        HttpClient client = HttpClient.newHttpClient();
+        String query = fields.isEmpty() ? "" : "?fields=" + URLEncoder.encode(fields, StandardCharsets.UTF_8);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(
+                "http://localhost:" + port + "/api/orders/member/" + member.getId() + query)).build();
+        for (int i = 0; i < WARMUP; i++) {
+            client.send(request, HttpResponse.BodyHandlers.discarding());
+        }
+
+        // When
+        long[] micros = new long[RUNS];
+        long bytes = 0;
+        for (int i = 0; i < RUNS; i++) {
+            long startTime = System.nanoTime();
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            micros[i] = (System.nanoTime() - startTime) / 1_000;
+            assertThat(response.statusCode()).isEqualTo(200);
+            bytes = response.body().length;
+        }
+
+        // Then
+        Arrays.sort(micros);
+        System.out.printf("fields=%s: %,d orders, %,d bytes (%,d bytes/order), p50 %,d ms, p95 %,d ms%n",
+                fields.isEmpty() ? "(all)" : fields, ORDERS, bytes, bytes / ORDERS,
+                micros[RUNS / 2] / 1_000, micros[(int) (RUNS * 0.95) - 1] / 1_000);
+        assertThat(bytes).isPositive();
+    }
+}
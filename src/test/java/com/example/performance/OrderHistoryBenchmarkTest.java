@@ -0,0 +1,153 @@
+package com.example.performance;
+
+import com.example.domain.Order;
+import com.example.domain.Payment;
+import com.example.dto.OrderDto;
+import com.example.dto.OrderItemDto;
+import com.example.dto.PaymentDto;
+import com.example.infrastructure.persistence.history.OffHeapOrderStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.LongFunction;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Holds the same completed orders once as DTOs on the heap and once in the off-heap store, then
+ * runs an identical member-history read workload against each and reports retained heap, GC
+ * count and GC time.
+ *
+ * 실행 방법: ./gradlew test --tests '*OrderHistoryBenchmarkTest' -Dloadtest=true [-Dhistory.orders=200000]
+ * (힙 보관 쪽이 커지므로 주문 수를 늘릴 때는 테스트 JVM 힙도 늘려야 합니다)
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@DisplayName("주문 이력 힙 vs 오프힙 벤치마크")
+class OrderHistoryBenchmarkTest {
+
+    private static final int ORDERS = Integer.getInteger("history.orders", 200_000);
+    private static final int ORDERS_PER_MEMBER = 20;
+    private static final int READS = 2_000_000;
+
+    @Test
+    void compareHeapAndOffHeap() {
+        long members = ORDERS / ORDERS_PER_MEMBER;
+
+        // Heap: what a cache of DTOs per member would hold
+        long baseline = settledHeap();
+        Map<Long, List<OrderDto>> heap = new HashMap<>();
+        for (long id = 1; id <= ORDERS; id++) {
+            heap.computeIfAbsent(memberOf(id), key -> new ArrayList<>()).add(order(id));
+        }
+        long heapRetained = settledHeap() - baseline;
+        Result heapResult = readWorkload("heap", members, memberId -> heap.get(memberId));
+
+        heap.clear();
+        baseline = settledHeap();
+        OffHeapOrderStore store = new OffHeapOrderStore(64 * 1024 * 1024, 4L * 1024 * 1024 * 1024, null);
+        Map<Long, List<OrderDto>> perMember = new HashMap<>();
+        for (long id = 1; id <= ORDERS; id++) {
+            perMember.computeIfAbsent(memberOf(id), key -> new ArrayList<>()).add(order(id));
+            if (perMember.get(memberOf(id)).size() == ORDERS_PER_MEMBER) {
+                store.load(memberOf(id), perMember.remove(memberOf(id)));
+            }
+        }
+        long offHeapRetained = settledHeap() - baseline;
+        Result offHeapResult = readWorkload("off-heap", members, memberId -> store.findByMemberId(memberId).orElseThrow());
+
+        // Then
+        assertThat(store.size()).isEqualTo(ORDERS);
+        System.out.printf("%,d orders: heap retained %,d MB, off-heap retained %,d MB on heap + %,d MB off heap%n",
+                ORDERS, heapRetained >> 20, offHeapRetained >> 20, store.getUsedBytes() >> 20);
+        heapResult.print();
+        offHeapResult.print();
+        store.close();
+    }
+
+    private static Result readWorkload(String name, long members, LongFunction<List<OrderDto>> history) {
+        SplittableRandom random = new SplittableRandom(42);
+        long[] gcBefore = gcTotals();
+        long startTime = System.nanoTime();
+        long checksum = 0;
+        for (int i = 0; i < READS; i++) {
+            List<OrderDto> orders = history.apply(1 + random.nextLong(members));
+            checksum += orders.get(random.nextInt(orders.size())).getId();
+            // Per-request garbage of a web request, so young collections happen in both runs
+            byte[] request = new byte[512];
+            checksum += request.length;
+        }
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+        long[] gcAfter = gcTotals();
+        return new Result(name, elapsedMillis, gcAfter[0] - gcBefore[0], gcAfter[1] - gcBefore[1], checksum);
+    }
+
+    private static long memberOf(long orderId) {
+        return 1 + (orderId - 1) / ORDERS_PER_MEMBER;
+    }
+
+    private static long settledHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long[] gcTotals() {
+        long count = 0;
+        long millis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+            millis += Math.max(0, gc.getCollectionTime());
+        }
+        return new long[]{count, millis};
+    }
+
+    private static OrderDto order(long id) {
+        LocalDateTime createdAt = LocalDateTime.of(2023, 1, 1, 0, 0).plusMinutes(id);
+        return OrderDto.builder()
+                .id(id)
+                .orderNumber("ORD-" + createdAt.toString().replaceAll("\\D", "") + "-" + Long.toHexString(id).toUpperCase())
+                .memberId(memberOf(id))
+                .memberName("Member " + memberOf(id))
+                .totalAmount(new BigDecimal("35000.00"))
+                .status(Order.OrderStatus.COMPLETED)
+                .createdAt(createdAt)
+                .updatedAt(createdAt.plusHours(2))
+                .orderItems(List.of(
+                        OrderItemDto.builder().id(id * 2).productName("Product " + id % 1000)
+                                .productDescription("Description of product " + id % 1000).quantity(1)
+                                .unitPrice(new BigDecimal("25000.00")).totalPrice(new BigDecimal("25000.00")).build(),
+                        OrderItemDto.builder().id(id * 2 + 1).productName("Product " + (id + 7) % 1000)
+                                .productDescription("Description of product " + (id + 7) % 1000).quantity(2)
+                                .unitPrice(new BigDecimal("5000.00")).totalPrice(new BigDecimal("10000.00")).build()))
+                .payment(PaymentDto.builder()
+                        .id(id)
+                        .orderId(id)
+                        .amount(new BigDecimal("35000.00"))
+                        .paymentMethod(Payment.PaymentMethod.CREDIT_CARD)
+                        .status(Payment.PaymentStatus.COMPLETED)
+                        .transactionId("TXN-" + Long.toHexString(id * 31).toUpperCase())
+                        .createdAt(createdAt)
+                        .updatedAt(createdAt.plusMinutes(1))
+                        .build())
+                .build();
+    }
+
+    private record Result(String name, long elapsedMillis, long gcCount, long gcMillis, long checksum) {
+        void print() {
+            System.out.printf("%s: %,d member-history reads in %,d ms (%,.0f reads/s), %d GCs, %d ms GC time%n",
+                    name, READS, elapsedMillis, READS * 1000.0 / Math.max(1, elapsedMillis), gcCount, gcMillis);
+        }
+    }
+}
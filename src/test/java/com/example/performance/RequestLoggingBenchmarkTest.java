@@ -0,0 +1,165 @@
+package com.example.performance;
+
+import com.example.domain.Member;
+import com.example.domain.Order;
+import com.example.infrastructure.persistence.MemberRepository;
+import com.example.infrastructure.persistence.OrderRepository;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Compares throughput and p99 latency of order reads with the default development logging
+ * (DEBUG for com.example and Spring MVC, SQL printed and formatted, console writes on the request
+ * thread) against the prod-logging profile (async JSON appender, one sampled line per request).
+ * <p>
+ * Each mode gets its own application context, closed afterwards, so the logging system is set up
+ * again for the next one. Redirect the output to a file when comparing numbers: the first mode
+ * writes a great deal to the console.
+ *
+ * 실행 방법: ./gradlew test --tests '*RequestLoggingBenchmarkTest' -Dloadtest=true
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@DisplayName("요청 로깅 방식별 처리량 벤치마크")
+class RequestLoggingBenchmarkTest {
+
+    private static final int CLIENTS = 64;
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final Duration RUN_DURATION = Duration.ofSeconds(15);
+
+    @Nested
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+            "logging.level.com.example=DEBUG",
+            "logging.level.org.springframework.web=DEBUG",
+            "spring.jpa.show-sql=true",
+            "spring.jpa.properties.hibernate.format_sql=true",
+            "app.concurrency-limit.enabled=false"
+    })
+    @ActiveProfiles("test")
+    @DirtiesContext
+    @DisplayName("개발용 동기 로깅")
+    class VerboseLogging {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private MemberRepository memberRepository;
+
+        @Autowired
+        private OrderRepository orderRepository;
+
+        @Test
+        void load() throws Exception {
+            runAndReport("verbose", port, seed(memberRepository, orderRepository));
+        }
+    }
+
+    @Nested
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+            "app.concurrency-limit.enabled=false"
+    })
+    @ActiveProfiles({"test", "prod-logging"})
+    @DirtiesContext
+    @DisplayName("비동기 샘플링 로깅")
+    class ProductionLogging {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private MemberRepository memberRepository;
+
+        @Autowired
+        private OrderRepository orderRepository;
+
+        @Test
+        void load() throws Exception {
+            runAndReport("prod-logging", port, seed(memberRepository, orderRepository));
+        }
+    }
+
+    private static Long seed(MemberRepository memberRepository, OrderRepository orderRepository) {
+        Member member = memberRepository.save(Member.builder()
+                .email("logging" + System.nanoTime() + "@example.com")
+                .name("Logging Bench")
+                .phoneNumber("010-7070-7070")
+                .build());
+        Order order = orderRepository.save(Order.builder()
+                .orderNumber("LOG-" + System.nanoTime())
+                .member(member)
+                .totalAmount(BigDecimal.valueOf(10_000))
+                .build());
+        return order.getId();
+    }
+
+    private static void runAndReport(String mode, int port, Long orderId) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/orders/" + orderId))
+                .timeout(Duration.ofSeconds(30)).build();
+        run(request, WARMUP, null, new LongAdder());
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Timer latency = Timer.builder("load.latency").publishPercentiles(0.5, 0.99).register(registry);
+        LongAdder errors = new LongAdder();
+        run(request, RUN_DURATION, latency, errors);
+
+        double p50 = 0;
+        double p99 = 0;
+        for (ValueAtPercentile percentile : latency.takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == 0.5) {
+                p50 = percentile.value(TimeUnit.MILLISECONDS);
+            } else if (percentile.percentile() == 0.99) {
+                p99 = percentile.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        System.out.printf("[%s] clients=%d throughput=%.0f req/s p50=%.1fms p99=%.1fms errors=%d%n",
+                mode, CLIENTS, latency.count() / (double) RUN_DURATION.toSeconds(), p50, p99, errors.sum());
+        assertThat(latency.count()).isPositive();
+    }
+
+    private static void run(HttpRequest request, Duration duration, Timer latency, LongAdder errors) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.increment();
+                            } else if (latency != null) {
+                                latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                            }
+                        } catch (Exception e) {
+                            errors.increment();
+                        }
+                    }
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.performance;
+
+import com.example.domain.Order;
+import com.example.domain.Payment;
+import com.example.dto.OrderDto;
+import com.example.dto.OrderItemDto;
+import com.example.dto.PaymentDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Encodes and decodes a page of fully populated orders as JSON, CBOR and Smile with mappers set
+ * up like the application's, and reports size and throughput of each.
+ *
+ * 실행 방법: ./gradlew test --tests '*SerializationBenchmarkTest' -Dloadtest=true
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@DisplayName("JSON vs CBOR vs Smile 직렬화 벤치마크")
+class SerializationBenchmarkTest {
+
+    private static final int ORDERS = 500;
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int ROUNDS = 5_000;
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"json", "cbor", "smile"})
+    void encodeAndDecode(String format) throws Exception {
+        // Given
+        ObjectMapper mapper = switch (format) {
+            case "cbor" -> builder().factory(new CBORFactory()).build();
+            case "smile" -> builder().factory(new SmileFactory()).build();
+            default -> builder().build();
+        };
+        List<OrderDto> orders = orders();
+        byte[] encoded = mapper.writeValueAsBytes(orders);
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            mapper.readTree(mapper.writeValueAsBytes(orders));
+        }
+
+        // When
+        long encodeStart = System.nanoTime();
+        long bytes = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            bytes += mapper.writeValueAsBytes(orders).length;
+        }
+        long encodeNanos = System.nanoTime() - encodeStart;
+        long decodeStart = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            mapper.readTree(encoded);
+        }
+        long decodeNanos = System.nanoTime() - decodeStart;
+
+        // Then
+        assertThat(bytes).isEqualTo((long) encoded.length * ROUNDS);
+        System.out.printf("%-5s: %,d bytes per %d orders, encode %,.0f orders/s (%.1f µs/page), decode %,.0f orders/s (%.1f µs/page)%n",
+                format, encoded.length, ORDERS,
+                ORDERS * ROUNDS * 1e9 / encodeNanos, encodeNanos / 1e3 / ROUNDS,
+                ORDERS * ROUNDS * 1e9 / decodeNanos, decodeNanos / 1e3 / ROUNDS);
+    }
+
+    /**
+     * Dates as ISO strings, as spring.jackson configures the application's mappers.
+     */
+    private static Jackson2ObjectMapperBuilder builder() {
+        return Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private static List<OrderDto> orders() {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 15, 10, 30, 15, 123_456_000);
+        List<OrderDto> orders = new ArrayList<>(ORDERS);
+        for (long id = 1; id <= ORDERS; id++) {
+            List<OrderItemDto> items = IntStream.range(0, 5)
+                    .mapToObj(i -> OrderItemDto.builder()
+                            .id((long) i)
+                            .productName("Product " + i)
+                            .productDescription("Benchmark product description")
+                            .quantity(i + 1)
+                            .unitPrice(new BigDecimal("12345.67"))
+                            .totalPrice(new BigDecimal("12345.67").multiply(BigDecimal.valueOf(i + 1)))
+                            .build())
+                    .toList();
+            orders.add(OrderDto.builder()
+                    .id(id)
+                    .orderNumber("ORD-20240115103015123-" + id)
+                    .memberId(id % 100)
+                    .memberName("Member " + id % 100)
+                    .totalAmount(new BigDecimal("185185.05"))
+                    .status(Order.OrderStatus.COMPLETED)
+                    .createdAt(now)
+                    .updatedAt(now.plusMinutes(5))
+                    .orderItems(items)
+                    .payment(PaymentDto.builder()
+                            .id(id)
+                            .orderId(id)
+                            .amount(new BigDecimal("185185.05"))
+                            .paymentMethod(Payment.PaymentMethod.CREDIT_CARD)
+                            .status(Payment.PaymentStatus.COMPLETED)
+                            .transactionId("TX-" + id)
+                            .createdAt(now)
+                            .updatedAt(now.plusMinutes(1))
+                            .build())
+                    .build());
+        }
+        return orders;
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.performance;
+
+import com.example.domain.Member;
+import com.example.infrastructure.persistence.MemberRepository;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Compares throughput and p99 latency of the servlet stack on platform threads and on
+ * virtual threads at 200, 2,000 and 20,000 concurrent connections.
+ *
+ * 실행 방법: ./gradlew test --tests '*ServletThreadingLoadTest' -Dloadtest=true
+ * (20,000 연결은 ulimit -n 이 충분히 커야 합니다)
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@DisplayName("플랫폼 스레드 vs 가상 스레드 부하 테스트")
+class ServletThreadingLoadTest {
+
+    private static final Duration RUN_DURATION = Duration.ofSeconds(15);
+
+    @Nested
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+            "spring.threads.virtual.enabled=false",
+            "server.tomcat.threads.max=200",
+            "server.tomcat.max-connections=25000",
+            "server.tomcat.accept-count=1000"
+    })
+    @ActiveProfiles("test")
+    @DisplayName("플랫폼 스레드 Tomcat 풀")
+    class PlatformThreads {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private MemberRepository memberRepository;
+
+        @ParameterizedTest(name = "동시 연결 {0}")
+        @ValueSource(ints = {200, 2_000, 20_000})
+        void load(int connections) throws Exception {
+            runAndReport("platform", port, createMember(memberRepository), connections);
+        }
+    }
+
+    @Nested
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+            "spring.threads.virtual.enabled=true",
+            "server.tomcat.max-connections=25000",
+            "server.tomcat.accept-count=1000"
+    })
+    @ActiveProfiles("test")
+    @DisplayName("가상 스레드")
+    class VirtualThreads {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private MemberRepository memberRepository;
+
+        @ParameterizedTest(name = "동시 연결 {0}")
+        @ValueSource(ints = {200, 2_000, 20_000})
+        void load(int connections) throws Exception {
+            runAndReport("virtual", port, createMember(memberRepository), connections);
+        }
+    }
+
+    private static Long createMember(MemberRepository memberRepository) {
+        long suffix = System.nanoTime() % 10_000;
+        Member member = Member.builder()
+                .email("load" + System.nanoTime() + "@example.com")
+                .name("Load Test User")
+                .phoneNumber("010-" + String.format("%04d", suffix) + "-0000")
+                .build();
+        return memberRepository.save(member).getId();
+    }
+
+    private static void runAndReport(String mode, int port, Long memberId, int connections) throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Timer latency = Timer.builder("load.latency")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+        LongAdder errors = new LongAdder();
+        URI uri = URI.create("http://localhost:" + port + "/api/members/" + memberId);
+        long deadline = System.nanoTime() + RUN_DURATION.toNanos();
+
+        try (HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+             ExecutorService connectionsExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+            for (int i = 0; i < connections; i++) {
+                connectionsExecutor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 200) {
+                                latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                            } else {
+                                errors.increment();
+                            }
+                        } catch (Exception e) {
+                            errors.increment();
+                        }
+                    }
+                });
+            }
+        }
+
+        double throughput = latency.count() / (double) RUN_DURATION.toSeconds();
+        double p50 = 0;
+        double p99 = 0;
+        for (ValueAtPercentile percentile : latency.takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == 0.5) {
+                p50 = percentile.value(TimeUnit.MILLISECONDS);
+            } else if (percentile.percentile() == 0.99) {
+                p99 = percentile.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        System.out.printf("[%s] connections=%d throughput=%.0f req/s p50=%.1fms p99=%.1fms errors=%d%n",
+                mode, connections, throughput, p50, p99, errors.sum());
+
+        assertThat(latency.count()).isGreaterThan(0);
+    }
+}
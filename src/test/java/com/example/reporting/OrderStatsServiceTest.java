@@ -0,0 +1,93 @@
+package com.example.reporting;
+
+import com.example.application.service.MemberService;
+import com.example.application.service.OrderService;
+import com.example.infrastructure.persistence.MemberRepository;
+import com.example.infrastructure.persistence.OrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Not transactional: sketches are fed by after-commit listeners.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("주문 통계 서비스 테스트")
+class OrderStatsServiceTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderStatsService orderStatsService;
+
+    @Autowired
+    private OrderStatsAccumulator accumulator;
+
+    @Autowired
+    private OrderStatsSketchRepository sketchRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @AfterEach
+    void tearDown() {
+        accumulator.flush();
+        sketchRepository.deleteAll();
+        orderRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("주문 생성이 당일 백분위와 고유 구매자에 반영되고 다른 노드의 스케치와 병합")
+    void getStats_MergesLocalAndOtherNodes() {
+        // Given
+        LocalDate today = LocalDate.now();
+        long before = orderStatsService.getStats(today, today).getTotal().getOrders();
+        Long first = memberService.createMember("stats1@example.com", "Stats One", "010-3131-0001").getId();
+        Long second = memberService.createMember("stats2@example.com", "Stats Two", "010-3131-0002").getId();
+        for (int i = 1; i <= 10; i++) {
+            orderService.createOrder(i % 2 == 0 ? first : second, List.of(
+                    new OrderService.OrderItemRequest("Stats Product", "Stats item", 1, new BigDecimal(i * 1000))));
+        }
+        OrderStatsBucket otherNode = OrderStatsBucket.empty(new OrderStatsProperties());
+        otherNode.record(1_000_000, Long.MAX_VALUE);
+        byte[][] otherBytes = otherNode.snapshot();
+        sketchRepository.save(new OrderStatsSketch(new OrderStatsSketchId(today, "other-node"), otherBytes[0], otherBytes[1]));
+
+        // When
+        accumulator.flush();
+        OrderStatsReport report = orderStatsService.getStats(today, today);
+
+        // Then
+        assertThat(sketchRepository.findById(new OrderStatsSketchId(today, accumulator.getNodeId()))).isPresent();
+        OrderStatsSummary total = report.getTotal();
+        assertThat(total.getOrders()).isEqualTo(before + 11);
+        assertThat(total.getDistinctBuyers()).isGreaterThanOrEqualTo(3);
+        assertThat(total.getMaxAmount()).isEqualByComparingTo("1000000");
+        assertThat(report.getDays()).singleElement().extracting(OrderStatsSummary::getDay).isEqualTo(today);
+    }
+
+    @Test
+    @DisplayName("시작일이 종료일보다 늦으면 거절")
+    void getStats_InvalidRange_Throws() {
+        assertThatThrownBy(() -> orderStatsService.getStats(LocalDate.now(), LocalDate.now().minusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.reporting;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("주문 통계 스케치 테스트")
+class OrderStatsSketchTest {
+
+    @Nested
+    @DisplayName("t-digest")
+    class TDigestTest {
+
+        @Test
+        @DisplayName("백분위 추정치가 정확한 값과 근접")
+        void quantile_IsCloseToExact() {
+            // Given
+            TDigest digest = new TDigest(100);
+            Random random = new Random(1);
+            double[] values = new double[100_000];
+            for (int i = 0; i < values.length; i++) {
+                // Log-normal like order amounts: most around 30,000, a long tail of large orders
+                values[i] = Math.exp(10.3 + random.nextGaussian() * 0.8);
+                digest.add(values[i]);
+            }
+            Arrays.sort(values);
+
+            // When & Then
+            for (double q : new double[]{0.5, 0.95, 0.99}) {
+                double exact = values[(int) (q * (values.length - 1))];
+                assertThat(digest.quantile(q)).isCloseTo(exact, withinPercentage(2));
+            }
+            assertThat(digest.size()).isEqualTo(100_000);
+            assertThat(digest.centroidCount()).isLessThan(500);
+        }
+
+        @Test
+        @DisplayName("직렬화 후 병합한 결과가 한 번에 넣은 결과와 근접")
+        void mergeSerialized_MatchesSingleDigest() {
+            // Given
+            TDigest single = new TDigest(100);
+            TDigest nodeA = new TDigest(100);
+            TDigest nodeB = new TDigest(100);
+            for (int i = 1; i <= 20_000; i++) {
+                single.add(i);
+                (i % 2 == 0 ? nodeA : nodeB).add(i);
+            }
+
+            // When
+            TDigest merged = TDigest.fromBytes(nodeA.toBytes());
+            merged.merge(TDigest.fromBytes(nodeB.toBytes()));
+
+            // Then
+            assertThat(merged.size()).isEqualTo(20_000);
+            assertThat(merged.getMin()).isEqualTo(1);
+            assertThat(merged.getMax()).isEqualTo(20_000);
+            assertThat(merged.quantile(0.99)).isCloseTo(single.quantile(0.99), withinPercentage(1));
+        }
+
+        @Test
+        @DisplayName("빈 digest의 백분위는 NaN")
+        void quantile_Empty_IsNaN() {
+            assertThat(new TDigest(100).quantile(0.5)).isNaN();
+        }
+    }
+
+    @Nested
+    @DisplayName("HyperLogLog")
+    class HyperLogLogTest {
+
+        @Test
+        @DisplayName("중복을 제외한 개수를 2% 이내로 추정")
+        void cardinality_WithinError() {
+            // Given
+            HyperLogLog sketch = new HyperLogLog(14);
+            for (long memberId = 1; memberId <= 200_000; memberId++) {
+                sketch.add(memberId);
+                sketch.add(memberId);
+            }
+
+            // When & Then
+            assertThat(sketch.cardinality()).isCloseTo(200_000L, withinPercentage(2));
+        }
+
+        @Test
+        @DisplayName("노드 간 병합 시 공통 구매자를 한 번만 계산")
+        void merge_CountsUnionOnce() {
+            // Given
+            HyperLogLog nodeA = new HyperLogLog(14);
+            HyperLogLog nodeB = new HyperLogLog(14);
+            for (long memberId = 1; memberId <= 30_000; memberId++) {
+                nodeA.add(memberId);
+                nodeB.add(memberId + 15_000);
+            }
+
+            // When
+            HyperLogLog merged = HyperLogLog.fromBytes(nodeA.toBytes());
+            merged.merge(HyperLogLog.fromBytes(nodeB.toBytes()));
+
+            // Then
+            assertThat(merged.cardinality()).isCloseTo(45_000L, withinPercentage(2));
+        }
+
+        @Test
+        @DisplayName("적은 수는 정확히 가깝게 추정")
+        void cardinality_SmallSet() {
+            HyperLogLog sketch = new HyperLogLog(14);
+            for (long memberId = 1; memberId <= 10; memberId++) {
+                sketch.add(memberId);
+            }
+            assertThat(sketch.cardinality()).isEqualTo(10);
+        }
+    }
+}
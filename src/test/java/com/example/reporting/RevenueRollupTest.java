@@ -0,0 +1,196 @@
+package com.example.reporting;
+
+import com.example.application.service.MemberService;
+import com.example.application.service.OrderService;
+import com.example.application.service.PaymentService;
+import com.example.domain.Payment;
+import com.example.dto.OrderDto;
+import com.example.dto.PaymentDto;
+import com.example.infrastructure.persistence.MemberRepository;
+import com.example.infrastructure.persistence.OrderRepository;
+import com.example.infrastructure.persistence.PaymentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Not transactional: rollups are fed by after-commit listeners.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("매출 롤업 테스트")
+class RevenueRollupTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private RevenueReportService revenueReportService;
+
+    @Autowired
+    private RevenueRollupAccumulator accumulator;
+
+    @Autowired
+    private RevenueRollupRebuilder rebuilder;
+
+    @Autowired
+    private RevenueRollupRepository rollupRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        accumulator.flush();
+        rollupRepository.deleteAll();
+        memberId = memberService.createMember("revenue@example.com", "Revenue User", "010-4242-4242").getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        accumulator.flush();
+        rollupRepository.deleteAll();
+        paymentRepository.deleteAll();
+        orderRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("결제 처리·환불과 주문 완료가 당일 결제수단 버킷에 누적")
+    void incrementalRollup() {
+        // Given
+        OrderDto first = orderAndPay("30000", Payment.PaymentMethod.CREDIT_CARD);
+        OrderDto second = orderAndPay("20000", Payment.PaymentMethod.CREDIT_CARD);
+        orderAndPay("15000", Payment.PaymentMethod.BANK_TRANSFER);
+
+        // When
+        orderService.completeOrder(first.getId());
+        paymentService.refundPayment(paymentService.getPaymentByOrderId(second.getId()).orElseThrow().getId());
+        RevenueReport beforeFlush = revenueReportService.getRevenue(LocalDate.now(), LocalDate.now(), null);
+        accumulator.flush();
+        RevenueReport report = revenueReportService.getRevenue(LocalDate.now(), LocalDate.now(), null);
+
+        // Then
+        assertThat(rollupRepository.count()).isEqualTo(2);
+        assertThat(report.getBuckets()).extracting(RevenueBucket::getPaymentMethod)
+                .containsExactly("BANK_TRANSFER", "CREDIT_CARD");
+        RevenueBucket card = report.getBuckets().get(1);
+        assertThat(card.getProcessedCount()).isEqualTo(2);
+        assertThat(card.getProcessedAmount()).isEqualByComparingTo("50000");
+        assertThat(card.getRefundedCount()).isEqualTo(1);
+        assertThat(card.getRefundedAmount()).isEqualByComparingTo("20000");
+        assertThat(card.getNetAmount()).isEqualByComparingTo("30000");
+        assertThat(card.getCompletedOrders()).isEqualTo(1);
+        assertThat(card.getCompletedOrderAmount()).isEqualByComparingTo("30000");
+        assertThat(report.getTotal().getNetAmount()).isEqualByComparingTo("45000");
+        assertThat(beforeFlush.getTotal().getNetAmount()).isEqualByComparingTo("45000");
+    }
+
+    @Test
+    @DisplayName("재계산 결과가 증분 롤업과 일치")
+    void rebuild_MatchesIncrementalRollup() {
+        // Given
+        OrderDto order = orderAndPay("12000", Payment.PaymentMethod.CASH);
+        orderService.completeOrder(order.getId());
+        accumulator.flush();
+        RevenueReport incremental = revenueReportService.getRevenue(LocalDate.now(), LocalDate.now(), "CASH");
+        rollupRepository.deleteAll();
+
+        // When
+        int buckets = rebuilder.rebuild(LocalDate.now(), LocalDate.now());
+        RevenueReport rebuilt = revenueReportService.getRevenue(LocalDate.now(), LocalDate.now(), "CASH");
+
+        // Then
+        assertThat(buckets).isEqualTo(1);
+        assertThat(rebuilt.getTotal().getProcessedCount()).isEqualTo(incremental.getTotal().getProcessedCount());
+        assertThat(rebuilt.getTotal().getNetAmount()).isEqualByComparingTo(incremental.getTotal().getNetAmount());
+        assertThat(rebuilt.getTotal().getCompletedOrders()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("환불 후 다시 처리한 결제는 처리 건수에 한 번만 포함되고 재계산과 일치")
+    void reprocessAfterRefund_CountsFirstCompletionOnly() {
+        // Given
+        OrderDto order = orderAndPay("18000", Payment.PaymentMethod.DEBIT_CARD);
+        Long paymentId = paymentService.getPaymentByOrderId(order.getId()).orElseThrow().getId();
+        paymentService.refundPayment(paymentId);
+
+        // When
+        paymentService.processPayment(paymentId);
+        accumulator.flush();
+        RevenueReport incremental = revenueReportService.getRevenue(LocalDate.now(), LocalDate.now(), "DEBIT_CARD");
+        rollupRepository.deleteAll();
+        rebuilder.rebuild(LocalDate.now(), LocalDate.now());
+        RevenueReport rebuilt = revenueReportService.getRevenue(LocalDate.now(), LocalDate.now(), "DEBIT_CARD");
+
+        // Then
+        assertThat(incremental.getTotal().getProcessedCount()).isEqualTo(1);
+        assertThat(incremental.getTotal().getProcessedAmount()).isEqualByComparingTo("18000");
+        assertThat(rebuilt.getTotal().getProcessedCount()).isEqualTo(incremental.getTotal().getProcessedCount());
+        assertThat(rebuilt.getTotal().getNetAmount()).isEqualByComparingTo(incremental.getTotal().getNetAmount());
+    }
+
+    @Test
+    @DisplayName("다시 처리한 뒤 또 환불한 결제는 환불 건수에 한 번만 포함되고 재계산과 일치")
+    void refundAfterReprocess_CountsFirstRefundOnly() {
+        // Given
+        OrderDto order = orderAndPay("22000", Payment.PaymentMethod.BANK_TRANSFER);
+        Long paymentId = paymentService.getPaymentByOrderId(order.getId()).orElseThrow().getId();
+        paymentService.refundPayment(paymentId);
+        paymentService.processPayment(paymentId);
+
+        // When
+        paymentService.refundPayment(paymentId);
+        accumulator.flush();
+        RevenueReport incremental = revenueReportService.getRevenue(LocalDate.now(), LocalDate.now(), "BANK_TRANSFER");
+        rollupRepository.deleteAll();
+        rebuilder.rebuild(LocalDate.now(), LocalDate.now());
+        RevenueReport rebuilt = revenueReportService.getRevenue(LocalDate.now(), LocalDate.now(), "BANK_TRANSFER");
+
+        // Then
+        assertThat(incremental.getTotal().getRefundedCount()).isEqualTo(1);
+        assertThat(incremental.getTotal().getRefundedAmount()).isEqualByComparingTo("22000");
+        assertThat(rebuilt.getTotal().getRefundedCount()).isEqualTo(incremental.getTotal().getRefundedCount());
+        assertThat(rebuilt.getTotal().getNetAmount()).isEqualByComparingTo(incremental.getTotal().getNetAmount());
+    }
+
+    @Test
+    @DisplayName("시작일이 종료일보다 늦으면 거절")
+    void getRevenue_InvalidRange_Throws() {
+        assertThatThrownBy(() -> revenueReportService.getRevenue(LocalDate.now(), LocalDate.now().minusDays(1), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private OrderDto orderAndPay(String amount, Payment.PaymentMethod method) {
+        OrderDto order = orderService.createOrder(memberId, List.of(
+                new OrderService.OrderItemRequest("Rollup Product", "Revenue item", 1, new BigDecimal(amount))));
+        orderService.confirmOrder(order.getId());
+        PaymentDto payment = paymentService.createPayment(order.getId(), method);
+        paymentService.processPayment(payment.getId());
+        return order;
+    }
+}
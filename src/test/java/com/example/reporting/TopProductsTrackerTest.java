@@ -0,0 +1,129 @@
+package com.example.reporting;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("인기 상품 순위 테스트")
+class TopProductsTrackerTest {
+
+    private final AtomicLong clock = new AtomicLong(Duration.ofDays(365).toMillis());
+    private TopProductsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        TopProductsProperties properties = new TopProductsProperties();
+        properties.setCapacity(20);
+        properties.setSketchWidth(1024);
+        tracker = new TopProductsTracker(properties, clock::get);
+    }
+
+    @Nested
+    @DisplayName("Count-Min Sketch")
+    class CountMinSketchTest {
+
+        @Test
+        @DisplayName("추정치는 실제값 이상이고 오차 한도 이내")
+        void estimate_NeverUndercounts() {
+            // Given
+            CountMinSketch sketch = new CountMinSketch(1024, 4);
+            Map<String, Long> exact = new HashMap<>();
+            Random random = new Random(42);
+            for (int i = 0; i < 50_000; i++) {
+                String key = "product-" + random.nextInt(5_000);
+                sketch.add(key, 1);
+                exact.merge(key, 1L, Long::sum);
+            }
+
+            // When & Then
+            exact.forEach((key, count) -> assertThat(sketch.estimate(key))
+                    .isGreaterThanOrEqualTo(count)
+                    .isLessThanOrEqualTo(count + sketch.errorBound() * 2));
+            assertThat(sketch.getTotal()).isEqualTo(50_000);
+        }
+
+        @Test
+        @DisplayName("hashCode가 같은 키도 서로 다른 칸에 집계")
+        void equalHashCodes_AreCountedApart() {
+            // Given
+            CountMinSketch sketch = new CountMinSketch(1024, 4);
+            assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+
+            // When
+            sketch.add("Aa", 100);
+
+            // Then
+            assertThat(sketch.estimate("Aa")).isEqualTo(100);
+            assertThat(sketch.estimate("BB")).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("순위 조회")
+    class RankingTest {
+
+        @Test
+        @DisplayName("긴 꼬리 속에서도 수량 상위 상품을 순서대로 찾음")
+        void top_FindsHeavyHitters() {
+            // Given
+            Random random = new Random(7);
+            for (int i = 0; i < 20_000; i++) {
+                tracker.record("long-tail-" + random.nextInt(10_000), 1, new BigDecimal("1000"));
+            }
+            for (int i = 0; i < 500; i++) {
+                tracker.record("Keyboard", 3, new BigDecimal("90000"));
+                tracker.record("Mouse", 2, new BigDecimal("40000"));
+                tracker.record("Monitor", 1, new BigDecimal("300000"));
+            }
+
+            // When
+            TopProductsReport byQuantity = tracker.top(TopProductsWindow.HOUR, TopProductsMetric.QUANTITY, 3);
+            TopProductsReport byRevenue = tracker.top(TopProductsWindow.DAY, TopProductsMetric.REVENUE, 1);
+
+            // Then
+            assertThat(byQuantity.getProducts()).extracting(TopProduct::getProductName)
+                    .containsExactly("Keyboard", "Mouse", "Monitor");
+            assertThat(byQuantity.getProducts().get(0).getEstimate().longValue()).isGreaterThanOrEqualTo(1_500);
+            assertThat(byQuantity.getTotal()).isEqualByComparingTo("23000");
+            assertThat(byRevenue.getProducts().get(0).getProductName()).isEqualTo("Monitor");
+            assertThat(byRevenue.getProducts().get(0).getEstimate()).isGreaterThanOrEqualTo(new BigDecimal("150000000"));
+        }
+
+        @Test
+        @DisplayName("윈도우를 벗어난 주문은 해당 순위에서 제외")
+        void top_ExpiresOldSlots() {
+            // Given
+            tracker.record("Old Product", 10, new BigDecimal("10000"));
+            clock.addAndGet(Duration.ofMinutes(90).toMillis());
+            tracker.record("New Product", 1, new BigDecimal("1000"));
+
+            // When
+            TopProductsReport hour = tracker.top(TopProductsWindow.HOUR, TopProductsMetric.QUANTITY, 10);
+            TopProductsReport day = tracker.top(TopProductsWindow.DAY, TopProductsMetric.QUANTITY, 10);
+            clock.addAndGet(Duration.ofDays(2).toMillis());
+            TopProductsReport all = tracker.top(TopProductsWindow.ALL, TopProductsMetric.QUANTITY, 10);
+
+            // Then
+            assertThat(hour.getProducts()).extracting(TopProduct::getProductName).containsExactly("New Product");
+            assertThat(day.getProducts()).extracting(TopProduct::getProductName).containsExactly("Old Product", "New Product");
+            assertThat(all.getProducts()).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("추적 용량을 넘는 개수는 거절")
+        void top_LimitAboveCapacity_Throws() {
+            assertThatThrownBy(() -> tracker.top(TopProductsWindow.HOUR, TopProductsMetric.QUANTITY, 21))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}